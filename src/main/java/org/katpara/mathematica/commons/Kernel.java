@@ -0,0 +1,24 @@
+package org.katpara.mathematica.commons;
+
+/**
+ * The interface describes the backend behind the {@link Kernels}.
+ * The methods are documented in the {@link Kernels}.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+interface Kernel {
+
+    double dot(final double[] x, final double[] y, final int n);
+
+    double dot(final double[] x, final int xo, final double[] y, final int yo, final int n);
+
+    void axpy(final double a, final double[] x, final int xo, final double[] y, final int yo, final int n);
+
+    void add(final double[] x, final double[] y, final double[] r, final int n);
+
+    void subtract(final double[] x, final double[] y, final double[] r, final int n);
+
+    void multiply4x4(final int kc, final double[] ap, final int ai, final double[] bp, final int bi,
+                     final double[] t);
+}
@@ -0,0 +1,145 @@
+package org.katpara.mathematica.commons;
+
+/**
+ * The class holds the hot loops over arrays of primitive doubles, which are shared
+ * by the vector and the matrix implementations of the library.
+ * <p>
+ * The loops run on a SIMD backend built on the incubating Vector API when the module
+ * "jdk.incubator.vector" is available, i.e. when the application is started with
+ * "--add-modules jdk.incubator.vector". Otherwise they run as plain Java loops.
+ * The backend can also be turned off with the system property
+ * "org.katpara.mathematica.simd=false". The backend is compiled on its own (the
+ * "vector" source set), so the rest of the library builds without the module.
+ * <p>
+ * Both backends give exactly the same results, except for the dot product, whose
+ * terms are summed in a different order by the SIMD backend.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public class Kernels {
+
+    /**
+     * The backend picked at the start
+     */
+    private static final Kernel k = select();
+
+    /**
+     * The method picks the SIMD backend if the Vector API is available,
+     * and the scalar backend otherwise.
+     *
+     * @return the backend
+     */
+    private static Kernel select() {
+        if (Boolean.parseBoolean(System.getProperty("org.katpara.mathematica.simd", "true"))
+                    && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (Kernel) Class.forName("org.katpara.mathematica.commons.VectorKernel")
+                                     .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError ignored) {
+            }
+        }
+
+        return new ScalarKernel();
+    }
+
+    /**
+     * The method tells if the SIMD backend is in use.
+     *
+     * @return true if the loops run on the Vector API
+     */
+    public static boolean isAccelerated() {
+        return k.getClass() != ScalarKernel.class;
+    }
+
+    /**
+     * The method calculates the dot product of the first n elements of two arrays.
+     *
+     * @param x the first array
+     * @param y the second array
+     * @param n the number of elements
+     *
+     * @return the dot product
+     */
+    public static double dot(final double[] x, final double[] y, final int n) {
+        return k.dot(x, y, n);
+    }
+
+    /**
+     * The method calculates the dot product of two parts of arrays,
+     * i.e. the sum of x[xo + i] * y[yo + i] for every i below n.
+     *
+     * @param x  the first array
+     * @param xo the offset of x
+     * @param y  the second array
+     * @param yo the offset of y
+     * @param n  the number of elements
+     *
+     * @return the dot product
+     */
+    public static double dot(final double[] x, final int xo, final double[] y, final int yo, final int n) {
+        return k.dot(x, xo, y, yo, n);
+    }
+
+    /**
+     * The method adds a scaled part of one array to a part of another array,
+     * i.e. y[yo + i] += a * x[xo + i] for every i below n.
+     *
+     * @param a  the scale
+     * @param x  the array to add
+     * @param xo the offset of x
+     * @param y  the array to add to
+     * @param yo the offset of y
+     * @param n  the number of elements
+     */
+    public static void axpy(final double a, final double[] x, final int xo, final double[] y, final int yo,
+                            final int n) {
+        k.axpy(a, x, xo, y, yo, n);
+    }
+
+    /**
+     * The method adds the first n elements of two arrays, i.e. r[i] = x[i] + y[i].
+     * The result array may be one of the arguments.
+     *
+     * @param x the first array
+     * @param y the second array
+     * @param r the array to store the sums into
+     * @param n the number of elements
+     */
+    public static void add(final double[] x, final double[] y, final double[] r, final int n) {
+        k.add(x, y, r, n);
+    }
+
+    /**
+     * The method subtracts the first n elements of two arrays, i.e. r[i] = x[i] - y[i].
+     * The result array may be one of the arguments.
+     *
+     * @param x the first array
+     * @param y the second array
+     * @param r the array to store the differences into
+     * @param n the number of elements
+     */
+    public static void subtract(final double[] x, final double[] y, final double[] r, final int n) {
+        k.subtract(x, y, r, n);
+    }
+
+    /**
+     * The method multiplies a packed strip of 4 rows with a packed strip of 4 columns,
+     * this is the micro-kernel of the matrix multiplication.
+     * <p>
+     * The strip of rows is stored column after column (4 elements per step), and the
+     * strip of columns is stored row after row (4 elements per step). The 4 x 4 product
+     * is stored row-major into the first 16 elements of t.
+     *
+     * @param kc the depth of the strips
+     * @param ap the packed rows
+     * @param ai the offset of the strip of rows
+     * @param bp the packed columns
+     * @param bi the offset of the strip of columns
+     * @param t  the array to store the product into
+     */
+    public static void multiply4x4(final int kc, final double[] ap, final int ai, final double[] bp, final int bi,
+                                   final double[] t) {
+        k.multiply4x4(kc, ap, ai, bp, bi, t);
+    }
+}
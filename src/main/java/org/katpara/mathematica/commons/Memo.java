@@ -0,0 +1,62 @@
+package org.katpara.mathematica.commons;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * The class memorises a lazily calculated value, it is used to cache the
+ * expensive properties of the immutable matrices and vectors.
+ * <p>
+ * The value is calculated at most once, even when many threads ask for it at the
+ * same time; the first thread calculates it while the others wait on this memo only,
+ * so the different properties (and the different objects) never block each other.
+ * Once the value is there, it is read through a volatile field without any locking,
+ * and every thread sees it fully constructed.
+ * <p>
+ * If the calculation throws, nothing is memorised and the next call tries again.
+ *
+ * @param <T> the type of the value
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class Memo<T> {
+
+    /**
+     * The value, null until it is calculated
+     */
+    private volatile T v;
+
+    /**
+     * The method returns the value, it calculates it with the supplier
+     * on the first call.
+     *
+     * @param s the supplier that calculates the value, it must not return null
+     *
+     * @return the value
+     *
+     * @throws NullPointerException if the supplier returns null
+     */
+    public T get(final Supplier<? extends T> s) {
+        var _v = v;
+        if (_v != null)
+            return _v;
+
+        synchronized (this) {
+            _v = v;
+            if (_v == null)
+                v = _v = Objects.requireNonNull(s.get(), "The memorised value can't be null");
+        }
+
+        return _v;
+    }
+
+    /**
+     * The method returns the value if it is already calculated.
+     *
+     * @return the value, or null if it isn't calculated yet
+     */
+    public T peek() {
+        return v;
+    }
+}
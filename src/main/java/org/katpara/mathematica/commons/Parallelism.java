@@ -0,0 +1,94 @@
+package org.katpara.mathematica.commons;
+
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+import org.katpara.mathematica.exceptions.NullArgumentProvidedException;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The class configures how the library runs the large operations in parallel.
+ * <p>
+ * The operations split their work into blocks and run them as tasks on a
+ * {@link ForkJoinPool}. Small operations would spend more time on forking the tasks
+ * than on the arithmetic, so an operation only goes parallel when its amount of work
+ * (i.e. the number of multiply-adds) reaches the threshold. The results don't depend
+ * on the pool or on the number of threads, the parallel and the serial paths
+ * calculate every element in exactly the same order.
+ * <p>
+ * By default the common pool is used and the threshold is 2^24 multiply-adds, which is
+ * about the product of two 256 x 256 matrices. The threshold can also be set with
+ * the system property "org.katpara.mathematica.parallel.threshold".
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public class Parallelism {
+
+    /**
+     * The pool that runs the parallel tasks
+     */
+    private static volatile ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * The amount of work from which the operations run in parallel
+     */
+    private static volatile long threshold = Long.getLong("org.katpara.mathematica.parallel.threshold", 1L << 24);
+
+    /**
+     * The method returns the pool that runs the parallel tasks.
+     *
+     * @return the pool
+     */
+    public static ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * The method sets the pool that runs the parallel tasks.
+     *
+     * @param p the pool
+     *
+     * @throws NullArgumentProvidedException when the pool is null
+     */
+    public static void setPool(final ForkJoinPool p) {
+        if (p == null)
+            throw new NullArgumentProvidedException("The pool can't be null");
+
+        pool = p;
+    }
+
+    /**
+     * The method returns the amount of work from which the operations run in parallel.
+     *
+     * @return the threshold in multiply-adds
+     */
+    public static long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * The method sets the amount of work from which the operations run in parallel.
+     * Use {@link Long#MAX_VALUE} to run everything on the calling thread.
+     *
+     * @param t the threshold in multiply-adds
+     *
+     * @throws InvalidParameterProvidedException when the threshold is negative
+     */
+    public static void setThreshold(final long t) {
+        if (t < 0)
+            throw new InvalidParameterProvidedException("The threshold can't be negative");
+
+        threshold = t;
+    }
+
+    /**
+     * The method decides if an operation of the given size should run in parallel.
+     *
+     * @param work the amount of work in multiply-adds
+     *
+     * @return true if the operation should run in parallel
+     */
+    public static boolean isParallel(final long work) {
+        return work >= threshold && pool.getParallelism() > 1;
+    }
+}
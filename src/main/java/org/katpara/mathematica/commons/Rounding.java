@@ -1,10 +1,16 @@
 package org.katpara.mathematica.commons;
 
-import java.math.RoundingMode;
-import java.text.DecimalFormat;
-
 /**
  * The class is written to solve Java Rounding problems for the library.
+ * <p>
+ * The numbers are rounded with the scaled arithmetic: the number is multiplied with
+ * a power of ten, rounded to an integer and divided back. The product is not exact,
+ * so its round-off error is recovered with {@link Math#fma} to decide the ties, which
+ * makes the rounding HALF_UP on the exact value of the double, e.g. 0.125 is rounded
+ * to 0.13, while 1.005 (which is 1.00499999999999989...) is rounded to 1.0.
+ * <p>
+ * The methods don't share any mutable state, so they are safe to call from many
+ * threads, and the primitive methods don't allocate.
  *
  * @author Mehul Katpara
  * @since 1.0.0
@@ -12,33 +18,42 @@ import java.text.DecimalFormat;
 public class Rounding {
 
     /**
-     * The rounding format object
+     * The powers of ten by the number of decimal places, all of them are exact
+     */
+    private static final double[] POWERS = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10
+    };
+
+    /**
+     * The magnitude from which the doubles are further apart than an integer
      */
-    private static final DecimalFormat f = new DecimalFormat();
+    private static final double INTEGRAL = 0x1p53;
 
     /**
-     * Some of the constants used for rounding.
+     * Some of the constants used for rounding. {@link #NONE} keeps the numbers
+     * in the full precision and skips the rounding altogether.
      */
     public enum POINT {
-        ZERO("0"),
-        ONE("0.0"),
-        TWO("0.00"),
-        THREE("0.000"),
-        FOUR("0.0000"),
-        FIVE("0.00000"),
-        SIX("0.000000"),
-        SEVEN("0.0000000"),
-        EIGHT("0.00000000"),
-        NINE("0.000000000"),
-        TEN("0.0000000000");
-
-        private final String value;
-
-        POINT(final String value) {
+        ZERO(0),
+        ONE(1),
+        TWO(2),
+        THREE(3),
+        FOUR(4),
+        FIVE(5),
+        SIX(6),
+        SEVEN(7),
+        EIGHT(8),
+        NINE(9),
+        TEN(10),
+        NONE(-1);
+
+        private final int value;
+
+        POINT(final int value) {
             this.value = value;
         }
 
-        private String getValue() {
+        private int getValue() {
             return value;
         }
     }
@@ -46,6 +61,11 @@ public class Rounding {
     /**
      * The method helps to creat a rounding number until the given decimal point.
      * The default rounding mode for this method is RoundingMode.HALF_UP.
+     * <p>
+     * With {@link POINT#ZERO} the result is an {@link Integer}, unless it doesn't fit
+     * into an int (or it is not a finite number), then it is a {@link Double}.
+     * Otherwise the result is a {@link Double}, except for {@link POINT#NONE}, which
+     * returns the number as it is.
      *
      * @param n the number to be formatted
      * @param p the rounding configuration
@@ -53,13 +73,67 @@ public class Rounding {
      * @return the rounded point
      */
     public static Number round(final Number n, final POINT p) {
-        f.applyPattern(p.getValue());
+        if (p == POINT.NONE)
+            return n;
 
-        if(p == POINT.ZERO) {
-            return Integer.parseInt(f.format(n));
-        } else {
-            f.setRoundingMode(RoundingMode.HALF_UP);
-            return Double.parseDouble(f.format(n));
-        }
+        var r = roundToDouble(n.doubleValue(), p);
+
+        if (p == POINT.ZERO && r >= Integer.MIN_VALUE && r <= Integer.MAX_VALUE)
+            return (int) r;
+
+        return r;
+    }
+
+    /**
+     * The method rounds a double until the given decimal point, with the
+     * RoundingMode.HALF_UP. NaN and the infinities are returned as they are.
+     *
+     * @param n the number to be rounded
+     * @param p the rounding configuration
+     *
+     * @return the rounded number
+     */
+    public static double roundToDouble(final double n, final POINT p) {
+        if (p == POINT.NONE)
+            return n;
+
+        var s = POWERS[p.getValue()];
+        var a = Math.abs(n);
+        var y = a * s;
+
+        // The doubles are further apart than the decimals here, so the nearest
+        // double to the rounded number is the number itself (or it isn't a number)
+        if (!(y < INTEGRAL))
+            return n;
+
+        // The exact value of a * s is y + e
+        double e = Math.fma(a, s, -y),
+                f = Math.floor(y),
+                r = y - f;
+
+        // The exact fraction is r + e, the sign of the sum is always right
+        if ((r - 0.5) + e >= 0)
+            f++;
+
+        return Math.copySign(f / s, n);
+    }
+
+    /**
+     * The method rounds all the elements of an array until the given decimal point,
+     * in place, with the RoundingMode.HALF_UP.
+     *
+     * @param a the array to round
+     * @param p the rounding configuration
+     *
+     * @return the same array
+     */
+    public static double[] round(final double[] a, final POINT p) {
+        if (p == POINT.NONE)
+            return a;
+
+        for (var i = 0; i < a.length; i++)
+            a[i] = roundToDouble(a[i], p);
+
+        return a;
     }
 }
@@ -0,0 +1,91 @@
+package org.katpara.mathematica.commons;
+
+/**
+ * The class is the plain Java backend of the {@link Kernels}, it is used when
+ * the Vector API is not available.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+class ScalarKernel implements Kernel {
+
+    @Override
+    public double dot(final double[] x, final double[] y, final int n) {
+        return dot(x, 0, y, 0, n);
+    }
+
+    @Override
+    public double dot(final double[] x, final int xo, final double[] y, final int yo, final int n) {
+        var s = 0.0;
+        for (var i = 0; i < n; i++)
+            s += x[xo + i] * y[yo + i];
+
+        return s;
+    }
+
+    @Override
+    public void axpy(final double a, final double[] x, final int xo, final double[] y, final int yo, final int n) {
+        for (var i = 0; i < n; i++)
+            y[yo + i] += a * x[xo + i];
+    }
+
+    @Override
+    public void add(final double[] x, final double[] y, final double[] r, final int n) {
+        for (var i = 0; i < n; i++)
+            r[i] = x[i] + y[i];
+    }
+
+    @Override
+    public void subtract(final double[] x, final double[] y, final double[] r, final int n) {
+        for (var i = 0; i < n; i++)
+            r[i] = x[i] - y[i];
+    }
+
+    @Override
+    public void multiply4x4(final int kc, final double[] ap, int ai, final double[] bp, int bi,
+                            final double[] t) {
+        double c00 = 0, c01 = 0, c02 = 0, c03 = 0,
+                c10 = 0, c11 = 0, c12 = 0, c13 = 0,
+                c20 = 0, c21 = 0, c22 = 0, c23 = 0,
+                c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+        for (var k = 0; k < kc; k++, ai += 4, bi += 4) {
+            double a0 = ap[ai], a1 = ap[ai + 1], a2 = ap[ai + 2], a3 = ap[ai + 3],
+                    b0 = bp[bi], b1 = bp[bi + 1], b2 = bp[bi + 2], b3 = bp[bi + 3];
+
+            c00 += a0 * b0;
+            c01 += a0 * b1;
+            c02 += a0 * b2;
+            c03 += a0 * b3;
+            c10 += a1 * b0;
+            c11 += a1 * b1;
+            c12 += a1 * b2;
+            c13 += a1 * b3;
+            c20 += a2 * b0;
+            c21 += a2 * b1;
+            c22 += a2 * b2;
+            c23 += a2 * b3;
+            c30 += a3 * b0;
+            c31 += a3 * b1;
+            c32 += a3 * b2;
+            c33 += a3 * b3;
+        }
+
+        t[0] = c00;
+        t[1] = c01;
+        t[2] = c02;
+        t[3] = c03;
+        t[4] = c10;
+        t[5] = c11;
+        t[6] = c12;
+        t[7] = c13;
+        t[8] = c20;
+        t[9] = c21;
+        t[10] = c22;
+        t[11] = c23;
+        t[12] = c30;
+        t[13] = c31;
+        t[14] = c32;
+        t[15] = c33;
+    }
+}
@@ -1,5 +1,6 @@
 package org.katpara.mathematica.linears.matrices;
 
+import org.katpara.mathematica.commons.Memo;
 import org.katpara.mathematica.commons.Rounding;
 import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
 import org.katpara.mathematica.exceptions.NullArgumentProvidedException;
@@ -34,6 +35,8 @@ import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.*;
  * <p>
  * The reason is that, I am doing many calculations based on the type of matrix. If I already know
  * the type of the matrix, I can optimize the process to work really really fast. Thank you :)
+ * <p>
+ * The constant matrices are immutable, so they are shared through the {@link MatrixCache}.
  *
  * @author Mehul Katpara
  * @since 1.0.0
@@ -228,7 +231,7 @@ public class ArrayMatrix implements Matrix {
      */
     @Override
     public int[] getDimension() {
-        return d;
+        return d.clone();
     }
 
     /**
@@ -238,7 +241,27 @@ public class ArrayMatrix implements Matrix {
      */
     @Override
     public Number[][] toArray() {
-        return e;
+        var n = new Number[d[0]][];
+        for (var i = 0; i < d[0]; i++)
+            n[i] = e[i].clone();
+
+        return n;
+    }
+
+    /**
+     * The method returns a single element of a matrix as a primitive double.
+     * The indices are zero based, so the top left element is (0, 0).
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the element at the given row and column
+     *
+     * @throws IndexOutOfBoundsException if the indices are outside the matrix
+     */
+    @Override
+    public double get(final int i, final int j) {
+        return e[i][j].doubleValue();
     }
 
     /**
@@ -256,7 +279,7 @@ public class ArrayMatrix implements Matrix {
     }
 
     /**
-     * The method returns the list of Vectors.
+     * The method returns the list of Vectors, every vector holds a copy of its row.
      *
      * @return the matrix elements as a list of vectors
      */
@@ -265,11 +288,21 @@ public class ArrayMatrix implements Matrix {
         var list = new ArrayList<Vector>();
 
         for (var a : e)
-            list.add(new ArrayVector(a));
+            list.add(new ArrayVector(a.clone()));
 
         return list;
     }
 
+    /**
+     * The method returns the type of the matrix, it is used by the other
+     * implementations to carry the type along when converting a matrix.
+     *
+     * @return the type of the matrix
+     */
+    MatrixType getType() {
+        return t;
+    }
+
     /**
      * The method will return true if the matrix is a
      * row vector, which is 1 x n
@@ -367,16 +400,14 @@ public class ArrayMatrix implements Matrix {
      * @return the trace of the matrix
      */
     private double calculateTrace(final Rounding.POINT p) {
-        if (c.getT() == null) {
+        return Rounding.roundToDouble(c.t.get(() -> {
             var t = 0.0;
 
             for (var i = 0; i < d[0]; i++)
                 t += e[i][i].doubleValue();
 
-            c.setT(t);
-        }
-
-        return Rounding.round(c.getT(), p).doubleValue();
+            return t;
+        }), p);
     }
 
     /**
@@ -429,7 +460,7 @@ public class ArrayMatrix implements Matrix {
      */
     @Override
     public double getDeterminant(final Rounding.POINT point) {
-        if (c.getD() == null) {
+        return Rounding.roundToDouble(c.d.get(() -> {
             if (!isSquareMatrix())
                 throw new InvalidMatrixOperationException();
 
@@ -455,30 +486,161 @@ public class ArrayMatrix implements Matrix {
                                 (_e3 * _e5 * _e7) - (_e2 * _e4 * _e9) - (_e1 * _e6 * _e8)
                 );
             } else {
-                Number[][][] n = lu();
-                det = n[1][0][0].doubleValue();
-                for (var i = 1; i < n[1].length; i++)
-                    if (n[1][i][i].doubleValue() == 0 || Double.isNaN(n[1][i][i].doubleValue())) {
-                        det = 0;
-                        break;
-                    } else {
-                        det *= n[1][i][i].doubleValue();
-                    }
+                det = isPositiveDefinite() ? getCholeskyDecomposition().getDeterminant()
+                              : getLUDecomposition().getDeterminant();
             }
 
-            c.setD(det);
-        }
+            return det;
+        }), point);
+    }
+
+    /**
+     * The method returns the LU decomposition of a square matrix with partial
+     * pivoting. It is calculated only once and cached.
+     *
+     * @return the LU decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public LUDecomposition getLUDecomposition() {
+        return c.l.get(() -> {
+            if (!isSquareMatrix())
+                throw new InvalidMatrixOperationException("The matrix is not a square matrix");
+
+            return MatrixCache.weigh(this, new LUDecomposition(unbox(), d[0]), (long) d[0] * d[0]);
+        });
+    }
+
+    /**
+     * The method returns the QR decomposition with column pivoting,
+     * it is calculated only once and cached.
+     *
+     * @return the QR decomposition
+     */
+    @Override
+    public QRDecomposition getQRDecomposition() {
+        return c.q.get(() -> MatrixCache.weigh(this, new QRDecomposition(unbox(), d[0], d[1]), (long) d[0] * d[1]));
+    }
+
+    /**
+     * The method returns the singular value decomposition,
+     * it is calculated only once and cached.
+     *
+     * @return the singular value decomposition
+     */
+    @Override
+    public SingularValueDecomposition getSingularValueDecomposition() {
+        return c.s.get(() -> MatrixCache.weigh(this, new SingularValueDecomposition(unbox(), d[0], d[1]),
+                (long) Math.min(d[0], d[1]) * (d[0] + d[1] + 1)));
+    }
+
+    /**
+     * The method returns the eigendecomposition of a symmetric matrix,
+     * it is calculated only once and cached.
+     *
+     * @return the eigendecomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a symmetric matrix
+     */
+    @Override
+    public EigenDecomposition getEigenDecomposition() {
+        return c.g.get(() -> {
+            if (!isSquareMatrix())
+                throw new InvalidMatrixOperationException("The matrix is not a square matrix");
+
+            return MatrixCache.weigh(this, new EigenDecomposition(unbox(), d[0], true), (long) d[0] * (d[0] + 1));
+        });
+    }
+
+    /**
+     * The method returns the Cholesky decomposition of a symmetric matrix,
+     * it is calculated only once and cached.
+     *
+     * @return the Cholesky decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not symmetric
+     */
+    public CholeskyDecomposition getCholeskyDecomposition() {
+        var h = c.h.peek();
+        return (h != null) ? h : getCholeskyDecomposition(unbox());
+    }
+
+    /**
+     * The method returns the cached Cholesky decomposition, on the first call it is
+     * calculated from the given unboxed elements, so they are unboxed only once.
+     *
+     * @param a the row-major elements of the matrix
+     *
+     * @return the Cholesky decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not symmetric
+     */
+    private CholeskyDecomposition getCholeskyDecomposition(final double[] a) {
+        return c.h.get(() -> {
+            if (!isSquareMatrix())
+                throw new InvalidMatrixOperationException("The matrix is not a square matrix");
+
+            var n = d[0];
+            if (t != HILBERT && t != LEHMER)
+                for (var i = 0; i < n; i++)
+                    for (var j = 0; j < i; j++)
+                        if (a[i * n + j] != a[j * n + i])
+                            throw new InvalidMatrixOperationException("The matrix is not symmetric");
+
+            return MatrixCache.weigh(this, CholeskyDecomposition.of(a, n), (long) n * (n + 1) / 2);
+        });
+    }
+
+    /**
+     * The method tells if the matrix is symmetric positive definite, then the determinant,
+     * the inverse and the solutions use the Cholesky decomposition instead of the LU.
+     * The Hilbert and the Lehmer matrices are positive definite by construction, the
+     * others are decomposed when they are symmetric with a positive diagonal, and are
+     * positive definite when the decomposition succeeds.
+     *
+     * @return true if the matrix is symmetric positive definite
+     */
+    private boolean isPositiveDefinite() {
+        return c.p.get(() -> {
+            if (!isSquareMatrix())
+                return false;
+
+            if (t == HILBERT || t == LEHMER)
+                return getCholeskyDecomposition().isPositiveDefinite();
 
-        return Rounding.round(c.getD(), point).doubleValue();
+            var a = unbox();
+            return CholeskyDecomposition.isCandidate(a, d[0]) && getCholeskyDecomposition(a).isPositiveDefinite();
+        });
     }
 
     /**
-     * The method transposes the matrix.
+     * The method transposes the matrix, it returns a view that swaps the indices,
+     * so nothing is copied, see {@link TransposedMatrix}.
      *
      * @return the transposed matrix
      */
     @Override
     public Matrix transpose() {
+        return new TransposedMatrix(this);
+    }
+
+    /**
+     * The method returns the transposed copy of the matrix, it is created only once
+     * and cached, when a transposed view needs its elements laid out.
+     *
+     * @return the transposed matrix
+     */
+    Matrix transposed() {
+        return c.x.get(() -> MatrixCache.weigh(this, calculateTranspose(), (long) d[0] * d[1]));
+    }
+
+    /**
+     * The method copies the elements into the transposed matrix.
+     *
+     * @return the transposed matrix
+     */
+    private Matrix calculateTranspose() {
         var n = new Number[d[1]][d[0]];
 
         for (var i = 0; i < d[0]; i++)
@@ -504,6 +666,10 @@ public class ArrayMatrix implements Matrix {
     /**
      * The method will return an inverse matrix of a given matrix.
      * It returns a null matrix if the inverse is not possible.
+     * <p>
+     * The inverse is calculated only once in the full precision, and the rounded
+     * inverses are derived from it and cached per decimal places, so the repeated
+     * calls with any of the recently used precisions are free.
      *
      * @param p The efficiency to the given decimal places
      *
@@ -513,16 +679,20 @@ public class ArrayMatrix implements Matrix {
      */
     @Override
     public Matrix inverse(final Rounding.POINT p) {
-        if (c.getI() == null) {
-            c.setI(calculateInverse(p));
-        }
-        return c.getI();
+        // A singular 2x2 matrix has no inverse to cache
+        if (d[0] == 2 && d[1] == 2 && getDeterminant(Rounding.POINT.NONE) == 0)
+            return null;
+
+        return c.getI(this, p).get(() -> MatrixCache.weigh(this, calculateInverse(p), (long) d[0] * d[1]));
     }
 
     /**
-     * The method will return an inverse matrix of a given matrix.
+     * The method will return an inverse matrix of a given matrix, rounded to the
+     * given decimal places, from the cached full precision inverse.
      * It returns a null matrix if the inverse is not possible.
      *
+     * @param p The efficiency to the given decimal places
+     *
      * @return The inverse matrix
      *
      * @throws InvalidMatrixOperationException if the matrix is not a square matrix
@@ -531,89 +701,143 @@ public class ArrayMatrix implements Matrix {
         if (!isSquareMatrix())
             throw new InvalidMatrixOperationException("The matrix is not a square matrix");
 
+        if (d[0] == 2 && getDeterminant(Rounding.POINT.NONE) == 0)
+            return null;
+
+        return box(c.i.get(() -> MatrixCache.weigh(this, calculateInverse(), (long) d[0] * d[0])), d[0], d[0], p);
+    }
+
+    /**
+     * The method calculates the inverse in the full precision, a 2x2 matrix
+     * directly, the others from the cached Cholesky or LU decomposition.
+     *
+     * @return the row-major inverse
+     */
+    private double[] calculateInverse() {
         if (d[0] == 2) {
-            var n = new Number[2][2];
             double a = e[0][0].doubleValue(), b = e[0][1].doubleValue(),
                     c = e[1][0].doubleValue(), d = e[1][1].doubleValue(),
                     v = (a * d) - (b * c);
 
-            if (v == 0)
-                return null;
+            return new double[]{d / v, -b / v, -c / v, a / v};
+        }
 
-            n[0][0] = Rounding.round(d / v, p);
-            n[0][1] = Rounding.round(-b / v, p);
-            n[1][0] = Rounding.round(-c / v, p);
-            n[1][1] = Rounding.round(a / v, p);
+        return isPositiveDefinite() ? getCholeskyDecomposition().inverse() : getLUDecomposition().inverse();
+    }
 
-            return new ArrayMatrix(n);
-        } else {
-            Number[][][] lu = lu();
+    /**
+     * The method solves AX = B for the row-major right-hand sides B (n x k), with the
+     * cached Cholesky decomposition of a positive definite matrix, otherwise with
+     * the cached LU decomposition.
+     *
+     * @param b the row-major right-hand sides
+     * @param k the number of right-hand sides
+     *
+     * @return the row-major solutions
+     */
+    private double[] solve(final double[] b, final int k) {
+        return isPositiveDefinite() ? getCholeskyDecomposition().solve(b, k) : getLUDecomposition().solve(b, k);
+    }
 
-            for (var i = 0; i < lu[1].length; i++) {
-                if (lu[1][i][i].doubleValue() == 0) {
-                    throw new InvalidMatrixOperationException("The matrix is singular");
-                }
-            }
+    /**
+     * The method solves the linear system Ax = b with the cached Cholesky or LU decomposition.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b) {
+        return solve(b, Rounding.POINT.TEN);
+    }
 
-            return new ArrayMatrix(bs(lu[1], fs(lu[0]), p));
-        }
+    /**
+     * The method solves the linear system Ax = b with the cached Cholesky or LU decomposition.
+     * The solution is calculated in the full precision and rounded once at the end.
+     *
+     * @param b the right-hand side
+     * @param p the decimal points of accuracy
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b, final Rounding.POINT p) {
+        var x = solve(DoubleArrayMatrix.elements(b), 1);
+
+        var n = new Number[x.length];
+        for (var i = 0; i < x.length; i++)
+            n[i] = Rounding.round(x[i], p);
+
+        return new ArrayVector(n);
     }
 
     /**
-     * The method performs the backward substitution on a given 2 matrix.
+     * The method solves the linear systems AX = B with the cached Cholesky or LU decomposition.
+     *
+     * @param b the right-hand sides
      *
-     * @param n the matrix
-     * @param z the matrix
-     * @param p the accuracy to given decimal points
+     * @return the solutions X, one per column
      *
-     * @return the resulting array
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
      */
-    private Number[][] bs(final Number[][] n, final Number[][] z, final Rounding.POINT p) {
-        var r = new Number[n.length][n.length];
-        for (var i = n.length - 1; i >= 0; i--) {
-            for (var j = n.length - 1; j >= 0; j--) {
-                if (i == n.length - 1) {
-                    r[i][j] = Rounding.round(z[i][j].doubleValue() / n[i][i].doubleValue(), p);
-                } else {
-                    var sum = 0.0;
-                    for (int k = n.length - 1; k > i; k--)
-                        sum -= n[i][k].doubleValue() * r[k][j].doubleValue();
+    @Override
+    public Matrix solve(final Matrix b) {
+        return solve(b, Rounding.POINT.TEN);
+    }
 
-                    r[i][j] = Rounding.round((z[i][j].doubleValue() + sum) / n[i][i].doubleValue(), p);
-                }
-            }
-        }
+    /**
+     * The method solves the linear systems AX = B with the cached Cholesky or LU decomposition.
+     * The solutions are calculated in the full precision and rounded once at the end.
+     *
+     * @param b the right-hand sides
+     * @param p the decimal points of accuracy
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b, final Rounding.POINT p) {
+        var k = b.getDimension()[1];
+        var x = solve(DoubleArrayMatrix.elements(b), k);
 
-        return r;
+        return box(x, d[0], k, p);
     }
 
     /**
-     * The method performs a forward substitution, on a given matrix.
+     * The method solves the least squares problem min |Ax - b| with the cached
+     * QR decomposition. The solution is calculated in the full precision and
+     * rounded once at the end.
+     *
+     * @param b the right-hand side
+     * @param p the decimal points of accuracy
      *
-     * @param n the lover triangular matrix
+     * @return the solution x
      *
-     * @return the resulting substitution
+     * @throws InvalidMatrixOperationException if the matrix has fewer rows than columns,
+     *                                         or the dimension of the vector doesn't match
      */
-    private Number[][] fs(final Number[][] n) {
-        var z = new Number[n.length][n.length];
-        for (var i = 0; i < n.length; i++) {
-            for (var j = 0; j < n.length; j++) {
-                if (j <= i) {
-                    if (j == i) {
-                        z[i][j] = 1;
-                    } else {
-                        var sum = 0.0;
-                        for (var k = 0; k < i; k++) {
-                            sum -= n[i][k].doubleValue() * z[k][j].doubleValue();
-                        }
-                        z[i][j] = sum;
-                    }
-                } else {
-                    z[i][j] = 0;
-                }
-            }
-        }
-        return z;
+    @Override
+    public Vector leastSquares(final Vector b, final Rounding.POINT p) {
+        var x = getQRDecomposition().leastSquares(DoubleArrayMatrix.elements(b), 1);
+
+        var n = new Number[x.length];
+        for (var i = 0; i < x.length; i++)
+            n[i] = Rounding.round(x[i], p);
+
+        return new ArrayVector(n);
     }
 
     /**
@@ -748,198 +972,85 @@ public class ArrayMatrix implements Matrix {
      */
     @Override
     public Matrix multiply(final Matrix m, final Rounding.POINT p) {
-        var _e = m.toArray();
+        var _d = m.getDimension();
 
-        if (d[1] != _e.length)
+        if (d[1] != _d[0])
             throw new InvalidMatrixOperationException("the rows and columns don't match");
 
-        // If both matrix are square matrices and of 2 x 2 dimensions then do Strassen's algorithm
-        // Otherwise use the native method.
-        Number[][] n;
-        if (d[0] == 2 && d[1] == 2 && _e[0].length == 2) {
-            n = new Number[2][2];
-
-            double _e1 = e[0][0].doubleValue(),
-                    _e2 = e[0][1].doubleValue(),
-                    _e3 = e[1][0].doubleValue(),
-                    _e4 = e[1][1].doubleValue(),
-                    _n1 = _e[0][0].doubleValue(),
-                    _n2 = _e[0][1].doubleValue(),
-                    _n3 = _e[1][0].doubleValue(),
-                    _n4 = _e[1][1].doubleValue();
-
-            double _m1 = (_e1 + _e4) * (_n1 + _n4),
-                    _m2 = (_e3 + _e4) * _n1,
-                    _m3 = _e1 * (_n2 - _n4),
-                    _m4 = _e4 * (_n3 - _n1),
-                    _m5 = (_e1 + _e2) * _n4,
-                    _m6 = (_e3 - _e1) * (_n1 + _n2),
-                    _m7 = (_e2 - _e4) * (_n3 + _n4);
-
-            n[0][0] = Rounding.round(_m1 + _m4 - _m5 + _m7, p);
-            n[0][1] = Rounding.round(_m3 + _m5, p);
-            n[1][0] = Rounding.round(_m2 + _m4, p);
-            n[1][1] = Rounding.round(_m1 - _m2 + _m3 + _m6, p);
-
-        } else {
-            n = new Number[d[0]][_e[1].length];
-            for (var i = 0; i < d[0]; i++) {
-                for (var j = 0; j < _e[1].length; j++) {
-                    n[i][j] = 0;
-                    for (var k = 0; k < d[1]; k++) {
-                        n[i][j] = Rounding.round(n[i][j].doubleValue() + (e[i][k].doubleValue() * _e[k][j].doubleValue()), p);
-                    }
-                }
-            }
+        // Large matrices go through the Strassen's algorithm, the rest through the blocked kernel
+        var r = Strassen.multiply(unbox(), DoubleArrayMatrix.elements(m), d[0], d[1], _d[1]);
 
-        }
-        return new ArrayMatrix(n);
+        return box(r, d[0], _d[1], p);
     }
 
     /**
-     * The method will do addition or subtraction on two two-dimensional arrays.
+     * The method boxes a row-major array of primitives into a matrix,
+     * every element is rounded to the given decimal places.
      *
-     * @param n1  the first two-dimensional array
-     * @param n2  the second two-dimensional array
-     * @param add either addition or subtraction
+     * @param r the row-major elements
+     * @param m the number of rows
+     * @param n the number of columns
+     * @param p the decimal precision
      *
-     * @return the resulting new array
+     * @return the matrix
      */
-    private Number[][] addSubArrays(final Number[][] n1, final Number[][] n2, final boolean add) {
-        var n = new Number[d[0]][d[1]];
-        for (var i = 0; i < d[0]; i++)
-            for (var j = 0; j < d[1]; j++)
-                n[i][j] = (add) ? n1[i][j].doubleValue() + n2[i][j].doubleValue()
-                                  : n1[i][j].doubleValue() - n2[i][j].doubleValue();
+    static ArrayMatrix box(final double[] r, final int m, final int n, final Rounding.POINT p) {
+        var _n = new Number[m][n];
+        for (var i = 0; i < m; i++)
+            for (var j = 0; j < n; j++)
+                _n[i][j] = Rounding.round(r[i * n + j], p);
 
-        return n;
+        return new ArrayMatrix(_n);
     }
 
     /**
-     * The method perform LU decomposition on a given matrix.
+     * The method unboxes all the elements into a row-major array of primitives.
      *
-     * @return the LU matrices
+     * @return the row-major elements
      */
-    private Number[][][] lu() {
-        Number[][][] lu = new Number[2][d[0]][d[0]];
-        System.arraycopy(e, 0, lu[1], 0, d[0]);
-
-        for (var i = 0; i < d[0]; i++) {
-            if (i == 0)
-                for (var j = 1; j < d[1]; j++)
-                    lu[0][i][j] = 0;
-
-            lu[0][i][i] = 1;
-            for (var j = i + 1; j < d[0]; j++) {
-                var factor = e[j][i].doubleValue() / e[i][i].doubleValue();
-                for (var k = 0; k < d[1]; k++) {
-                    lu[1][j][k] = e[j][k].doubleValue() - (factor * e[i][k].doubleValue());
-
-                    if (k > j)
-                        lu[0][j][k] = 0;
-                }
-                lu[0][j][i] = factor;
-            }
-        }
+    private double[] unbox() {
+        var r = new double[d[0] * d[1]];
+        for (var i = 0; i < d[0]; i++)
+            for (var j = 0; j < d[1]; j++)
+                r[i * d[1] + j] = e[i][j].doubleValue();
 
-        return lu;
+        return r;
     }
 
     /**
-     * The method checks if the main diagonal of a given matrix is non-zero.
-     * This is very useful to determine if I need to implement LU decomposition or not.
+     * The method will do addition or subtraction on two two-dimensional arrays.
+     *
+     * @param n1  the first two-dimensional array
+     * @param n2  the second two-dimensional array
+     * @param add either addition or subtraction
      *
-     * @return true if all entries are non-zero
+     * @return the resulting new array
      */
-    private boolean isDiagonalNonZero() {
+    private Number[][] addSubArrays(final Number[][] n1, final Number[][] n2, final boolean add) {
+        var n = new Number[d[0]][d[1]];
         for (var i = 0; i < d[0]; i++)
-            if (e[i][i].doubleValue() == 0)
-                return false;
+            for (var j = 0; j < d[1]; j++)
+                n[i][j] = (add) ? n1[i][j].doubleValue() + n2[i][j].doubleValue()
+                                  : n1[i][j].doubleValue() - n2[i][j].doubleValue();
 
-        return true;
+        return n;
     }
 
     /**
-     * The method calculates the rank of the matrix.
-     * It uses a couple of methods based on the type of matrix.
+     * The method calculates the rank of the matrix from the cached QR decomposition
+     * with column pivoting, the diagonal elements of R smaller than the round-off
+     * tolerance are treated as zero.
      *
      * @return the rank
      */
     private int calculateRank() {
+        return c.r.get(() -> {
+            if (isRowVector() || isColumnVector())
+                return 1;
 
-        if (c.getR() == null) {
-            var r = 0;
-
-            if (isRowVector() || isColumnVector()) {
-                r = 1;
-            } else if (isSquareMatrix() && isDiagonalNonZero()) {
-                var _r = 0;
-                Number[][][] n = lu();
-                for (var i = 0; i < n[1].length; i++) {
-                    if (n[1][i][i].doubleValue() != 0) {
-                        ++_r;
-                    }
-                }
-                r = _r;
-            } else {
-                r = gaussianRank();
-            }
-
-            c.setR(r);
-        }
-
-        return c.getR();
-    }
-
-    /**
-     * The method implements gaussian algorithm to find out the rakn of a matrix.
-     *
-     * @return the rank
-     */
-    private int gaussianRank() {
-        int rk = Math.min(d[0], d[1]);
-        Number[][] n = new Number[d[0]][d[1]];
-        System.arraycopy(e, 0, n, 0, d[0]);
-
-        for (var r = 0; r < rk; r++) {
-            if (n[r][r].doubleValue() == 0) {
-                for (var i = r + 1; i < rk; i++) {
-                    if (n[i][r].doubleValue() != 0) {
-                        var t = n[r];
-                        n[r] = n[i];
-                        n[i] = t;
-                    }
-                }
-            } else if (n[r][r].doubleValue() != 1) {
-                for (var c = d[1] - 1; c >= r; c--) {
-                    n[r][c] = n[r][c].doubleValue() / n[r][r].doubleValue();
-                }
-            }
-
-            for (var _r = r + 1; _r < rk; _r++) {
-                if (n[_r][r].doubleValue() != 0) {
-                    for (var _c = d[1] - 1; _c >= r; _c--) {
-                        n[_r][_c] = n[_r][_c].doubleValue()
-                                            - (n[_r][r].doubleValue() * n[r][_c].doubleValue());
-                    }
-                }
-            }
-        }
-
-        for (var r = 0; r < d[0]; r++) {
-            var z = true;
-
-            for (var c = 0; c < d[1]; c++) {
-                if (n[r][c].doubleValue() != 0) {
-                    z = false;
-                    break;
-                }
-            }
-
-            if (z) rk--;
-        }
-
-        return rk == 0 ? 1 : rk;
+            var r = getQRDecomposition().getRank();
+            return r == 0 ? 1 : r;
+        });
     }
 
     /**
@@ -955,7 +1066,7 @@ public class ArrayMatrix implements Matrix {
      *                                         exist all the time.
      */
     public static ArrayMatrix zeroMatrix(final int m, final int n) {
-        return calculateZeroOneMatrix(m, n, ZERO);
+        return MatrixCache.get(() -> calculateZeroOneMatrix(m, n, ZERO), m, n, ArrayMatrix.class, ZERO);
     }
 
     /**
@@ -969,7 +1080,7 @@ public class ArrayMatrix implements Matrix {
      * @throws InvalidMatrixDimensionException when m + n &lt; 2
      */
     public static ArrayMatrix oneMatrix(final int m, final int n) {
-        return calculateZeroOneMatrix(m, n, ONE);
+        return MatrixCache.get(() -> calculateZeroOneMatrix(m, n, ONE), m, n, ArrayMatrix.class, ONE);
     }
 
     /**
@@ -1013,6 +1124,20 @@ public class ArrayMatrix implements Matrix {
      * @throws InvalidMatrixDimensionException when n &lt; 1, at least one element should exist.
      */
     public static ArrayMatrix pascalMatrix(final int n, final PascalMatrixType t) {
+        return MatrixCache.get(() -> calculatePascalMatrix(n, t), n, n, ArrayMatrix.class, PASCAL, t);
+    }
+
+    /**
+     * The method calculates a pascal's square matrix.
+     *
+     * @param n the number of rows and columns of a square matrix
+     * @param t the type of matrix
+     *
+     * @return a Pascal's matrix
+     *
+     * @throws InvalidMatrixDimensionException when n &lt; 1
+     */
+    private static ArrayMatrix calculatePascalMatrix(final int n, final PascalMatrixType t) {
         if (n < 1)
             throw new InvalidMatrixDimensionException("Pascal's matrix should have at least one element");
 
@@ -1059,9 +1184,9 @@ public class ArrayMatrix implements Matrix {
      * @throws InvalidMatrixDimensionException if n &lt; 1
      */
     public static ArrayMatrix lehmerMatrix(final int n) {
-        return new ArrayMatrix(
+        return MatrixCache.get(() -> new ArrayMatrix(
                 calculateDoubleMatrix
-                        (n, (i, j) -> (j >= i) ? (i + 1) / (j + 1) : (j + 1) / (i + 1)), LEHMER);
+                        (n, (i, j) -> (j >= i) ? (i + 1) / (j + 1) : (j + 1) / (i + 1)), LEHMER), n, n, ArrayMatrix.class, LEHMER);
     }
 
     /**
@@ -1074,9 +1199,9 @@ public class ArrayMatrix implements Matrix {
      * @throws InvalidMatrixDimensionException if n &lt; 1
      */
     public static ArrayMatrix hilbertMatrix(final int n) {
-        return new ArrayMatrix(
+        return MatrixCache.get(() -> new ArrayMatrix(
                 calculateDoubleMatrix
-                        (n, (i, j) -> 1 / (i + 1 + (j + 1) - 1)), HILBERT);
+                        (n, (i, j) -> 1 / (i + 1 + (j + 1) - 1)), HILBERT), n, n, ArrayMatrix.class, HILBERT);
     }
 
     /**
@@ -1090,10 +1215,9 @@ public class ArrayMatrix implements Matrix {
      * @throws InvalidMatrixDimensionException if n &lt; 1
      */
     public static ArrayMatrix identityMatrix(final int n) {
-        return new ArrayMatrix(
+        return MatrixCache.get(() -> new ArrayMatrix(
                 calculateIntMatrix
-                        (n, (i, j) -> (i.equals(j)) ? 1 : 0), IDENTITY);
-
+                        (n, (i, j) -> (i.equals(j)) ? 1 : 0), IDENTITY), n, n, ArrayMatrix.class, IDENTITY);
     }
 
     /**
@@ -1107,9 +1231,9 @@ public class ArrayMatrix implements Matrix {
      * @throws InvalidMatrixDimensionException if n &lt; 1
      */
     public static ArrayMatrix exchangeMatrix(final int n) {
-        return new ArrayMatrix(
+        return MatrixCache.get(() -> new ArrayMatrix(
                 calculateIntMatrix
-                        (n, (i, j) -> (j == n - i - 1) ? 1 : 0), EXCHANGE);
+                        (n, (i, j) -> (j == n - i - 1) ? 1 : 0), EXCHANGE), n, n, ArrayMatrix.class, EXCHANGE);
     }
 
     /**
@@ -1123,9 +1247,9 @@ public class ArrayMatrix implements Matrix {
      * @throws InvalidMatrixDimensionException if n &lt; 1
      */
     public static ArrayMatrix redhefferMatrix(final int n) {
-        return new ArrayMatrix(
+        return MatrixCache.get(() -> new ArrayMatrix(
                 calculateIntMatrix
-                        (n, (i, j) -> (j == 0) ? 1 : (((j + 1) % (i + 1) == 0) ? 1 : 0)), REDHEFFER);
+                        (n, (i, j) -> (j == 0) ? 1 : (((j + 1) % (i + 1) == 0) ? 1 : 0)), REDHEFFER), n, n, ArrayMatrix.class, REDHEFFER);
     }
 
     /**
@@ -1141,9 +1265,11 @@ public class ArrayMatrix implements Matrix {
      */
     public static ArrayMatrix shiftMatrix(final int n, final ShiftMatrixType t) {
         if (t == ShiftMatrixType.UPPER)
-            return new ArrayMatrix(calculateIntMatrix(n, (i, j) -> (j == i + 1) ? 1 : 0), SHIFT);
+            return MatrixCache.get(() -> new ArrayMatrix(calculateIntMatrix(n, (i, j) -> (j == i + 1) ? 1 : 0), SHIFT),
+                    n, n, ArrayMatrix.class, SHIFT, t);
 
-        return new ArrayMatrix(calculateIntMatrix(n, (i, j) -> (j == i - 1) ? 1 : 0), SHIFT);
+        return MatrixCache.get(() -> new ArrayMatrix(calculateIntMatrix(n, (i, j) -> (j == i - 1) ? 1 : 0), SHIFT),
+                n, n, ArrayMatrix.class, SHIFT, t);
     }
 
     /**
@@ -1324,41 +1450,36 @@ public class ArrayMatrix implements Matrix {
      * The class caches some properties of a given matrix to save computation.
      */
     private static class Cache {
-        private Integer r;
-        private Double t;
-        private Double d;
-        private Matrix i;
-
-        private Double getT() {
-            return t;
-        }
-
-        private void setT(final Double t) {
-            this.t = t;
-        }
-
-        private Integer getR() {
-            return r;
-        }
-
-        private void setR(final Integer r) {
-            this.r = r;
-        }
 
-        private Double getD() {
-            return d;
-        }
-
-        private void setD(final Double d) {
-            this.d = d;
-        }
-
-        private Matrix getI() {
-            return i;
-        }
-
-        private void setI(final Matrix i) {
-            this.i = i;
+        /*
+         * The number of rounded inverses kept, the least recently used is dropped
+         */
+        private static final int VIEWS = 4;
+
+        private final Memo<Integer> r = new Memo<>();
+        private final Memo<Double> t = new Memo<>();
+        private final Memo<Double> d = new Memo<>();
+        private final Memo<double[]> i = new Memo<>();
+        private final Memo<Boolean> p = new Memo<>();
+        private final Memo<LUDecomposition> l = new Memo<>();
+        private final Memo<CholeskyDecomposition> h = new Memo<>();
+        private final Memo<QRDecomposition> q = new Memo<>();
+        private final Memo<SingularValueDecomposition> s = new Memo<>();
+        private final Memo<EigenDecomposition> g = new Memo<>();
+        private final Memo<Matrix> x = new Memo<>();
+        private final Map<Rounding.POINT, Memo<Matrix>> v = new LinkedHashMap<>(VIEWS * 2, 0.75f, true);
+
+        private Memo<Matrix> getI(final ArrayMatrix a, final Rounding.POINT p) {
+            synchronized (v) {
+                var memo = v.computeIfAbsent(p, k -> new Memo<>());
+                if (v.size() > VIEWS) {
+                    var i = v.values().iterator();
+                    if (i.next().peek() != null)
+                        MatrixCache.weigh(a, null, -(long) a.d[0] * a.d[1]);
+                    i.remove();
+                }
+                return memo;
+            }
         }
     }
 
@@ -1478,13 +1599,14 @@ public class ArrayMatrix implements Matrix {
      * @see #hashCode()
      * @see HashMap
      */
-    public boolean equals(final Object obj) {
+    public boolean equals(Object obj) {
         if (this == obj) return true;
+        if (obj instanceof TransposedMatrix) obj = ((TransposedMatrix) obj).materialise();
         if (obj == null || getClass() != obj.getClass()) return false;
         if (this.hashCode() == obj.hashCode()) return true;
 
         final Matrix that = (Matrix) obj;
-        var o = that.toArray();
+        var o = ((ArrayMatrix) obj).e;
 
         if (!Arrays.equals(this.getDimension(), that.getDimension())) return false;
         for (var j = 0; j < this.e.length; j++)
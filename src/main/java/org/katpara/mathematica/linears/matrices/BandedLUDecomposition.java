@@ -0,0 +1,268 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+import org.katpara.mathematica.linears.vectors.Vector;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.NOT_SPECIFIED;
+
+/**
+ * The class holds the LU decomposition with partial pivoting of a {@link BandedMatrix}
+ * of the lower bandwidth kl and the upper bandwidth ku.
+ * <p>
+ * A pivot can only come from the kl rows below the diagonal, so L keeps the lower
+ * bandwidth kl, and a swapped row brings at most kl more columns into U, so U has the
+ * upper bandwidth kl + ku. The decomposition costs O(n x kl x (kl + ku)) and every
+ * solve O(n x (2kl + ku)) afterwards, i.e. linear in n for a fixed bandwidth.
+ * <p>
+ * Every row of the working array holds the columns from kl to the left of the diagonal
+ * to kl + ku to the right, so the elimination of a row subtracts a contiguous part
+ * of the pivot row. The multipliers of L are kept column by column, and are applied
+ * in the order of the elimination, together with the swaps of the rows.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class BandedLUDecomposition {
+
+    /**
+     * The rows of U, every row has w elements starting kl columns to the left of the diagonal
+     */
+    private final double[] u;
+
+    /**
+     * The multipliers of L, kl per column
+     */
+    private final double[] l;
+
+    /**
+     * The row swapped with every row during the elimination
+     */
+    private final int[] pv;
+
+    /**
+     * The number of rows and columns, the bandwidths and the width of a row of U
+     */
+    private final int n, kl, ku, w;
+
+    /**
+     * The sign of the permutation
+     */
+    private final int s;
+
+    /**
+     * If a pivot vanishes relative to the round-off tolerance
+     */
+    private final boolean singular;
+
+    /**
+     * The constructor decomposes the rows of a banded matrix.
+     *
+     * @param e  the rows of the band, every row has kl + ku + 1 elements starting
+     *           kl columns to the left of the diagonal, they are not modified
+     * @param n  the number of rows and columns
+     * @param kl the lower bandwidth
+     * @param ku the upper bandwidth
+     */
+    BandedLUDecomposition(final double[] e, final int n, final int kl, final int ku) {
+        this.n = n;
+        this.kl = kl;
+        this.ku = ku;
+        this.w = 2 * kl + ku + 1;
+
+        u = new double[n * w];
+        l = new double[n * kl];
+        pv = new int[n];
+
+        var b = kl + ku + 1;
+        for (var i = 0; i < n; i++)
+            System.arraycopy(e, i * b, u, i * w, b);
+
+        var tol = DoubleArrayMatrix.tolerance(e, n, n);
+        var _s = 1;
+        var _singular = false;
+
+        for (var k = 0; k < n; k++) {
+            int last = Math.min(n - 1, k + kl), end = Math.min(n - 1, k + kl + ku);
+
+            var p = k;
+            for (var i = k + 1; i <= last; i++)
+                if (Math.abs(u[at(i, k)]) > Math.abs(u[at(p, k)]))
+                    p = i;
+
+            pv[k] = p;
+            if (p != k) {
+                for (var j = k; j <= end; j++) {
+                    var t = u[at(p, j)];
+                    u[at(p, j)] = u[at(k, j)];
+                    u[at(k, j)] = t;
+                }
+                _s = -_s;
+            }
+
+            var d = u[at(k, k)];
+            if (Math.abs(d) <= tol)
+                _singular = true;
+
+            // Nothing to eliminate in a zero column, it leaves a zero pivot on U
+            if (d == 0)
+                continue;
+
+            for (var i = k + 1; i <= last; i++) {
+                var f = l[k * kl + i - k - 1] = u[at(i, k)] / d;
+                if (f != 0)
+                    Kernels.axpy(-f, u, at(k, k + 1), u, at(i, k + 1), end - k);
+            }
+        }
+
+        s = _s;
+        singular = _singular;
+    }
+
+    /**
+     * The method returns the index of the element (i, j) in the rows of U.
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the index
+     */
+    private int at(final int i, final int j) {
+        return i * w + j - i + kl;
+    }
+
+    /**
+     * The method decomposes a banded matrix, it is the same as
+     * {@link BandedMatrix#getBandedLUDecomposition()}, but the result
+     * isn't cached by the matrix.
+     *
+     * @param m the matrix, its bandwidths are found from its non-zero elements
+     *
+     * @return the decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    public static BandedLUDecomposition of(final Matrix m) {
+        var b = BandedMatrix.of(m);
+        return new BandedLUDecomposition(b.toBandArray(), b.getDimension()[0],
+                b.getLowerBandwidth(), b.getUpperBandwidth());
+    }
+
+    /**
+     * The method returns the determinant, the product of the pivots with the sign
+     * of the permutation.
+     *
+     * @return the determinant
+     */
+    public double getDeterminant() {
+        double det = s;
+        for (var i = 0; i < n && det != 0; i++)
+            det *= u[at(i, i)];
+
+        return det == 0 ? 0.0 : det;
+    }
+
+    /**
+     * The method tells if the decomposed matrix is singular, i.e. if U has a pivot
+     * that vanishes relative to the round-off tolerance of the matrix.
+     *
+     * @return true if the matrix is singular
+     */
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * The method solves the linear system Ax = b in the full precision.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the dimension of the vector doesn't
+     *                                         match, or the matrix is singular
+     */
+    public Vector solve(final Vector b) {
+        return new DoubleArrayVector(solve(DoubleArrayMatrix.elements(b), 1));
+    }
+
+    /**
+     * The method solves the linear systems AX = B in the full precision,
+     * every column of B is a right-hand side.
+     *
+     * @param b the right-hand sides
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    public Matrix solve(final Matrix b) {
+        var k = b.getDimension()[1];
+        return new DoubleArrayMatrix(solve(DoubleArrayMatrix.elements(b), k), n, k, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method solves AX = B for the row-major right-hand sides B (n x k), the swaps
+     * and the multipliers are applied in the order of the elimination, then U is solved
+     * by the backward substitution.
+     *
+     * @param b the row-major right-hand sides, they are not modified
+     * @param k the number of right-hand sides
+     *
+     * @return the row-major solutions X (n x k)
+     *
+     * @throws InvalidMatrixOperationException if the size of B doesn't match,
+     *                                         or the matrix is singular
+     */
+    double[] solve(final double[] b, final int k) {
+        if (b.length != n * k)
+            throw new InvalidMatrixOperationException("The dimensions don't match");
+
+        if (singular)
+            throw new InvalidMatrixOperationException("The matrix is singular");
+
+        var x = b.clone();
+
+        for (var r = 0; r < n; r++) {
+            if (pv[r] != r)
+                DoubleArrayMatrix.swapRows(x, k, pv[r], r);
+
+            for (var i = r + 1; i <= Math.min(n - 1, r + kl); i++) {
+                var f = l[r * kl + i - r - 1];
+                if (f != 0)
+                    Kernels.axpy(-f, x, r * k, x, i * k, k);
+            }
+        }
+
+        for (var i = n - 1; i >= 0; i--) {
+            for (var j = i + 1; j <= Math.min(n - 1, i + kl + ku); j++) {
+                var f = u[at(i, j)];
+                if (f != 0)
+                    Kernels.axpy(-f, x, j * k, x, i * k, k);
+            }
+
+            var d = u[at(i, i)];
+            for (var c = 0; c < k; c++)
+                x[i * k + c] /= d;
+        }
+
+        return x;
+    }
+
+    /**
+     * The method calculates the inverse, it solves AX = I.
+     *
+     * @return the row-major inverse
+     *
+     * @throws InvalidMatrixOperationException if the matrix is singular
+     */
+    double[] inverse() {
+        var i = new double[n * n];
+        for (var j = 0; j < n; j++)
+            i[j * n + j] = 1;
+
+        return solve(i, n);
+    }
+}
@@ -0,0 +1,948 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.commons.Memo;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+import org.katpara.mathematica.linears.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.NOT_SPECIFIED;
+
+/**
+ * The class is an implementation of the Matrix interface for the square banded matrices,
+ * whose non-zero elements are within kl diagonals below and ku diagonals above the main
+ * diagonal, e.g. the tridiagonal matrices of the finite differences or the splines, and
+ * the shift matrices.
+ * <p>
+ * The matrix stores only the band, row by row, every row holds kl + ku + 1 elements
+ * starting kl columns to the left of the diagonal, so the element (i, j) is at
+ * i(kl + ku + 1) + j - i + kl, and the parts of the band outside the matrix are zero.
+ * The memory, and the time of the operations below, scale with n x (kl + ku + 1)
+ * rather than with n^2:
+ * <ul>
+ *     <li>the product with a vector, see {@link #multiply(Vector)}, in O(n x bandwidth)</li>
+ *     <li>the product with a banded matrix is again banded, and the product with a dense
+ *     matrix of p columns takes O(n x bandwidth x p)</li>
+ *     <li>the banded LU decomposition, see {@link #getBandedLUDecomposition()}, which the
+ *     determinant, the inverse and the solutions use</li>
+ *     <li>a diagonally dominant tridiagonal system is solved by the Thomas algorithm in O(n),
+ *     without the pivoting, see {@link #solve(Vector)}</li>
+ * </ul>
+ * The sums and the scalar products with banded matrices are again banded, the results
+ * that take a {@link Rounding.POINT} are rounded right away. Two banded matrices are
+ * equal when they have the same bandwidths and the same band.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class BandedMatrix implements Matrix {
+
+    /**
+     * The number of rows and columns
+     */
+    private final int n;
+
+    /**
+     * The lower and the upper bandwidth
+     */
+    private final int kl, ku;
+
+    /**
+     * The number of elements of a row of the band, kl + ku + 1
+     */
+    private final int w;
+
+    /**
+     * The rows of the band
+     */
+    private final double[] e;
+
+    /**
+     * Useful to cache some of the calculated properties
+     */
+    private final Cache c = new Cache();
+
+    /**
+     * The constructor creates a matrix out of the rows of the band, which are not copied.
+     *
+     * @param e  the rows of the band, n(kl + ku + 1) elements
+     * @param n  the number of rows and columns
+     * @param kl the lower bandwidth
+     * @param ku the upper bandwidth
+     *
+     * @throws InvalidMatrixDimensionException   when matrix doesn't have at least one element
+     * @throws InvalidParameterProvidedException when a bandwidth is negative or not less than n
+     */
+    BandedMatrix(final double[] e, final int n, final int kl, final int ku) {
+        if (n < 1)
+            throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+        if (kl < 0 || ku < 0 || kl >= n || ku >= n)
+            throw new InvalidParameterProvidedException("The bandwidths should be within [0, n)");
+
+        this.n = n;
+        this.kl = kl;
+        this.ku = ku;
+        this.w = kl + ku + 1;
+        this.e = e;
+    }
+
+    /**
+     * The method returns the index of the element (i, j) in the rows of the band.
+     *
+     * @param i the row index
+     * @param j the column index, within the band of the row
+     *
+     * @return the index
+     */
+    private int at(final int i, final int j) {
+        return i * w + j - i + kl;
+    }
+
+    /**
+     * The method returns the first column of the band of a row within the matrix.
+     *
+     * @param i the row index
+     *
+     * @return the first column
+     */
+    private int first(final int i) {
+        return Math.max(0, i - kl);
+    }
+
+    /**
+     * The method returns the last column of the band of a row within the matrix.
+     *
+     * @param i the row index
+     *
+     * @return the last column
+     */
+    private int last(final int i) {
+        return Math.min(n - 1, i + ku);
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public int[] getDimension() {
+        return new int[]{n, n};
+    }
+
+    /**
+     * The method returns the number of non-zero diagonals below the main diagonal.
+     *
+     * @return the lower bandwidth
+     */
+    public int getLowerBandwidth() {
+        return kl;
+    }
+
+    /**
+     * The method returns the number of non-zero diagonals above the main diagonal.
+     *
+     * @return the upper bandwidth
+     */
+    public int getUpperBandwidth() {
+        return ku;
+    }
+
+    /**
+     * The method returns the rows of the band, every row holds kl + ku + 1 elements
+     * starting kl columns to the left of the diagonal.
+     *
+     * @return the rows of the band
+     */
+    public double[] toBandArray() {
+        return e.clone();
+    }
+
+    /**
+     * The method returns all the elements in the row-major order, zeros included.
+     *
+     * @return the row-major elements
+     */
+    public double[] toDoubleArray() {
+        var a = new double[n * n];
+        for (var i = 0; i < n; i++) {
+            var j = first(i);
+            System.arraycopy(e, at(i, j), a, i * n + j, last(i) - j + 1);
+        }
+
+        return a;
+    }
+
+    /**
+     * The method converts the matrix into a dense {@link DoubleArrayMatrix}.
+     *
+     * @return the dense matrix
+     */
+    public DoubleArrayMatrix toDoubleArrayMatrix() {
+        return new DoubleArrayMatrix(toDoubleArray(), n, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns all the elements of a matrix, they are built on every call.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public Number[][] toArray() {
+        return toDoubleArrayMatrix().toArray();
+    }
+
+    /**
+     * The method returns a single element of a matrix, the elements outside
+     * the band are zero.
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the element at the given row and column
+     *
+     * @throws IndexOutOfBoundsException if the indices are outside the matrix
+     */
+    @Override
+    public double get(final int i, final int j) {
+        Objects.checkIndex(i, n);
+        Objects.checkIndex(j, n);
+
+        return (j < i - kl || j > i + ku) ? 0 : e[at(i, j)];
+    }
+
+    /**
+     * The method returns all the elements as a list of lists, they are built on every call.
+     *
+     * @return the matrix elements as a list of lists
+     */
+    @Override
+    public List<List<Number>> toList() {
+        return toDoubleArrayMatrix().toList();
+    }
+
+    /**
+     * The method returns the list of Vectors, they are built on every call.
+     *
+     * @return the matrix elements as a list of vectors
+     */
+    @Override
+    public List<Vector> toArrayVectors() {
+        return toDoubleArrayMatrix().toArrayVectors();
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * row vector, which is 1 x n
+     *
+     * @return false, a banded matrix is square
+     */
+    @Override
+    public boolean isRowVector() {
+        return false;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * column vector, which is n x 1.
+     *
+     * @return false, a banded matrix is square
+     */
+    @Override
+    public boolean isColumnVector() {
+        return false;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * square matrix, which is n x n.
+     *
+     * @return true, a banded matrix is square
+     */
+    @Override
+    public boolean isSquareMatrix() {
+        return true;
+    }
+
+    /**
+     * The trace of the matrix is defined as the sum of all the elements,
+     * on the main diagonal.
+     *
+     * @return the trace of the matrix
+     */
+    @Override
+    public double getTrace() {
+        return getTrace(Rounding.POINT.TEN);
+    }
+
+    /**
+     * The trace of the matrix is defined as the sum of all the elements,
+     * on the main diagonal.
+     *
+     * @param p the decimal places for the precision
+     *
+     * @return the trace of the matrix
+     */
+    @Override
+    public double getTrace(final Rounding.POINT p) {
+        var t = 0.0;
+        for (var i = 0; i < n; i++)
+            t += e[at(i, i)];
+
+        return Rounding.roundToDouble(t, p);
+    }
+
+    /**
+     * A rank of a matrix is independent rows of a matrix, a matrix with a regular
+     * banded LU decomposition has the full rank, otherwise it is calculated on
+     * the dense matrix.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public int getRank() {
+        return c.r.get(() -> getBandedLUDecomposition().isSingular() ? toDoubleArrayMatrix().getRank() : n);
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double getDeterminant() {
+        return getDeterminant(Rounding.POINT.TEN);
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is calculated from the banded LU decomposition.
+     *
+     * @param p the decimal point accuracy
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double getDeterminant(final Rounding.POINT p) {
+        return Rounding.roundToDouble(getBandedLUDecomposition().getDeterminant(), p);
+    }
+
+    /**
+     * The method returns the banded LU decomposition with partial pivoting,
+     * it is calculated only once and cached.
+     *
+     * @return the banded LU decomposition
+     */
+    public BandedLUDecomposition getBandedLUDecomposition() {
+        return c.b.get(() -> new BandedLUDecomposition(e, n, kl, ku));
+    }
+
+    /**
+     * The method returns the LU decomposition of a square matrix with partial
+     * pivoting, of the dense elements. It is calculated only once and cached,
+     * see {@link #getBandedLUDecomposition()} for the one that keeps the band.
+     *
+     * @return the LU decomposition
+     */
+    @Override
+    public LUDecomposition getLUDecomposition() {
+        return c.l.get(() -> new LUDecomposition(toDoubleArray(), n));
+    }
+
+    /**
+     * The method transposes the matrix, the transpose is banded with
+     * the bandwidths swapped.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public Matrix transpose() {
+        var t = new double[e.length];
+        var tw = w;
+
+        for (var i = 0; i < n; i++)
+            for (var j = first(i); j <= last(i); j++)
+                t[j * tw + i - j + ku] = e[at(i, j)];
+
+        return new BandedMatrix(t, n, ku, kl);
+    }
+
+    /**
+     * The method will return an inverse matrix of a given matrix.
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is singular
+     */
+    @Override
+    public Matrix inverse() {
+        return inverse(Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will return an inverse matrix of a given matrix, the inverse of a
+     * banded matrix is dense in general, so it is a {@link DoubleArrayMatrix}.
+     *
+     * @param p The efficiency to the given decimal places
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is singular
+     */
+    @Override
+    public Matrix inverse(final Rounding.POINT p) {
+        return new DoubleArrayMatrix(getBandedLUDecomposition().inverse(), n, n, NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method solves the linear system Ax = b, a diagonally dominant tridiagonal
+     * matrix by the Thomas algorithm, otherwise with the cached banded LU decomposition.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b) {
+        return solve(b, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method solves the linear system Ax = b, a diagonally dominant tridiagonal
+     * matrix by the Thomas algorithm, otherwise with the cached banded LU decomposition.
+     *
+     * @param b the right-hand side
+     * @param p the decimal places to round the solution to
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b, final Rounding.POINT p) {
+        return new DoubleArrayVector(Rounding.round(solve(DoubleArrayMatrix.elements(b), 1), p));
+    }
+
+    /**
+     * The method solves the linear systems AX = B, a diagonally dominant tridiagonal
+     * matrix by the Thomas algorithm, otherwise with the cached banded LU decomposition.
+     *
+     * @param b the right-hand sides
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b) {
+        return solve(b, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method solves the linear systems AX = B, a diagonally dominant tridiagonal
+     * matrix by the Thomas algorithm, otherwise with the cached banded LU decomposition.
+     *
+     * @param b the right-hand sides
+     * @param p the decimal places to round the solutions to
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b, final Rounding.POINT p) {
+        var k = b.getDimension()[1];
+        return new DoubleArrayMatrix(solve(DoubleArrayMatrix.elements(b), k), n, k, NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method solves AX = B for the row-major right-hand sides B (n x k).
+     *
+     * @param b the row-major right-hand sides
+     * @param k the number of right-hand sides
+     *
+     * @return the row-major solutions
+     *
+     * @throws InvalidMatrixOperationException if the size of B doesn't match,
+     *                                         or the matrix is singular
+     */
+    private double[] solve(final double[] b, final int k) {
+        if (b.length != n * k)
+            throw new InvalidMatrixOperationException("The dimensions don't match");
+
+        return c.t.get(this::isDominantTridiagonal) ? thomas(b, k) : getBandedLUDecomposition().solve(b, k);
+    }
+
+    /**
+     * The method tells if the matrix is tridiagonal and strictly diagonally dominant by rows,
+     * then the Thomas algorithm is stable without the pivoting, and never divides by zero.
+     *
+     * @return true if the Thomas algorithm can be used
+     */
+    private boolean isDominantTridiagonal() {
+        if (kl != 1 || ku != 1)
+            return false;
+
+        for (var i = 0; i < n; i++)
+            if (Math.abs(e[i * 3 + 1]) <= Math.abs(e[i * 3]) + Math.abs(e[i * 3 + 2]))
+                return false;
+
+        return true;
+    }
+
+    /**
+     * The method solves a tridiagonal system by the Thomas algorithm, i.e. the Gaussian
+     * elimination without pivoting, which eliminates the single element below every
+     * pivot in O(n), and then substitutes backwards.
+     *
+     * @param b the row-major right-hand sides, they are not modified
+     * @param k the number of right-hand sides
+     *
+     * @return the row-major solutions
+     */
+    private double[] thomas(final double[] b, final int k) {
+        var u = new double[n];
+        var x = b.clone();
+
+        for (var i = 0; i < n; i++) {
+            double l = e[i * 3], d = e[i * 3 + 1];
+
+            if (i > 0) {
+                d -= l * u[i - 1];
+                if (l != 0)
+                    Kernels.axpy(-l, x, (i - 1) * k, x, i * k, k);
+            }
+
+            u[i] = e[i * 3 + 2] / d;
+            for (var r = 0; r < k; r++)
+                x[i * k + r] /= d;
+        }
+
+        for (var i = n - 2; i >= 0; i--)
+            if (u[i] != 0)
+                Kernels.axpy(-u[i], x, (i + 1) * k, x, i * k, k);
+
+        return x;
+    }
+
+    /**
+     * The method performs a scalar addition on a square matrix,
+     * i.e. M + a = M + a(I), where I is an identity matrix.
+     *
+     * @param s the scalar to add
+     *
+     * @return the resulting banded matrix
+     */
+    @Override
+    public Matrix add(final Number s) {
+        var _s = s.doubleValue();
+        var r = e.clone();
+
+        for (var i = 0; i < n; i++)
+            r[at(i, i)] += _s;
+
+        return new BandedMatrix(r, n, kl, ku);
+    }
+
+    /**
+     * The method adds two matrices together, the sum with a banded matrix is
+     * banded, otherwise it is a {@link DoubleArrayMatrix}.
+     *
+     * @param m the matrix to add
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        return addSubtract(m, 1);
+    }
+
+    /**
+     * The method subtracts two matrices, the difference with a banded matrix is
+     * banded, otherwise it is a {@link DoubleArrayMatrix}.
+     *
+     * @param m the matrix to subtract
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        return addSubtract(m, -1);
+    }
+
+    /**
+     * The method calculates this + s x m.
+     *
+     * @param m the other matrix
+     * @param s 1 to add, -1 to subtract
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    private Matrix addSubtract(final Matrix m, final int s) {
+        var _d = m.getDimension();
+        if (_d[0] != n || _d[1] != n)
+            throw new InvalidMatrixOperationException("Matrices dimensions must be the same.");
+
+        if (m instanceof BandedMatrix) {
+            var b = (BandedMatrix) m;
+            var r = new BandedMatrix(new double[n * (Math.max(kl, b.kl) + Math.max(ku, b.ku) + 1)], n,
+                    Math.max(kl, b.kl), Math.max(ku, b.ku));
+
+            for (var i = 0; i < n; i++) {
+                for (var j = first(i); j <= last(i); j++)
+                    r.e[r.at(i, j)] = e[at(i, j)];
+
+                for (var j = b.first(i); j <= b.last(i); j++)
+                    r.e[r.at(i, j)] += s * b.e[b.at(i, j)];
+            }
+
+            return r;
+        }
+
+        var r = DoubleArrayMatrix.elements(m).clone();
+        for (var i = 0; i < r.length; i++)
+            r[i] *= s;
+
+        for (var i = 0; i < n; i++)
+            for (var j = first(i); j <= last(i); j++)
+                r[i * n + j] += e[at(i, j)];
+
+        return new DoubleArrayMatrix(r, n, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on a matrix and returns a new matrix.
+     *
+     * @param s a scalar to scale the matrix with
+     *
+     * @return a new scaled banded matrix
+     */
+    @Override
+    public Matrix multiply(final Number s) {
+        return multiply(s, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on a matrix and returns a new matrix.
+     *
+     * @param s a scalar to scale the matrix with
+     * @param p the rounding to the given decimal points
+     *
+     * @return a new scaled banded matrix
+     */
+    @Override
+    public Matrix multiply(final Number s, final Rounding.POINT p) {
+        var _s = s.doubleValue();
+        var r = new double[e.length];
+
+        for (var i = 0; i < r.length; i++)
+            r[i] = Rounding.roundToDouble(e[i] * _s, p);
+
+        return new BandedMatrix(r, n, kl, ku);
+    }
+
+    /**
+     * The method will perform a matrix multiplication of a matrix and returns a new Matrix.
+     *
+     * @param m the matrix to multiply
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        return multiply(m, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will perform a matrix multiplication of a matrix and returns a new Matrix.
+     * <p>
+     * The product of two banded matrices is banded, the bandwidths add up. The product
+     * with any other matrix is dense. Either way every element of the band adds a scaled
+     * row of the other matrix, or of its band, to the row of the result.
+     *
+     * @param m the matrix to multiply
+     * @param p the decimal precision
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m, final Rounding.POINT p) {
+        var _d = m.getDimension();
+
+        if (n != _d[0])
+            throw new InvalidMatrixOperationException("the rows and columns don't match");
+
+        if (m instanceof BandedMatrix)
+            return multiply((BandedMatrix) m, p);
+
+        int q = _d[1];
+        var b = DoubleArrayMatrix.elements(m);
+        var r = new double[n * q];
+
+        for (var i = 0; i < n; i++)
+            for (var j = first(i); j <= last(i); j++)
+                Kernels.axpy(e[at(i, j)], b, j * q, r, i * q, q);
+
+        return new DoubleArrayMatrix(r, n, q, NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method multiplies two banded matrices, the result has the lower bandwidth
+     * kl + b.kl and the upper bandwidth ku + b.ku, as long as they fit in the matrix.
+     *
+     * @param b the other banded matrix
+     * @param p the decimal precision
+     *
+     * @return the resulting banded matrix
+     */
+    private BandedMatrix multiply(final BandedMatrix b, final Rounding.POINT p) {
+        var r = new BandedMatrix(new double[n * (Math.min(n - 1, kl + b.kl) + Math.min(n - 1, ku + b.ku) + 1)], n,
+                Math.min(n - 1, kl + b.kl), Math.min(n - 1, ku + b.ku));
+
+        for (var i = 0; i < n; i++)
+            for (var j = first(i); j <= last(i); j++) {
+                var a = e[at(i, j)];
+                if (a != 0) {
+                    var f = b.first(j);
+                    Kernels.axpy(a, b.e, b.at(j, f), r.e, r.at(i, f), b.last(j) - f + 1);
+                }
+            }
+
+        Rounding.round(r.e, p);
+        return r;
+    }
+
+    /**
+     * The method multiplies a dense matrix with this matrix from the left, i.e. A x this,
+     * every element A(i, k) adds the band of the row k of this matrix, scaled, to the row i
+     * of the result.
+     *
+     * @param a the row-major elements of A
+     * @param m the number of rows of A, the number of its columns must be n
+     * @param p the decimal precision
+     *
+     * @return the resulting dense matrix
+     */
+    Matrix multiplyLeft(final double[] a, final int m, final Rounding.POINT p) {
+        var r = new double[m * n];
+
+        for (var i = 0; i < m; i++)
+            for (var k = 0; k < n; k++) {
+                var f = a[i * n + k];
+                if (f != 0) {
+                    var j = first(k);
+                    Kernels.axpy(f, e, at(k, j), r, i * n + j, last(k) - j + 1);
+                }
+            }
+
+        return new DoubleArrayMatrix(r, m, n, NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method multiplies the matrix with a vector, i.e. Ax, in O(n x bandwidth).
+     *
+     * @param b the vector x, its dimension must be the number of columns
+     *
+     * @return the resulting vector
+     *
+     * @throws InvalidMatrixOperationException if the dimension of the vector doesn't match
+     */
+    public DoubleArrayVector multiply(final Vector b) {
+        if (b.getDimension() != n)
+            throw new InvalidMatrixOperationException("The dimensions don't match");
+
+        var x = DoubleArrayMatrix.elements(b);
+        var r = new double[n];
+
+        for (var i = 0; i < n; i++) {
+            var j = first(i);
+            r[i] = Kernels.dot(e, at(i, j), x, j, last(i) - j + 1);
+        }
+
+        return new DoubleArrayVector(r);
+    }
+
+    /**
+     * The method creates a tridiagonal matrix out of its three diagonals.
+     *
+     * @param l the diagonal below the main diagonal, n - 1 elements
+     * @param d the main diagonal, n elements
+     * @param u the diagonal above the main diagonal, n - 1 elements
+     *
+     * @return the tridiagonal matrix
+     *
+     * @throws InvalidParameterProvidedException when the diagonals have wrong lengths
+     */
+    public static BandedMatrix tridiagonalMatrix(final double[] l, final double[] d, final double[] u) {
+        var n = d.length;
+
+        if (n < 2 || l.length != n - 1 || u.length != n - 1)
+            throw new InvalidParameterProvidedException("The diagonals should have n - 1, n and n - 1 elements, n > 1");
+
+        var e = new double[n * 3];
+        for (var i = 0; i < n; i++) {
+            e[i * 3] = (i > 0) ? l[i - 1] : 0;
+            e[i * 3 + 1] = d[i];
+            e[i * 3 + 2] = (i < n - 1) ? u[i] : 0;
+        }
+
+        return new BandedMatrix(e, n, 1, 1);
+    }
+
+    /**
+     * The method converts a square matrix into a banded matrix, the bandwidths are the
+     * farthest non-zero elements below and above the main diagonal.
+     *
+     * @param m the matrix to convert
+     *
+     * @return the banded matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    public static BandedMatrix of(final Matrix m) {
+        if (m instanceof BandedMatrix)
+            return (BandedMatrix) m;
+
+        if (!m.isSquareMatrix())
+            throw new InvalidMatrixOperationException("The matrix is not a square matrix");
+
+        var n = m.getDimension()[0];
+        var a = DoubleArrayMatrix.elements(m);
+        int kl = 0, ku = 0;
+
+        for (var i = 0; i < n; i++)
+            for (var j = 0; j < n; j++)
+                if (a[i * n + j] != 0) {
+                    kl = Math.max(kl, i - j);
+                    ku = Math.max(ku, j - i);
+                }
+
+        return band(a, n, kl, ku);
+    }
+
+    /**
+     * The method converts a square matrix into a banded matrix of the given bandwidths.
+     *
+     * @param m  the matrix to convert
+     * @param kl the lower bandwidth
+     * @param ku the upper bandwidth
+     *
+     * @return the banded matrix
+     *
+     * @throws InvalidMatrixOperationException   if the matrix is not a square matrix, or it
+     *                                           has non-zero elements outside the band
+     * @throws InvalidParameterProvidedException when a bandwidth is negative or not less than n
+     */
+    public static BandedMatrix of(final Matrix m, final int kl, final int ku) {
+        if (!m.isSquareMatrix())
+            throw new InvalidMatrixOperationException("The matrix is not a square matrix");
+
+        var n = m.getDimension()[0];
+        var a = DoubleArrayMatrix.elements(m);
+
+        for (var i = 0; i < n; i++)
+            for (var j = 0; j < n; j++)
+                if ((j < i - kl || j > i + ku) && a[i * n + j] != 0)
+                    throw new InvalidMatrixOperationException("The matrix has non-zero elements outside the band");
+
+        return band(a, n, kl, ku);
+    }
+
+    /**
+     * The method copies the band of a square row-major array.
+     *
+     * @param a  the row-major array
+     * @param n  the number of rows and columns
+     * @param kl the lower bandwidth
+     * @param ku the upper bandwidth
+     *
+     * @return the banded matrix
+     */
+    private static BandedMatrix band(final double[] a, final int n, final int kl, final int ku) {
+        var b = new BandedMatrix(new double[n * (kl + ku + 1)], n, kl, ku);
+
+        for (var i = 0; i < n; i++) {
+            var j = b.first(i);
+            System.arraycopy(a, i * n + j, b.e, b.at(i, j), b.last(i) - j + 1);
+        }
+
+        return b;
+    }
+
+    /*
+     * The class caches some properties of a given matrix to save computation.
+     */
+    private static class Cache {
+        private final Memo<Integer> r = new Memo<>();
+        private final Memo<Boolean> t = new Memo<>();
+        private final Memo<LUDecomposition> l = new Memo<>();
+        private final Memo<BandedLUDecomposition> b = new Memo<>();
+    }
+
+    /**
+     * Returns a string representation of the dense matrix.
+     *
+     * @return a string representation of the object.
+     */
+    public String toString() {
+        return toDoubleArrayMatrix().toString();
+    }
+
+    /**
+     * Returns a hash code value for the object, calculated from
+     * the dimension, the bandwidths and the band.
+     *
+     * @return a hash code value for this object.
+     *
+     * @see Object#equals(Object)
+     */
+    public int hashCode() {
+        return 31 * (31 * (31 * n + kl) + ku) + Arrays.hashCode(e);
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     * Two banded matrices are equal when they have the same dimension,
+     * the same bandwidths and the same band.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     *
+     * @see #hashCode()
+     */
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        var that = (BandedMatrix) obj;
+        return n == that.n && kl == that.kl && ku == that.ku && Arrays.equals(e, that.e);
+    }
+}
@@ -0,0 +1,306 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+import org.katpara.mathematica.linears.vectors.Vector;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.NOT_SPECIFIED;
+
+/**
+ * The class holds the Cholesky decomposition of a symmetric positive definite matrix,
+ * i.e. A = LL^T, where L is a lower triangular matrix with a positive diagonal.
+ * <p>
+ * The decomposition needs no pivoting and costs n^3 / 3 flops, half of the LU
+ * decomposition, and so does every solve afterwards, since L is used twice. A
+ * {@link SymmetricMatrix} calculates it only once and caches it, see
+ * {@link SymmetricMatrix#getCholeskyDecomposition()}, and so do the dense matrices,
+ * which try it for the determinant, the inverse and the solutions whenever they are
+ * symmetric with a positive diagonal, see {@link DoubleArrayMatrix#getCholeskyDecomposition()}.
+ * <p>
+ * L is stored packed row by row, the row i holds its i + 1 elements from the first
+ * column to the diagonal, the same layout as the {@link SymmetricMatrix}. The element
+ * L(i, j) is calculated from the dot product of the rows i and j up to the column j,
+ * which are both contiguous in the packed array.
+ * <p>
+ * The decomposition stops at the first diagonal element that isn't positive relative
+ * to the round-off tolerance, then the matrix isn't positive definite, see
+ * {@link #isPositiveDefinite()}, and the decomposition can't be used.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class CholeskyDecomposition {
+
+    /**
+     * The packed rows of L
+     */
+    private final double[] l;
+
+    /**
+     * The number of rows and columns
+     */
+    private final int n;
+
+    /**
+     * If all the diagonal elements are positive
+     */
+    private final boolean positive;
+
+    /**
+     * The number of columns of a panel, the panel of L of the columns already
+     * decomposed is kept in the cache while it updates all the rows below
+     */
+    static final int NB = 64;
+
+    /**
+     * The constructor decomposes the packed lower triangle of a symmetric matrix.
+     * <p>
+     * The columns are decomposed panel by panel, left-looking: first the earlier
+     * panels are subtracted from the columns of the panel, one panel of L at a time
+     * for all the rows below it, then the panel itself is decomposed by the dot products
+     * of its rows. The dot products are split, but their terms are the same as without
+     * the panels.
+     *
+     * @param a the packed rows of the lower triangle, they are not modified
+     * @param n the number of rows and columns
+     */
+    CholeskyDecomposition(final double[] a, final int n) {
+        this.n = n;
+        l = a.clone();
+
+        var tol = DoubleArrayMatrix.tolerance(a, n, n);
+        var _positive = true;
+
+        for (var jb = 0; jb < n && _positive; jb += NB) {
+            var je = Math.min(n, jb + NB);
+
+            // Subtract the earlier panels from the columns jb to je of all the rows below
+            for (var kb = 0; kb < jb; kb += NB) {
+                var kn = Math.min(NB, jb - kb);
+                for (var i = jb; i < n; i++) {
+                    var ri = i * (i + 1) / 2;
+                    for (var j = jb; j < Math.min(je, i + 1); j++)
+                        l[ri + j] -= Kernels.dot(l, ri + kb, l, j * (j + 1) / 2 + kb, kn);
+                }
+            }
+
+            // Decompose the panel, the rows above are already done
+            for (var i = jb; i < n && _positive; i++) {
+                var ri = i * (i + 1) / 2;
+                for (var j = jb; j < Math.min(je, i + 1); j++) {
+                    var rj = j * (j + 1) / 2;
+                    var s = l[ri + j] - Kernels.dot(l, ri + jb, l, rj + jb, j - jb);
+
+                    if (j < i) {
+                        l[ri + j] = s / l[rj + j];
+                    } else if (s <= tol) {
+                        _positive = false;
+                        break;
+                    } else {
+                        l[ri + i] = Math.sqrt(s);
+                    }
+                }
+            }
+        }
+
+        positive = _positive;
+    }
+
+    /**
+     * The method decomposes a square row-major array, the lower triangle is packed
+     * and the upper one is assumed to be the same.
+     *
+     * @param a the row-major elements, they are not modified
+     * @param n the number of rows and columns
+     *
+     * @return the decomposition
+     */
+    static CholeskyDecomposition of(final double[] a, final int n) {
+        return new CholeskyDecomposition(SymmetricMatrix.pack(a, n), n);
+    }
+
+    /**
+     * The method tells if the decomposition is worth trying on a square row-major array,
+     * i.e. if it is symmetric and its diagonal is positive, which every positive definite
+     * matrix is. It costs O(n^2), and most of the other matrices fail it early.
+     *
+     * @param a the row-major elements
+     * @param n the number of rows and columns
+     *
+     * @return true if the matrix may be positive definite
+     */
+    static boolean isCandidate(final double[] a, final int n) {
+        for (var i = 0; i < n; i++) {
+            if (!(a[i * n + i] > 0))
+                return false;
+
+            for (var j = 0; j < i; j++)
+                if (a[i * n + j] != a[j * n + i])
+                    return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * The method decomposes a symmetric matrix, it is the same as
+     * {@link SymmetricMatrix#getCholeskyDecomposition()}, but the result
+     * isn't cached by the matrix.
+     *
+     * @param m the symmetric matrix
+     *
+     * @return the decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not symmetric
+     */
+    public static CholeskyDecomposition of(final Matrix m) {
+        var s = SymmetricMatrix.of(m);
+        return new CholeskyDecomposition(s.toPackedArray(), s.getDimension()[0]);
+    }
+
+    /**
+     * The method tells if the decomposed matrix is positive definite, i.e. if all
+     * the diagonal elements of L are positive relative to the round-off tolerance.
+     *
+     * @return true if the matrix is positive definite
+     */
+    public boolean isPositiveDefinite() {
+        return positive;
+    }
+
+    /**
+     * The method returns the lower triangular matrix L.
+     *
+     * @return the matrix L
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not positive definite
+     */
+    public Matrix getL() {
+        check();
+
+        var _l = new double[n * n];
+        for (int i = 0, ri = 0; i < n; ri += ++i)
+            System.arraycopy(l, ri, _l, i * n, i + 1);
+
+        return new DoubleArrayMatrix(_l, n, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns the determinant, the square of the product of
+     * the diagonal of L.
+     *
+     * @return the determinant
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not positive definite
+     */
+    public double getDeterminant() {
+        check();
+
+        var det = 1.0;
+        for (int i = 0, ri = 0; i < n; ri += ++i)
+            det *= l[ri + i];
+
+        return det * det;
+    }
+
+    /**
+     * The method solves the linear system Ax = b in the full precision.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the dimension of the vector doesn't
+     *                                         match, or the matrix is not positive definite
+     */
+    public Vector solve(final Vector b) {
+        return new DoubleArrayVector(solve(DoubleArrayMatrix.elements(b), 1));
+    }
+
+    /**
+     * The method solves the linear systems AX = B in the full precision,
+     * every column of B is a right-hand side.
+     *
+     * @param b the right-hand sides
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the number of rows doesn't match,
+     *                                         or the matrix is not positive definite
+     */
+    public Matrix solve(final Matrix b) {
+        var k = b.getDimension()[1];
+        return new DoubleArrayMatrix(solve(DoubleArrayMatrix.elements(b), k), n, k, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method solves AX = B for the row-major right-hand sides B (n x k), by the
+     * forward substitution with L and the backward substitution with L^T. Both read
+     * the packed rows of L, the latter subtracts every solved row from the rows above.
+     *
+     * @param b the row-major right-hand sides, they are not modified
+     * @param k the number of right-hand sides
+     *
+     * @return the row-major solutions X (n x k)
+     *
+     * @throws InvalidMatrixOperationException if the size of B doesn't match,
+     *                                         or the matrix is not positive definite
+     */
+    double[] solve(final double[] b, final int k) {
+        if (b.length != n * k)
+            throw new InvalidMatrixOperationException("The dimensions don't match");
+
+        check();
+
+        var x = b.clone();
+
+        // Forward substitution with L
+        for (int i = 0, ri = 0; i < n; ri += ++i) {
+            for (var j = 0; j < i; j++)
+                if (l[ri + j] != 0)
+                    Kernels.axpy(-l[ri + j], x, j * k, x, i * k, k);
+
+            for (var c = 0; c < k; c++)
+                x[i * k + c] /= l[ri + i];
+        }
+
+        // Backward substitution with L^T, the column i of L^T is the row i of L
+        for (var i = n - 1; i >= 0; i--) {
+            var ri = i * (i + 1) / 2;
+            for (var c = 0; c < k; c++)
+                x[i * k + c] /= l[ri + i];
+
+            for (var j = 0; j < i; j++)
+                if (l[ri + j] != 0)
+                    Kernels.axpy(-l[ri + j], x, i * k, x, j * k, k);
+        }
+
+        return x;
+    }
+
+    /**
+     * The method calculates the inverse, it solves AX = I.
+     *
+     * @return the row-major inverse
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not positive definite
+     */
+    double[] inverse() {
+        var i = new double[n * n];
+        for (var j = 0; j < n; j++)
+            i[j * n + j] = 1;
+
+        return solve(i, n);
+    }
+
+    /**
+     * The method makes sure the decomposition can be used.
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not positive definite
+     */
+    private void check() {
+        if (!positive)
+            throw new InvalidMatrixOperationException("The matrix is not positive definite");
+    }
+}
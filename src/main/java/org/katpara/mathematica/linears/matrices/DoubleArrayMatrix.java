@@ -0,0 +1,1505 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.commons.Memo;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.NullArgumentProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+import org.katpara.mathematica.linears.vectors.SparseVector;
+import org.katpara.mathematica.linears.vectors.Vector;
+
+import java.util.*;
+import java.util.function.DoubleBinaryOperator;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.*;
+
+/**
+ * The class is an implementation of the Matrix interface, that stores all the
+ * elements in one flat row-major array of primitive doubles.
+ * <p>
+ * {@link ArrayMatrix} keeps every element as a boxed {@link Number}, which means every
+ * operation has to unbox the elements and box the results again. That is fine for small
+ * matrices, but on large matrices it produces a lot of garbage. This class does all the
+ * calculations on primitives, the inner loops don't allocate anything, and the elements
+ * are only boxed when you ask for them through {@link #toArray()} or {@link #toList()}.
+ * <p>
+ * The element (i, j) of a matrix with the dimension m x n lives at the index (i * n + j).
+ * Same as {@link ArrayMatrix}, the matrix is immutable and remembers its {@link MatrixType},
+ * so please use the static methods to create the constant matrices, they are shared
+ * through the {@link MatrixCache}.
+ * <p>
+ * The rounding is deferred. An operation that takes a {@link Rounding.POINT} keeps its
+ * result in the full precision and only attaches the point to it. The elements are
+ * rounded once, on the first read through {@link #get(int, int)}, {@link #toArray()},
+ * {@link #toList()} and the like, while the further operations on the result keep
+ * working with the full precision. The point {@link Rounding.POINT#NONE} skips the
+ * rounding altogether.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class DoubleArrayMatrix implements Matrix {
+    private static final long serialVersionUID = 1720372398451867230L;
+
+    /**
+     * The field holds matrix data in row-major order
+     */
+    private final double[] e;
+
+    /**
+     * The dimension of the matrix
+     */
+    private final int[] d;
+
+    /**
+     * Useful to cache some of the calculated properties
+     */
+    private final DoubleArrayMatrix.Cache c = new DoubleArrayMatrix.Cache();
+
+    /**
+     * The field holds the type of matrix
+     */
+    private final Matrix.MatrixType t;
+
+    /**
+     * The decimal points the elements are rounded to when they are read
+     */
+    private final Rounding.POINT r;
+
+    /**
+     * The constructor creates a matrix out of a row-major array. The array is not copied,
+     * so it must not be changed after the matrix is created.
+     *
+     * @param e the row-major elements
+     * @param m the number of rows
+     * @param n the number of columns
+     * @param t the type of the matrix
+     *
+     * @throws InvalidMatrixDimensionException when matrix doesn't have at least one element
+     */
+    DoubleArrayMatrix(final double[] e, final int m, final int n, final MatrixType t) {
+        this(e, m, n, t, Rounding.POINT.NONE);
+    }
+
+    /**
+     * The constructor creates a matrix out of a full precision row-major array, whose
+     * elements are rounded to the given decimal points when they are read. The array
+     * is not copied, so it must not be changed after the matrix is created.
+     *
+     * @param e the row-major elements
+     * @param m the number of rows
+     * @param n the number of columns
+     * @param t the type of the matrix
+     * @param r the decimal points to round the elements to
+     *
+     * @throws InvalidMatrixDimensionException when matrix doesn't have at least one element
+     */
+    DoubleArrayMatrix(final double[] e, final int m, final int n, final MatrixType t, final Rounding.POINT r) {
+        if (m < 1 || n < 1 || e.length != m * n)
+            throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+        this.e = e;
+        this.d = new int[]{m, n};
+        this.t = t;
+        this.r = r;
+    }
+
+    /**
+     * The constructor creates a matrix out of a two-dimensional array of primitives.
+     * The elements are copied, so the array can be reused after the call.
+     * The type of created matrix is "NOT_SPECIFIED".
+     *
+     * @param e the matrix array
+     *
+     * @throws InvalidMatrixDimensionException when matrix doesn't have at least one element,
+     *                                         or the rows have different lengths
+     */
+    public DoubleArrayMatrix(final double[][] e) {
+        if (e.length == 0 || e[0].length == 0)
+            throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+        int m = e.length, n = e[0].length;
+        this.e = new double[m * n];
+
+        for (var i = 0; i < m; i++) {
+            if (e[i].length != n)
+                throw new InvalidMatrixDimensionException("The rows have multiple sizes");
+
+            System.arraycopy(e[i], 0, this.e, i * n, n);
+        }
+
+        this.d = new int[]{m, n};
+        this.t = NOT_SPECIFIED;
+        this.r = Rounding.POINT.NONE;
+    }
+
+    /**
+     * The constructor creates a matrix out of a two-dimensional array of numbers.
+     * The elements are unboxed and copied. The type of created matrix is "NOT_SPECIFIED".
+     *
+     * @param e the matrix array
+     *
+     * @throws InvalidMatrixDimensionException when matrix doesn't have at least one element,
+     *                                         or the rows have different lengths
+     * @throws NullArgumentProvidedException   when the array has a null value
+     */
+    public DoubleArrayMatrix(final Number[][] e) {
+        if (e.length == 0 || e[0].length == 0)
+            throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+        int m = e.length, n = e[0].length;
+        this.e = new double[m * n];
+
+        for (var i = 0; i < m; i++) {
+            if (e[i].length != n)
+                throw new InvalidMatrixDimensionException("The rows have multiple sizes");
+
+            for (var j = 0; j < n; j++) {
+                if (e[i][j] == null)
+                    throw new NullArgumentProvidedException("The matrix can't contain null values");
+
+                this.e[i * n + j] = e[i][j].doubleValue();
+            }
+        }
+
+        this.d = new int[]{m, n};
+        this.t = NOT_SPECIFIED;
+        this.r = Rounding.POINT.NONE;
+    }
+
+    /**
+     * The constructor converts any other {@link Matrix} into a primitive matrix.
+     * When the given matrix is already a {@link DoubleArrayMatrix}, the storage is
+     * shared rather than copied, since both of them are immutable, and so is the
+     * rounding. When it is an {@link ArrayMatrix}, the type of the matrix is carried along,
+     * a {@link SparseMatrix} is expanded straight from its non-zero elements, a
+     * {@link SymmetricMatrix} from its packed triangle and a {@link BandedMatrix} from its band.
+     *
+     * @param m the matrix to convert
+     */
+    public DoubleArrayMatrix(final Matrix m) {
+        if (m instanceof DoubleArrayMatrix) {
+            var _m = (DoubleArrayMatrix) m;
+            this.e = _m.e;
+            this.d = _m.d;
+            this.t = _m.t;
+            this.r = _m.r;
+        } else if (m instanceof TransposedMatrix || m instanceof SubMatrix) {
+            var _m = (m instanceof SubMatrix) ? ((SubMatrix) m).dense()
+                             : new DoubleArrayMatrix(((TransposedMatrix) m).materialise());
+            this.e = _m.e;
+            this.d = _m.d;
+            this.t = _m.t;
+            this.r = _m.r;
+        } else if (m instanceof SparseMatrix) {
+            this.d = m.getDimension();
+            this.e = ((SparseMatrix) m).expand();
+            this.t = NOT_SPECIFIED;
+            this.r = ((SparseMatrix) m).getRounding();
+        } else if (m instanceof SymmetricMatrix) {
+            this.d = m.getDimension();
+            this.e = ((SymmetricMatrix) m).toDoubleArray();
+            this.t = ((SymmetricMatrix) m).getType();
+            this.r = Rounding.POINT.NONE;
+        } else if (m instanceof BandedMatrix) {
+            this.d = m.getDimension();
+            this.e = ((BandedMatrix) m).toDoubleArray();
+            this.t = NOT_SPECIFIED;
+            this.r = Rounding.POINT.NONE;
+        } else {
+            this.d = m.getDimension().clone();
+            this.e = new double[d[0] * d[1]];
+            this.t = (m instanceof ArrayMatrix) ? ((ArrayMatrix) m).getType()
+                             : (m instanceof ImplicitMatrix) ? ((ImplicitMatrix) m).getType() : NOT_SPECIFIED;
+            this.r = Rounding.POINT.NONE;
+
+            for (var i = 0; i < d[0]; i++)
+                for (var j = 0; j < d[1]; j++)
+                    e[i * d[1] + j] = m.get(i, j);
+        }
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public int[] getDimension() {
+        return d.clone();
+    }
+
+    /**
+     * The method returns all the elements of a matrix.
+     * The elements are boxed into a new array on every call, please use
+     * {@link #get(int, int)} or {@link #toDoubleArray()} on hot paths.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public Number[][] toArray() {
+        var o = out();
+        var n = new Number[d[0]][d[1]];
+
+        for (var i = 0; i < d[0]; i++)
+            for (var j = 0; j < d[1]; j++)
+                n[i][j] = o[i * d[1] + j];
+
+        return n;
+    }
+
+    /**
+     * The method returns a copy of all the elements in row-major order.
+     *
+     * @return the row-major elements
+     */
+    public double[] toDoubleArray() {
+        return out().clone();
+    }
+
+    /**
+     * The method returns the elements as they are read, i.e. rounded to the decimal
+     * points of the matrix. They are rounded only once, on the first call.
+     *
+     * @return the rounded row-major elements, which must only be read
+     */
+    private double[] out() {
+        if (r == Rounding.POINT.NONE)
+            return e;
+
+        return c.o.get(() -> MatrixCache.weigh(this, Rounding.round(e.clone(), r), e.length));
+    }
+
+    /**
+     * The method returns the decimal places the elements are rounded to when they are read.
+     *
+     * @return the rounding point
+     */
+    Rounding.POINT getRounding() {
+        return r;
+    }
+
+    /**
+     * The method returns the type of the matrix, it is used by the other
+     * implementations to carry the type along when converting a matrix.
+     *
+     * @return the type of the matrix
+     */
+    MatrixType getType() {
+        return t;
+    }
+
+    /**
+     * The method converts the matrix into an {@link ArrayMatrix} of the same type.
+     *
+     * @return the boxed matrix
+     */
+    public ArrayMatrix toArrayMatrix() {
+        return new ArrayMatrix(toArray(), t);
+    }
+
+    /**
+     * The method returns a single element of a matrix as a primitive double.
+     * The indices are zero based, so the top left element is (0, 0).
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the element at the given row and column
+     *
+     * @throws IndexOutOfBoundsException if the indices are outside the matrix
+     */
+    @Override
+    public double get(final int i, final int j) {
+        return out()[Objects.checkIndex(i, d[0]) * d[1] + Objects.checkIndex(j, d[1])];
+    }
+
+    /**
+     * The method returns all the elements as a list of lists.
+     *
+     * @return the matrix elements as a list of lists
+     */
+    @Override
+    public List<List<Number>> toList() {
+        var list = new ArrayList<List<Number>>();
+        for (var a : toArray())
+            list.add(new ArrayList<>(Arrays.asList(a)));
+
+        return list;
+    }
+
+    /**
+     * The method returns the list of Vectors, every row is copied into
+     * a {@link DoubleArrayVector}.
+     *
+     * @return the matrix elements as a list of vectors
+     */
+    @Override
+    public List<Vector> toArrayVectors() {
+        var list = new ArrayList<Vector>();
+        var o = out();
+
+        for (var i = 0; i < d[0]; i++)
+            list.add(new DoubleArrayVector(Arrays.copyOfRange(o, i * d[1], (i + 1) * d[1])));
+
+        return list;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * row vector, which is 1 x n
+     *
+     * @return true if it is a row vector
+     */
+    @Override
+    public boolean isRowVector() {
+        return d[0] == 1 && d[1] > 1;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * column vector, which is n x 1.
+     *
+     * @return true if it is a column vector
+     */
+    @Override
+    public boolean isColumnVector() {
+        return d[0] > 1 && d[1] == 1;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * square matrix, which is n x n.
+     *
+     * @return true if it is a square matrix
+     */
+    @Override
+    public boolean isSquareMatrix() {
+        return d[0] == d[1];
+    }
+
+    /**
+     * The trace of the matrix is defined as the sum of all the elements,
+     * on the main diagonal.
+     * <p>
+     * The trace only exist for a square matrix.
+     *
+     * @return the trace of the square matrix
+     */
+    @Override
+    public double getTrace() {
+        return getTrace(Rounding.POINT.TEN);
+    }
+
+    /**
+     * The trace of the matrix is defined as the sum of all the elements,
+     * on the main diagonal.
+     * <p>
+     * The trace only exist for a square matrix.
+     *
+     * @param p the decimal points of accuracy
+     *
+     * @return the trace of the square matrix
+     */
+    @Override
+    public double getTrace(final Rounding.POINT p) {
+        if (!isSquareMatrix())
+            throw new InvalidMatrixOperationException("The matrix is not a square matrix.");
+
+        switch (t) {
+            case IDENTITY:
+            case LEHMER:
+            case ONE:
+                return d[0];
+            case SHIFT:
+                return 0;
+            case EXCHANGE:
+                return (d[0] % 2 == 0) ? 0 : 1;
+            case PASCAL:
+                return (d[0] > 1 && (e[1] == 0 || e[d[1]] == 0)) ? d[0] : calculateTrace(p);
+            default:
+                return calculateTrace(p);
+        }
+    }
+
+    /**
+     * The method will calculate a trace of the square matrix.
+     *
+     * @param p the precision level
+     *
+     * @return the trace of the matrix
+     */
+    private double calculateTrace(final Rounding.POINT p) {
+        return Rounding.roundToDouble(c.t.get(() -> {
+            var t = 0.0;
+
+            for (var i = 0; i < d[0]; i++)
+                t += e[i * d[1] + i];
+
+            return t;
+        }), p);
+    }
+
+    /**
+     * A rank of a matrix is independent rows of a matrix. That shows that how many
+     * rows of a matrix are totally independent, or co-dependent on other rows.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public int getRank() {
+        switch (t) {
+            case ONE:
+            case ZERO:
+                return 1;
+            case IDENTITY:
+            case EXCHANGE:
+            case HILBERT:
+            case LEHMER:
+            case PASCAL:
+            case REDHEFFER:
+                return d[0];
+            case SHIFT:
+                return d[0] - 1;
+            default:
+                if (isColumnVector() || isRowVector()) return 1;
+                return calculateRank();
+        }
+    }
+
+    /**
+     * The method calculates the rank of the matrix from the cached QR decomposition
+     * with column pivoting, the diagonal elements of R smaller than the round-off
+     * tolerance are treated as zero.
+     *
+     * @return the rank
+     */
+    private int calculateRank() {
+        return c.r.get(() -> {
+            var r = getQRDecomposition().getRank();
+            return r == 0 ? 1 : r;
+        });
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double getDeterminant() {
+        return getDeterminant(Rounding.POINT.TEN);
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is denoted as det(A), where A is a matrix or |A|.
+     *
+     * @param p the decimal point accuracy
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double getDeterminant(final Rounding.POINT p) {
+        return Rounding.roundToDouble(c.d.get(() -> {
+            if (!isSquareMatrix())
+                throw new InvalidMatrixOperationException();
+
+            var det = 0.0;
+            if (d[0] == 1) {
+                det = e[0];
+            } else if (d[0] == 2) {
+                det = (e[0] * e[3]) - (e[1] * e[2]);
+            } else if (d[0] == 3) {
+                det = (e[0] * e[4] * e[8]) + (e[1] * e[5] * e[6]) + (e[2] * e[3] * e[7]) -
+                              (e[2] * e[4] * e[6]) - (e[1] * e[3] * e[8]) - (e[0] * e[5] * e[7]);
+            } else {
+                det = isPositiveDefinite() ? getCholeskyDecomposition().getDeterminant()
+                              : getLUDecomposition().getDeterminant();
+            }
+
+            return det == 0 ? 0.0 : det;
+        }), p);
+    }
+
+    /**
+     * The method returns the LU decomposition of a square matrix with partial
+     * pivoting. It is calculated only once and cached.
+     *
+     * @return the LU decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public LUDecomposition getLUDecomposition() {
+        return c.l.get(() -> {
+            if (!isSquareMatrix())
+                throw new InvalidMatrixOperationException("The matrix is not a square matrix");
+
+            return MatrixCache.weigh(this, new LUDecomposition(e, d[0]), (long) d[0] * d[0]);
+        });
+    }
+
+    /**
+     * The method returns the QR decomposition with column pivoting,
+     * it is calculated only once and cached.
+     *
+     * @return the QR decomposition
+     */
+    @Override
+    public QRDecomposition getQRDecomposition() {
+        return c.q.get(() -> MatrixCache.weigh(this, new QRDecomposition(e, d[0], d[1]), (long) d[0] * d[1]));
+    }
+
+    /**
+     * The method returns the singular value decomposition,
+     * it is calculated only once and cached.
+     *
+     * @return the singular value decomposition
+     */
+    @Override
+    public SingularValueDecomposition getSingularValueDecomposition() {
+        return c.s.get(() -> MatrixCache.weigh(this, new SingularValueDecomposition(e, d[0], d[1]),
+                (long) Math.min(d[0], d[1]) * (d[0] + d[1] + 1)));
+    }
+
+    /**
+     * The method returns the eigendecomposition of a symmetric matrix,
+     * it is calculated only once and cached.
+     *
+     * @return the eigendecomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a symmetric matrix
+     */
+    @Override
+    public EigenDecomposition getEigenDecomposition() {
+        return c.g.get(() -> {
+            if (!isSquareMatrix())
+                throw new InvalidMatrixOperationException("The matrix is not a square matrix");
+
+            return MatrixCache.weigh(this, new EigenDecomposition(e, d[0], true), (long) d[0] * (d[0] + 1));
+        });
+    }
+
+    /**
+     * The method returns the Cholesky decomposition of a symmetric matrix,
+     * it is calculated only once and cached.
+     *
+     * @return the Cholesky decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not symmetric
+     */
+    public CholeskyDecomposition getCholeskyDecomposition() {
+        return c.h.get(() -> {
+            if (!isSymmetric())
+                throw new InvalidMatrixOperationException("The matrix is not symmetric");
+
+            return MatrixCache.weigh(this, CholeskyDecomposition.of(e, d[0]), (long) d[0] * (d[0] + 1) / 2);
+        });
+    }
+
+    /**
+     * The method tells if the matrix is symmetric.
+     *
+     * @return true if the matrix is symmetric
+     */
+    private boolean isSymmetric() {
+        if (!isSquareMatrix())
+            return false;
+
+        for (var i = 0; i < d[0]; i++)
+            for (var j = 0; j < i; j++)
+                if (e[i * d[0] + j] != e[j * d[0] + i])
+                    return false;
+
+        return true;
+    }
+
+    /**
+     * The method tells if the matrix is symmetric positive definite, then the determinant,
+     * the inverse and the solutions use the Cholesky decomposition instead of the LU.
+     * The Hilbert and the Lehmer matrices are positive definite by construction, the
+     * others are decomposed when they are symmetric with a positive diagonal, and are
+     * positive definite when the decomposition succeeds.
+     *
+     * @return true if the matrix is symmetric positive definite
+     */
+    private boolean isPositiveDefinite() {
+        return c.p.get(() -> {
+            if (!isSquareMatrix())
+                return false;
+
+            if (t != HILBERT && t != LEHMER && !CholeskyDecomposition.isCandidate(e, d[0]))
+                return false;
+
+            return getCholeskyDecomposition().isPositiveDefinite();
+        });
+    }
+
+    /**
+     * The method transposes the matrix, it returns a view that swaps the indices,
+     * so nothing is copied, see {@link TransposedMatrix}.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public Matrix transpose() {
+        return new TransposedMatrix(this);
+    }
+
+    /**
+     * The method returns the transposed copy of the matrix, with the same rounding.
+     * It is created only once and cached, when a transposed view needs its elements
+     * laid out.
+     *
+     * @return the transposed matrix
+     */
+    DoubleArrayMatrix transposed() {
+        return c.x.get(() -> MatrixCache.weigh(this, calculateTranspose(), (long) d[0] * d[1]));
+    }
+
+    /**
+     * The method copies the elements into the transposed matrix.
+     *
+     * @return the transposed matrix
+     */
+    private DoubleArrayMatrix calculateTranspose() {
+        int m = d[0], n = d[1];
+        var r = new double[m * n];
+
+        for (var i = 0; i < m; i++)
+            for (var j = 0; j < n; j++)
+                r[j * m + i] = e[i * n + j];
+
+        return new DoubleArrayMatrix(r, n, m, NOT_SPECIFIED, this.r);
+    }
+
+    /**
+     * The method will return an inverse matrix of a given matrix.
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix inverse() {
+        return inverse(Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will return an inverse matrix of a given matrix.
+     * The inverse is calculated once in the full precision and cached,
+     * every call returns it with the given decimal places attached.
+     *
+     * @param p The efficiency to the given decimal places
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix inverse(final Rounding.POINT p) {
+        return new DoubleArrayMatrix(c.i.get(() -> MatrixCache.weigh(this, calculateInverse(), (long) d[0] * d[0])),
+                d[0], d[0], NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method calculates the inverse from the cached Cholesky decomposition of a
+     * positive definite matrix, otherwise from the cached LU decomposition, it solves
+     * LU(x) = P(I) for every column of the identity matrix.
+     *
+     * @return the row-major inverse
+     */
+    private double[] calculateInverse() {
+        return isPositiveDefinite() ? getCholeskyDecomposition().inverse() : getLUDecomposition().inverse();
+    }
+
+    /**
+     * The method solves AX = B for the row-major right-hand sides B (n x k), with the
+     * cached Cholesky decomposition of a positive definite matrix, otherwise with
+     * the cached LU decomposition.
+     *
+     * @param b the row-major right-hand sides
+     * @param k the number of right-hand sides
+     *
+     * @return the row-major solutions
+     */
+    private double[] solve(final double[] b, final int k) {
+        return isPositiveDefinite() ? getCholeskyDecomposition().solve(b, k) : getLUDecomposition().solve(b, k);
+    }
+
+    /**
+     * The method solves the linear system Ax = b with the cached Cholesky or LU decomposition.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b) {
+        return solve(b, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method solves the linear system Ax = b with the cached Cholesky or LU decomposition.
+     * The solution is calculated in the full precision and rounded once at the end.
+     *
+     * @param b the right-hand side
+     * @param p the decimal points of accuracy
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b, final Rounding.POINT p) {
+        return new DoubleArrayVector(Rounding.round(solve(elements(b), 1), p));
+    }
+
+    /**
+     * The method solves the linear systems AX = B with the cached Cholesky or LU decomposition.
+     *
+     * @param b the right-hand sides
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b) {
+        return solve(b, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method solves the linear systems AX = B with the cached Cholesky or LU decomposition.
+     * The solutions are kept in the full precision and rounded when they are read.
+     *
+     * @param b the right-hand sides
+     * @param p the decimal points of accuracy
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b, final Rounding.POINT p) {
+        var k = b.getDimension()[1];
+        var x = solve(elements(b), k);
+
+        return new DoubleArrayMatrix(x, d[0], k, NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method performs a scalar addition on a square matrix.
+     * The operation is somewhat be described as;
+     * Let's consider a matrix "M", and scalar "a"
+     * then M + a = M + a(I), where I is an identity matrix.
+     *
+     * @param s the scalar to add
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public Matrix add(final Number s) {
+        if (!isSquareMatrix())
+            throw new InvalidMatrixOperationException("Scalar addition is only for square matrices.");
+
+        var r = e.clone();
+        var _s = s.doubleValue();
+        for (var i = 0; i < d[0]; i++)
+            r[i * d[1] + i] += _s;
+
+        return new DoubleArrayMatrix(r, d[0], d[1], NOT_SPECIFIED);
+    }
+
+    /**
+     * The method adds two matrices together.
+     * Let's consider matrices "A" and "B";
+     * The method performs, A + B operation, and returns the resulting matrix.
+     *
+     * @param m the matrix to add
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        if (!Arrays.equals(d, m.getDimension()))
+            throw new InvalidMatrixOperationException("Matrices dimensions must be the same.");
+
+        return new DoubleArrayMatrix(addSubArrays(e, elements(m), true), d[0], d[1], NOT_SPECIFIED);
+    }
+
+    /**
+     * The method subtracts two matrices together.
+     * Let's consider matrices "A" and "B";
+     * The method performs, A - B operation, and returns the resulting matrix.
+     *
+     * @param m the matrix to subtract
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        if (!Arrays.equals(d, m.getDimension()))
+            throw new InvalidMatrixOperationException("Matrices dimensions must be the same.");
+
+        return new DoubleArrayMatrix(addSubArrays(e, elements(m), false), d[0], d[1], NOT_SPECIFIED);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on a matrix and returns a new matrix.
+     * For example, Let us consider a matrix A, and any scalar c. The scalar multiplication
+     * can be defined as;
+     * c x A = cA.
+     *
+     * @param s a scalar to scale the matrix with
+     *
+     * @return a new scalded matrix
+     */
+    @Override
+    public Matrix multiply(final Number s) {
+        return multiply(s, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on a matrix and returns a new matrix.
+     * For example, Let us consider a matrix A, and any scalar c. The scalar multiplication
+     * can be defined as;
+     * c x A = cA.
+     *
+     * @param s a scalar to scale the matrix with
+     * @param p the rounding to the given decimal points
+     *
+     * @return a new scalded matrix
+     */
+    @Override
+    public Matrix multiply(final Number s, final Rounding.POINT p) {
+        var r = new double[e.length];
+        var _s = s.doubleValue();
+
+        for (var i = 0; i < e.length; i++)
+            r[i] = e[i] * _s;
+
+        return new DoubleArrayMatrix(r, d[0], d[1], NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method will perform a matrix multiplication of a matrix and returns a new Matrix.
+     * <p>
+     * If the given matrices are A, and B, of respective dimensions m x n and n x p. then
+     * number of column of a matrix A has to be equal to the number of rows B. The resulting
+     * matrix would be the dimensions of m x p.
+     * (A)mxn X (B)nxp = (C)mxp, where # or columns of A and and # of rows of B are equal.
+     *
+     * @param m the matrix to multiply
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        return multiply(m, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will perform a matrix multiplication of a matrix and returns a new Matrix.
+     * <p>
+     * If the given matrices are A, and B, of respective dimensions m x n and n x p. then
+     * number of column of a matrix A has to be equal to the number of rows B. The resulting
+     * matrix would be the dimensions of m x p.
+     * (A)mxn X (B)nxp = (C)mxp, where # or columns of A and and # of rows of B are equal.
+     * <p>
+     * The product is calculated by the cache-blocked kernel, see {@link Multiplication},
+     * or by the Strassen's algorithm when all the dimensions are large, see {@link Strassen}.
+     * The products are accumulated in the full precision, and the result keeps them,
+     * every element is rounded only once when it is read.
+     * <p>
+     * The product with an {@link ImplicitMatrix} follows from its structure, e.g.
+     * A x I shares the elements of A and A x J reverses the columns of A.
+     *
+     * @param m the matrix to multiply
+     * @param p the decimal precision
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m, final Rounding.POINT p) {
+        var _d = m.getDimension();
+
+        if (d[1] != _d[0])
+            throw new InvalidMatrixOperationException("the rows and columns don't match");
+
+        if (m instanceof ImplicitMatrix) {
+            if (((ImplicitMatrix) m).getType() == IDENTITY)
+                return r == p ? this : new DoubleArrayMatrix(e, d[0], d[1], t, p);
+
+            var o = ((ImplicitMatrix) m).multiplyLeft(e, d[0], p);
+            if (o != null)
+                return o;
+        }
+
+        if (m instanceof SparseMatrix)
+            return ((SparseMatrix) m).multiplyLeft(e, d[0], p);
+
+        if (m instanceof BandedMatrix)
+            return ((BandedMatrix) m).multiplyLeft(e, d[0], p);
+
+        if (m instanceof SubMatrix) {
+            var o = ((SubMatrix) m).multiplyLeft(e, 0, d[1], d[0], p);
+            if (o != null)
+                return o;
+        }
+
+        var o = Strassen.multiply(e, elements(m), d[0], d[1], _d[1]);
+
+        return new DoubleArrayMatrix(o, d[0], _d[1], NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method will do addition or subtraction on two row-major arrays.
+     *
+     * @param n1  the first array
+     * @param n2  the second array
+     * @param add either addition or subtraction
+     *
+     * @return the resulting new array
+     */
+    private static double[] addSubArrays(final double[] n1, final double[] n2, final boolean add) {
+        var n = new double[n1.length];
+        if (add)
+            Kernels.add(n1, n2, n, n.length);
+        else
+            Kernels.subtract(n1, n2, n, n.length);
+
+        return n;
+    }
+
+    /**
+     * The method returns the row-major elements of any matrix. The internal array
+     * is returned for a {@link DoubleArrayMatrix}, so it must only be read.
+     *
+     * @param m the matrix
+     *
+     * @return the row-major elements
+     */
+    static double[] elements(final Matrix m) {
+        if (m instanceof DoubleArrayMatrix)
+            return ((DoubleArrayMatrix) m).e;
+
+        if (m instanceof TransposedMatrix)
+            return elements(((TransposedMatrix) m).materialise());
+
+        if (m instanceof SubMatrix)
+            return elements(((SubMatrix) m).dense());
+
+        return new DoubleArrayMatrix(m).e;
+    }
+
+    /**
+     * The method returns the elements of any vector as an array of primitives.
+     *
+     * @param v the vector
+     *
+     * @return the elements
+     */
+    static double[] elements(final Vector v) {
+        if (v instanceof SparseVector)
+            return ((SparseVector) v).toDoubleArray();
+
+        var r = new double[v.getDimension()];
+        for (var i = 0; i < r.length; i++)
+            r[i] = v.get(i);
+
+        return r;
+    }
+
+    /**
+     * The method calculates the round-off tolerance of an array, it is the largest
+     * absolute element scaled by the dimension and the machine epsilon.
+     *
+     * @param a the row-major array
+     * @param m the number of rows
+     * @param n the number of columns
+     *
+     * @return the tolerance
+     */
+    static double tolerance(final double[] a, final int m, final int n) {
+        var max = 0.0;
+        for (var v : a)
+            max = Math.max(max, Math.abs(v));
+
+        return Math.max(m, n) * Math.ulp(1.0) * max;
+    }
+
+    /**
+     * The method swaps two rows of a row-major array.
+     *
+     * @param a the row-major array
+     * @param n the number of columns
+     * @param i the first row
+     * @param j the second row
+     */
+    static void swapRows(final double[] a, final int n, final int i, final int j) {
+        if (i == j)
+            return;
+
+        for (var k = 0; k < n; k++) {
+            var _a = a[i * n + k];
+            a[i * n + k] = a[j * n + k];
+            a[j * n + k] = _a;
+        }
+    }
+
+    /**
+     * The method will return a zero or null matrix, whose all the elements are zero.
+     *
+     * @param m the number of rows
+     * @param n the number of columns
+     *
+     * @return a DoubleArrayMatrix with all 0 entries
+     *
+     * @throws InvalidMatrixDimensionException when # of row + # of column &lt; 2;
+     *                                         this ensures that at least one element
+     *                                         exist all the time.
+     */
+    public static DoubleArrayMatrix zeroMatrix(final int m, final int n) {
+        if (m + n < 2)
+            throw new InvalidMatrixDimensionException("Zero matrix should have at least one element");
+
+        return MatrixCache.get(() -> new DoubleArrayMatrix(new double[m * n], m, n, ZERO),
+                m, n, DoubleArrayMatrix.class, ZERO);
+    }
+
+    /**
+     * In mathematics, a matrix of one, or all-ones matrix is a matrix whose all elements are 1.
+     *
+     * @param m the number of rows
+     * @param n the number of columns
+     *
+     * @return a DoubleArrayMatrix with all 1 entries
+     *
+     * @throws InvalidMatrixDimensionException when m + n &lt; 2
+     */
+    public static DoubleArrayMatrix oneMatrix(final int m, final int n) {
+        if (m + n < 2)
+            throw new InvalidMatrixDimensionException("One matrix should have at least one element");
+
+        return MatrixCache.get(() -> {
+            var e = new double[m * n];
+            Arrays.fill(e, 1);
+
+            return new DoubleArrayMatrix(e, m, n, ONE);
+        }, m, n, DoubleArrayMatrix.class, ONE);
+    }
+
+    /**
+     * The method will create a pascal's square matrix.
+     *
+     * @param n the number of rows and columns of a square matrix
+     * @param t the type of matrix
+     *          i.e. UPPER, LOWER or SYMMETRIC
+     *
+     * @return a Pascal's {@link Matrix}
+     *
+     * @throws InvalidMatrixDimensionException when n &lt; 1, at least one element should exist.
+     */
+    public static DoubleArrayMatrix pascalMatrix(final int n, final PascalMatrixType t) {
+        return MatrixCache.get(() -> calculatePascalMatrix(n, t), n, n, DoubleArrayMatrix.class, PASCAL, t);
+    }
+
+    /**
+     * The method calculates a pascal's square matrix.
+     *
+     * @param n the number of rows and columns of a square matrix
+     * @param t the type of matrix
+     *
+     * @return a Pascal's matrix
+     *
+     * @throws InvalidMatrixDimensionException when n &lt; 1
+     */
+    private static DoubleArrayMatrix calculatePascalMatrix(final int n, final PascalMatrixType t) {
+        if (n < 1)
+            throw new InvalidMatrixDimensionException("Pascal's matrix should have at least one element");
+
+        var e = new double[n * n];
+
+        for (var i = 0; i < n; i++)
+            for (var j = 0; j < n; j++) {
+                switch (t) {
+                    case UPPER:
+                        e[i * n + j] = (i == j || i == 0) ? 1 : (j < i) ? 0 : e[i * n + j - 1] + e[(i - 1) * n + j - 1];
+                        break;
+                    case LOWER:
+                        e[i * n + j] = (i == j || j == 0) ? 1 : (i < j) ? 0 : e[(i - 1) * n + j] + e[(i - 1) * n + j - 1];
+                        break;
+                    default:
+                        e[i * n + j] = (i == 0 || j == 0) ? 1 : e[i * n + j - 1] + e[(i - 1) * n + j];
+                }
+            }
+
+        return new DoubleArrayMatrix(e, n, n, PASCAL);
+    }
+
+    /**
+     * A lehmer matrix is a constant systematic square matrix.
+     *
+     * @param n the number of rows and columns
+     *
+     * @return the lehmer matrix
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static DoubleArrayMatrix lehmerMatrix(final int n) {
+        return calculateMatrix(n, (i, j) -> (j >= i) ? (i + 1) / (j + 1) : (j + 1) / (i + 1), LEHMER);
+    }
+
+    /**
+     * A Hilbert matrix is a square matrix with entries being the unit fractions.
+     *
+     * @param n the number of rows and columns
+     *
+     * @return a hilbert {@link DoubleArrayMatrix}
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static DoubleArrayMatrix hilbertMatrix(final int n) {
+        return calculateMatrix(n, (i, j) -> 1 / (i + j + 1), HILBERT);
+    }
+
+    /**
+     * The identity matrix is a square matrix whose diagonal is always 1 and all the
+     * other elements are 0.
+     *
+     * @param n the number of rows and columns
+     *
+     * @return an identity {@link DoubleArrayMatrix}
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static DoubleArrayMatrix identityMatrix(final int n) {
+        return calculateMatrix(n, (i, j) -> (i == j) ? 1 : 0, IDENTITY);
+    }
+
+    /**
+     * An exchange matrix is a square matrix whose counterdiagonal is always 1 and the
+     * rest of the elements are 0.
+     *
+     * @param n the square matrix
+     *
+     * @return an exchange {@link DoubleArrayMatrix}
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static DoubleArrayMatrix exchangeMatrix(final int n) {
+        return calculateMatrix(n, (i, j) -> (j == n - i - 1) ? 1 : 0, EXCHANGE);
+    }
+
+    /**
+     * A redheffer matrix is a (0-1) square matrix, whose entries are either 1 or 0.
+     * The matrix is calculated as if n is divisible by m, then it's 1 otherwise it's 0.
+     *
+     * @param n the number of rows and columns
+     *
+     * @return a redheffer {@link DoubleArrayMatrix}
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static DoubleArrayMatrix redhefferMatrix(final int n) {
+        return calculateMatrix(n, (i, j) -> (j == 0) ? 1 : (((j + 1) % (i + 1) == 0) ? 1 : 0), REDHEFFER);
+    }
+
+    /**
+     * The shift matrix is a matrix whose diagonal has shifted one level up or down, known as
+     * super diagonal matrix, or lower diagonal matrix.
+     *
+     * @param n the number of rows and columns
+     * @param t the type of matrix, i.e UPPER or LOWER
+     *
+     * @return a shift {@link DoubleArrayMatrix}
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static DoubleArrayMatrix shiftMatrix(final int n, final ShiftMatrixType t) {
+        if (t == ShiftMatrixType.UPPER)
+            return calculateMatrix(n, (i, j) -> (j == i + 1) ? 1 : 0, SHIFT, t);
+
+        return calculateMatrix(n, (i, j) -> (j == i - 1) ? 1 : 0, SHIFT, t);
+    }
+
+    /**
+     * The method creates a random square matrix of given number rows and columns.
+     * The default lower bound is 0 and upper bound is 1.
+     * By default the precision level is set to 10 decimal places.
+     *
+     * @param r the number of rows/columns
+     *
+     * @return the square matrix
+     */
+    public static DoubleArrayMatrix of(final int r) {
+        return random(r, r, 0, 1, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method creates a square matrix with the given rows and columns.
+     * The lower and upper bound can be provided.
+     * By default the precision level is set to 10 decimal places.
+     *
+     * @param r   the number of rows/columns
+     * @param min the lower bound value
+     * @param max the upper bound value
+     *
+     * @return the square matrix
+     */
+    public static DoubleArrayMatrix of(final int r, final double min, final double max) {
+        return random(r, r, min, max, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method creates a random square matrix of given number rows and columns.
+     * You can also provide the level of decimal point precision.
+     *
+     * @param r the number of rows/columns
+     * @param p the precision to decimal point
+     *
+     * @return the square matrix
+     */
+    public static DoubleArrayMatrix of(final int r, final Rounding.POINT p) {
+        return random(r, r, 0, 1, p);
+    }
+
+    /**
+     * The method creates a square matrix with the given rows and columns.
+     * The lower and upper bound can be provided.
+     *
+     * @param r   the number of rows/columns
+     * @param min the lower bound value
+     * @param max the upper bound value
+     * @param p   the precision level
+     *
+     * @return the square matrix
+     */
+    public static DoubleArrayMatrix of(final int r, final double min, final double max, final Rounding.POINT p) {
+        return random(r, r, min, max, p);
+    }
+
+    /**
+     * The method is used to generate a random value matrix.
+     * The lower bound is 0, upper bound is 1.
+     * By default the precision level is set to 10 decimal places.
+     *
+     * @param r the number of rows
+     * @param c the number of columns
+     *
+     * @return the matrix with random values
+     */
+    public static DoubleArrayMatrix of(final int r, final int c) {
+        return random(r, c, 0, 1, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method is used to generate a random value matrix, with the precision level.
+     * The lower bound is 0, upper bound is 1.
+     *
+     * @param r the number of rows
+     * @param c the number of columns
+     * @param p the precision to the dacimal points
+     *
+     * @return the matrix with random values
+     */
+    public static DoubleArrayMatrix of(final int r, final int c, final Rounding.POINT p) {
+        return random(r, c, 0, 1, p);
+    }
+
+    /**
+     * The method is used to generate a random value matrix, with the lower and upper bound.
+     * By default the precision level is set to 10 decimal places.
+     *
+     * @param r   the number of rows
+     * @param c   the number of columns
+     * @param min the lower bound value
+     * @param max the upper bound value
+     *
+     * @return the matrix with random values
+     */
+    public static DoubleArrayMatrix of(final int r, final int c, final double min, final double max) {
+        return random(r, c, min, max, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method is used to generate a random value matrix, with the lower and upper boun,
+     * also the decimal point precision can be configured.
+     *
+     * @param r   the number of rows
+     * @param c   the number of columns
+     * @param min the lower bound value
+     * @param max the upper bound value
+     * @param p   the precision level
+     *
+     * @return the matrix with random values
+     */
+    public static DoubleArrayMatrix of(final int r, final int c, final double min, final double max, final Rounding.POINT p) {
+        return random(r, c, min, max, p);
+    }
+
+    /**
+     * The method generates random values between the given range.
+     *
+     * @param r the number of rows
+     * @param c the number of columns
+     * @param l the minimum value, it is included.
+     * @param u the maximum value, it is excluded
+     * @param p the precision level
+     *
+     * @return a matrix of random values
+     */
+    private static DoubleArrayMatrix random(final int r, final int c, final double l, final double u, final Rounding.POINT p) {
+        if (r < 1 || c < 1)
+            throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+        var n = new double[r * c];
+
+        for (var i = 0; i < n.length; i++)
+            n[i] = l + (Math.random() * (u - l));
+
+        return new DoubleArrayMatrix(Rounding.round(n, p), r, c, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method is helpful to create some of the constant matrices.
+     *
+     * @param n        the dimension of the matrix
+     * @param operator the binary operation
+     * @param t        the type of the matrix
+     * @param p        the other parameters that tell the matrices of the type apart
+     *
+     * @return a square matrix, shared through the {@link MatrixCache}
+     */
+    private static DoubleArrayMatrix calculateMatrix(final int n, final DoubleBinaryOperator operator,
+                                                     final MatrixType t, final Object... p) {
+        if (n < 1)
+            throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+        var k = new Object[p.length + 2];
+        k[0] = DoubleArrayMatrix.class;
+        k[1] = t;
+        System.arraycopy(p, 0, k, 2, p.length);
+
+        return MatrixCache.get(() -> {
+            var e = new double[n * n];
+            for (var i = 0; i < n; i++)
+                for (var j = 0; j < n; j++)
+                    e[i * n + j] = operator.applyAsDouble(i, j);
+
+            return new DoubleArrayMatrix(e, n, n, t);
+        }, n, n, k);
+    }
+
+    /*
+     * The class caches some properties of a given matrix to save computation.
+     */
+    private static class Cache {
+        private final Memo<Integer> r = new Memo<>();
+        private final Memo<Double> t = new Memo<>();
+        private final Memo<Double> d = new Memo<>();
+        private final Memo<double[]> i = new Memo<>();
+        private final Memo<Boolean> p = new Memo<>();
+        private final Memo<LUDecomposition> l = new Memo<>();
+        private final Memo<CholeskyDecomposition> h = new Memo<>();
+        private final Memo<QRDecomposition> q = new Memo<>();
+        private final Memo<SingularValueDecomposition> s = new Memo<>();
+        private final Memo<EigenDecomposition> g = new Memo<>();
+        private final Memo<double[]> o = new Memo<>();
+        private final Memo<DoubleArrayMatrix> x = new Memo<>();
+    }
+
+    /**
+     * Returns a string representation of the object. The rows are printed
+     * one per line, in the same format as {@link ArrayMatrix}.
+     *
+     * @return a string representation of the object.
+     */
+    public String toString() {
+        var o = out();
+        var s = new StringBuilder();
+        for (var i = 0; i < d[0]; i++) {
+            s.append("|");
+            for (var j = 0; j < d[1]; j++) {
+                if (j > 0) s.append(",");
+                s.append(o[i * d[1] + j]);
+            }
+            s.append("|\n");
+        }
+        return s.toString();
+    }
+
+    /**
+     * Returns a hash code value for the object. The value is calculated from the
+     * dimension and all the elements, where 0.0 and -0.0 hash alike so that the
+     * method stays consistent with {@link #equals(Object)}.
+     *
+     * @return a hash code value for this object.
+     *
+     * @see Object#equals(Object)
+     */
+    public int hashCode() {
+        int hash = Arrays.hashCode(d);
+        for (var v : out()) hash = 31 * hash + Double.hashCode(v + 0.0);
+        return hash;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     * Two primitive matrices are equal when they have the same dimension
+     * and all of their elements are equal, as they are read (rounded).
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     *
+     * @see #hashCode()
+     */
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof TransposedMatrix) obj = ((TransposedMatrix) obj).materialise();
+        if (obj instanceof SubMatrix) obj = ((SubMatrix) obj).dense();
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        final DoubleArrayMatrix that = (DoubleArrayMatrix) obj;
+
+        if (!Arrays.equals(d, that.d)) return false;
+
+        double[] o = out(), _o = that.out();
+        for (var i = 0; i < o.length; i++)
+            if (o[i] != _o[i])
+                return false;
+
+        return true;
+    }
+}
@@ -0,0 +1,513 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.commons.Parallelism;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+import org.katpara.mathematica.linears.vectors.Vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinTask;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.NOT_SPECIFIED;
+
+/**
+ * The class holds the eigendecomposition of a symmetric matrix, i.e. A = VDV^T, where
+ * D is the diagonal of the real eigenvalues in the increasing order and the columns of
+ * V are the orthonormal eigenvectors. The eigenvalues can be calculated alone, which
+ * costs a fraction of the eigenvectors, see {@link #of(Matrix, boolean)}.
+ * <p>
+ * The matrix is reduced to a tridiagonal matrix T = Q^T AQ with n - 2 Householder
+ * reflections first. Every reflection updates the rest of the matrix with a symmetric
+ * rank-2 update, and the product of the next reflection with the matrix reads the same
+ * rows, so both are done in one pass over the rows, and the rows of the pass run in
+ * parallel for the large matrices. The reflections are kept in the rows they eliminate.
+ * <p>
+ * The eigenvalues of T are calculated with the implicit QL method with the Wilkinson
+ * shifts, which costs O(n^2) without the eigenvectors. The rotations of every sweep are
+ * recorded, and applied to the eigenvectors of T once the sweep is done, split by the
+ * columns, then the reflections bring the eigenvectors of T back to the ones of A,
+ * split by the eigenvectors. The eigenvectors are stored as rows, so every rotation and
+ * every reflection works on the contiguous elements.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class EigenDecomposition {
+
+    /**
+     * The number of rows of the parallel blocks
+     */
+    static final int RB = 64;
+
+    /**
+     * The maximum number of the QL iterations per eigenvalue
+     */
+    private static final int ITERATIONS = 64;
+
+    /**
+     * The eigenvalues in the increasing order
+     */
+    private final double[] d;
+
+    /**
+     * The eigenvectors as rows, row-major n x n, null if only the eigenvalues are calculated
+     */
+    private final double[] z;
+
+    /**
+     * The number of rows and columns
+     */
+    private final int n;
+
+    /**
+     * The constructor decomposes a symmetric row-major array. Only its lower triangle
+     * is read, the upper one is only checked.
+     *
+     * @param a       the row-major elements, they are not modified
+     * @param n       the number of rows and columns
+     * @param vectors true to calculate the eigenvectors as well
+     *
+     * @throws InvalidMatrixOperationException if the array isn't symmetric
+     *                                         relative to the round-off tolerance
+     */
+    EigenDecomposition(final double[] a, final int n, final boolean vectors) {
+        var tol = DoubleArrayMatrix.tolerance(a, n, n);
+        var w = a.clone();
+        for (var i = 0; i < n; i++) {
+            for (var j = 0; j < i; j++) {
+                if (Math.abs(a[i * n + j] - a[j * n + i]) > tol)
+                    throw new InvalidMatrixOperationException("The matrix is not a symmetric matrix");
+
+                w[j * n + i] = a[i * n + j];
+            }
+        }
+
+        this.n = n;
+
+        var _d = new double[n];
+        var e = new double[n];
+        var tau = new double[n];
+        var parallel = Parallelism.isParallel((long) n * n * n);
+
+        tridiagonalise(w, n, _d, e, tau, parallel);
+
+        var _z = vectors ? new double[n * n] : null;
+        if (vectors)
+            for (var i = 0; i < n; i++)
+                _z[i * n + i] = 1;
+
+        ql(_d, e, _z, n, parallel);
+
+        var o = new Integer[n];
+        for (var i = 0; i < n; i++)
+            o[i] = i;
+
+        Arrays.sort(o, (i, j) -> Double.compare(_d[i], _d[j]));
+
+        d = new double[n];
+        for (var i = 0; i < n; i++)
+            d[i] = _d[o[i]];
+
+        if (vectors) {
+            z = new double[n * n];
+            for (var i = 0; i < n; i++)
+                System.arraycopy(_z, o[i] * n, z, i * n, n);
+
+            transform(w, tau, z, n, parallel);
+        } else {
+            z = null;
+        }
+    }
+
+    /**
+     * The method decomposes a symmetric matrix, it is the same as
+     * {@link Matrix#getEigenDecomposition()}, but the result isn't cached by the matrix.
+     *
+     * @param m the symmetric matrix
+     *
+     * @return the decomposition with the eigenvectors
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a symmetric matrix
+     */
+    public static EigenDecomposition of(final Matrix m) {
+        return of(m, true);
+    }
+
+    /**
+     * The method decomposes a symmetric matrix, with or without the eigenvectors.
+     *
+     * @param m       the symmetric matrix
+     * @param vectors true to calculate the eigenvectors as well
+     *
+     * @return the decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a symmetric matrix
+     */
+    public static EigenDecomposition of(final Matrix m, final boolean vectors) {
+        if (!m.isSquareMatrix())
+            throw new InvalidMatrixOperationException("The matrix is not a square matrix");
+
+        var e = m instanceof SymmetricMatrix ? ((SymmetricMatrix) m).toDoubleArray() : DoubleArrayMatrix.elements(m);
+        return new EigenDecomposition(e, m.getDimension()[0], vectors);
+    }
+
+    /**
+     * The method returns the eigenvalues in the increasing order.
+     *
+     * @return the eigenvalues
+     */
+    public double[] getEigenvalues() {
+        return d.clone();
+    }
+
+    /**
+     * The method returns the diagonal matrix D of the eigenvalues.
+     *
+     * @return the matrix D
+     */
+    public Matrix getD() {
+        var _d = new double[n * n];
+        for (var i = 0; i < n; i++)
+            _d[i * n + i] = d[i];
+
+        return new DoubleArrayMatrix(_d, n, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method tells if the eigenvectors are calculated.
+     *
+     * @return true if the eigenvectors are calculated
+     */
+    public boolean hasEigenvectors() {
+        return z != null;
+    }
+
+    /**
+     * The method returns the orthogonal matrix V of the eigenvectors, one per column,
+     * in the order of the eigenvalues.
+     *
+     * @return the matrix V
+     *
+     * @throws InvalidMatrixOperationException if only the eigenvalues are calculated
+     */
+    public Matrix getV() {
+        check();
+
+        var v = new double[n * n];
+        for (var i = 0; i < n; i++)
+            for (var j = 0; j < n; j++)
+                v[j * n + i] = z[i * n + j];
+
+        return new DoubleArrayMatrix(v, n, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns the eigenvector of an eigenvalue.
+     *
+     * @param i the index of the eigenvalue
+     *
+     * @return the unit eigenvector
+     *
+     * @throws InvalidMatrixOperationException if only the eigenvalues are calculated,
+     *                                         or the index is out of the bounds
+     */
+    public Vector getEigenvector(final int i) {
+        check();
+
+        if (i < 0 || i >= n)
+            throw new InvalidMatrixOperationException("The index should be between 0 and " + (n - 1));
+
+        return new DoubleArrayVector(Arrays.copyOfRange(z, i * n, (i + 1) * n));
+    }
+
+    /**
+     * The method makes sure the eigenvectors are calculated.
+     *
+     * @throws InvalidMatrixOperationException if only the eigenvalues are calculated
+     */
+    private void check() {
+        if (z == null)
+            throw new InvalidMatrixOperationException("The eigenvectors are not calculated");
+    }
+
+    /**
+     * The method reduces a symmetric row-major array to a tridiagonal matrix. The step k
+     * calculates the reflection H = I - tau vv^T of the part of the row k right of the
+     * diagonal, and the rest of the matrix becomes HAH = A - vw^T - wv^T, where
+     * w = p - (tau / 2)(p.v)v and p = tau Av. The update of a row and its product with
+     * the next reflection are done in the same pass, the row k is updated first,
+     * since it holds the next reflection.
+     *
+     * @param w        the row-major array, the reflection v of the step k is left
+     *                 in the row k right of the diagonal
+     * @param n        the number of rows and columns
+     * @param d        the diagonal of T
+     * @param e        the off-diagonal of T, e[i] is at (i, i + 1)
+     * @param tau      the scalars of the reflections
+     * @param parallel true to run the passes in parallel
+     */
+    private static void tridiagonalise(final double[] w, final int n, final double[] d, final double[] e,
+                                       final double[] tau, final boolean parallel) {
+        var p = new double[n];
+        var u = new double[n];
+
+        for (var k = 0; k < n - 2; k++) {
+            int o = k * n + k + 1, l = n - k - 1;
+            if (k > 0)
+                update(w, n, u, k - 1, k);
+
+            d[k] = w[k * n + k];
+
+            double alpha = w[o], sigma = Kernels.dot(w, o + 1, w, o + 1, l - 1);
+            if (sigma == 0) {
+                tau[k] = 0;
+                e[k] = alpha;
+            } else {
+                var norm = Math.sqrt(alpha * alpha + sigma);
+                var beta = alpha <= 0 ? norm : -norm;
+                var scale = 1 / (alpha - beta);
+                for (var i = 1; i < l; i++)
+                    w[o + i] *= scale;
+
+                tau[k] = (beta - alpha) / beta;
+                e[k] = beta;
+            }
+
+            w[o] = 1;
+
+            // Update the rows with the previous reflection, and multiply them with this one
+            var t = tau[k];
+            var _k = k;
+            rows(k + 1, n, parallel, (from, to) -> {
+                for (var r = from; r < to; r++) {
+                    if (_k > 0)
+                        update(w, n, u, _k - 1, r);
+
+                    p[r] = t == 0 ? 0 : t * Kernels.dot(w, r * n + _k + 1, w, o, l);
+                }
+            });
+
+            var s = 0.0;
+            for (var r = k + 1; r < n; r++)
+                s += p[r] * w[o + r - k - 1];
+
+            s *= t / 2;
+            for (var r = k + 1; r < n; r++)
+                u[r] = p[r] - s * w[o + r - k - 1];
+        }
+
+        if (n > 2) {
+            update(w, n, u, n - 3, n - 2);
+            update(w, n, u, n - 3, n - 1);
+        }
+
+        if (n > 1) {
+            d[n - 2] = w[(n - 2) * n + n - 2];
+            e[n - 2] = w[(n - 2) * n + n - 1];
+        }
+
+        d[n - 1] = w[n * n - 1];
+        e[n - 1] = 0;
+    }
+
+    /**
+     * The method applies the rank-2 update of the step k to a row below it, the row r
+     * minus v_r w - w_r v for the columns right of k.
+     *
+     * @param w the row-major array, the reflection v is in the row k
+     * @param n the number of rows and columns
+     * @param u the vector w of the step, by the global index
+     * @param k the step
+     * @param r the row
+     */
+    private static void update(final double[] w, final int n, final double[] u, final int k, final int r) {
+        int o = k * n + k + 1, l = n - k - 1;
+        Kernels.axpy(-w[o + r - k - 1], u, k + 1, w, r * n + k + 1, l);
+        Kernels.axpy(-u[r], w, o, w, r * n + k + 1, l);
+    }
+
+    /**
+     * The method calculates the eigenvalues of a symmetric tridiagonal matrix with the
+     * implicit QL method. Every sweep chases the bulge of a Wilkinson shifted QL step up
+     * from the end of the unreduced block with the Givens rotations; the rotations are
+     * applied to the rows of Z after the sweep, in the same order.
+     *
+     * @param d        the diagonal, it becomes the eigenvalues
+     * @param e        the off-diagonal, e[i] is at (i, i + 1), it is destroyed
+     * @param z        the row-major eigenvectors of T as rows, or null
+     * @param n        the number of rows and columns
+     * @param parallel true to apply the rotations in parallel
+     *
+     * @throws InvalidMatrixOperationException if an eigenvalue doesn't converge
+     */
+    private static void ql(final double[] d, final double[] e, final double[] z, final int n,
+                           final boolean parallel) {
+        var cs = z == null ? null : new double[n];
+        var sn = z == null ? null : new double[n];
+        var eps = Math.ulp(1.0);
+        double f = 0, tst = 0;
+
+        for (var l = 0; l < n; l++) {
+            tst = Math.max(tst, Math.abs(d[l]) + Math.abs(e[l]));
+
+            var m = l;
+            while (m < n - 1 && Math.abs(e[m]) > eps * tst)
+                m++;
+
+            for (var iteration = 0; m > l; iteration++) {
+                if (iteration == ITERATIONS)
+                    throw new InvalidMatrixOperationException("The eigenvalues didn't converge");
+
+                // The shift from the leading 2 x 2 block
+                var g = d[l];
+                var p = (d[l + 1] - g) / (2 * e[l]);
+                var r = Math.hypot(p, 1);
+                if (p < 0)
+                    r = -r;
+
+                d[l] = e[l] / (p + r);
+                d[l + 1] = e[l] * (p + r);
+
+                var dl1 = d[l + 1];
+                var h = g - d[l];
+                for (var i = l + 2; i < n; i++)
+                    d[i] -= h;
+
+                f += h;
+
+                p = d[m];
+                double c = 1, c2 = 1, c3 = 1, s = 0, s2 = 0;
+                var el1 = e[l + 1];
+
+                for (var i = m - 1; i >= l; i--) {
+                    c3 = c2;
+                    c2 = c;
+                    s2 = s;
+                    g = c * e[i];
+                    h = c * p;
+                    r = Math.hypot(p, e[i]);
+                    e[i + 1] = s * r;
+                    s = e[i] / r;
+                    c = p / r;
+                    p = c * d[i] - s * g;
+                    d[i + 1] = h + s * (c * g + s * d[i]);
+
+                    if (z != null) {
+                        cs[i] = c;
+                        sn[i] = s;
+                    }
+                }
+
+                if (z != null)
+                    rotate(z, n, l, m, cs, sn, parallel);
+
+                p = -s * s2 * c3 * el1 * e[l] / dl1;
+                e[l] = s * p;
+                d[l] = c * p;
+
+                if (Math.abs(e[l]) <= eps * tst)
+                    break;
+            }
+
+            d[l] += f;
+            e[l] = 0;
+        }
+    }
+
+    /**
+     * The method applies the rotations of a sweep to the rows of Z, from the rotation
+     * m - 1 down to l, the rotation i works on the rows i and i + 1. The columns are
+     * independent, so the blocks of them run in parallel for the large matrices.
+     *
+     * @param z        the row-major array
+     * @param n        the number of rows and columns
+     * @param l        the last rotation
+     * @param m        one after the first rotation
+     * @param cs       the cosines
+     * @param sn       the sines
+     * @param parallel true to run in parallel
+     */
+    private static void rotate(final double[] z, final int n, final int l, final int m,
+                               final double[] cs, final double[] sn, final boolean parallel) {
+        rows(0, n, parallel && m - l >= RB, (from, to) -> {
+            for (var i = m - 1; i >= l; i--) {
+                double c = cs[i], s = sn[i];
+                int a = i * n, b = a + n;
+                for (var j = from; j < to; j++) {
+                    var h = z[b + j];
+                    z[b + j] = s * z[a + j] + c * h;
+                    z[a + j] = c * z[a + j] - s * h;
+                }
+            }
+        });
+    }
+
+    /**
+     * The method brings the eigenvectors of T back to the ones of A, every row x becomes
+     * Qx = H_0 ... H_(n-3) x, the reflections from the last. The rows are independent,
+     * so the blocks of them run in parallel, and every block reads the reflections once.
+     *
+     * @param w        the row-major array with the reflections
+     * @param tau      the scalars of the reflections
+     * @param z        the row-major eigenvectors as rows
+     * @param n        the number of rows and columns
+     * @param parallel true to run in parallel
+     */
+    private static void transform(final double[] w, final double[] tau, final double[] z, final int n,
+                                  final boolean parallel) {
+        rows(0, n, parallel, (from, to) -> {
+            for (var k = n - 3; k >= 0; k--) {
+                if (tau[k] == 0)
+                    continue;
+
+                int o = k * n + k + 1, l = n - k - 1;
+                for (var r = from; r < to; r++) {
+                    var s = tau[k] * Kernels.dot(w, o, z, r * n + k + 1, l);
+                    if (s != 0)
+                        Kernels.axpy(-s, w, o, z, r * n + k + 1, l);
+                }
+            }
+        });
+    }
+
+    /**
+     * The method runs a task on the blocks of {@link #RB} rows (or columns) from one
+     * index to another, in parallel or one block after another.
+     *
+     * @param from     the first index
+     * @param to       one after the last index
+     * @param parallel true to run the blocks in parallel
+     * @param task     the task of a block
+     */
+    private static void rows(final int from, final int to, final boolean parallel, final Block task) {
+        if (!parallel || to - from <= RB) {
+            task.run(from, to);
+            return;
+        }
+
+        var tasks = new ArrayList<ForkJoinTask<?>>();
+        for (var b = from; b < to; b += RB) {
+            int _from = b, _to = Math.min(to, b + RB);
+            tasks.add(ForkJoinTask.adapt(() -> task.run(_from, _to)));
+        }
+
+        Parallelism.getPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+
+    /**
+     * The task of a block of rows (or columns).
+     */
+    @FunctionalInterface
+    private interface Block {
+
+        /**
+         * The method runs the task.
+         *
+         * @param from the first index
+         * @param to   one after the last index
+         */
+        void run(final int from, final int to);
+    }
+}
@@ -0,0 +1,836 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Memo;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+import org.katpara.mathematica.linears.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.*;
+
+/**
+ * The class is an implementation of the Matrix interface for the constant matrices,
+ * whose elements follow a formula, i.e. the identity, exchange, shift, zero, one,
+ * Hilbert and Lehmer matrices.
+ * <p>
+ * The elements are never stored, the matrix only remembers its type and dimension, and
+ * calculates an element when it is asked for, so it takes O(1) memory whatever its
+ * dimension is. {@link ArrayMatrix#identityMatrix(int)} of the dimension 32768 holds a
+ * billion boxed elements, while {@link #identityMatrix(int)} holds none.
+ * <p>
+ * The operations that follow from the structure don't build the elements either:
+ * <ul>
+ *     <li>I x A is A, and so is A x I when A is a {@link DoubleArrayMatrix}</li>
+ *     <li>J x A reverses the rows of A, A x J the columns, where J is the exchange matrix</li>
+ *     <li>S x A shifts the rows of A up or down, A x S the columns, where S is a shift matrix</li>
+ *     <li>0 x A is again an implicit zero matrix, and 1 x A repeats the column sums of A</li>
+ *     <li>the trace, the rank, the transpose and mostly the determinant and the inverse
+ *     are known from the type</li>
+ * </ul>
+ * The rest of the operations work on a {@link DoubleArrayMatrix} of the same elements.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class ImplicitMatrix implements Matrix {
+
+    /**
+     * The type of the matrix
+     */
+    private final MatrixType t;
+
+    /**
+     * The dimension of the matrix
+     */
+    private final int[] d;
+
+    /**
+     * The direction of a shift matrix, null for the other types
+     */
+    private final ShiftMatrixType s;
+
+    /**
+     * Useful to cache some of the calculated properties
+     */
+    private final Cache c = new Cache();
+
+    /**
+     * The constructor creates an implicit matrix.
+     *
+     * @param t the type of the matrix
+     * @param m the number of rows
+     * @param n the number of columns
+     * @param s the direction of a shift matrix
+     *
+     * @throws InvalidMatrixDimensionException when matrix doesn't have at least one element
+     */
+    private ImplicitMatrix(final MatrixType t, final int m, final int n, final ShiftMatrixType s) {
+        if (m < 1 || n < 1)
+            throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+        this.t = t;
+        this.d = new int[]{m, n};
+        this.s = s;
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public int[] getDimension() {
+        return d.clone();
+    }
+
+    /**
+     * The method returns the type of the matrix.
+     *
+     * @return the type of the matrix
+     */
+    MatrixType getType() {
+        return t;
+    }
+
+    /**
+     * The method returns all the elements of a matrix, they are built on every call.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public Number[][] toArray() {
+        return dense().toArray();
+    }
+
+    /**
+     * The method calculates a single element of a matrix.
+     * The indices are zero based, so the top left element is (0, 0).
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the element at the given row and column
+     *
+     * @throws IndexOutOfBoundsException if the indices are outside the matrix
+     */
+    @Override
+    public double get(final int i, final int j) {
+        Objects.checkIndex(i, d[0]);
+        Objects.checkIndex(j, d[1]);
+
+        switch (t) {
+            case IDENTITY:
+                return (i == j) ? 1 : 0;
+            case EXCHANGE:
+                return (j == d[0] - i - 1) ? 1 : 0;
+            case SHIFT:
+                return (j == ((s == ShiftMatrixType.UPPER) ? i + 1 : i - 1)) ? 1 : 0;
+            case ONE:
+                return 1;
+            case HILBERT:
+                return 1.0 / (i + j + 1);
+            case LEHMER:
+                return (double) (Math.min(i, j) + 1) / (Math.max(i, j) + 1);
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * The method returns all the elements as a list of lists, they are built on every call.
+     *
+     * @return the matrix elements as a list of lists
+     */
+    @Override
+    public List<List<Number>> toList() {
+        return dense().toList();
+    }
+
+    /**
+     * The method returns the list of Vectors, they are built on every call.
+     *
+     * @return the matrix elements as a list of vectors
+     */
+    @Override
+    public List<Vector> toArrayVectors() {
+        return dense().toArrayVectors();
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * row vector, which is 1 x n
+     *
+     * @return true if it is a row vector
+     */
+    @Override
+    public boolean isRowVector() {
+        return d[0] == 1 && d[1] > 1;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * column vector, which is n x 1.
+     *
+     * @return true if it is a column vector
+     */
+    @Override
+    public boolean isColumnVector() {
+        return d[0] > 1 && d[1] == 1;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * square matrix, which is n x n.
+     *
+     * @return true if it is a square matrix
+     */
+    @Override
+    public boolean isSquareMatrix() {
+        return d[0] == d[1];
+    }
+
+    /**
+     * The trace of the matrix is defined as the sum of all the elements,
+     * on the main diagonal.
+     *
+     * @return the trace of the matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getTrace() {
+        return getTrace(Rounding.POINT.TEN);
+    }
+
+    /**
+     * The trace of the matrix is defined as the sum of all the elements,
+     * on the main diagonal.
+     *
+     * @param p the decimal places for the precision
+     *
+     * @return the trace of the matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getTrace(final Rounding.POINT p) {
+        if (!isSquareMatrix())
+            throw new InvalidMatrixOperationException("The matrix is not a square matrix.");
+
+        switch (t) {
+            case IDENTITY:
+            case LEHMER:
+            case ONE:
+                return d[0];
+            case EXCHANGE:
+                return (d[0] % 2 == 0) ? 0 : 1;
+            case HILBERT:
+                var r = 0.0;
+                for (var i = 0; i < d[0]; i++)
+                    r += 1.0 / (2 * i + 1);
+
+                return Rounding.roundToDouble(r, p);
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * A rank of a matrix is independent rows of a matrix, it is known from the type.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public int getRank() {
+        switch (t) {
+            case ONE:
+            case ZERO:
+                return 1;
+            case SHIFT:
+                return d[0] - 1;
+            default:
+                return d[0];
+        }
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     *
+     * @return the determinant of the square matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getDeterminant() {
+        return getDeterminant(Rounding.POINT.TEN);
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * Only the determinants of the Hilbert and Lehmer matrices are calculated,
+     * from the LU decomposition.
+     *
+     * @param p the decimal point accuracy
+     *
+     * @return the determinant of the square matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getDeterminant(final Rounding.POINT p) {
+        if (!isSquareMatrix())
+            throw new InvalidMatrixOperationException();
+
+        switch (t) {
+            case IDENTITY:
+                return 1;
+            case EXCHANGE:
+                // Reversing n rows takes n / 2 swaps
+                return (d[0] / 2 % 2 == 0) ? 1 : -1;
+            case ONE:
+                return (d[0] == 1) ? 1 : 0;
+            case HILBERT:
+            case LEHMER:
+                return Rounding.roundToDouble(getLUDecomposition().getDeterminant(), p);
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * The method returns the LU decomposition of a square matrix with partial
+     * pivoting. It is calculated only once and cached.
+     *
+     * @return the LU decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public LUDecomposition getLUDecomposition() {
+        return c.l.get(() -> {
+            if (!isSquareMatrix())
+                throw new InvalidMatrixOperationException("The matrix is not a square matrix");
+
+            return new LUDecomposition(DoubleArrayMatrix.elements(this), d[0]);
+        });
+    }
+
+    /**
+     * The method transposes the matrix, the transpose is again an implicit matrix.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public Matrix transpose() {
+        if (t == SHIFT)
+            return shiftMatrix(d[0], (s == ShiftMatrixType.UPPER) ? ShiftMatrixType.LOWER : ShiftMatrixType.UPPER);
+
+        if (isSquareMatrix())
+            return this;
+
+        return new ImplicitMatrix(t, d[1], d[0], null);
+    }
+
+    /**
+     * The method will return an inverse matrix of a given matrix.
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix inverse() {
+        return inverse(Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will return an inverse matrix of a given matrix.
+     * The identity and exchange matrices are their own inverses.
+     *
+     * @param p The efficiency to the given decimal places
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix inverse(final Rounding.POINT p) {
+        if (isInvolution())
+            return this;
+
+        return dense().inverse(p);
+    }
+
+    /**
+     * The method solves the linear system Ax = b.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b) {
+        return solve(b, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method solves the linear system Ax = b, for the identity and exchange
+     * matrices the solution is b itself, or b reversed.
+     *
+     * @param b the right-hand side
+     * @param p the decimal places to round the solution to
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b, final Rounding.POINT p) {
+        if (!isInvolution())
+            return dense().solve(b, p);
+
+        if (b.getDimension() != d[0])
+            throw new InvalidMatrixOperationException("The dimensions don't match");
+
+        var x = new double[d[0]];
+        for (var i = 0; i < d[0]; i++)
+            x[i] = b.get((t == IDENTITY) ? i : d[0] - i - 1);
+
+        return new DoubleArrayVector(Rounding.round(x, p));
+    }
+
+    /**
+     * The method solves the linear systems AX = B, every column of B is a right-hand side.
+     *
+     * @param b the right-hand sides
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b) {
+        return solve(b, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method solves the linear systems AX = B, every column of B is a right-hand side.
+     * The identity and exchange matrices are their own inverses, so X is AB.
+     *
+     * @param b the right-hand sides
+     * @param p the decimal places to round the solutions to
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b, final Rounding.POINT p) {
+        if (isInvolution())
+            return multiply(b, p);
+
+        return dense().solve(b, p);
+    }
+
+    /**
+     * The method performs a scalar addition on a square matrix,
+     * i.e. M + a = M + a(I), where I is an identity matrix.
+     *
+     * @param s the scalar to add
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public Matrix add(final Number s) {
+        return dense().add(s);
+    }
+
+    /**
+     * The method adds two matrices together, adding a zero matrix returns the other one.
+     *
+     * @param m the matrix to add
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        if (!Arrays.equals(d, m.getDimension()))
+            throw new InvalidMatrixOperationException("Matrices dimensions must be the same.");
+
+        if (t == ZERO)
+            return m;
+
+        return dense().add(m);
+    }
+
+    /**
+     * The method subtracts two matrices together.
+     *
+     * @param m the matrix to subtract
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        return dense().subtract(m);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on a matrix and returns a new matrix.
+     *
+     * @param s a scalar to scale the matrix with
+     *
+     * @return a new scaled matrix
+     */
+    @Override
+    public Matrix multiply(final Number s) {
+        return multiply(s, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on a matrix and returns a new matrix.
+     * A scaled zero matrix is the zero matrix itself.
+     *
+     * @param s a scalar to scale the matrix with
+     * @param p the rounding to the given decimal points
+     *
+     * @return a new scaled matrix
+     */
+    @Override
+    public Matrix multiply(final Number s, final Rounding.POINT p) {
+        if (t == ZERO)
+            return this;
+
+        return dense().multiply(s, p);
+    }
+
+    /**
+     * The method will perform a matrix multiplication of a matrix and returns a new Matrix.
+     *
+     * @param m the matrix to multiply
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        return multiply(m, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will perform a matrix multiplication of a matrix and returns a new Matrix.
+     * <p>
+     * The identity matrix returns the matrix scaled by one, i.e. in its own structure
+     * rounded to the given precision, the zero matrix an implicit zero
+     * matrix, the exchange and shift matrices move the rows of the matrix, and the
+     * one matrix repeats its column sums, all of them in O(n x p) or less. The Hilbert
+     * and Lehmer matrices are multiplied as a {@link DoubleArrayMatrix}.
+     *
+     * @param m the matrix to multiply
+     * @param p the decimal precision
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m, final Rounding.POINT p) {
+        var _d = m.getDimension();
+
+        if (d[1] != _d[0])
+            throw new InvalidMatrixOperationException("the rows and columns don't match");
+
+        int k = d[0], n = _d[1];
+
+        switch (t) {
+            case IDENTITY:
+                return m.multiply(1, p);
+            case ZERO:
+                return zeroMatrix(k, n);
+            case EXCHANGE:
+            case SHIFT: {
+                var a = DoubleArrayMatrix.elements(m);
+                var r = new double[k * n];
+
+                for (var i = 0; i < k; i++) {
+                    var j = one(i);
+                    if (j >= 0 && j < k)
+                        System.arraycopy(a, j * n, r, i * n, n);
+                }
+
+                return new DoubleArrayMatrix(r, k, n, NOT_SPECIFIED, p);
+            }
+            case ONE: {
+                var a = DoubleArrayMatrix.elements(m);
+                var r = new double[k * n];
+
+                for (var i = 0; i < _d[0]; i++)
+                    for (var j = 0; j < n; j++)
+                        r[j] += a[i * n + j];
+
+                for (var i = 1; i < k; i++)
+                    System.arraycopy(r, 0, r, i * n, n);
+
+                return new DoubleArrayMatrix(r, k, n, NOT_SPECIFIED, p);
+            }
+            default:
+                return dense().multiply(m, p);
+        }
+    }
+
+    /**
+     * The method multiplies a matrix with this matrix from the left, i.e. A x this,
+     * where the identity matrix returns A, the exchange and shift matrices move the
+     * columns of A, the zero matrix returns an implicit zero matrix, and the one
+     * matrix repeats the row sums of A.
+     *
+     * @param a the row-major elements of A
+     * @param m the number of rows of A, the number of its columns must be the number
+     *          of rows of this matrix
+     * @param p the decimal precision
+     *
+     * @return the resulting matrix, or null if the type has no specialised product
+     */
+    Matrix multiplyLeft(final double[] a, final int m, final Rounding.POINT p) {
+        int k = d[0], n = d[1];
+
+        switch (t) {
+            case ZERO:
+                return zeroMatrix(m, n);
+            case EXCHANGE:
+            case SHIFT: {
+                var r = new double[m * n];
+
+                // The row c of this matrix moves the column c of A to the column one(c)
+                for (var c = 0; c < k; c++) {
+                    var j = one(c);
+                    if (j >= 0 && j < n)
+                        for (var i = 0; i < m; i++)
+                            r[i * n + j] = a[i * k + c];
+                }
+
+                return new DoubleArrayMatrix(r, m, n, NOT_SPECIFIED, p);
+            }
+            case ONE: {
+                var r = new double[m * n];
+
+                for (var i = 0; i < m; i++) {
+                    var sum = 0.0;
+                    for (var j = 0; j < k; j++)
+                        sum += a[i * k + j];
+
+                    Arrays.fill(r, i * n, (i + 1) * n, sum);
+                }
+
+                return new DoubleArrayMatrix(r, m, n, NOT_SPECIFIED, p);
+            }
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * The method returns the column of the only one in a row of an exchange or a shift
+     * matrix, which may lie outside the matrix for the first or the last row of a shift.
+     *
+     * @param i the row
+     *
+     * @return the column
+     */
+    private int one(final int i) {
+        if (t == EXCHANGE)
+            return d[0] - i - 1;
+
+        return (s == ShiftMatrixType.UPPER) ? i + 1 : i - 1;
+    }
+
+    /**
+     * The method tells if the matrix is its own inverse, i.e. an identity or an exchange matrix.
+     *
+     * @return true if the matrix is its own inverse
+     */
+    private boolean isInvolution() {
+        return t == IDENTITY || t == EXCHANGE;
+    }
+
+    /**
+     * The method builds the elements of the matrix, for the operations that
+     * have no shortcut.
+     *
+     * @return the dense matrix
+     */
+    private DoubleArrayMatrix dense() {
+        return new DoubleArrayMatrix(this);
+    }
+
+    /**
+     * The method will return a zero or null matrix, whose all the elements are zero.
+     *
+     * @param m the number of rows
+     * @param n the number of columns
+     *
+     * @return an implicit zero matrix
+     *
+     * @throws InvalidMatrixDimensionException if m &lt; 1 or n &lt; 1
+     */
+    public static ImplicitMatrix zeroMatrix(final int m, final int n) {
+        return new ImplicitMatrix(ZERO, m, n, null);
+    }
+
+    /**
+     * In mathematics, a matrix of one, or all-ones matrix is a matrix whose all elements are 1.
+     *
+     * @param m the number of rows
+     * @param n the number of columns
+     *
+     * @return an implicit one matrix
+     *
+     * @throws InvalidMatrixDimensionException if m &lt; 1 or n &lt; 1
+     */
+    public static ImplicitMatrix oneMatrix(final int m, final int n) {
+        return new ImplicitMatrix(ONE, m, n, null);
+    }
+
+    /**
+     * The identity matrix is a square matrix whose diagonal is always 1 and all the
+     * other elements are 0.
+     *
+     * @param n the number of rows and columns
+     *
+     * @return an implicit identity matrix
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static ImplicitMatrix identityMatrix(final int n) {
+        return new ImplicitMatrix(IDENTITY, n, n, null);
+    }
+
+    /**
+     * An exchange matrix is a square matrix whose counterdiagonal is always 1 and the
+     * rest of the elements are 0.
+     *
+     * @param n the number of rows and columns
+     *
+     * @return an implicit exchange matrix
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static ImplicitMatrix exchangeMatrix(final int n) {
+        return new ImplicitMatrix(EXCHANGE, n, n, null);
+    }
+
+    /**
+     * The shift matrix is a matrix whose diagonal has shifted one level up or down, known as
+     * super diagonal matrix, or lower diagonal matrix.
+     *
+     * @param n the number of rows and columns
+     * @param t the type of matrix, i.e UPPER or LOWER
+     *
+     * @return an implicit shift matrix
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static ImplicitMatrix shiftMatrix(final int n, final ShiftMatrixType t) {
+        return new ImplicitMatrix(SHIFT, n, n, Objects.requireNonNull(t));
+    }
+
+    /**
+     * A Hilbert matrix is a square matrix with entries being the unit fractions.
+     *
+     * @param n the number of rows and columns
+     *
+     * @return an implicit hilbert matrix
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static ImplicitMatrix hilbertMatrix(final int n) {
+        return new ImplicitMatrix(HILBERT, n, n, null);
+    }
+
+    /**
+     * A lehmer matrix is a constant systematic square matrix.
+     *
+     * @param n the number of rows and columns
+     *
+     * @return an implicit lehmer matrix
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static ImplicitMatrix lehmerMatrix(final int n) {
+        return new ImplicitMatrix(LEHMER, n, n, null);
+    }
+
+    /*
+     * The class caches some properties of a given matrix to save computation.
+     */
+    private static class Cache {
+        private final Memo<LUDecomposition> l = new Memo<>();
+    }
+
+    /**
+     * Returns a string representation of the object, in the same
+     * format as {@link DoubleArrayMatrix}.
+     *
+     * @return a string representation of the object.
+     */
+    public String toString() {
+        return dense().toString();
+    }
+
+    /**
+     * Returns a hash code value for the object, calculated from
+     * the type and the dimension.
+     *
+     * @return a hash code value for this object.
+     *
+     * @see Object#equals(Object)
+     */
+    public int hashCode() {
+        return Objects.hash(t, d[0], d[1], s);
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     * Two implicit matrices are equal when they have the same type and dimension.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     *
+     * @see #hashCode()
+     */
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        var that = (ImplicitMatrix) obj;
+        return t == that.t && s == that.s && Arrays.equals(d, that.d);
+    }
+}
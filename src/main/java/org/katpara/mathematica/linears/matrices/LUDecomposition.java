@@ -0,0 +1,290 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+import org.katpara.mathematica.linears.vectors.Vector;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.NOT_SPECIFIED;
+
+/**
+ * The class holds the LU decomposition of a square matrix with partial pivoting,
+ * i.e. PA = LU, where P is a permutation matrix, L is a unit lower triangular matrix
+ * and U is an upper triangular matrix.
+ * <p>
+ * In every column the row with the largest absolute element is swapped up to be the
+ * pivot, which keeps the multipliers of L within [-1, 1]. The decomposition costs
+ * O(n^3), while the determinant costs O(n) and every solve O(n^2) afterwards, so a
+ * matrix calculates it only once and caches it, see {@link Matrix#getLUDecomposition()},
+ * and all the solves against the same matrix reuse it.
+ * <p>
+ * L and U are stored packed in a single row-major array, the strictly lower part
+ * holds L (its unit diagonal is implied) and the rest holds U.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class LUDecomposition {
+
+    /**
+     * The packed L and U
+     */
+    private final double[] lu;
+
+    /**
+     * The original row of every row
+     */
+    private final int[] pv;
+
+    /**
+     * The number of rows and columns
+     */
+    private final int n;
+
+    /**
+     * The sign of the permutation
+     */
+    private final int s;
+
+    /**
+     * If a pivot vanishes relative to the round-off tolerance
+     */
+    private final boolean singular;
+
+    /**
+     * The constructor decomposes a square row-major array.
+     *
+     * @param a the row-major elements, they are not modified
+     * @param n the number of rows and columns
+     */
+    LUDecomposition(final double[] a, final int n) {
+        this.n = n;
+        lu = a.clone();
+        pv = new int[n];
+
+        var tol = DoubleArrayMatrix.tolerance(a, n, n);
+        var _s = 1;
+        var _singular = false;
+
+        for (var i = 0; i < n; i++)
+            pv[i] = i;
+
+        for (var k = 0; k < n; k++) {
+            var p = k;
+            for (var i = k + 1; i < n; i++)
+                if (Math.abs(lu[i * n + k]) > Math.abs(lu[p * n + k]))
+                    p = i;
+
+            if (p != k) {
+                DoubleArrayMatrix.swapRows(lu, n, p, k);
+                var _p = pv[p];
+                pv[p] = pv[k];
+                pv[k] = _p;
+                _s = -_s;
+            }
+
+            var u = lu[k * n + k];
+            if (Math.abs(u) <= tol)
+                _singular = true;
+
+            // Nothing to eliminate in a zero column, it leaves a zero pivot on U
+            if (u == 0)
+                continue;
+
+            for (var i = k + 1; i < n; i++) {
+                var f = lu[i * n + k] /= u;
+                if (f != 0)
+                    for (var j = k + 1; j < n; j++)
+                        lu[i * n + j] -= f * lu[k * n + j];
+            }
+        }
+
+        s = _s;
+        singular = _singular;
+    }
+
+    /**
+     * The method decomposes a matrix, it is the same as {@link Matrix#getLUDecomposition()},
+     * but the result isn't cached by the matrix.
+     *
+     * @param m the square matrix
+     *
+     * @return the decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    public static LUDecomposition of(final Matrix m) {
+        if (!m.isSquareMatrix())
+            throw new InvalidMatrixOperationException("The matrix is not a square matrix");
+
+        return new LUDecomposition(DoubleArrayMatrix.elements(m), m.getDimension()[0]);
+    }
+
+    /**
+     * The method returns the unit lower triangular matrix L.
+     *
+     * @return the matrix L
+     */
+    public Matrix getL() {
+        var l = new double[n * n];
+        for (var i = 0; i < n; i++) {
+            System.arraycopy(lu, i * n, l, i * n, i);
+            l[i * n + i] = 1;
+        }
+
+        return new DoubleArrayMatrix(l, n, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns the upper triangular matrix U.
+     *
+     * @return the matrix U
+     */
+    public Matrix getU() {
+        var u = new double[n * n];
+        for (var i = 0; i < n; i++)
+            System.arraycopy(lu, i * n + i, u, i * n + i, n - i);
+
+        return new DoubleArrayMatrix(u, n, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns the permutation matrix P, such that PA = LU.
+     *
+     * @return the matrix P
+     */
+    public Matrix getP() {
+        var p = new double[n * n];
+        for (var i = 0; i < n; i++)
+            p[i * n + pv[i]] = 1;
+
+        return new DoubleArrayMatrix(p, n, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns the pivots, the element i is the row of the original matrix
+     * that became the row i of U.
+     *
+     * @return the pivots
+     */
+    public int[] getPivot() {
+        return pv.clone();
+    }
+
+    /**
+     * The method returns the determinant, the product of the pivots with the sign
+     * of the permutation.
+     *
+     * @return the determinant
+     */
+    public double getDeterminant() {
+        double det = s;
+        for (var i = 0; i < n && det != 0; i++)
+            det *= lu[i * n + i];
+
+        return det == 0 ? 0.0 : det;
+    }
+
+    /**
+     * The method tells if the decomposed matrix is singular, i.e. if U has a pivot
+     * that vanishes relative to the round-off tolerance of the matrix.
+     *
+     * @return true if the matrix is singular
+     */
+    public boolean isSingular() {
+        return singular;
+    }
+
+    /**
+     * The method solves the linear system Ax = b in the full precision.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the dimension of the vector doesn't
+     *                                         match, or the matrix is singular
+     */
+    public Vector solve(final Vector b) {
+        return new DoubleArrayVector(solve(DoubleArrayMatrix.elements(b), 1));
+    }
+
+    /**
+     * The method solves the linear systems AX = B in the full precision,
+     * every column of B is a right-hand side.
+     *
+     * @param b the right-hand sides
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    public Matrix solve(final Matrix b) {
+        var k = b.getDimension()[1];
+        return new DoubleArrayMatrix(solve(DoubleArrayMatrix.elements(b), k), n, k, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method solves AX = B for the row-major right-hand sides B (n x k),
+     * by the forward substitution with L and the backward substitution with U.
+     *
+     * @param b the row-major right-hand sides, they are not modified
+     * @param k the number of right-hand sides
+     *
+     * @return the row-major solutions X (n x k)
+     *
+     * @throws InvalidMatrixOperationException if the size of B doesn't match,
+     *                                         or the matrix is singular
+     */
+    double[] solve(final double[] b, final int k) {
+        if (b.length != n * k)
+            throw new InvalidMatrixOperationException("The dimensions don't match");
+
+        if (singular)
+            throw new InvalidMatrixOperationException("The matrix is singular");
+
+        var x = new double[n * k];
+        for (var i = 0; i < n; i++)
+            System.arraycopy(b, pv[i] * k, x, i * k, k);
+
+        // Forward substitution with the unit lower triangle
+        for (var i = 0; i < n; i++)
+            for (var j = 0; j < i; j++) {
+                var f = lu[i * n + j];
+                if (f != 0)
+                    for (var c = 0; c < k; c++)
+                        x[i * k + c] -= f * x[j * k + c];
+            }
+
+        // Backward substitution with the upper triangle
+        for (var i = n - 1; i >= 0; i--) {
+            for (var j = i + 1; j < n; j++) {
+                var f = lu[i * n + j];
+                if (f != 0)
+                    for (var c = 0; c < k; c++)
+                        x[i * k + c] -= f * x[j * k + c];
+            }
+
+            var u = lu[i * n + i];
+            for (var c = 0; c < k; c++)
+                x[i * k + c] /= u;
+        }
+
+        return x;
+    }
+
+    /**
+     * The method calculates the inverse, it solves AX = I.
+     *
+     * @return the row-major inverse
+     *
+     * @throws InvalidMatrixOperationException if the matrix is singular
+     */
+    double[] inverse() {
+        var i = new double[n * n];
+        for (var j = 0; j < n; j++)
+            i[j * n + j] = 1;
+
+        return solve(i, n);
+    }
+}
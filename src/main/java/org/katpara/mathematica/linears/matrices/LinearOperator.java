@@ -0,0 +1,201 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.exceptions.NullArgumentProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * The interface describes an m x n matrix only by its products with the vectors, Ax and
+ * A^T y, i.e. a matrix whose elements are never stored, or are too many to be stored
+ * as a {@link Matrix}. The randomised methods of {@link RandomizedRangeFinder} only ever
+ * touch the matrix through these products.
+ * <p>
+ * The products with the blocks of vectors, the row-major n x c (or m x c) arrays whose
+ * columns are the vectors, default to a product per column, the operators that can do
+ * better, e.g. a dense matrix with the blocked multiplication, override them.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public interface LinearOperator {
+
+    /**
+     * The method returns the dimension of the matrix, the number of rows and columns.
+     *
+     * @return the dimension
+     */
+    int[] getDimension();
+
+    /**
+     * The method multiplies the matrix with a vector.
+     *
+     * @param x the vector of n elements, it is not modified
+     *
+     * @return the product Ax of m elements
+     */
+    double[] multiply(final double[] x);
+
+    /**
+     * The method multiplies the transpose of the matrix with a vector.
+     *
+     * @param y the vector of m elements, it is not modified
+     *
+     * @return the product A^T y of n elements
+     */
+    double[] multiplyTransposed(final double[] y);
+
+    /**
+     * The method multiplies the matrix with a block of vectors.
+     *
+     * @param x the row-major block X (n x c), it is not modified
+     * @param c the number of vectors
+     *
+     * @return the row-major product AX (m x c)
+     */
+    default double[] multiply(final double[] x, final int c) {
+        var d = getDimension();
+        return columns(x, d[1], d[0], c, this::multiply);
+    }
+
+    /**
+     * The method multiplies the transpose of the matrix with a block of vectors.
+     *
+     * @param y the row-major block Y (m x c), it is not modified
+     * @param c the number of vectors
+     *
+     * @return the row-major product A^T Y (n x c)
+     */
+    default double[] multiplyTransposed(final double[] y, final int c) {
+        var d = getDimension();
+        return columns(y, d[0], d[1], c, this::multiplyTransposed);
+    }
+
+    /**
+     * The method describes a matrix by its products, the elements of a dense matrix are
+     * multiplied in place, and the blocks with the blocked multiplication.
+     *
+     * @param m the matrix
+     *
+     * @return the linear operator
+     *
+     * @throws NullArgumentProvidedException when the matrix is null
+     */
+    static LinearOperator of(final Matrix m) {
+        if (m == null)
+            throw new NullArgumentProvidedException("The matrix can't be null");
+
+        var e = DoubleArrayMatrix.elements(m);
+        var d = m.getDimension();
+
+        return new LinearOperator() {
+            @Override
+            public int[] getDimension() {
+                return d.clone();
+            }
+
+            @Override
+            public double[] multiply(final double[] x) {
+                var y = new double[d[0]];
+                for (var i = 0; i < d[0]; i++)
+                    y[i] = Kernels.dot(e, i * d[1], x, 0, d[1]);
+
+                return y;
+            }
+
+            @Override
+            public double[] multiplyTransposed(final double[] y) {
+                var x = new double[d[1]];
+                for (var i = 0; i < d[0]; i++)
+                    if (y[i] != 0)
+                        Kernels.axpy(y[i], e, i * d[1], x, 0, d[1]);
+
+                return x;
+            }
+
+            @Override
+            public double[] multiply(final double[] x, final int c) {
+                return Multiplication.multiply(e, x, d[0], d[1], c);
+            }
+
+            @Override
+            public double[] multiplyTransposed(final double[] y, final int c) {
+                return Multiplication.multiplyTransposed(e, y, d[1], d[0], c);
+            }
+        };
+    }
+
+    /**
+     * The method describes a matrix by the callbacks of its products with the vectors.
+     * The callbacks get a new array every time, and may return it as the product.
+     *
+     * @param m          the number of rows
+     * @param n          the number of columns
+     * @param product    the callback of Ax, from n to m elements
+     * @param transposed the callback of A^T y, from m to n elements
+     *
+     * @return the linear operator
+     *
+     * @throws InvalidMatrixDimensionException when the matrix doesn't have at least one element
+     * @throws NullArgumentProvidedException   when a callback is null
+     */
+    static LinearOperator of(final int m, final int n, final UnaryOperator<double[]> product,
+                             final UnaryOperator<double[]> transposed) {
+        if (m < 1 || n < 1)
+            throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+        if (product == null || transposed == null)
+            throw new NullArgumentProvidedException("The products can't be null");
+
+        return new LinearOperator() {
+            @Override
+            public int[] getDimension() {
+                return new int[]{m, n};
+            }
+
+            @Override
+            public double[] multiply(final double[] x) {
+                return product.apply(x.clone());
+            }
+
+            @Override
+            public double[] multiplyTransposed(final double[] y) {
+                return transposed.apply(y.clone());
+            }
+        };
+    }
+
+    /**
+     * The method multiplies a block column by column with a product of the vectors.
+     *
+     * @param x the row-major block (p x c)
+     * @param p the length of the vectors of the block
+     * @param q the length of the products
+     * @param c the number of vectors
+     * @param f the product
+     *
+     * @return the row-major block of the products (q x c)
+     *
+     * @throws InvalidMatrixDimensionException when a product doesn't have q elements
+     */
+    private static double[] columns(final double[] x, final int p, final int q, final int c,
+                                    final UnaryOperator<double[]> f) {
+        var y = new double[q * c];
+        var v = new double[p];
+
+        for (var j = 0; j < c; j++) {
+            for (var i = 0; i < p; i++)
+                v[i] = x[i * c + j];
+
+            var w = f.apply(v);
+            if (w.length != q)
+                throw new InvalidMatrixDimensionException("The product should have " + q + " elements");
+
+            for (var i = 0; i < q; i++)
+                y[i * c + j] = w[i];
+        }
+
+        return y;
+    }
+}
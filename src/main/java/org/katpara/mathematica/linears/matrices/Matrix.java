@@ -1,10 +1,13 @@
 package org.katpara.mathematica.linears.matrices;
 
 import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
 import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
 import org.katpara.mathematica.linears.vectors.Vector;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * The interface defines a Matrix in the system, and it's operations.
@@ -62,6 +65,19 @@ public interface Matrix {
      */
     Number[][] toArray();
 
+    /**
+     * The method returns a single element of a matrix as a primitive double.
+     * The indices are zero based, so the top left element is (0, 0).
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the element at the given row and column
+     *
+     * @throws IndexOutOfBoundsException if the indices are outside the matrix
+     */
+    double get(final int i, final int j);
+
     /**
      * The method returns all the elements as a list of lists.
      *
@@ -130,6 +146,19 @@ public interface Matrix {
      */
     int getRank();
 
+    /**
+     * The numerical rank of the matrix, the number of the diagonal elements of R in the
+     * column pivoted QR decomposition that are larger than the given tolerance in the
+     * absolute value, see {@link QRDecomposition#getRank(double)}.
+     *
+     * @param tol the tolerance, the elements at or below it are treated as zero
+     *
+     * @return the rank of matrix
+     */
+    default int getRank(final double tol) {
+        return getQRDecomposition().getRank(tol);
+    }
+
     /**
      * A determinant is a scalar value computed for a square matrix; that
      * encodes many properties of the linear algebra described by the matrix.
@@ -150,6 +179,55 @@ public interface Matrix {
      */
     double getDeterminant(final Rounding.POINT point);
 
+    /**
+     * The method returns the LU decomposition of a square matrix with partial
+     * pivoting. It is calculated only once and cached, the determinant, the inverse
+     * and the rank are all calculated from it.
+     *
+     * @return the LU decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    LUDecomposition getLUDecomposition();
+
+    /**
+     * The method returns the QR decomposition of a matrix with column pivoting.
+     * The rank and the least squares are calculated from it. The matrices that
+     * cache it override the method, otherwise it is calculated on every call.
+     *
+     * @return the QR decomposition
+     */
+    default QRDecomposition getQRDecomposition() {
+        return QRDecomposition.of(this);
+    }
+
+    /**
+     * The method returns the full singular value decomposition of a matrix. The spectral
+     * norm, the condition number, the pseudoinverse and the low-rank approximations are
+     * calculated from it. The matrices that cache it override the method, otherwise it
+     * is calculated on every call. The leading singular values of a large matrix are
+     * calculated with {@link SingularValueDecomposition#of(Matrix, int)} instead.
+     *
+     * @return the singular value decomposition
+     */
+    default SingularValueDecomposition getSingularValueDecomposition() {
+        return SingularValueDecomposition.of(this);
+    }
+
+    /**
+     * The method returns the eigendecomposition of a symmetric matrix, the eigenvalues
+     * and the orthonormal eigenvectors. The matrices that cache it override the method,
+     * otherwise it is calculated on every call. The eigenvalues alone are calculated with
+     * {@link EigenDecomposition#of(Matrix, boolean)} instead.
+     *
+     * @return the eigendecomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a symmetric matrix
+     */
+    default EigenDecomposition getEigenDecomposition() {
+        return EigenDecomposition.of(this);
+    }
+
     /**
      * The method transposes the matrix.
      *
@@ -179,6 +257,103 @@ public interface Matrix {
      */
     Matrix inverse(final Rounding.POINT point);
 
+    /**
+     * The method solves the linear system Ax = b, where A is the square matrix.
+     * It uses the cached LU decomposition, so it is cheaper and more accurate than
+     * multiplying with the inverse, and the following solves against the same
+     * matrix only cost O(n^2).
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    Vector solve(final Vector b);
+
+    /**
+     * The method solves the linear system Ax = b, where A is the square matrix.
+     * It uses the cached LU decomposition, so it is cheaper and more accurate than
+     * multiplying with the inverse, and the following solves against the same
+     * matrix only cost O(n^2).
+     *
+     * @param b     the right-hand side
+     * @param point the decimal points of accuracy
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    Vector solve(final Vector b, final Rounding.POINT point);
+
+    /**
+     * The method solves the linear systems AX = B, where A is the square matrix and
+     * every column of B is a right-hand side. All the systems share the cached
+     * LU decomposition.
+     *
+     * @param b the right-hand sides
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    Matrix solve(final Matrix b);
+
+    /**
+     * The method solves the linear systems AX = B, where A is the square matrix and
+     * every column of B is a right-hand side. All the systems share the cached
+     * LU decomposition.
+     *
+     * @param b     the right-hand sides
+     * @param point the decimal points of accuracy
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    Matrix solve(final Matrix b, final Rounding.POINT point);
+
+    /**
+     * The method solves the least squares problem min |Ax - b|, where A has at least
+     * as many rows as columns, with the QR decomposition, so the normal equations
+     * A^TAx = A^Tb are never formed.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix has fewer rows than columns,
+     *                                         or the dimension of the vector doesn't match
+     */
+    default Vector leastSquares(final Vector b) {
+        return leastSquares(b, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method solves the least squares problem min |Ax - b|, where A has at least
+     * as many rows as columns, with the QR decomposition, so the normal equations
+     * A^TAx = A^Tb are never formed.
+     *
+     * @param b     the right-hand side
+     * @param point the decimal points of accuracy
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix has fewer rows than columns,
+     *                                         or the dimension of the vector doesn't match
+     */
+    default Vector leastSquares(final Vector b, final Rounding.POINT point) {
+        return new DoubleArrayVector(Rounding.round(getQRDecomposition().leastSquares(DoubleArrayMatrix.elements(b), 1), point));
+    }
+
     /**
      * The method performs a scalar addition on a square matrix.
      * The operation is somewhat be described as;
@@ -278,4 +453,53 @@ public interface Matrix {
      *                                         equal to the number of rows of another matrix
      */
     Matrix multiply(final Matrix matrix, final Rounding.POINT point);
+
+    /**
+     * The method returns a part of the matrix, the rows r0 to r1 - 1 and the columns
+     * c0 to c1 - 1. The part is a view that shares the elements of the matrix, so nothing
+     * is copied, and it can be used as any other matrix.
+     *
+     * @param r0 the first row, inclusive
+     * @param r1 the last row, exclusive
+     * @param c0 the first column, inclusive
+     * @param c1 the last column, exclusive
+     *
+     * @return the part of the matrix
+     *
+     * @throws IndexOutOfBoundsException       if the range is outside the matrix
+     * @throws InvalidMatrixDimensionException if the range is empty
+     */
+    default Matrix subMatrix(final int r0, final int r1, final int c0, final int c1) {
+        return SubMatrix.of(this, r0, r1, c0, c1);
+    }
+
+    /**
+     * The method returns a row of the matrix as a 1 x n view,
+     * see {@link #subMatrix(int, int, int, int)}.
+     *
+     * @param i the row index
+     *
+     * @return the row
+     *
+     * @throws IndexOutOfBoundsException if the row is outside the matrix
+     */
+    default Matrix row(final int i) {
+        var d = getDimension();
+        return subMatrix(Objects.checkIndex(i, d[0]), i + 1, 0, d[1]);
+    }
+
+    /**
+     * The method returns a column of the matrix as an m x 1 view,
+     * see {@link #subMatrix(int, int, int, int)}.
+     *
+     * @param j the column index
+     *
+     * @return the column
+     *
+     * @throws IndexOutOfBoundsException if the column is outside the matrix
+     */
+    default Matrix column(final int j) {
+        var d = getDimension();
+        return subMatrix(0, d[0], Objects.checkIndex(j, d[1]), j + 1);
+    }
 }
@@ -0,0 +1,292 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Memo;
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The class is a process-wide cache of the constant matrices, i.e. the matrices the
+ * static methods such as {@link ArrayMatrix#identityMatrix(int)} or
+ * {@link DoubleArrayMatrix#hilbertMatrix(int)} create.
+ * <p>
+ * The matrices are immutable, so the same instance is handed out to every caller that
+ * asks for the same kind of matrix with the same parameters. It saves rebuilding the
+ * n x n elements on every call, and the properties the matrix caches itself, such as
+ * its determinant, inverse or LU decomposition, are shared as well.
+ * <p>
+ * The cache is bounded by the total number of elements it holds. It counts the elements
+ * of the matrices and of everything they derive and keep, i.e. their decompositions,
+ * inverses and copies, see {@link #weigh(Matrix, Object, long)}. When a new matrix or
+ * a derived result doesn't fit, the least recently used matrices are evicted; a matrix
+ * larger than the whole capacity is never cached. By default the capacity is 2^22 elements, it can also
+ * be set with the system property "org.katpara.mathematica.cache.capacity", where 0
+ * disables the cache. Every matrix is created at most once even when many threads ask
+ * for it at the same time, see {@link Memo}.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class MatrixCache {
+
+    /**
+     * The matrices by their kind and parameters, in the order of their last use
+     */
+    private static final LinkedHashMap<List<Object>, Entry> c = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The entries of the cached matrices, to weigh what they derive, guarded by the cache
+     */
+    private static final IdentityHashMap<Matrix, Entry> o = new IdentityHashMap<>();
+
+    /**
+     * The statistics
+     */
+    private static final LongAdder hits = new LongAdder(),
+            misses = new LongAdder(),
+            evictions = new LongAdder();
+
+    /**
+     * The maximum number of elements, guarded by the cache
+     */
+    private static long capacity = Long.getLong("org.katpara.mathematica.cache.capacity", 1L << 22);
+
+    /**
+     * The number of elements of all the cached matrices and their derived results,
+     * guarded by the cache
+     */
+    private static long weight;
+
+    private MatrixCache() {
+    }
+
+    /**
+     * The method returns the cached matrix of the given kind, it creates and caches
+     * the matrix on the first call.
+     *
+     * @param s   the supplier that creates the matrix
+     * @param m   the number of rows
+     * @param n   the number of columns
+     * @param p   the kind of the matrix, i.e. its class, type and other parameters
+     * @param <T> the class of the matrix
+     *
+     * @return the matrix
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Matrix> T get(final Supplier<T> s, final int m, final int n, final Object... p) {
+        var w = (long) m * n;
+
+        // An invalid dimension goes straight to the supplier, which reports it
+        if (m < 1 || n < 1)
+            return s.get();
+
+        var k = new ArrayList<>(Arrays.asList(p));
+        k.add(m);
+        k.add(n);
+
+        Entry entry;
+        synchronized (c) {
+            if (w > capacity) {
+                misses.increment();
+                return s.get();
+            }
+
+            entry = c.get(k);
+            if (entry != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                c.put(k, entry = new Entry(w));
+                weight += w;
+                evict();
+            }
+        }
+
+        // The matrix is known by its entry before any other thread can see it
+        var e = entry;
+        try {
+            return (T) e.m.get(() -> {
+                var v = s.get();
+                synchronized (c) {
+                    if (c.get(k) == e)
+                        o.put(e.v = v, e);
+                }
+                return v;
+            });
+        } catch (RuntimeException x) {
+            synchronized (c) {
+                if (c.remove(k, e))
+                    weight -= e.w;
+            }
+            throw x;
+        }
+    }
+
+    /**
+     * The method adds the number of elements of a result derived from a matrix, such
+     * as its decomposition or inverse, to the weight of the matrix if it is cached.
+     * The matrices call it when they memorise the result, and with a negative number
+     * when they drop it, so the cache holds no more than its capacity with all the
+     * results the shared matrices keep.
+     *
+     * @param m   the matrix
+     * @param v   the derived result
+     * @param w   the number of elements of the result
+     * @param <T> the class of the result
+     *
+     * @return the derived result
+     */
+    static <T> T weigh(final Matrix m, final T v, final long w) {
+        synchronized (c) {
+            var e = o.get(m);
+            if (e != null) {
+                e.w += w;
+                weight += w;
+                evict();
+            }
+        }
+
+        return v;
+    }
+
+    /**
+     * The method evicts the least recently used matrices until the cache fits
+     * into its capacity, the caller must hold the lock of the cache.
+     */
+    private static void evict() {
+        var i = c.values().iterator();
+        while (weight > capacity && i.hasNext()) {
+            var e = i.next();
+            weight -= e.w;
+            i.remove();
+            if (e.v != null)
+                o.remove(e.v);
+            evictions.increment();
+        }
+    }
+
+    /**
+     * The method returns the maximum number of elements the cache holds.
+     *
+     * @return the capacity
+     */
+    public static long getCapacity() {
+        synchronized (c) {
+            return capacity;
+        }
+    }
+
+    /**
+     * The method sets the maximum number of elements the cache holds, the least
+     * recently used matrices are evicted if the cache holds more. The capacity
+     * 0 disables the cache.
+     *
+     * @param n the capacity
+     *
+     * @throws InvalidParameterProvidedException when the capacity is negative
+     */
+    public static void setCapacity(final long n) {
+        if (n < 0)
+            throw new InvalidParameterProvidedException("The capacity can't be negative");
+
+        synchronized (c) {
+            capacity = n;
+            evict();
+        }
+    }
+
+    /**
+     * The method returns the number of the cached matrices.
+     *
+     * @return the number of matrices
+     */
+    public static int getSize() {
+        synchronized (c) {
+            return c.size();
+        }
+    }
+
+    /**
+     * The method returns the number of elements of all the cached matrices
+     * and the results derived from them.
+     *
+     * @return the number of elements
+     */
+    public static long getWeight() {
+        synchronized (c) {
+            return weight;
+        }
+    }
+
+    /**
+     * The method returns the number of times a matrix was found in the cache.
+     *
+     * @return the number of hits
+     */
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * The method returns the number of times a matrix had to be created.
+     *
+     * @return the number of misses
+     */
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * The method returns the number of matrices evicted to make room for the others.
+     *
+     * @return the number of evictions
+     */
+    public static long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * The method removes all the matrices from the cache and resets the statistics.
+     */
+    public static void clear() {
+        synchronized (c) {
+            c.clear();
+            o.clear();
+            weight = 0;
+            hits.reset();
+            misses.reset();
+            evictions.reset();
+        }
+    }
+
+    /**
+     * The cached matrix and its weight
+     */
+    private static final class Entry {
+
+        /**
+         * The matrix, created once
+         */
+        private final Memo<Matrix> m = new Memo<>();
+
+        /**
+         * The matrix once it is created, guarded by the cache
+         */
+        private Matrix v;
+
+        /**
+         * The number of elements of the matrix and its derived results, guarded by the cache
+         */
+        private long w;
+
+        private Entry(final long w) {
+            this.w = w;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.commons.Parallelism;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The class holds the kernel that multiplies two row-major arrays of primitive doubles,
+ * it is shared by all the matrix implementations of the package.
+ * <p>
+ * A plain i-j-k loop walks B down its columns, which touches a new cache line on every
+ * step and leaves the multiplication bound by the memory rather than by the CPU. The
+ * kernel here follows the usual blocked (GotoBLAS) layout instead:
+ * <ul>
+ *     <li>B is cut into panels of KC x NC, each panel is packed into a contiguous buffer
+ *     of NR wide column strips, so it stays in the last level cache.</li>
+ *     <li>A is cut into blocks of MC x KC, each block is packed into MR high row strips,
+ *     so it stays in the L2 cache.</li>
+ *     <li>The micro-kernel multiplies one MR strip of A with one NR strip of B, keeping
+ *     the MR x NR block of C in local variables (registers) for the whole KC loop.</li>
+ * </ul>
+ * <p>
+ * Every array is described by an offset and a leading dimension (the distance between
+ * two rows), so a kernel can work on a part of a larger array without copying it.
+ * Small products skip the packing altogether, since it doesn't pay off for them.
+ * <p>
+ * A may also be read transposed, see {@link #multiplyTransposed(double[], double[], int, int, int)}.
+ * Since A is packed anyway, reading its columns instead of its rows costs nothing, and
+ * the products such as A^T x B never copy A into its transpose.
+ * <p>
+ * The micro-kernel and the inner loop of the small products run on the {@link Kernels},
+ * which use SIMD instructions when the Vector API is available. Both backends give
+ * exactly the same products.
+ * <p>
+ * Large products split the blocks of A (the rows of C) between the tasks of the pool
+ * set in {@link Parallelism}. The tasks share the packed panel of B and each of them
+ * packs its own blocks of A. No two tasks write the same element of C, and every element
+ * is summed in the same order as on a single thread, so the result is identical
+ * whatever the number of threads is.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+final class Multiplication {
+
+    /**
+     * The height of the register block
+     */
+    static final int MR = 4;
+
+    /**
+     * The width of the register block
+     */
+    static final int NR = 4;
+
+    /**
+     * The depth of a packed panel, the number of columns of A and rows of B
+     */
+    static final int KC = 256;
+
+    /**
+     * The number of rows of a packed block of A
+     */
+    static final int MC = 64;
+
+    /**
+     * The number of columns of a packed panel of B
+     */
+    static final int NC = 1024;
+
+    /**
+     * The number of multiply-adds below which the simple loop is used
+     */
+    private static final long SMALL = 1 << 15;
+
+    private Multiplication() {
+    }
+
+    /**
+     * The method multiplies two row-major arrays and returns a new row-major array.
+     *
+     * @param a the row-major elements of A (m x n)
+     * @param b the row-major elements of B (n x p)
+     * @param m the number of rows of A
+     * @param n the number of columns of A and rows of B
+     * @param p the number of columns of B
+     *
+     * @return the row-major elements of C = AB (m x p)
+     */
+    static double[] multiply(final double[] a, final double[] b, final int m, final int n, final int p) {
+        var c = new double[m * p];
+        multiply(a, 0, n, b, 0, p, c, 0, p, m, n, p);
+        return c;
+    }
+
+    /**
+     * The method multiplies the transpose of a row-major array with another row-major
+     * array, A is read column by column, so it is never transposed.
+     *
+     * @param a the row-major elements of A (n x m)
+     * @param b the row-major elements of B (n x p)
+     * @param m the number of columns of A, i.e. the rows of A^T
+     * @param n the number of rows of A and B
+     * @param p the number of columns of B
+     *
+     * @return the row-major elements of C = A^T B (m x p)
+     */
+    static double[] multiplyTransposed(final double[] a, final double[] b, final int m, final int n, final int p) {
+        var c = new double[m * p];
+        multiply(a, 0, 1, m, b, 0, p, c, 0, p, m, n, p);
+        return c;
+    }
+
+    /**
+     * The method calculates C += AB, where all three arrays are described with an offset
+     * and a leading dimension.
+     *
+     * @param a   the elements of A
+     * @param ao  the offset of A
+     * @param lda the leading dimension of A
+     * @param b   the elements of B
+     * @param bo  the offset of B
+     * @param ldb the leading dimension of B
+     * @param c   the elements of C
+     * @param co  the offset of C
+     * @param ldc the leading dimension of C
+     * @param m   the number of rows of A and C
+     * @param n   the number of columns of A and rows of B
+     * @param p   the number of columns of B and C
+     */
+    static void multiply(final double[] a, final int ao, final int lda,
+                         final double[] b, final int bo, final int ldb,
+                         final double[] c, final int co, final int ldc,
+                         final int m, final int n, final int p) {
+        multiply(a, ao, lda, 1, b, bo, ldb, c, co, ldc, m, n, p);
+    }
+
+    /**
+     * The method calculates C += AB, where the element (i, k) of A is at ao + i x ra + k x ka,
+     * so A is read transposed when ra is 1 and ka is its leading dimension.
+     *
+     * @param a   the elements of A
+     * @param ao  the offset of A
+     * @param ra  the distance between two rows of A
+     * @param ka  the distance between two columns of A
+     * @param b   the elements of B
+     * @param bo  the offset of B
+     * @param ldb the leading dimension of B
+     * @param c   the elements of C
+     * @param co  the offset of C
+     * @param ldc the leading dimension of C
+     * @param m   the number of rows of A and C
+     * @param n   the number of columns of A and rows of B
+     * @param p   the number of columns of B and C
+     */
+    private static void multiply(final double[] a, final int ao, final int ra, final int ka,
+                                 final double[] b, final int bo, final int ldb,
+                                 final double[] c, final int co, final int ldc,
+                                 final int m, final int n, final int p) {
+        if ((long) m * n * p <= SMALL) {
+            simple(a, ao, ra, ka, b, bo, ldb, c, co, ldc, m, n, p);
+            return;
+        }
+
+        var parallel = m > MC && Parallelism.isParallel((long) m * n * p);
+        double[] bp = new double[KC * roundUp(Math.min(NC, p), NR)],
+                ap = parallel ? null : new double[MC * KC];
+
+        for (var jc = 0; jc < p; jc += NC) {
+            var nc = Math.min(NC, p - jc);
+
+            for (var pc = 0; pc < n; pc += KC) {
+                var kc = Math.min(KC, n - pc);
+                packB(b, bo + pc * ldb + jc, ldb, kc, nc, bp);
+
+                if (parallel)
+                    Parallelism.getPool().invoke(new Blocks(a, ao + pc * ka, ra, ka, bp, c, co + jc, ldc,
+                            0, m, nc, kc));
+                else
+                    for (var ic = 0; ic < m; ic += MC)
+                        block(a, ao + ic * ra + pc * ka, ra, ka, bp, ap, c, co + ic * ldc + jc, ldc,
+                                Math.min(MC, m - ic), nc, kc);
+            }
+        }
+    }
+
+    /**
+     * The method multiplies one block of A with a packed panel of B, and adds
+     * the product to C.
+     *
+     * @param a   the elements of A
+     * @param ao  the offset of the block in A
+     * @param ra  the distance between two rows of A
+     * @param ka  the distance between two columns of A
+     * @param bp  the packed panel of B
+     * @param ap  the buffer to pack the block of A into
+     * @param c   the elements of C
+     * @param co  the offset of the block in C
+     * @param ldc the leading dimension of C
+     * @param mc  the number of rows of the block
+     * @param nc  the number of columns of the panel
+     * @param kc  the depth of the panel
+     */
+    static void block(final double[] a, final int ao, final int ra, final int ka, final double[] bp,
+                      final double[] ap, final double[] c, final int co, final int ldc,
+                      final int mc, final int nc, final int kc) {
+        packA(a, ao, ra, ka, mc, kc, ap);
+        var t = new double[MR * NR];
+
+        for (var jr = 0; jr < nc; jr += NR)
+            for (var ir = 0; ir < mc; ir += MR)
+                micro(kc, ap, ir * kc, bp, jr * kc, c, co + ir * ldc + jr, ldc,
+                        Math.min(MR, mc - ir), Math.min(NR, nc - jr), t);
+    }
+
+    /**
+     * The method packs a KC x NC panel of B into NR wide column strips. Every strip is
+     * stored row after row, and the last strip is padded with zeros.
+     *
+     * @param b   the elements of B
+     * @param bo  the offset of the panel
+     * @param ldb the leading dimension of B
+     * @param kc  the number of rows of the panel
+     * @param nc  the number of columns of the panel
+     * @param bp  the buffer to pack into
+     */
+    static void packB(final double[] b, final int bo, final int ldb, final int kc, final int nc, final double[] bp) {
+        var x = 0;
+        for (var j = 0; j < nc; j += NR) {
+            var w = Math.min(NR, nc - j);
+
+            for (var k = 0; k < kc; k++) {
+                var o = bo + k * ldb + j;
+                for (var jj = 0; jj < NR; jj++)
+                    bp[x++] = (jj < w) ? b[o + jj] : 0;
+            }
+        }
+    }
+
+    /**
+     * The method packs an MC x KC block of A into MR high row strips. Every strip is
+     * stored column after column, and the last strip is padded with zeros.
+     *
+     * @param a   the elements of A
+     * @param ao  the offset of the block
+     * @param ra  the distance between two rows of A
+     * @param ka  the distance between two columns of A
+     * @param mc  the number of rows of the block
+     * @param kc  the number of columns of the block
+     * @param ap  the buffer to pack into
+     */
+    static void packA(final double[] a, final int ao, final int ra, final int ka, final int mc, final int kc,
+                      final double[] ap) {
+        var x = 0;
+        for (var i = 0; i < mc; i += MR) {
+            var h = Math.min(MR, mc - i);
+
+            for (var k = 0; k < kc; k++)
+                for (var ii = 0; ii < MR; ii++)
+                    ap[x++] = (ii < h) ? a[ao + (i + ii) * ra + k * ka] : 0;
+        }
+    }
+
+    /**
+     * The micro-kernel multiplies an MR strip of A with an NR strip of B. The 4 x 4 block
+     * of C is accumulated by the {@link Kernels#multiply4x4}, and it is added to C once
+     * at the end.
+     *
+     * @param kc  the depth of the strips
+     * @param ap  the packed A
+     * @param ai  the offset of the strip in the packed A
+     * @param bp  the packed B
+     * @param bi  the offset of the strip in the packed B
+     * @param c   the elements of C
+     * @param co  the offset of the block in C
+     * @param ldc the leading dimension of C
+     * @param h   the number of valid rows of the block
+     * @param w   the number of valid columns of the block
+     * @param t   the buffer for the 4 x 4 block
+     */
+    private static void micro(final int kc, final double[] ap, final int ai, final double[] bp, final int bi,
+                              final double[] c, final int co, final int ldc, final int h, final int w,
+                              final double[] t) {
+        Kernels.multiply4x4(kc, ap, ai, bp, bi, t);
+
+        for (var i = 0; i < h; i++) {
+            var o = co + i * ldc;
+            for (var j = 0; j < w; j++)
+                c[o + j] += t[i * NR + j];
+        }
+    }
+
+    /**
+     * The method calculates C += AB with the i-k-j loop, which reads B and C row by row.
+     * It is used for the small products, where packing costs more than it saves.
+     *
+     * @param a   the elements of A
+     * @param ao  the offset of A
+     * @param ra  the distance between two rows of A
+     * @param ka  the distance between two columns of A
+     * @param b   the elements of B
+     * @param bo  the offset of B
+     * @param ldb the leading dimension of B
+     * @param c   the elements of C
+     * @param co  the offset of C
+     * @param ldc the leading dimension of C
+     * @param m   the number of rows of A and C
+     * @param n   the number of columns of A and rows of B
+     * @param p   the number of columns of B and C
+     */
+    static void simple(final double[] a, final int ao, final int ra, final int ka,
+                       final double[] b, final int bo, final int ldb,
+                       final double[] c, final int co, final int ldc,
+                       final int m, final int n, final int p) {
+        for (var i = 0; i < m; i++) {
+            var ci = co + i * ldc;
+
+            for (var k = 0; k < n; k++)
+                Kernels.axpy(a[ao + i * ra + k * ka], b, bo + k * ldb, c, ci, p);
+        }
+    }
+
+    /**
+     * The task multiplies a range of the blocks of A with a packed panel of B. It halves
+     * the range until a single block is left, which it multiplies with its own buffer.
+     */
+    private static final class Blocks extends RecursiveAction {
+
+        private final double[] a, bp, c;
+        private final int ao, ra, ka, co, ldc, from, to, nc, kc;
+
+        /**
+         * @param a    the elements of A
+         * @param ao   the offset of the first row of A
+         * @param ra   the distance between two rows of A
+         * @param ka   the distance between two columns of A
+         * @param bp   the packed panel of B
+         * @param c    the elements of C
+         * @param co   the offset of the first row of C
+         * @param ldc  the leading dimension of C
+         * @param from the first row of the range
+         * @param to   the row after the last row of the range
+         * @param nc   the number of columns of the panel
+         * @param kc   the depth of the panel
+         */
+        Blocks(final double[] a, final int ao, final int ra, final int ka, final double[] bp,
+               final double[] c, final int co, final int ldc,
+               final int from, final int to, final int nc, final int kc) {
+            this.a = a;
+            this.ao = ao;
+            this.ra = ra;
+            this.ka = ka;
+            this.bp = bp;
+            this.c = c;
+            this.co = co;
+            this.ldc = ldc;
+            this.from = from;
+            this.to = to;
+            this.nc = nc;
+            this.kc = kc;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= MC) {
+                block(a, ao + from * ra, ra, ka, bp, new double[MC * KC], c, co + from * ldc, ldc,
+                        to - from, nc, kc);
+                return;
+            }
+
+            // Split on a block boundary, so the blocks are the same as on a single thread
+            var mid = from + (to - from + MC) / (2 * MC) * MC;
+            invokeAll(new Blocks(a, ao, ra, ka, bp, c, co, ldc, from, mid, nc, kc),
+                    new Blocks(a, ao, ra, ka, bp, c, co, ldc, mid, to, nc, kc));
+        }
+    }
+
+    /**
+     * The method rounds a number up to the next multiple of the given step.
+     *
+     * @param n the number
+     * @param s the step
+     *
+     * @return the rounded number
+     */
+    private static int roundUp(final int n, final int s) {
+        return (n + s - 1) / s * s;
+    }
+}
@@ -0,0 +1,514 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+import org.katpara.mathematica.linears.vectors.Vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.NOT_SPECIFIED;
+
+/**
+ * The class holds the QR decomposition with column pivoting of an m x n matrix,
+ * i.e. AP = QR, where P is a permutation matrix, Q is an orthogonal matrix and R is an
+ * upper trapezoidal matrix whose diagonal doesn't grow in the absolute value.
+ * <p>
+ * Q is the product of k = min(m, n) Householder reflections, every step brings the
+ * remaining column with the largest norm up to be the pivot. It is backward stable
+ * without any assumptions on the matrix, and the diagonal of R reveals the rank, see
+ * {@link #getRank(double)}, which is why the rank and the least squares use it,
+ * see {@link Matrix#getQRDecomposition()}.
+ * <p>
+ * The reflections are calculated in panels of up to {@link #NB} columns. Within a panel
+ * the rest of the matrix isn't updated, only the pivot rows and the columns as they
+ * become the pivots; the updates are accumulated in an n x nb matrix F instead, and the
+ * rest of the matrix is updated once at the end of the panel, a pass over the rows
+ * rather than a pass per reflection. The column norms are downdated from the pivot rows,
+ * and a panel ends early when a downdate loses its accuracy, so the norm is calculated
+ * again from the updated matrix.
+ * <p>
+ * The reflections are stored below the diagonal of R (the leading 1 is implied), with
+ * the upper triangular T of every panel, such that the reflections of the panel are
+ * I - VTV^T, so Q and Q^T are applied panel by panel in two passes over the rows.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class QRDecomposition {
+
+    /**
+     * The number of columns of a panel
+     */
+    static final int NB = 32;
+
+    /**
+     * R on and above the diagonal, the reflections below it, row-major
+     */
+    private final double[] qr;
+
+    /**
+     * The scalars of the reflections
+     */
+    private final double[] tau;
+
+    /**
+     * The original column of every column
+     */
+    private final int[] pv;
+
+    /**
+     * The first column of every panel, and k at the end
+     */
+    private final int[] pb;
+
+    /**
+     * The upper triangular T of every panel, row-major
+     */
+    private final double[][] pt;
+
+    /**
+     * The number of rows and columns, and the number of reflections
+     */
+    private final int m, n, k;
+
+    /**
+     * The constructor decomposes a row-major array.
+     *
+     * @param a the row-major elements, they are not modified
+     * @param m the number of rows
+     * @param n the number of columns
+     */
+    QRDecomposition(final double[] a, final int m, final int n) {
+        this.m = m;
+        this.n = n;
+        this.k = Math.min(m, n);
+
+        qr = a.clone();
+        tau = new double[k];
+        pv = new int[n];
+
+        for (var j = 0; j < n; j++)
+            pv[j] = j;
+
+        // The norms of the remaining parts of the columns, and when they were calculated
+        var vn1 = new double[n];
+        for (var i = 0; i < m; i++)
+            for (var j = 0; j < n; j++)
+                vn1[j] += a[i * n + j] * a[i * n + j];
+
+        for (var j = 0; j < n; j++)
+            vn1[j] = Math.sqrt(vn1[j]);
+
+        var vn2 = vn1.clone();
+        var stale = new boolean[n];
+        var tol = Math.sqrt(Math.ulp(1.0));
+
+        var f = new double[NB * n];
+        var g = new double[n];
+        var h = new double[NB];
+        var _pb = new ArrayList<Integer>();
+        var _pt = new ArrayList<double[]>();
+
+        for (var c = 0; c < k; ) {
+            var nb = Math.min(NB, k - c);
+            var t = new double[nb * nb];
+            var recalculate = false;
+            var j = 0;
+
+            Arrays.fill(f, 0);
+
+            for (; j < nb && !recalculate; j++) {
+                var r = c + j;
+
+                var p = r;
+                for (var q = r + 1; q < n; q++)
+                    if (vn1[q] > vn1[p])
+                        p = q;
+
+                if (p != r) {
+                    swapColumns(qr, m, n, p, r);
+                    for (var l = 0; l < j; l++) {
+                        var _f = f[l * n + p];
+                        f[l * n + p] = f[l * n + r];
+                        f[l * n + r] = _f;
+                    }
+
+                    var _p = pv[p];
+                    pv[p] = pv[r];
+                    pv[r] = _p;
+                    vn1[p] = vn1[r];
+                    vn2[p] = vn2[r];
+                }
+
+                // Apply the reflections of the panel to the pivot column, and take its norm below the diagonal
+                for (var l = 0; l < j; l++)
+                    h[l] = f[l * n + r];
+
+                var sum = 0.0;
+                for (var i = r; i < m; i++) {
+                    var v = qr[i * n + r];
+                    for (var l = 0; l < j; l++)
+                        v -= qr[i * n + c + l] * h[l];
+
+                    qr[i * n + r] = v;
+                    if (i > r)
+                        sum += v * v;
+                }
+
+                var alpha = qr[r * n + r];
+
+                // The Householder reflection, v = (1, x / (alpha - beta)), nothing to reflect when x = 0
+                var _tau = 0.0;
+                var scale = 0.0;
+                if (sum != 0) {
+                    var beta = -Math.copySign(Math.hypot(alpha, Math.sqrt(sum)), alpha);
+                    _tau = (beta - alpha) / beta;
+                    scale = 1 / (alpha - beta);
+                    qr[r * n + r] = beta;
+                }
+
+                tau[r] = _tau;
+                t[j * nb + j] = _tau;
+
+                if (_tau != 0) {
+                    // F(:, j) = tau (A^T v - F V^T v), and V^T v gives the column j of T,
+                    // both are summed in one pass, g(c, r) is V^T v and g(r + 1, n) is A^T v
+                    Arrays.fill(g, c, n, 0);
+
+                    for (var i = r; i < m; i++) {
+                        var v = (i == r) ? 1 : (qr[i * n + r] *= scale);
+                        if (v != 0)
+                            Kernels.axpy(v, qr, i * n + c, g, c, n - c);
+                    }
+
+                    for (var q = r + 1; q < n; q++)
+                        f[j * n + q] = _tau * g[q];
+
+                    for (var l = 0; l < j; l++) {
+                        if (g[c + l] != 0)
+                            Kernels.axpy(-_tau * g[c + l], f, l * n + r + 1, f, j * n + r + 1, n - r - 1);
+
+                        t[l * nb + j] = -_tau * Kernels.dot(t, l * nb + l, g, c + l, j - l);
+                    }
+                }
+
+                // Apply the reflections of the panel to the pivot row
+                for (var l = 0; l <= j; l++) {
+                    var v = (l == j) ? 1 : qr[r * n + c + l];
+                    if (v != 0)
+                        Kernels.axpy(-v, f, l * n + r + 1, qr, r * n + r + 1, n - r - 1);
+                }
+
+                // Downdate the norms of the remaining columns
+                for (var q = r + 1; q < n; q++) {
+                    if (vn1[q] == 0)
+                        continue;
+
+                    var _t = Math.abs(qr[r * n + q]) / vn1[q];
+                    _t = Math.max(0, (1 + _t) * (1 - _t));
+
+                    if (_t * (vn1[q] / vn2[q]) * (vn1[q] / vn2[q]) <= tol) {
+                        stale[q] = true;
+                        recalculate = true;
+                    } else {
+                        vn1[q] *= Math.sqrt(_t);
+                    }
+                }
+            }
+
+            var e = c + j;
+
+            // Apply the reflections of the panel to the rest of the matrix, A -= VF^T is a matrix product
+            if (e < n && e < m) {
+                for (var l = 0; l < j; l++)
+                    for (var q = e; q < n; q++)
+                        f[l * n + q] = -f[l * n + q];
+
+                Multiplication.multiply(qr, e * n + c, n, f, e, n, qr, e * n + e, n, m - e, j, n - e);
+            }
+
+            if (recalculate)
+                for (var q = e; q < n; q++)
+                    if (stale[q]) {
+                        var s = 0.0;
+                        for (var i = e; i < m; i++)
+                            s += qr[i * n + q] * qr[i * n + q];
+
+                        vn1[q] = vn2[q] = Math.sqrt(s);
+                        stale[q] = false;
+                    }
+
+            _pb.add(c);
+            _pt.add(j == nb ? t : shrink(t, nb, j));
+            c = e;
+        }
+
+        pb = new int[_pb.size() + 1];
+        for (var i = 0; i < _pb.size(); i++)
+            pb[i] = _pb.get(i);
+
+        pb[_pb.size()] = k;
+        pt = _pt.toArray(new double[0][]);
+    }
+
+    /**
+     * The method swaps two columns of a row-major array.
+     *
+     * @param a the row-major array
+     * @param m the number of rows
+     * @param n the number of columns
+     * @param i the first column
+     * @param j the second column
+     */
+    private static void swapColumns(final double[] a, final int m, final int n, final int i, final int j) {
+        for (var r = 0; r < m; r++) {
+            var t = a[r * n + i];
+            a[r * n + i] = a[r * n + j];
+            a[r * n + j] = t;
+        }
+    }
+
+    /**
+     * The method returns the leading s x s part of an nb x nb row-major array.
+     *
+     * @param t  the row-major array
+     * @param nb the number of rows and columns
+     * @param s  the number of rows and columns to keep
+     *
+     * @return the leading part
+     */
+    private static double[] shrink(final double[] t, final int nb, final int s) {
+        var r = new double[s * s];
+        for (var i = 0; i < s; i++)
+            System.arraycopy(t, i * nb, r, i * s, s);
+
+        return r;
+    }
+
+    /**
+     * The method decomposes a matrix, it is the same as {@link Matrix#getQRDecomposition()},
+     * but the result isn't cached by the matrix.
+     *
+     * @param m the matrix
+     *
+     * @return the decomposition
+     */
+    public static QRDecomposition of(final Matrix m) {
+        var d = m.getDimension();
+        return new QRDecomposition(DoubleArrayMatrix.elements(m), d[0], d[1]);
+    }
+
+    /**
+     * The method returns the orthogonal matrix Q, the first min(m, n) columns of it.
+     *
+     * @return the matrix Q
+     */
+    public Matrix getQ() {
+        var q = new double[m * k];
+        for (var i = 0; i < k; i++)
+            q[i * k + i] = 1;
+
+        apply(q, k, false);
+        return new DoubleArrayMatrix(q, m, k, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns the upper trapezoidal matrix R, the first min(m, n) rows of it.
+     *
+     * @return the matrix R
+     */
+    public Matrix getR() {
+        var r = new double[k * n];
+        for (var i = 0; i < k; i++)
+            System.arraycopy(qr, i * n + i, r, i * n + i, n - i);
+
+        return new DoubleArrayMatrix(r, k, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns the permutation matrix P, such that AP = QR.
+     *
+     * @return the matrix P
+     */
+    public Matrix getP() {
+        var p = new double[n * n];
+        for (var j = 0; j < n; j++)
+            p[pv[j] * n + j] = 1;
+
+        return new DoubleArrayMatrix(p, n, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns the pivots, the element j is the column of the original matrix
+     * that became the column j of R.
+     *
+     * @return the pivots
+     */
+    public int[] getPivot() {
+        return pv.clone();
+    }
+
+    /**
+     * The method returns the numerical rank, the number of the diagonal elements of R
+     * larger than max(m, n) x eps x |R(0, 0)|, the same tolerance the other
+     * decompositions use for the round-off.
+     *
+     * @return the rank
+     */
+    public int getRank() {
+        return getRank(Math.max(m, n) * Math.ulp(1.0) * Math.abs(qr[0]));
+    }
+
+    /**
+     * The method returns the numerical rank, the number of the diagonal elements of R
+     * larger than the given tolerance in the absolute value. The pivoting keeps them
+     * in the decreasing order, so the count stops at the first small one.
+     *
+     * @param tol the tolerance, the elements at or below it are treated as zero
+     *
+     * @return the rank
+     */
+    public int getRank(final double tol) {
+        var r = 0;
+        while (r < k && Math.abs(qr[r * n + r]) > tol)
+            r++;
+
+        return r;
+    }
+
+    /**
+     * The method solves the least squares problem min |Ax - b| in the full precision.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix has fewer rows than columns,
+     *                                         or the dimension of the vector doesn't match
+     */
+    public Vector leastSquares(final Vector b) {
+        return new DoubleArrayVector(leastSquares(DoubleArrayMatrix.elements(b), 1));
+    }
+
+    /**
+     * The method solves the least squares problems min |AX - B| in the full precision,
+     * every column of B is a right-hand side.
+     *
+     * @param b the right-hand sides
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix has fewer rows than columns,
+     *                                         or the number of rows doesn't match
+     */
+    public Matrix leastSquares(final Matrix b) {
+        var c = b.getDimension()[1];
+        return new DoubleArrayMatrix(leastSquares(DoubleArrayMatrix.elements(b), c), n, c, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method solves min |AX - B| for the row-major right-hand sides B (m x c), it
+     * applies Q^T to B and solves the leading r x r triangle of R, where r is the rank.
+     * The columns of a rank deficient matrix beyond the rank get the zero solution,
+     * the basic solution.
+     *
+     * @param b the row-major right-hand sides, they are not modified
+     * @param c the number of right-hand sides
+     *
+     * @return the row-major solutions X (n x c)
+     *
+     * @throws InvalidMatrixOperationException if the matrix has fewer rows than columns,
+     *                                         or the size of B doesn't match
+     */
+    double[] leastSquares(final double[] b, final int c) {
+        if (m < n)
+            throw new InvalidMatrixOperationException("The matrix should have at least as many rows as columns");
+
+        if (b.length != m * c)
+            throw new InvalidMatrixOperationException("The dimensions don't match");
+
+        var y = b.clone();
+        apply(y, c, true);
+
+        var r = getRank();
+        for (var i = r - 1; i >= 0; i--) {
+            for (var j = i + 1; j < r; j++)
+                if (qr[i * n + j] != 0)
+                    Kernels.axpy(-qr[i * n + j], y, j * c, y, i * c, c);
+
+            for (var l = 0; l < c; l++)
+                y[i * c + l] /= qr[i * n + i];
+        }
+
+        var x = new double[n * c];
+        for (var i = 0; i < r; i++)
+            System.arraycopy(y, i * c, x, pv[i] * c, c);
+
+        return x;
+    }
+
+    /**
+     * The method multiplies the row-major matrix X (m x c) with Q, or with Q^T, in place.
+     * Every panel is applied as I - VTV^T, or I - VT^TV^T, one pass over the rows to
+     * calculate W = V^TX, and another one to subtract V(TW).
+     *
+     * @param x         the row-major matrix
+     * @param c         the number of its columns
+     * @param transpose true to multiply with Q^T
+     */
+    void apply(final double[] x, final int c, final boolean transpose) {
+        for (var _p = 0; _p < pt.length; _p++) {
+            var p = transpose ? _p : pt.length - 1 - _p;
+            int s = pb[p + 1] - pb[p], o = pb[p];
+            var t = pt[p];
+            var w = new double[s * c];
+
+            for (var i = o; i < m; i++) {
+                var u = Math.min(s, i - o + 1);
+                if (c == 1) {
+                    // The leading 1 of the reflection of the row is on the diagonal
+                    if (i - o < s) {
+                        Kernels.axpy(x[i], qr, i * n + o, w, 0, u - 1);
+                        w[i - o] += x[i];
+                    } else {
+                        Kernels.axpy(x[i], qr, i * n + o, w, 0, u);
+                    }
+                    continue;
+                }
+
+                for (var l = 0; l < u; l++) {
+                    var v = (i == o + l) ? 1 : qr[i * n + o + l];
+                    if (v != 0)
+                        Kernels.axpy(v, x, i * c, w, l * c, c);
+                }
+            }
+
+            var tw = new double[s * c];
+            for (var a = 0; a < s; a++)
+                for (var l = transpose ? 0 : a; l < (transpose ? a + 1 : s); l++) {
+                    var _t = transpose ? t[l * s + a] : t[a * s + l];
+                    if (_t != 0)
+                        Kernels.axpy(_t, w, l * c, tw, a * c, c);
+                }
+
+            for (var i = o; i < m; i++) {
+                var u = Math.min(s, i - o + 1);
+                if (c == 1) {
+                    if (i - o < s)
+                        x[i] -= Kernels.dot(qr, i * n + o, tw, 0, u - 1) + tw[i - o];
+                    else
+                        x[i] -= Kernels.dot(qr, i * n + o, tw, 0, u);
+                    continue;
+                }
+
+                for (var l = 0; l < u; l++) {
+                    var v = (i == o + l) ? 1 : qr[i * n + o + l];
+                    if (v != 0)
+                        Kernels.axpy(-v, tw, l * c, x, i * c, c);
+                }
+            }
+        }
+    }
+}
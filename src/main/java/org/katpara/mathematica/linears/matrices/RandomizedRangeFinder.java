@@ -0,0 +1,333 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.commons.Parallelism;
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinTask;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.NOT_SPECIFIED;
+
+/**
+ * The class finds the range of a large matrix, and its leading singular triples, with
+ * the randomised methods of Halko, Martinsson and Tropp. It only touches the matrix
+ * through the products with the blocks of vectors, so it works on a {@link Matrix} as
+ * well as on a {@link LinearOperator} whose elements are never stored.
+ * <p>
+ * The range finder multiplies the m x n matrix with a Gaussian n x l block, l = k + p for
+ * the target rank k and the oversampling p, and orthonormalises the product, so the l
+ * columns of Q span the range of the k leading singular vectors up to a small error. Every
+ * power iteration multiplies with A^T and A once more, each time orthonormalised, which
+ * sharpens the decay of the singular values for the matrices whose spectrum decays slowly.
+ * <p>
+ * The randomised singular value decomposition then projects the matrix on the range,
+ * B = Q^T A is only l x n, and calculates the full decomposition of B, so it costs
+ * 2q + 2 passes of the products and O((m + n) x l) memory, whatever the rank of A is.
+ * <p>
+ * The blocks are orthonormalised with the Cholesky QR twice, i.e. the Cholesky
+ * decomposition of the l x l Gram matrix and a triangular solve per row, two blocked
+ * multiplications instead of the Householder reflections. It only holds for a block
+ * that isn't too close to rank deficient, the others fall back to the
+ * {@link QRDecomposition}.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class RandomizedRangeFinder {
+
+    /**
+     * The default oversampling
+     */
+    public static final int OVERSAMPLING = 10;
+
+    /**
+     * The default number of power iterations
+     */
+    public static final int POWER_ITERATIONS = 2;
+
+    /**
+     * The largest ratio of the diagonal elements of the Cholesky factor, for which the
+     * Cholesky QR is used; the condition number of the block is at least the ratio
+     */
+    static final double RATIO = 1e5;
+
+    /**
+     * The number of rows of the blocks of the triangular solves
+     */
+    private static final int RB = 1024;
+
+    /**
+     * The target rank, the oversampling and the number of power iterations
+     */
+    private final int k, p, q;
+
+    /**
+     * The seed of the Gaussian block
+     */
+    private final long seed;
+
+    /**
+     * The constructor creates a range finder with the default oversampling,
+     * power iterations and the seed 0.
+     *
+     * @param k the target rank
+     *
+     * @throws InvalidParameterProvidedException when the target rank isn't positive
+     */
+    public RandomizedRangeFinder(final int k) {
+        this(k, OVERSAMPLING, POWER_ITERATIONS, 0);
+    }
+
+    /**
+     * The constructor creates a range finder.
+     *
+     * @param k    the target rank
+     * @param p    the oversampling, the number of additional columns of the range
+     * @param q    the number of power iterations
+     * @param seed the seed of the Gaussian block, the same seed gives the same result
+     *
+     * @throws InvalidParameterProvidedException when the target rank isn't positive,
+     *                                           or the others are negative
+     */
+    public RandomizedRangeFinder(final int k, final int p, final int q, final long seed) {
+        if (k < 1)
+            throw new InvalidParameterProvidedException("The target rank should be positive");
+
+        if (p < 0 || q < 0)
+            throw new InvalidParameterProvidedException("The oversampling and the power iterations can't be negative");
+
+        this.k = k;
+        this.p = p;
+        this.q = q;
+        this.seed = seed;
+    }
+
+    /**
+     * The method finds the orthonormal basis of the range of a matrix.
+     *
+     * @param a the matrix
+     *
+     * @return the matrix Q (m x l) of the orthonormal columns, l = min(k + p, m, n)
+     *
+     * @throws InvalidMatrixOperationException if the target rank is larger than min(m, n)
+     */
+    public Matrix range(final Matrix a) {
+        return range(LinearOperator.of(a));
+    }
+
+    /**
+     * The method finds the orthonormal basis of the range of a linear operator.
+     *
+     * @param a the linear operator
+     *
+     * @return the matrix Q (m x l) of the orthonormal columns, l = min(k + p, m, n)
+     *
+     * @throws InvalidMatrixOperationException if the target rank is larger than min(m, n)
+     */
+    public Matrix range(final LinearOperator a) {
+        var d = a.getDimension();
+        var l = columns(d);
+        return new DoubleArrayMatrix(range(a, d[0], d[1], l), d[0], l, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method calculates the k leading singular triples of a matrix.
+     *
+     * @param a the matrix
+     *
+     * @return the truncated singular value decomposition
+     *
+     * @throws InvalidMatrixOperationException if the target rank is larger than min(m, n)
+     */
+    public SingularValueDecomposition decompose(final Matrix a) {
+        return decompose(LinearOperator.of(a));
+    }
+
+    /**
+     * The method calculates the k leading singular triples of a linear operator. The
+     * decomposition of B^T = A^T Q = U_B S V_B^T gives A ~ QB = (QV_B) S U_B^T, so
+     * U = QV_B and V = U_B.
+     *
+     * @param a the linear operator
+     *
+     * @return the truncated singular value decomposition
+     *
+     * @throws InvalidMatrixOperationException if the target rank is larger than min(m, n)
+     */
+    public SingularValueDecomposition decompose(final LinearOperator a) {
+        var d = a.getDimension();
+        int m = d[0], n = d[1], l = columns(d);
+
+        var y = range(a, m, n, l);
+        var b = new SingularValueDecomposition(product(a, y, l, true, n), n, l);
+
+        var ub = DoubleArrayMatrix.elements(b.getU());
+        var vb = DoubleArrayMatrix.elements(b.getV());
+        var s = b.getSingularValues();
+
+        var u = new double[l * k];
+        var v = new double[n * k];
+        for (var i = 0; i < l; i++)
+            System.arraycopy(vb, i * l, u, i * k, k);
+        for (var i = 0; i < n; i++)
+            System.arraycopy(ub, i * l, v, i * k, k);
+
+        return new SingularValueDecomposition(Arrays.copyOf(s, k),
+                Multiplication.multiply(y, u, m, l, k), v, m, n);
+    }
+
+    /**
+     * The method returns the number of columns of the range, k + p, but at most min(m, n).
+     *
+     * @param d the dimension of the matrix
+     *
+     * @return the number of columns
+     *
+     * @throws InvalidMatrixOperationException if the target rank is larger than min(m, n)
+     */
+    private int columns(final int[] d) {
+        var r = Math.min(d[0], d[1]);
+        if (k > r)
+            throw new InvalidMatrixOperationException("The target rank should be at most " + r);
+
+        return Math.min(r, k + p);
+    }
+
+    /**
+     * The method finds the range of a linear operator, Q = orth(A(A^T A)^q G) for the
+     * Gaussian block G, with every product orthonormalised.
+     *
+     * @param a the linear operator
+     * @param m the number of rows
+     * @param n the number of columns
+     * @param l the number of columns of the range
+     *
+     * @return the row-major Q (m x l)
+     */
+    private double[] range(final LinearOperator a, final int m, final int n, final int l) {
+        var r = new Random(seed);
+        var g = new double[n * l];
+        for (var i = 0; i < g.length; i++)
+            g[i] = r.nextGaussian();
+
+        var y = orthonormalise(product(a, g, l, false, m), m, l);
+        for (var i = 0; i < q; i++) {
+            var z = orthonormalise(product(a, y, l, true, n), n, l);
+            y = orthonormalise(product(a, z, l, false, m), m, l);
+        }
+
+        return y;
+    }
+
+    /**
+     * The method multiplies a linear operator, or its transpose, with a block, and
+     * checks the size of the product.
+     *
+     * @param a the linear operator
+     * @param x the row-major block
+     * @param l the number of columns of the block
+     * @param t true to multiply with the transpose
+     * @param r the number of rows of the product
+     *
+     * @return the row-major product (r x l)
+     *
+     * @throws InvalidMatrixOperationException if the product doesn't have r x l elements
+     */
+    private static double[] product(final LinearOperator a, final double[] x, final int l,
+                                    final boolean t, final int r) {
+        var y = t ? a.multiplyTransposed(x, l) : a.multiply(x, l);
+        if (y.length != r * l)
+            throw new InvalidMatrixOperationException("The product should have " + r * l + " elements");
+
+        return y;
+    }
+
+    /**
+     * The method orthonormalises the columns of a row-major block with the Cholesky QR
+     * twice: the Gram matrix Y^T Y = LL^T, then Y L^-T has orthonormal columns up to
+     * the round-off of the condition number of Y squared, and the second pass brings them
+     * to the machine precision. If the Cholesky decomposition fails, or its diagonal
+     * tells that Y is too close to rank deficient, the block is orthonormalised with the
+     * Householder reflections instead.
+     *
+     * @param y the row-major block (m x l), it is reused for the result
+     * @param m the number of rows
+     * @param l the number of columns
+     *
+     * @return the row-major block of the orthonormal columns (m x l)
+     */
+    private static double[] orthonormalise(final double[] y, final int m, final int l) {
+        for (var pass = 0; pass < 2; pass++) {
+            var c = CholeskyDecomposition.of(Multiplication.multiplyTransposed(y, y, l, m, l), l);
+            if (!c.isPositiveDefinite())
+                return householder(y, m, l);
+
+            var f = DoubleArrayMatrix.elements(c.getL());
+            double min = Double.POSITIVE_INFINITY, max = 0;
+            for (var i = 0; i < l; i++) {
+                min = Math.min(min, f[i * l + i]);
+                max = Math.max(max, f[i * l + i]);
+            }
+
+            if (max > RATIO * min)
+                return householder(y, m, l);
+
+            solve(y, f, m, l);
+        }
+
+        return y;
+    }
+
+    /**
+     * The method orthonormalises the columns of a row-major block with the Householder
+     * reflections, the first l columns of Q of its QR decomposition.
+     *
+     * @param y the row-major block (m x l)
+     * @param m the number of rows
+     * @param l the number of columns
+     *
+     * @return the row-major block of the orthonormal columns (m x l)
+     */
+    private static double[] householder(final double[] y, final int m, final int l) {
+        var qr = new QRDecomposition(y, m, l);
+        var x = new double[m * l];
+        for (var i = 0; i < l; i++)
+            x[i * l + i] = 1;
+
+        qr.apply(x, l, false);
+        return x;
+    }
+
+    /**
+     * The method solves X L^T = Y in place, every row by the forward substitution with L.
+     * The rows are independent, so the blocks of {@link #RB} rows run in parallel for
+     * the large blocks.
+     *
+     * @param y the row-major block (m x l)
+     * @param f the row-major lower triangular L (l x l)
+     * @param m the number of rows
+     * @param l the number of columns
+     */
+    private static void solve(final double[] y, final double[] f, final int m, final int l) {
+        var nb = (m + RB - 1) / RB;
+        var tasks = new ArrayList<ForkJoinTask<?>>(nb);
+
+        for (var b = 0; b < nb; b++) {
+            int from = b * RB, to = Math.min(m, from + RB);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (var i = from; i < to; i++)
+                    for (var j = 0; j < l; j++)
+                        y[i * l + j] = (y[i * l + j] - Kernels.dot(f, j * l, y, i * l, j)) / f[j * l + j];
+            }));
+        }
+
+        if (nb > 1 && Parallelism.isParallel((long) m * l * l / 2))
+            Parallelism.getPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        else
+            tasks.forEach(ForkJoinTask::invoke);
+    }
+}
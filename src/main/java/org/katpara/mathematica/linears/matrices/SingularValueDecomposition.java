@@ -0,0 +1,742 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.commons.Parallelism;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinTask;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.NOT_SPECIFIED;
+
+/**
+ * The class holds the singular value decomposition of an m x n matrix, i.e. A = USV^T,
+ * where the columns of U and V are orthonormal and S is the diagonal of the singular
+ * values in the decreasing order. The spectral norm, the condition number, the
+ * pseudoinverse and the best low-rank approximations are all calculated from it.
+ * <p>
+ * The full decomposition keeps min(m, n) singular values. The matrix (or its transpose,
+ * so that it isn't wider than tall) is reduced with the column pivoted
+ * {@link QRDecomposition} first, then the one-sided Jacobi method rotates the pairs
+ * of rows of the square R until they are orthogonal. The rows are contiguous, so every
+ * rotation is a few passes of the kernels, and the pivoting leaves R close to diagonal,
+ * so only a few sweeps are needed. It is accurate even for the small singular values,
+ * but the sweeps cost O(n^3) each, so it suits the matrices up to the hundreds of columns.
+ * <p>
+ * The truncated decomposition, see {@link #of(Matrix, int)}, keeps only the k largest
+ * singular values, and never calculates the others. The Golub-Kahan-Lanczos process
+ * builds the orthonormal bases of the Krylov subspaces of AA^T and A^TA with one product
+ * with A and one with A^T per step, every new vector is orthogonalised against all the
+ * previous ones, and A is projected to an upper bidiagonal matrix B with a handful more
+ * rows than k. The singular values of B converge to the largest ones of A first, so the
+ * subspaces are extended only until the residuals of the k leading ones vanish relative
+ * to the norm, and the memory is O((m + n) x k) besides the matrix itself.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class SingularValueDecomposition {
+
+    /**
+     * The number of rows of the blocks of the products of the Lanczos process
+     */
+    static final int RB = 1024;
+
+    /**
+     * The relative residual at which a singular value of the Lanczos process has converged
+     */
+    static final double TOL = 1e-10;
+
+    /**
+     * The maximum number of the Jacobi sweeps
+     */
+    private static final int SWEEPS = 64;
+
+    /**
+     * The singular values in the decreasing order
+     */
+    private final double[] s;
+
+    /**
+     * The left singular vectors, row-major m x k
+     */
+    private final double[] u;
+
+    /**
+     * The right singular vectors, row-major n x k
+     */
+    private final double[] v;
+
+    /**
+     * The number of rows and columns, and the number of singular values
+     */
+    private final int m, n, k;
+
+    /**
+     * The constructor calculates the full decomposition of a row-major array.
+     *
+     * @param a the row-major elements, they are not modified
+     * @param m the number of rows
+     * @param n the number of columns
+     */
+    SingularValueDecomposition(final double[] a, final int m, final int n) {
+        this(a, m, n, Math.min(m, n));
+    }
+
+    /**
+     * The constructor calculates the k largest singular values and vectors of a row-major
+     * array. A large part of the singular values is as cheap from the full decomposition,
+     * so the Lanczos process is only used for fewer than half of them.
+     *
+     * @param a the row-major elements, they are not modified
+     * @param m the number of rows
+     * @param n the number of columns
+     * @param k the number of singular values
+     *
+     * @throws InvalidMatrixOperationException if k isn't between 1 and min(m, n)
+     */
+    SingularValueDecomposition(final double[] a, final int m, final int n, final int k) {
+        if (k < 1 || k > Math.min(m, n))
+            throw new InvalidMatrixOperationException("The number of singular values should be between 1 and "
+                                                              + Math.min(m, n));
+
+        this.m = m;
+        this.n = n;
+        this.k = k;
+
+        // Both work on A or A^T, whichever isn't wider than tall
+        var t = m < n;
+        var f = 2 * k >= Math.min(m, n) ? jacobi(t ? transpose(a, m, n) : a, Math.max(m, n), Math.min(m, n), k)
+                        : lanczos(a, m, n, t, k);
+
+        s = f[0];
+        u = t ? f[2] : f[1];
+        v = t ? f[1] : f[2];
+    }
+
+    /**
+     * The constructor holds the singular triples calculated elsewhere,
+     * e.g. by the {@link RandomizedRangeFinder}.
+     *
+     * @param s the singular values in the decreasing order
+     * @param u the row-major left singular vectors (m x k)
+     * @param v the row-major right singular vectors (n x k)
+     * @param m the number of rows
+     * @param n the number of columns
+     */
+    SingularValueDecomposition(final double[] s, final double[] u, final double[] v, final int m, final int n) {
+        this.s = s;
+        this.u = u;
+        this.v = v;
+        this.m = m;
+        this.n = n;
+        this.k = s.length;
+    }
+
+    /**
+     * The method decomposes a matrix, it is the same as
+     * {@link Matrix#getSingularValueDecomposition()}, but the result isn't cached by
+     * the matrix.
+     *
+     * @param m the matrix
+     *
+     * @return the decomposition
+     */
+    public static SingularValueDecomposition of(final Matrix m) {
+        var d = m.getDimension();
+        return new SingularValueDecomposition(DoubleArrayMatrix.elements(m), d[0], d[1]);
+    }
+
+    /**
+     * The method calculates the k largest singular values and their singular vectors,
+     * the truncated decomposition. The result is deterministic, the Lanczos process
+     * starts from a vector seeded by k.
+     *
+     * @param m the matrix
+     * @param k the number of singular values
+     *
+     * @return the truncated decomposition
+     *
+     * @throws InvalidMatrixOperationException if k isn't between 1 and min(m, n)
+     */
+    public static SingularValueDecomposition of(final Matrix m, final int k) {
+        var d = m.getDimension();
+        return new SingularValueDecomposition(DoubleArrayMatrix.elements(m), d[0], d[1], k);
+    }
+
+    /**
+     * The method returns the singular values in the decreasing order.
+     *
+     * @return the singular values
+     */
+    public double[] getSingularValues() {
+        return s.clone();
+    }
+
+    /**
+     * The method returns the left singular vectors U (m x k), one per column.
+     *
+     * @return the matrix U
+     */
+    public Matrix getU() {
+        return new DoubleArrayMatrix(u.clone(), m, k, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns the diagonal matrix S (k x k) of the singular values.
+     *
+     * @return the matrix S
+     */
+    public Matrix getS() {
+        var d = new double[k * k];
+        for (var i = 0; i < k; i++)
+            d[i * k + i] = s[i];
+
+        return new DoubleArrayMatrix(d, k, k, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns the right singular vectors V (n x k), one per column.
+     *
+     * @return the matrix V
+     */
+    public Matrix getV() {
+        return new DoubleArrayMatrix(v.clone(), n, k, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method tells if the decomposition is truncated, i.e. if it has fewer
+     * than min(m, n) singular values.
+     *
+     * @return true if the decomposition is truncated
+     */
+    public boolean isTruncated() {
+        return k < Math.min(m, n);
+    }
+
+    /**
+     * The method returns the spectral norm, the largest singular value.
+     *
+     * @return the spectral norm
+     */
+    public double getNorm() {
+        return s[0];
+    }
+
+    /**
+     * The method returns the condition number in the spectral norm, the ratio of the
+     * largest and the smallest singular value. It is infinite for a singular matrix.
+     *
+     * @return the condition number
+     *
+     * @throws InvalidMatrixOperationException if the decomposition is truncated
+     */
+    public double getConditionNumber() {
+        if (isTruncated())
+            throw new InvalidMatrixOperationException("The smallest singular value isn't known");
+
+        return s[k - 1] == 0 ? Double.POSITIVE_INFINITY : s[0] / s[k - 1];
+    }
+
+    /**
+     * The method returns the numerical rank, the number of the singular values larger
+     * than max(m, n) x eps x the largest one. The rank of a truncated decomposition
+     * is at most k.
+     *
+     * @return the rank
+     */
+    public int getRank() {
+        return getRank(tolerance());
+    }
+
+    /**
+     * The method returns the numerical rank, the number of the singular values larger
+     * than the given tolerance.
+     *
+     * @param tol the tolerance, the singular values at or below it are treated as zero
+     *
+     * @return the rank
+     */
+    public int getRank(final double tol) {
+        var r = 0;
+        while (r < k && s[r] > tol)
+            r++;
+
+        return r;
+    }
+
+    /**
+     * The method returns the Moore-Penrose pseudoinverse VS^+U^T (n x m), where S^+
+     * inverts the singular values above the tolerance of {@link #getRank()} and zeroes
+     * the others. The pseudoinverse of a truncated decomposition is the one of the
+     * low-rank approximation.
+     *
+     * @return the pseudoinverse
+     */
+    public Matrix getPseudoInverse() {
+        var r = getRank();
+
+        var w = new double[n * r];
+        for (var i = 0; i < n; i++)
+            for (var j = 0; j < r; j++)
+                w[i * r + j] = v[i * k + j] / s[j];
+
+        return new DoubleArrayMatrix(Multiplication.multiply(w, transpose(u, m, k, r), n, r, m), n, m,
+                NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns the best approximation of the rank r in the spectral and the
+     * Frobenius norms, the sum of the r leading singular triples U_r S_r V_r^T (m x n).
+     *
+     * @param r the rank of the approximation
+     *
+     * @return the approximation
+     *
+     * @throws InvalidMatrixOperationException if r isn't between 1 and k
+     */
+    public Matrix getApproximation(final int r) {
+        if (r < 1 || r > k)
+            throw new InvalidMatrixOperationException("The rank should be between 1 and " + k);
+
+        var w = new double[m * r];
+        for (var i = 0; i < m; i++)
+            for (var j = 0; j < r; j++)
+                w[i * r + j] = u[i * k + j] * s[j];
+
+        return new DoubleArrayMatrix(Multiplication.multiply(w, transpose(v, n, k, r), m, r, n), m, n,
+                NOT_SPECIFIED);
+    }
+
+    /**
+     * The method returns the tolerance of the rank, max(m, n) x eps x the largest
+     * singular value.
+     *
+     * @return the tolerance
+     */
+    private double tolerance() {
+        return Math.max(m, n) * Math.ulp(1.0) * s[0];
+    }
+
+    /**
+     * The method calculates the k largest singular triples from the full decomposition
+     * of a row-major array that isn't wider than tall. With AP = QR, the rows of R are
+     * rotated until they are orthogonal, R^T Y = W, then R = Y S W_n^T, where W_n are the
+     * normalised rows, so U = QY and the rows of V are the normalised rows of R
+     * permuted back with P.
+     *
+     * @param a the row-major elements, they are not modified
+     * @param p the number of rows
+     * @param q the number of columns, at most p
+     * @param k the number of singular values to keep
+     *
+     * @return the singular values, U (p x k) and V (q x k)
+     */
+    private static double[][] jacobi(final double[] a, final int p, final int q, final int k) {
+        var qr = new QRDecomposition(a, p, q);
+        var g = DoubleArrayMatrix.elements(qr.getR());
+        var y = identity(q);
+        var o = orthogonalise(g, y, q, q);
+
+        var s = new double[k];
+        var x = new double[p * k];
+        var v = new double[q * k];
+        var pv = qr.getPivot();
+
+        for (var c = 0; c < k; c++) {
+            var r = o[c];
+            s[c] = Math.sqrt(Kernels.dot(g, r * q, g, r * q, q));
+
+            for (var j = 0; j < q; j++) {
+                x[j * k + c] = y[r * q + j];
+                if (s[c] != 0)
+                    v[pv[j] * k + c] = g[r * q + j] / s[c];
+            }
+        }
+
+        qr.apply(x, k, false);
+        complete(v, q, k, s);
+        return new double[][]{s, x, v};
+    }
+
+    /**
+     * The method calculates the k largest singular triples of a row-major array with
+     * the Golub-Kahan-Lanczos process. The process runs on B = A, or on B = A^T if A is
+     * wider than tall, so that B (p x q) isn't wider than tall, and the right vectors
+     * of B span all of its columns at the step q, where the process stops at the latest.
+     * <p>
+     * The step j calculates u_j = Bv_j - beta_(j-1) u_(j-1) and v_(j+1) = B^T u_j - alpha_j v_j,
+     * both orthogonalised twice against all the previous vectors, so that
+     * BV_l = U_l B_l and B^T U_l = V_l B_l^T + beta_l v_(l+1) e_l^T for the bidiagonal
+     * B_l. A vector that vanishes means an invariant subspace, it is replaced with
+     * a random vector orthogonal to the previous ones, and its alpha or beta is zero.
+     * <p>
+     * The singular triple (sigma, x, y) of B_l gives the approximation (sigma, U_l x, V_l y),
+     * whose residual is beta_l |x_l|, so the process stops when the residuals of the k
+     * leading ones are at most {@link #TOL} x sigma_1, and otherwise adds max(k, 16) steps.
+     *
+     * @param a the row-major elements of A (m x n), they are not modified
+     * @param m the number of rows of A
+     * @param n the number of columns of A
+     * @param t true to run the process on A^T
+     * @param k the number of singular values
+     *
+     * @return the singular values, U (p x k) and V (q x k) of B
+     */
+    private static double[][] lanczos(final double[] a, final int m, final int n, final boolean t, final int k) {
+        int p = t ? n : m, q = t ? m : n;
+        var r = new Random(k);
+        var small = DoubleArrayMatrix.tolerance(a, m, n);
+        var step = Math.max(k, 16);
+
+        var l = Math.min(q, k + step);
+        var us = new double[l * p];
+        var vs = new double[(l + 1) * q];
+        var alpha = new double[l];
+        var beta = new double[l];
+
+        random(r, vs, 0, q);
+
+        for (var j = 0; ; ) {
+            for (; j < l; j++) {
+                var w = product(a, m, n, vs, j * q, t);
+                if (j > 0)
+                    Kernels.axpy(-beta[j - 1], us, (j - 1) * p, w, 0, p);
+
+                System.arraycopy(w, 0, us, j * p, p);
+                alpha[j] = next(us, j, p, small, r);
+
+                var z = product(a, m, n, us, j * p, !t);
+                Kernels.axpy(-alpha[j], vs, j * q, z, 0, q);
+
+                System.arraycopy(z, 0, vs, (j + 1) * q, q);
+                beta[j] = j + 1 < q ? next(vs, j + 1, q, small, r) : 0;
+            }
+
+            // The bidiagonal B_l, and its singular triples
+            var g = new double[l * l];
+            for (var i = 0; i < l; i++) {
+                g[i * l + i] = alpha[i];
+                if (i + 1 < l)
+                    g[i * l + i + 1] = beta[i];
+            }
+
+            var y = identity(l);
+            var o = orthogonalise(g, y, l, l);
+
+            var sigma = new double[l];
+            for (var i = 0; i < l; i++)
+                sigma[i] = Math.sqrt(Kernels.dot(g, i * l, g, i * l, l));
+
+            var converged = true;
+            for (var c = 0; c < k && converged; c++)
+                converged = Math.abs(beta[l - 1] * y[o[c] * l + l - 1]) <= TOL * sigma[o[0]];
+
+            if (converged || l == q) {
+                var s = new double[k];
+                var x = new double[l * k];
+                var z = new double[l * k];
+
+                for (var c = 0; c < k; c++) {
+                    s[c] = sigma[o[c]];
+                    for (var i = 0; i < l; i++) {
+                        x[i * k + c] = y[o[c] * l + i];
+                        if (s[c] != 0)
+                            z[i * k + c] = g[o[c] * l + i] / s[c];
+                    }
+                }
+
+                var v = Multiplication.multiplyTransposed(Arrays.copyOf(vs, l * q), z, q, l, k);
+                complete(v, q, k, s);
+                return new double[][]{s, Multiplication.multiplyTransposed(us, x, p, l, k), v};
+            }
+
+            l = Math.min(q, l + step);
+            us = Arrays.copyOf(us, l * p);
+            vs = Arrays.copyOf(vs, (l + 1) * q);
+            alpha = Arrays.copyOf(alpha, l);
+            beta = Arrays.copyOf(beta, l);
+        }
+    }
+
+    /**
+     * The method completes the right singular vectors of the zero singular values, whose
+     * columns are left zero, to an orthonormal set. Every such column becomes the unit
+     * vector that keeps the largest part orthogonal to the columns before it, calculated
+     * by the Gram-Schmidt process twice; the zero singular values are the last ones,
+     * so all the columns before it are already orthonormal.
+     *
+     * @param v the row-major singular vectors (n x k)
+     * @param n the number of rows
+     * @param k the number of columns
+     * @param s the singular values in the decreasing order
+     */
+    private static void complete(final double[] v, final int n, final int k, final double[] s) {
+        var w = new double[n];
+        var best = new double[n];
+
+        for (var c = 0; c < k; c++) {
+            if (s[c] != 0)
+                continue;
+
+            var max = 0.0;
+            for (var j = 0; j < n && max <= 0.5; j++) {
+                Arrays.fill(w, 0);
+                w[j] = 1;
+
+                for (var pass = 0; pass < 2; pass++) {
+                    for (var d = 0; d < c; d++) {
+                        var dot = 0.0;
+                        for (var i = 0; i < n; i++)
+                            dot += v[i * k + d] * w[i];
+
+                        for (var i = 0; i < n; i++)
+                            w[i] -= dot * v[i * k + d];
+                    }
+                }
+
+                var norm = Math.sqrt(Kernels.dot(w, w, n));
+                if (norm > max) {
+                    max = norm;
+                    System.arraycopy(w, 0, best, 0, n);
+                }
+            }
+
+            for (var i = 0; i < n; i++)
+                v[i * k + c] = best[i] / max;
+        }
+    }
+
+    /**
+     * The method orthogonalises the row j of a row-major array against the rows before
+     * it, twice, and normalises it. A row that vanishes relative to the tolerance is
+     * replaced with a random row orthogonal to the previous ones.
+     *
+     * @param b     the row-major array of the Lanczos vectors
+     * @param j     the row to orthogonalise
+     * @param n     the length of the rows
+     * @param small the tolerance of the vanishing rows
+     * @param r     the random numbers of the replacements
+     *
+     * @return the norm of the row after the orthogonalisation, or zero if it was replaced
+     */
+    private static double next(final double[] b, final int j, final int n, final double small, final Random r) {
+        var o = j * n;
+        for (var pass = 0; pass < 2; pass++)
+            for (var i = 0; i < j; i++)
+                Kernels.axpy(-Kernels.dot(b, i * n, b, o, n), b, i * n, b, o, n);
+
+        var norm = Math.sqrt(Kernels.dot(b, o, b, o, n));
+        if (norm > small) {
+            for (var i = 0; i < n; i++)
+                b[o + i] /= norm;
+
+            return norm;
+        }
+
+        random(r, b, o, n);
+        for (var pass = 0; pass < 2; pass++)
+            for (var i = 0; i < j; i++)
+                Kernels.axpy(-Kernels.dot(b, i * n, b, o, n), b, i * n, b, o, n);
+
+        var d = Math.sqrt(Kernels.dot(b, o, b, o, n));
+        for (var i = 0; i < n; i++)
+            b[o + i] /= d;
+
+        return 0;
+    }
+
+    /**
+     * The method fills a part of an array with a random unit vector.
+     *
+     * @param r the random numbers
+     * @param b the array
+     * @param o the offset of the vector
+     * @param n the length of the vector
+     */
+    private static void random(final Random r, final double[] b, final int o, final int n) {
+        for (var i = 0; i < n; i++)
+            b[o + i] = r.nextGaussian();
+
+        var d = Math.sqrt(Kernels.dot(b, o, b, o, n));
+        for (var i = 0; i < n; i++)
+            b[o + i] /= d;
+    }
+
+    /**
+     * The method multiplies a row-major array A (m x n), or its transpose, with a vector.
+     * The rows are split into the blocks of {@link #RB} rows that run in parallel for
+     * the large arrays. Every block of A^T x sums its own part, and the parts are added
+     * in the order of the blocks, so the parallel and the serial paths give the same result.
+     *
+     * @param a the row-major elements of A
+     * @param m the number of rows
+     * @param n the number of columns
+     * @param x the array of the vector
+     * @param o the offset of the vector
+     * @param t true to multiply with A^T
+     *
+     * @return Ax (m) or A^T x (n)
+     */
+    private static double[] product(final double[] a, final int m, final int n,
+                                    final double[] x, final int o, final boolean t) {
+        var nb = (m + RB - 1) / RB;
+        var y = new double[t ? n : m];
+        var parts = t ? new double[nb][] : null;
+
+        var tasks = new ArrayList<ForkJoinTask<?>>(nb);
+        for (var b = 0; b < nb; b++) {
+            int from = b * RB, to = Math.min(m, from + RB), _b = b;
+            tasks.add(ForkJoinTask.adapt(() -> {
+                if (!t) {
+                    for (var i = from; i < to; i++)
+                        y[i] = Kernels.dot(a, i * n, x, o, n);
+                } else {
+                    var z = _b == 0 ? y : new double[n];
+                    for (var i = from; i < to; i++)
+                        if (x[o + i] != 0)
+                            Kernels.axpy(x[o + i], a, i * n, z, 0, n);
+
+                    parts[_b] = z;
+                }
+            }));
+        }
+
+        if (nb > 1 && Parallelism.isParallel((long) m * n))
+            Parallelism.getPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        else
+            tasks.forEach(ForkJoinTask::invoke);
+
+        if (t)
+            for (var b = 1; b < nb; b++)
+                Kernels.axpy(1, parts[b], 0, y, 0, n);
+
+        return y;
+    }
+
+    /**
+     * The method rotates the pairs of rows of G with the cyclic one-sided Jacobi method,
+     * until every pair is orthogonal relative to the round-off, and applies the same
+     * rotations to the rows of Y. The squared norms of the rows are updated with the
+     * rotations, and calculated again at the start of every sweep.
+     *
+     * @param g the row-major rows to orthogonalise
+     * @param y the row-major rows that accumulate the rotations, n x n
+     * @param n the number of rows
+     * @param l the length of the rows of G
+     *
+     * @return the rows in the decreasing order of their norms
+     */
+    private static int[] orthogonalise(final double[] g, final double[] y, final int n, final int l) {
+        var w = new double[n];
+        var tol = Math.sqrt(l) * Math.ulp(1.0);
+        var rotated = true;
+
+        for (var sweep = 0; sweep < SWEEPS && rotated; sweep++) {
+            rotated = false;
+            for (var i = 0; i < n; i++)
+                w[i] = Kernels.dot(g, i * l, g, i * l, l);
+
+            for (var i = 0; i < n - 1; i++) {
+                for (var j = i + 1; j < n; j++) {
+                    double a = w[i], b = w[j];
+                    if (a == 0 || b == 0)
+                        continue;
+
+                    var c = Kernels.dot(g, i * l, g, j * l, l);
+                    if (Math.abs(c) <= tol * Math.sqrt(a) * Math.sqrt(b))
+                        continue;
+
+                    rotated = true;
+                    var zeta = (b - a) / (2 * c);
+                    var t = (zeta >= 0 ? 1 : -1) / (Math.abs(zeta) + Math.hypot(1, zeta));
+                    var cs = 1 / Math.sqrt(1 + t * t);
+                    var sn = cs * t;
+
+                    rotate(g, i * l, j * l, l, cs, sn);
+                    rotate(y, i * n, j * n, n, cs, sn);
+                    w[i] = a - t * c;
+                    w[j] = b + t * c;
+                }
+            }
+        }
+
+        for (var i = 0; i < n; i++)
+            w[i] = Kernels.dot(g, i * l, g, i * l, l);
+
+        var o = new Integer[n];
+        for (var i = 0; i < n; i++)
+            o[i] = i;
+
+        Arrays.sort(o, (i, j) -> Double.compare(w[j], w[i]));
+        return Arrays.stream(o).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * The method rotates two rows, x = c x - s y and y = s x + c y.
+     *
+     * @param a  the row-major array
+     * @param xo the offset of the first row
+     * @param yo the offset of the second row
+     * @param n  the length of the rows
+     * @param c  the cosine
+     * @param s  the sine
+     */
+    private static void rotate(final double[] a, final int xo, final int yo, final int n,
+                               final double c, final double s) {
+        for (var i = 0; i < n; i++) {
+            double x = a[xo + i], y = a[yo + i];
+            a[xo + i] = c * x - s * y;
+            a[yo + i] = s * x + c * y;
+        }
+    }
+
+    /**
+     * The method returns the row-major identity matrix.
+     *
+     * @param n the number of rows and columns
+     *
+     * @return the identity matrix
+     */
+    private static double[] identity(final int n) {
+        var i = new double[n * n];
+        for (var j = 0; j < n; j++)
+            i[j * n + j] = 1;
+
+        return i;
+    }
+
+    /**
+     * The method transposes a row-major array.
+     *
+     * @param a the row-major array
+     * @param m the number of rows
+     * @param n the number of columns
+     *
+     * @return the row-major transpose
+     */
+    private static double[] transpose(final double[] a, final int m, final int n) {
+        return transpose(a, m, n, n);
+    }
+
+    /**
+     * The method transposes the leading columns of a row-major array.
+     *
+     * @param a the row-major array
+     * @param m the number of rows
+     * @param n the number of columns
+     * @param c the number of the leading columns
+     *
+     * @return the row-major transpose of the leading columns (c x m)
+     */
+    private static double[] transpose(final double[] a, final int m, final int n, final int c) {
+        var t = new double[c * m];
+        for (var i = 0; i < m; i++)
+            for (var j = 0; j < c; j++)
+                t[j * m + i] = a[i * n + j];
+
+        return t;
+    }
+}
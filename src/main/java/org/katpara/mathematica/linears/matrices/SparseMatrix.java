@@ -0,0 +1,1100 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.commons.Memo;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+import org.katpara.mathematica.linears.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.NOT_SPECIFIED;
+
+/**
+ * The class is an implementation of the Matrix interface for the sparse matrices, where
+ * almost all the elements are zero, e.g. the adjacency matrices of graphs or the
+ * stiffness matrices of finite elements.
+ * <p>
+ * The matrix stores only its non-zero elements, in the compressed sparse row (CSR)
+ * format: the values and their columns row after row, and where every row starts.
+ * So the memory, and the time of the operations below, scale with the number of
+ * non-zero elements (nnz) rather than with m x n:
+ * <ul>
+ *     <li>the product with a vector (SpMV), see {@link #multiply(Vector)}, in O(nnz)</li>
+ *     <li>the product with a sparse matrix (SpMM) is again sparse, and the product with
+ *     a dense matrix B of p columns takes O(nnz x p)</li>
+ *     <li>the transpose and the sum or difference with a sparse matrix in O(nnz + m)</li>
+ *     <li>an element, see {@link #get(int, int)}, in O(log(nnz of the row))</li>
+ * </ul>
+ * The factorisations fill the zeros in, so the rank, the determinant, the inverse
+ * and the solutions are calculated on a {@link DoubleArrayMatrix} of the same elements.
+ * <p>
+ * The columns of every row are kept sorted and the zeros are never stored, so two
+ * matrices with the same elements have the same arrays. A matrix is built from
+ * coordinate triples with a {@link Builder}, or from a dense matrix with {@link #of(Matrix)}.
+ * <p>
+ * As in a {@link DoubleArrayMatrix}, the results that take a {@link Rounding.POINT} keep
+ * the full precision, and every element is rounded only once when it is read, so a
+ * product reads the same whether its operands are sparse or dense. The elements that
+ * are read as zero are still stored.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class SparseMatrix implements Matrix {
+
+    /**
+     * The dimension of the matrix
+     */
+    private final int[] d;
+
+    /**
+     * The start of every row in x and v, the last one is the number of non-zeros
+     */
+    private final int[] p;
+
+    /**
+     * The columns of the non-zero elements
+     */
+    private final int[] x;
+
+    /**
+     * The non-zero elements
+     */
+    private final double[] v;
+
+    /**
+     * The decimal points the elements are rounded to when they are read
+     */
+    private final Rounding.POINT r;
+
+    /**
+     * Useful to cache some of the calculated properties
+     */
+    private final Cache c = new Cache();
+
+    /**
+     * The constructor creates a matrix out of the compressed rows, which are not copied.
+     * The columns of every row must be sorted, and the values must not be zero.
+     *
+     * @param m the number of rows
+     * @param n the number of columns
+     * @param p the start of every row
+     * @param x the columns
+     * @param v the values
+     *
+     * @throws InvalidMatrixDimensionException when matrix doesn't have at least one element
+     */
+    SparseMatrix(final int m, final int n, final int[] p, final int[] x, final double[] v) {
+        this(m, n, p, x, v, Rounding.POINT.NONE);
+    }
+
+    /**
+     * The constructor creates a matrix out of the compressed rows in the full precision,
+     * whose elements are rounded to the given decimal points when they are read.
+     * The rows are not copied.
+     *
+     * @param m the number of rows
+     * @param n the number of columns
+     * @param p the start of every row
+     * @param x the columns
+     * @param v the values
+     * @param r the decimal points to round the elements to
+     *
+     * @throws InvalidMatrixDimensionException when matrix doesn't have at least one element
+     */
+    SparseMatrix(final int m, final int n, final int[] p, final int[] x, final double[] v, final Rounding.POINT r) {
+        if (m < 1 || n < 1)
+            throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+        this.d = new int[]{m, n};
+        this.p = p;
+        this.x = x;
+        this.v = v;
+        this.r = r;
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public int[] getDimension() {
+        return d.clone();
+    }
+
+    /**
+     * The method returns the number of non-zero elements.
+     *
+     * @return the number of non-zero elements
+     */
+    public int getNonZeros() {
+        return p[d[0]];
+    }
+
+    /**
+     * The method returns all the elements of a matrix, they are built on every call.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public Number[][] toArray() {
+        return toDoubleArrayMatrix().toArray();
+    }
+
+    /**
+     * The method returns all the elements in the row-major order, zeros included,
+     * as they are read, i.e. rounded to the decimal points of the matrix.
+     *
+     * @return the row-major elements
+     */
+    public double[] toDoubleArray() {
+        return Rounding.round(expand(), r);
+    }
+
+    /**
+     * The method returns all the elements in the row-major order, zeros included,
+     * in the full precision.
+     *
+     * @return the row-major elements
+     */
+    double[] expand() {
+        var e = new double[d[0] * d[1]];
+        for (var i = 0; i < d[0]; i++)
+            for (var k = p[i]; k < p[i + 1]; k++)
+                e[i * d[1] + x[k]] = v[k];
+
+        return e;
+    }
+
+    /**
+     * The method returns the decimal places the elements are rounded to when they are read.
+     *
+     * @return the rounding point
+     */
+    Rounding.POINT getRounding() {
+        return r;
+    }
+
+    /**
+     * The method converts the matrix into a dense {@link DoubleArrayMatrix}, with the
+     * same rounding.
+     *
+     * @return the dense matrix
+     */
+    public DoubleArrayMatrix toDoubleArrayMatrix() {
+        return new DoubleArrayMatrix(expand(), d[0], d[1], NOT_SPECIFIED, r);
+    }
+
+    /**
+     * The method returns a single element of a matrix, it is looked up with a binary
+     * search through the non-zero elements of the row.
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the element at the given row and column
+     *
+     * @throws IndexOutOfBoundsException if the indices are outside the matrix
+     */
+    @Override
+    public double get(final int i, final int j) {
+        Objects.checkIndex(i, d[0]);
+        Objects.checkIndex(j, d[1]);
+
+        return Rounding.roundToDouble(at(i, j), r);
+    }
+
+    /**
+     * The method returns a single element in the full precision.
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the element at the given row and column
+     */
+    private double at(final int i, final int j) {
+        var k = Arrays.binarySearch(x, p[i], p[i + 1], j);
+        return (k < 0) ? 0 : v[k];
+    }
+
+    /**
+     * The method returns all the elements as a list of lists, they are built on every call.
+     *
+     * @return the matrix elements as a list of lists
+     */
+    @Override
+    public List<List<Number>> toList() {
+        return toDoubleArrayMatrix().toList();
+    }
+
+    /**
+     * The method returns the list of Vectors, they are built on every call.
+     *
+     * @return the matrix elements as a list of vectors
+     */
+    @Override
+    public List<Vector> toArrayVectors() {
+        return toDoubleArrayMatrix().toArrayVectors();
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * row vector, which is 1 x n
+     *
+     * @return true if it is a row vector
+     */
+    @Override
+    public boolean isRowVector() {
+        return d[0] == 1 && d[1] > 1;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * column vector, which is n x 1.
+     *
+     * @return true if it is a column vector
+     */
+    @Override
+    public boolean isColumnVector() {
+        return d[0] > 1 && d[1] == 1;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * square matrix, which is n x n.
+     *
+     * @return true if it is a square matrix
+     */
+    @Override
+    public boolean isSquareMatrix() {
+        return d[0] == d[1];
+    }
+
+    /**
+     * The trace of the matrix is defined as the sum of all the elements,
+     * on the main diagonal.
+     *
+     * @return the trace of the matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getTrace() {
+        return getTrace(Rounding.POINT.TEN);
+    }
+
+    /**
+     * The trace of the matrix is defined as the sum of all the elements,
+     * on the main diagonal.
+     *
+     * @param p the decimal places for the precision
+     *
+     * @return the trace of the matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getTrace(final Rounding.POINT p) {
+        if (!isSquareMatrix())
+            throw new InvalidMatrixOperationException("The matrix is not a square matrix.");
+
+        var t = 0.0;
+        for (var i = 0; i < d[0]; i++)
+            t += at(i, i);
+
+        return Rounding.roundToDouble(t, p);
+    }
+
+    /**
+     * A rank of a matrix is independent rows of a matrix, it is calculated
+     * on the dense matrix.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public int getRank() {
+        return c.r.get(() -> toDoubleArrayMatrix().getRank());
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     *
+     * @return the determinant of the square matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getDeterminant() {
+        return getDeterminant(Rounding.POINT.TEN);
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is calculated from the LU decomposition.
+     *
+     * @param p the decimal point accuracy
+     *
+     * @return the determinant of the square matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getDeterminant(final Rounding.POINT p) {
+        return Rounding.roundToDouble(getLUDecomposition().getDeterminant(), p);
+    }
+
+    /**
+     * The method returns the LU decomposition of a square matrix with partial
+     * pivoting, of the dense elements. It is calculated only once and cached.
+     *
+     * @return the LU decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public LUDecomposition getLUDecomposition() {
+        return c.l.get(() -> {
+            if (!isSquareMatrix())
+                throw new InvalidMatrixOperationException("The matrix is not a square matrix");
+
+            return new LUDecomposition(expand(), d[0]);
+        });
+    }
+
+    /**
+     * The method transposes the matrix, the transpose is again sparse. The elements are
+     * sorted by their columns with a counting sort, which keeps the rows in order.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public Matrix transpose() {
+        int m = d[0], n = d[1], nz = p[m];
+        var tp = new int[n + 1];
+
+        for (var k = 0; k < nz; k++)
+            tp[x[k] + 1]++;
+
+        for (var j = 0; j < n; j++)
+            tp[j + 1] += tp[j];
+
+        var next = Arrays.copyOf(tp, n);
+        int[] tx = new int[nz];
+        double[] tv = new double[nz];
+
+        for (var i = 0; i < m; i++)
+            for (var k = p[i]; k < p[i + 1]; k++) {
+                var t = next[x[k]]++;
+                tx[t] = i;
+                tv[t] = v[k];
+            }
+
+        return new SparseMatrix(n, m, tp, tx, tv, r);
+    }
+
+    /**
+     * The method will return an inverse matrix of a given matrix.
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix inverse() {
+        return inverse(Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will return an inverse matrix of a given matrix, the inverse of a
+     * sparse matrix is dense in general, so it is a {@link DoubleArrayMatrix}.
+     *
+     * @param p The efficiency to the given decimal places
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix inverse(final Rounding.POINT p) {
+        return new DoubleArrayMatrix(getLUDecomposition().inverse(), d[0], d[0], NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method solves the linear system Ax = b with the cached LU decomposition.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b) {
+        return solve(b, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method solves the linear system Ax = b with the cached LU decomposition.
+     *
+     * @param b the right-hand side
+     * @param p the decimal places to round the solution to
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b, final Rounding.POINT p) {
+        return new DoubleArrayVector(Rounding.round(getLUDecomposition().solve(DoubleArrayMatrix.elements(b), 1), p));
+    }
+
+    /**
+     * The method solves the linear systems AX = B with the cached LU decomposition.
+     *
+     * @param b the right-hand sides
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b) {
+        return solve(b, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method solves the linear systems AX = B with the cached LU decomposition.
+     *
+     * @param b the right-hand sides
+     * @param p the decimal places to round the solutions to
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b, final Rounding.POINT p) {
+        var k = b.getDimension()[1];
+        var _x = getLUDecomposition().solve(DoubleArrayMatrix.elements(b), k);
+
+        return new DoubleArrayMatrix(_x, d[0], k, NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method performs a scalar addition on a square matrix,
+     * i.e. M + a = M + a(I), where I is an identity matrix.
+     *
+     * @param s the scalar to add
+     *
+     * @return the resulting sparse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public Matrix add(final Number s) {
+        if (!isSquareMatrix())
+            throw new InvalidMatrixOperationException("Scalar addition is only for square matrices.");
+
+        var n = d[0];
+        var _s = s.doubleValue();
+        if (_s == 0)
+            return this;
+
+        int[] ip = new int[n + 1], ix = new int[n];
+        var iv = new double[n];
+        for (var i = 0; i < n; i++) {
+            ip[i + 1] = i + 1;
+            ix[i] = i;
+            iv[i] = _s;
+        }
+
+        return merge(new SparseMatrix(n, n, ip, ix, iv), 1);
+    }
+
+    /**
+     * The method adds two matrices together, the sum with a sparse matrix is
+     * sparse, otherwise it is a {@link DoubleArrayMatrix}.
+     *
+     * @param m the matrix to add
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        return addSubtract(m, 1);
+    }
+
+    /**
+     * The method subtracts two matrices, the difference with a sparse matrix is
+     * sparse, otherwise it is a {@link DoubleArrayMatrix}.
+     *
+     * @param m the matrix to subtract
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        return addSubtract(m, -1);
+    }
+
+    /**
+     * The method calculates this + s x m.
+     *
+     * @param m the other matrix
+     * @param s 1 to add, -1 to subtract
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    private Matrix addSubtract(final Matrix m, final int s) {
+        if (!Arrays.equals(d, m.getDimension()))
+            throw new InvalidMatrixOperationException("Matrices dimensions must be the same.");
+
+        if (m instanceof SparseMatrix)
+            return merge((SparseMatrix) m, s);
+
+        var e = DoubleArrayMatrix.elements(m).clone();
+        for (var i = 0; i < e.length; i++)
+            e[i] *= s;
+
+        for (var i = 0; i < d[0]; i++)
+            for (var k = p[i]; k < p[i + 1]; k++)
+                e[i * d[1] + x[k]] += v[k];
+
+        return new DoubleArrayMatrix(e, d[0], d[1], NOT_SPECIFIED);
+    }
+
+    /**
+     * The method merges the sorted rows of two sparse matrices of the same dimension,
+     * it calculates this + s x b.
+     *
+     * @param b the other matrix
+     * @param s 1 to add, -1 to subtract
+     *
+     * @return the resulting sparse matrix
+     */
+    private SparseMatrix merge(final SparseMatrix b, final int s) {
+        var m = d[0];
+        var rp = new int[m + 1];
+        var rx = new int[p[m] + b.p[m]];
+        var rv = new double[rx.length];
+        var nz = 0;
+
+        for (var i = 0; i < m; i++) {
+            int ka = p[i], kb = b.p[i], ea = p[i + 1], eb = b.p[i + 1];
+
+            while (ka < ea || kb < eb) {
+                int j;
+                double sum;
+
+                if (kb == eb || (ka < ea && x[ka] < b.x[kb])) {
+                    j = x[ka];
+                    sum = v[ka++];
+                } else if (ka == ea || b.x[kb] < x[ka]) {
+                    j = b.x[kb];
+                    sum = s * b.v[kb++];
+                } else {
+                    j = x[ka];
+                    sum = v[ka++] + s * b.v[kb++];
+                }
+
+                if (sum != 0) {
+                    rx[nz] = j;
+                    rv[nz++] = sum;
+                }
+            }
+
+            rp[i + 1] = nz;
+        }
+
+        return new SparseMatrix(m, d[1], rp, Arrays.copyOf(rx, nz), Arrays.copyOf(rv, nz));
+    }
+
+    /**
+     * The method will perform a scalar multiplication on a matrix and returns a new matrix.
+     *
+     * @param s a scalar to scale the matrix with
+     *
+     * @return a new scaled sparse matrix
+     */
+    @Override
+    public Matrix multiply(final Number s) {
+        return multiply(s, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on a matrix and returns a new matrix.
+     * The products keep the full precision, and they are rounded when they are read.
+     *
+     * @param s a scalar to scale the matrix with
+     * @param p the rounding to the given decimal points
+     *
+     * @return a new scaled sparse matrix
+     */
+    @Override
+    public Matrix multiply(final Number s, final Rounding.POINT p) {
+        var m = d[0];
+        var _s = s.doubleValue();
+        int[] rp = new int[m + 1], rx = new int[this.p[m]];
+        var rv = new double[rx.length];
+        var nz = 0;
+
+        for (var i = 0; i < m; i++) {
+            for (var k = this.p[i]; k < this.p[i + 1]; k++) {
+                var e = v[k] * _s;
+                if (e != 0) {
+                    rx[nz] = x[k];
+                    rv[nz++] = e;
+                }
+            }
+
+            rp[i + 1] = nz;
+        }
+
+        return new SparseMatrix(m, d[1], rp, Arrays.copyOf(rx, nz), Arrays.copyOf(rv, nz), p);
+    }
+
+    /**
+     * The method will perform a matrix multiplication of a matrix and returns a new Matrix.
+     *
+     * @param m the matrix to multiply
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        return multiply(m, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will perform a matrix multiplication of a matrix and returns a new Matrix.
+     * <p>
+     * The product of two sparse matrices is sparse, it is calculated row by row, where
+     * every row of the result gathers the rows of the other matrix picked by the non-zero
+     * elements of the row of this matrix. The product with any other matrix is dense,
+     * every non-zero element adds a scaled row of the other matrix to the result. Either
+     * way the products keep the full precision, and they are rounded when they are read.
+     *
+     * @param m the matrix to multiply
+     * @param p the decimal precision
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m, final Rounding.POINT p) {
+        var _d = m.getDimension();
+
+        if (d[1] != _d[0])
+            throw new InvalidMatrixOperationException("the rows and columns don't match");
+
+        if (m instanceof SparseMatrix)
+            return multiply((SparseMatrix) m, p);
+
+        int q = _d[1];
+        var b = DoubleArrayMatrix.elements(m);
+        var r = new double[d[0] * q];
+
+        for (var i = 0; i < d[0]; i++)
+            for (var k = this.p[i]; k < this.p[i + 1]; k++)
+                Kernels.axpy(v[k], b, x[k] * q, r, i * q, q);
+
+        return new DoubleArrayMatrix(r, d[0], q, NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method multiplies two sparse matrices, the row i of the result is accumulated
+     * in a dense array of the width of b, and only the touched non-zero columns are collected.
+     *
+     * @param b the other sparse matrix
+     * @param p the decimal precision
+     *
+     * @return the resulting sparse matrix
+     */
+    private SparseMatrix multiply(final SparseMatrix b, final Rounding.POINT p) {
+        int m = d[0], q = b.d[1];
+        var w = new double[q];
+        var mark = new int[q];
+        var cols = new int[q];
+        var rp = new int[m + 1];
+        var rx = new int[Math.max(16, this.p[m] + b.p[b.d[0]])];
+        var rv = new double[rx.length];
+        var nz = 0;
+
+        Arrays.fill(mark, -1);
+
+        for (var i = 0; i < m; i++) {
+            var n = 0;
+
+            for (var k = this.p[i]; k < this.p[i + 1]; k++) {
+                var a = v[k];
+                for (var t = b.p[x[k]]; t < b.p[x[k] + 1]; t++) {
+                    var j = b.x[t];
+                    if (mark[j] != i) {
+                        mark[j] = i;
+                        w[j] = a * b.v[t];
+                        cols[n++] = j;
+                    } else {
+                        w[j] += a * b.v[t];
+                    }
+                }
+            }
+
+            Arrays.sort(cols, 0, n);
+
+            if (nz + n > rx.length) {
+                var l = Math.max(nz + n, rx.length * 2);
+                rx = Arrays.copyOf(rx, l);
+                rv = Arrays.copyOf(rv, l);
+            }
+
+            for (var t = 0; t < n; t++) {
+                var e = w[cols[t]];
+                if (e != 0) {
+                    rx[nz] = cols[t];
+                    rv[nz++] = e;
+                }
+            }
+
+            rp[i + 1] = nz;
+        }
+
+        return new SparseMatrix(m, q, rp, Arrays.copyOf(rx, nz), Arrays.copyOf(rv, nz), p);
+    }
+
+    /**
+     * The method multiplies a dense matrix with this matrix from the left, i.e. A x this,
+     * every non-zero element A(i, k) adds the row k of this matrix, scaled, to the row i
+     * of the result.
+     *
+     * @param a the row-major elements of A
+     * @param m the number of rows of A, the number of its columns must be the number
+     *          of rows of this matrix
+     * @param p the decimal precision
+     *
+     * @return the resulting dense matrix
+     */
+    Matrix multiplyLeft(final double[] a, final int m, final Rounding.POINT p) {
+        int n = d[0], q = d[1];
+        var r = new double[m * q];
+
+        for (var i = 0; i < m; i++)
+            for (var k = 0; k < n; k++) {
+                var f = a[i * n + k];
+                if (f != 0)
+                    for (var t = this.p[k]; t < this.p[k + 1]; t++)
+                        r[i * q + x[t]] += f * v[t];
+            }
+
+        return new DoubleArrayMatrix(r, m, q, NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method multiplies the matrix with a vector (SpMV), i.e. Ax, in O(nnz).
+     *
+     * @param b the vector x, its dimension must be the number of columns
+     *
+     * @return the resulting vector
+     *
+     * @throws InvalidMatrixOperationException if the dimension of the vector doesn't match
+     */
+    public DoubleArrayVector multiply(final Vector b) {
+        if (b.getDimension() != d[1])
+            throw new InvalidMatrixOperationException("The dimensions don't match");
+
+        var _x = DoubleArrayMatrix.elements(b);
+        var r = new double[d[0]];
+
+        for (var i = 0; i < d[0]; i++) {
+            var sum = 0.0;
+            for (var k = p[i]; k < p[i + 1]; k++)
+                sum += v[k] * _x[x[k]];
+
+            r[i] = sum;
+        }
+
+        return new DoubleArrayVector(r);
+    }
+
+    /**
+     * The method converts any matrix into a sparse matrix, only its non-zero
+     * elements are kept.
+     *
+     * @param m the matrix to convert
+     *
+     * @return the sparse matrix
+     */
+    public static SparseMatrix of(final Matrix m) {
+        if (m instanceof SparseMatrix)
+            return (SparseMatrix) m;
+
+        var _d = m.getDimension();
+        var e = DoubleArrayMatrix.elements(m);
+        var b = new Builder(_d[0], _d[1]);
+
+        for (var i = 0; i < _d[0]; i++)
+            for (var j = 0; j < _d[1]; j++)
+                if (e[i * _d[1] + j] != 0)
+                    b.add(i, j, e[i * _d[1] + j]);
+
+        var s = b.build();
+        if (m instanceof DoubleArrayMatrix)
+            return new SparseMatrix(_d[0], _d[1], s.p, s.x, s.v, ((DoubleArrayMatrix) m).getRounding());
+
+        return s;
+    }
+
+    /**
+     * The method creates a sparse matrix out of the coordinate triples (i, j, value),
+     * the values of the same coordinates are summed.
+     *
+     * @param m the number of rows
+     * @param n the number of columns
+     * @param i the rows
+     * @param j the columns
+     * @param e the values
+     *
+     * @return the sparse matrix
+     *
+     * @throws InvalidMatrixDimensionException   when matrix doesn't have at least one element
+     * @throws InvalidParameterProvidedException when the arrays have different lengths
+     * @throws IndexOutOfBoundsException         when a coordinate is outside the matrix
+     */
+    public static SparseMatrix of(final int m, final int n, final int[] i, final int[] j, final double[] e) {
+        if (i.length != j.length || i.length != e.length)
+            throw new InvalidParameterProvidedException("The coordinates and the values have different lengths");
+
+        var b = new Builder(m, n);
+        for (var k = 0; k < i.length; k++)
+            b.add(i[k], j[k], e[k]);
+
+        return b.build();
+    }
+
+    /**
+     * The method creates a builder of a sparse matrix.
+     *
+     * @param m the number of rows
+     * @param n the number of columns
+     *
+     * @return the builder
+     *
+     * @throws InvalidMatrixDimensionException when matrix doesn't have at least one element
+     */
+    public static Builder builder(final int m, final int n) {
+        return new Builder(m, n);
+    }
+
+    /**
+     * The class collects the coordinate triples (i, j, value) of a sparse matrix in
+     * any order, the values of the same coordinates are summed. The triples are sorted
+     * into the rows by two counting sorts, in O(nnz + m + n).
+     */
+    public static final class Builder {
+        private final int m, n;
+        private int[] i = new int[16], j = new int[16];
+        private double[] e = new double[16];
+        private int size;
+
+        private Builder(final int m, final int n) {
+            if (m < 1 || n < 1)
+                throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+            this.m = m;
+            this.n = n;
+        }
+
+        /**
+         * The method adds a value at the given coordinates, to whatever was added there before.
+         *
+         * @param i the row
+         * @param j the column
+         * @param e the value
+         *
+         * @return the builder
+         *
+         * @throws IndexOutOfBoundsException when the coordinates are outside the matrix
+         */
+        public Builder add(final int i, final int j, final double e) {
+            Objects.checkIndex(i, m);
+            Objects.checkIndex(j, n);
+
+            if (size == this.i.length) {
+                this.i = Arrays.copyOf(this.i, size * 2);
+                this.j = Arrays.copyOf(this.j, size * 2);
+                this.e = Arrays.copyOf(this.e, size * 2);
+            }
+
+            this.i[size] = i;
+            this.j[size] = j;
+            this.e[size++] = e;
+            return this;
+        }
+
+        /**
+         * The method builds the sparse matrix, the zeros are dropped.
+         *
+         * @return the sparse matrix
+         */
+        public SparseMatrix build() {
+            // Sort by the columns first, then by the rows, the second sort is stable
+            var cp = new int[n + 1];
+            for (var k = 0; k < size; k++)
+                cp[j[k] + 1]++;
+            for (var k = 0; k < n; k++)
+                cp[k + 1] += cp[k];
+
+            var byColumn = new int[size];
+            for (var k = 0; k < size; k++)
+                byColumn[cp[j[k]]++] = k;
+
+            var rp = new int[m + 1];
+            for (var k = 0; k < size; k++)
+                rp[i[k] + 1]++;
+            for (var k = 0; k < m; k++)
+                rp[k + 1] += rp[k];
+
+            // The starts move forward, so every rp[r] ends up at the end of the row r
+            var order = new int[size];
+            for (var k : byColumn)
+                order[rp[i[k]]++] = k;
+
+            int[] p = new int[m + 1], x = new int[size];
+            var v = new double[size];
+            int nz = 0, t = 0;
+
+            for (var r = 0; r < m; r++) {
+                while (t < rp[r]) {
+                    var k = order[t++];
+                    var sum = e[k];
+
+                    while (t < rp[r] && j[order[t]] == j[k])
+                        sum += e[order[t++]];
+
+                    if (sum != 0) {
+                        x[nz] = j[k];
+                        v[nz++] = sum;
+                    }
+                }
+
+                p[r + 1] = nz;
+            }
+
+            return new SparseMatrix(m, n, p, Arrays.copyOf(x, nz), Arrays.copyOf(v, nz));
+        }
+    }
+
+    /*
+     * The class caches some properties of a given matrix to save computation.
+     */
+    private static class Cache {
+        private final Memo<Integer> r = new Memo<>();
+        private final Memo<LUDecomposition> l = new Memo<>();
+    }
+
+    /**
+     * Returns a string representation of the object, the non-zero
+     * elements one per line, as (i, j) value.
+     *
+     * @return a string representation of the object.
+     */
+    public String toString() {
+        var s = new StringBuilder();
+        for (var i = 0; i < d[0]; i++)
+            for (var k = p[i]; k < p[i + 1]; k++) {
+                var e = Rounding.roundToDouble(v[k], r);
+                if (e != 0)
+                    s.append("(").append(i).append(", ").append(x[k]).append(") ").append(e).append("\n");
+            }
+
+        return s.toString();
+    }
+
+    /**
+     * Returns a hash code value for the object, calculated from
+     * the dimension and the non-zero elements, as they are read.
+     *
+     * @return a hash code value for this object.
+     *
+     * @see Object#equals(Object)
+     */
+    public int hashCode() {
+        var hash = Arrays.hashCode(d);
+        for (var i = 0; i < d[0]; i++)
+            for (var k = p[i]; k < p[i + 1]; k++) {
+                var e = Rounding.roundToDouble(v[k], r);
+                if (e != 0)
+                    hash = 31 * (31 * hash + i * d[1] + x[k]) + Double.hashCode(e);
+            }
+
+        return hash;
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     * Two sparse matrices are equal when they have the same dimension
+     * and the same non-zero elements, as they are read (rounded).
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     *
+     * @see #hashCode()
+     */
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        var that = (SparseMatrix) obj;
+        if (!Arrays.equals(d, that.d)) return false;
+
+        for (var i = 0; i < d[0]; i++) {
+            int ka = p[i], kb = that.p[i], ea = p[i + 1], eb = that.p[i + 1];
+
+            while (true) {
+                // The elements read as zero aren't there
+                while (ka < ea && Rounding.roundToDouble(v[ka], r) == 0) ka++;
+                while (kb < eb && Rounding.roundToDouble(that.v[kb], that.r) == 0) kb++;
+
+                if (ka == ea || kb == eb) {
+                    if (ka != ea || kb != eb) return false;
+                    break;
+                }
+
+                if (x[ka] != that.x[kb]
+                            || Rounding.roundToDouble(v[ka++], r) != Rounding.roundToDouble(that.v[kb++], that.r))
+                    return false;
+            }
+        }
+
+        return true;
+    }
+}
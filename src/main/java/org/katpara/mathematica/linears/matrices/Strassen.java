@@ -0,0 +1,234 @@
+package org.katpara.mathematica.linears.matrices;
+
+/**
+ * The class multiplies two large row-major arrays with the recursive Strassen's algorithm.
+ * <p>
+ * Every level cuts A, B and C into four quadrants and replaces the eight products of
+ * the quadrants with seven, at the cost of eighteen additions of quadrants. It saves
+ * an eighth of the multiplications per level, but the additions only pay off for large
+ * quadrants, so the recursion stops at the crossover and the quadrants are multiplied
+ * by the blocked kernel, see {@link Multiplication}.
+ * <p>
+ * Odd dimensions are peeled, the even leading part is multiplied recursively and the
+ * last row, column and inner product are fixed up with the kernel afterwards.
+ * <p>
+ * The algorithm is not as stable as the classic product, the error bound grows with
+ * the depth of the recursion, so the results may differ from the kernel in the last
+ * few bits.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+final class Strassen {
+
+    /**
+     * The smallest dimension from which the recursion goes one level deeper,
+     * measured with the StrassenBenchmark
+     */
+    static final int CROSSOVER = 768;
+
+    private Strassen() {
+    }
+
+    /**
+     * The method multiplies two row-major arrays and returns a new row-major array.
+     * The recursion is used only when all the dimensions reach the crossover.
+     *
+     * @param a the row-major elements of A (m x n)
+     * @param b the row-major elements of B (n x p)
+     * @param m the number of rows of A
+     * @param n the number of columns of A and rows of B
+     * @param p the number of columns of B
+     *
+     * @return the row-major elements of C = AB (m x p)
+     */
+    static double[] multiply(final double[] a, final double[] b, final int m, final int n, final int p) {
+        return multiply(a, b, m, n, p, CROSSOVER);
+    }
+
+    /**
+     * The method multiplies two row-major arrays with the given crossover.
+     *
+     * @param a the row-major elements of A (m x n)
+     * @param b the row-major elements of B (n x p)
+     * @param m the number of rows of A
+     * @param n the number of columns of A and rows of B
+     * @param p the number of columns of B
+     * @param x the crossover, the smallest dimension that is still split
+     *
+     * @return the row-major elements of C = AB (m x p)
+     */
+    static double[] multiply(final double[] a, final double[] b, final int m, final int n, final int p,
+                             final int x) {
+        var c = new double[m * p];
+        multiply(a, 0, n, b, 0, p, c, 0, p, m, n, p, x);
+        return c;
+    }
+
+    /**
+     * The method calculates C = AB, where all three arrays are described with an offset
+     * and a leading dimension. Unlike the kernel, it overwrites C.
+     *
+     * @param a   the elements of A
+     * @param ao  the offset of A
+     * @param lda the leading dimension of A
+     * @param b   the elements of B
+     * @param bo  the offset of B
+     * @param ldb the leading dimension of B
+     * @param c   the elements of C
+     * @param co  the offset of C
+     * @param ldc the leading dimension of C
+     * @param m   the number of rows of A and C
+     * @param n   the number of columns of A and rows of B
+     * @param p   the number of columns of B and C
+     * @param x   the crossover
+     */
+    private static void multiply(final double[] a, final int ao, final int lda,
+                                 final double[] b, final int bo, final int ldb,
+                                 final double[] c, final int co, final int ldc,
+                                 final int m, final int n, final int p, final int x) {
+        if (m < x || n < x || p < x) {
+            zero(c, co, ldc, m, p);
+            Multiplication.multiply(a, ao, lda, b, bo, ldb, c, co, ldc, m, n, p);
+            return;
+        }
+
+        int h = m / 2, k = n / 2, w = p / 2;
+        int a12 = ao + k, a21 = ao + h * lda, a22 = a21 + k,
+                b12 = bo + w, b21 = bo + k * ldb, b22 = b21 + w,
+                c12 = co + w, c21 = co + h * ldc, c22 = c21 + w;
+        double[] ta = new double[h * k], tb = new double[k * w], t = new double[h * w];
+
+        // M1 = (A11 + A22)(B11 + B22), C11 = M1, C22 = M1
+        sum(a, ao, lda, a, a22, lda, 1, ta, h, k);
+        sum(b, bo, ldb, b, b22, ldb, 1, tb, k, w);
+        multiply(ta, 0, k, tb, 0, w, t, 0, w, h, k, w, x);
+        put(t, 0, c, co, ldc, h, w);
+        put(t, 0, c, c22, ldc, h, w);
+
+        // M2 = (A21 + A22)B11, C21 = M2, C22 -= M2
+        sum(a, a21, lda, a, a22, lda, 1, ta, h, k);
+        multiply(ta, 0, k, b, bo, ldb, t, 0, w, h, k, w, x);
+        put(t, 0, c, c21, ldc, h, w);
+        put(t, -1, c, c22, ldc, h, w);
+
+        // M3 = A11(B12 - B22), C12 = M3, C22 += M3
+        sum(b, b12, ldb, b, b22, ldb, -1, tb, k, w);
+        multiply(a, ao, lda, tb, 0, w, t, 0, w, h, k, w, x);
+        put(t, 0, c, c12, ldc, h, w);
+        put(t, 1, c, c22, ldc, h, w);
+
+        // M4 = A22(B21 - B11), C11 += M4, C21 += M4
+        sum(b, b21, ldb, b, bo, ldb, -1, tb, k, w);
+        multiply(a, a22, lda, tb, 0, w, t, 0, w, h, k, w, x);
+        put(t, 1, c, co, ldc, h, w);
+        put(t, 1, c, c21, ldc, h, w);
+
+        // M5 = (A11 + A12)B22, C11 -= M5, C12 += M5
+        sum(a, ao, lda, a, a12, lda, 1, ta, h, k);
+        multiply(ta, 0, k, b, b22, ldb, t, 0, w, h, k, w, x);
+        put(t, -1, c, co, ldc, h, w);
+        put(t, 1, c, c12, ldc, h, w);
+
+        // M6 = (A21 - A11)(B11 + B12), C22 += M6
+        sum(a, a21, lda, a, ao, lda, -1, ta, h, k);
+        sum(b, bo, ldb, b, b12, ldb, 1, tb, k, w);
+        multiply(ta, 0, k, tb, 0, w, t, 0, w, h, k, w, x);
+        put(t, 1, c, c22, ldc, h, w);
+
+        // M7 = (A12 - A22)(B21 + B22), C11 += M7
+        sum(a, a12, lda, a, a22, lda, -1, ta, h, k);
+        sum(b, b21, ldb, b, b22, ldb, 1, tb, k, w);
+        multiply(ta, 0, k, tb, 0, w, t, 0, w, h, k, w, x);
+        put(t, 1, c, co, ldc, h, w);
+
+        // Peel the odd dimensions: the last inner product, the last column, the last row
+        if (n % 2 == 1)
+            Multiplication.multiply(a, ao + n - 1, lda, b, bo + (n - 1) * ldb, ldb, c, co, ldc, 2 * h, 1, 2 * w);
+
+        if (p % 2 == 1) {
+            zero(c, co + p - 1, ldc, m, 1);
+            Multiplication.multiply(a, ao, lda, b, bo + p - 1, ldb, c, co + p - 1, ldc, m, n, 1);
+        }
+
+        if (m % 2 == 1) {
+            zero(c, co + (m - 1) * ldc, ldc, 1, 2 * w);
+            Multiplication.multiply(a, ao + (m - 1) * lda, lda, b, bo, ldb, c, co + (m - 1) * ldc, ldc,
+                    1, n, 2 * w);
+        }
+    }
+
+    /**
+     * The method calculates R = X + sY for two quadrants, and stores R contiguously.
+     *
+     * @param x   the elements of X
+     * @param xo  the offset of X
+     * @param ldx the leading dimension of X
+     * @param y   the elements of Y
+     * @param yo  the offset of Y
+     * @param ldy the leading dimension of Y
+     * @param s   the sign of Y, either 1 or -1
+     * @param r   the array to store R into
+     * @param m   the number of rows
+     * @param n   the number of columns
+     */
+    private static void sum(final double[] x, final int xo, final int ldx,
+                            final double[] y, final int yo, final int ldy,
+                            final int s, final double[] r, final int m, final int n) {
+        for (var i = 0; i < m; i++) {
+            int xi = xo + i * ldx, yi = yo + i * ldy, ri = i * n;
+
+            if (s > 0)
+                for (var j = 0; j < n; j++)
+                    r[ri + j] = x[xi + j] + y[yi + j];
+            else
+                for (var j = 0; j < n; j++)
+                    r[ri + j] = x[xi + j] - y[yi + j];
+        }
+    }
+
+    /**
+     * The method puts a contiguous product T into a quadrant of C. With the sign 0
+     * the quadrant is overwritten, otherwise T is added to or subtracted from it.
+     *
+     * @param t   the product
+     * @param s   the sign, 0 to overwrite, 1 to add, or -1 to subtract
+     * @param c   the elements of C
+     * @param co  the offset of the quadrant
+     * @param ldc the leading dimension of C
+     * @param m   the number of rows
+     * @param n   the number of columns
+     */
+    private static void put(final double[] t, final int s, final double[] c, final int co, final int ldc,
+                            final int m, final int n) {
+        for (var i = 0; i < m; i++) {
+            int ti = i * n, ci = co + i * ldc;
+
+            if (s == 0)
+                System.arraycopy(t, ti, c, ci, n);
+            else if (s > 0)
+                for (var j = 0; j < n; j++)
+                    c[ci + j] += t[ti + j];
+            else
+                for (var j = 0; j < n; j++)
+                    c[ci + j] -= t[ti + j];
+        }
+    }
+
+    /**
+     * The method fills a part of C with zeros.
+     *
+     * @param c   the elements of C
+     * @param co  the offset of the part
+     * @param ldc the leading dimension of C
+     * @param m   the number of rows
+     * @param n   the number of columns
+     */
+    private static void zero(final double[] c, final int co, final int ldc, final int m, final int n) {
+        for (var i = 0; i < m; i++) {
+            var ci = co + i * ldc;
+            for (var j = 0; j < n; j++)
+                c[ci + j] = 0;
+        }
+    }
+}
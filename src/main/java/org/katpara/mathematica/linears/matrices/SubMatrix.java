@@ -0,0 +1,653 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.commons.Memo;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.NOT_SPECIFIED;
+
+/**
+ * The class is a view of a rectangular part of another matrix, it is what
+ * {@link Matrix#subMatrix(int, int, int, int)}, {@link Matrix#row(int)} and
+ * {@link Matrix#column(int)} return.
+ * <p>
+ * The view shares the storage of the matrix it is taken from, so slicing takes O(1)
+ * time and memory whatever the size of the part is, and so does a view of a view, which
+ * refers straight to the original matrix. A part of a {@link DoubleArrayMatrix} reads
+ * the row-major array of the matrix with the row stride of the whole matrix, a part of
+ * any other matrix reads its elements through {@link Matrix#get(int, int)}.
+ * <p>
+ * A part of a {@link DoubleArrayMatrix} is multiplied by the multiplication kernel
+ * in place, from either side, since the kernel takes an offset and a leading dimension
+ * of every operand. The sums copy the rows of the part once into the result. The rest
+ * of the operations, e.g. the decompositions, the inverse and the solutions, work on
+ * a {@link DoubleArrayMatrix} of the part, which is copied on the first use and cached.
+ * The results are {@link DoubleArrayMatrix} matrices.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+final class SubMatrix implements Matrix {
+
+    /**
+     * The matrix the part is taken from
+     */
+    private final Matrix s;
+
+    /**
+     * The row-major elements of the matrix, when it is a {@link DoubleArrayMatrix}
+     */
+    private final double[] e;
+
+    /**
+     * The number of columns of the matrix, i.e. the row stride of e
+     */
+    private final int ld;
+
+    /**
+     * The first row and column of the part
+     */
+    private final int r0, c0;
+
+    /**
+     * The dimension of the part
+     */
+    private final int[] d;
+
+    /**
+     * The rounding of the elements
+     */
+    private final Rounding.POINT r;
+
+    /**
+     * The copy of the part
+     */
+    private final Memo<DoubleArrayMatrix> c = new Memo<>();
+
+    private SubMatrix(final Matrix s, final int r0, final int c0, final int m, final int n) {
+        this.s = s;
+        this.r0 = r0;
+        this.c0 = c0;
+        this.d = new int[]{m, n};
+
+        if (s instanceof DoubleArrayMatrix) {
+            e = DoubleArrayMatrix.elements(s);
+            ld = s.getDimension()[1];
+            r = ((DoubleArrayMatrix) s).getRounding();
+        } else {
+            e = null;
+            ld = 0;
+            r = Rounding.POINT.NONE;
+        }
+    }
+
+    /**
+     * The method creates a view of the rows r0 to r1 - 1 and the columns c0 to c1 - 1.
+     *
+     * @param m  the matrix
+     * @param r0 the first row, inclusive
+     * @param r1 the last row, exclusive
+     * @param c0 the first column, inclusive
+     * @param c1 the last column, exclusive
+     *
+     * @return the view
+     *
+     * @throws IndexOutOfBoundsException       if the range is outside the matrix
+     * @throws InvalidMatrixDimensionException if the range is empty
+     */
+    static SubMatrix of(final Matrix m, final int r0, final int r1, final int c0, final int c1) {
+        var _d = m.getDimension();
+        Objects.checkFromToIndex(r0, r1, _d[0]);
+        Objects.checkFromToIndex(c0, c1, _d[1]);
+
+        if (r0 == r1 || c0 == c1)
+            throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+        if (m instanceof SubMatrix) {
+            var v = (SubMatrix) m;
+            return new SubMatrix(v.s, v.r0 + r0, v.c0 + c0, r1 - r0, c1 - c0);
+        }
+
+        return new SubMatrix(m, r0, c0, r1 - r0, c1 - c0);
+    }
+
+    /**
+     * The method returns the copy of the part, it is created on the first call.
+     *
+     * @return the copy
+     */
+    DoubleArrayMatrix dense() {
+        return c.get(() -> new DoubleArrayMatrix(toDoubleArray(), d[0], d[1], NOT_SPECIFIED, r));
+    }
+
+    /**
+     * The method copies the elements of the part into a new row-major array,
+     * in the full precision.
+     *
+     * @return the row-major elements
+     */
+    private double[] toDoubleArray() {
+        var n = new double[d[0] * d[1]];
+
+        for (var i = 0; i < d[0]; i++)
+            if (e != null)
+                System.arraycopy(e, (r0 + i) * ld + c0, n, i * d[1], d[1]);
+            else
+                for (var j = 0; j < d[1]; j++)
+                    n[i * d[1] + j] = s.get(r0 + i, c0 + j);
+
+        return n;
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public int[] getDimension() {
+        return d.clone();
+    }
+
+    /**
+     * The method returns all the elements of a matrix.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public Number[][] toArray() {
+        return dense().toArray();
+    }
+
+    /**
+     * The method returns a single element of a matrix, it is read from the
+     * shared storage.
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the element at the given row and column
+     *
+     * @throws IndexOutOfBoundsException if the indices are outside the part
+     */
+    @Override
+    public double get(final int i, final int j) {
+        Objects.checkIndex(i, d[0]);
+        Objects.checkIndex(j, d[1]);
+
+        return (e != null) ? Rounding.roundToDouble(e[(r0 + i) * ld + c0 + j], r) : s.get(r0 + i, c0 + j);
+    }
+
+    /**
+     * The method returns all the elements as a list of lists.
+     *
+     * @return the matrix elements as a list of lists
+     */
+    @Override
+    public List<List<Number>> toList() {
+        return dense().toList();
+    }
+
+    /**
+     * The method returns the list of Vectors.
+     *
+     * @return the matrix elements as a list of vectors
+     */
+    @Override
+    public List<Vector> toArrayVectors() {
+        return dense().toArrayVectors();
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * row vector, which is 1 x n
+     *
+     * @return true if it is a row vector
+     */
+    @Override
+    public boolean isRowVector() {
+        return d[0] == 1 && d[1] > 1;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * column vector, which is n x 1.
+     *
+     * @return true if it is a column vector
+     */
+    @Override
+    public boolean isColumnVector() {
+        return d[0] > 1 && d[1] == 1;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * square matrix, which is n x n.
+     *
+     * @return true if it is a square matrix
+     */
+    @Override
+    public boolean isSquareMatrix() {
+        return d[0] == d[1];
+    }
+
+    /**
+     * The trace of the part, calculated on the copy.
+     *
+     * @return the trace of the matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getTrace() {
+        return dense().getTrace();
+    }
+
+    /**
+     * The trace of the part, calculated on the copy.
+     *
+     * @param p the decimal places for the precision
+     *
+     * @return the trace of the matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getTrace(final Rounding.POINT p) {
+        return dense().getTrace(p);
+    }
+
+    /**
+     * The rank of the part, calculated on the copy.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public int getRank() {
+        return dense().getRank();
+    }
+
+    /**
+     * The determinant of the part, calculated on the copy.
+     *
+     * @return the determinant of the square matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getDeterminant() {
+        return dense().getDeterminant();
+    }
+
+    /**
+     * The determinant of the part, calculated on the copy.
+     *
+     * @param p the decimal point accuracy
+     *
+     * @return the determinant of the square matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getDeterminant(final Rounding.POINT p) {
+        return dense().getDeterminant(p);
+    }
+
+    /**
+     * The method returns the LU decomposition of the copy.
+     *
+     * @return the LU decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public LUDecomposition getLUDecomposition() {
+        return dense().getLUDecomposition();
+    }
+
+    /**
+     * The method returns the QR decomposition of the copy.
+     *
+     * @return the QR decomposition
+     */
+    @Override
+    public QRDecomposition getQRDecomposition() {
+        return dense().getQRDecomposition();
+    }
+
+    /**
+     * The method returns the singular value decomposition of the copy.
+     *
+     * @return the singular value decomposition
+     */
+    @Override
+    public SingularValueDecomposition getSingularValueDecomposition() {
+        return dense().getSingularValueDecomposition();
+    }
+
+    /**
+     * The method returns the eigendecomposition of the copy.
+     *
+     * @return the eigendecomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a symmetric matrix
+     */
+    @Override
+    public EigenDecomposition getEigenDecomposition() {
+        return dense().getEigenDecomposition();
+    }
+
+    /**
+     * The method transposes the copy of the part.
+     *
+     * @return the transposed matrix
+     */
+    @Override
+    public Matrix transpose() {
+        return dense().transpose();
+    }
+
+    /**
+     * The method will return an inverse matrix of the copy.
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix inverse() {
+        return dense().inverse();
+    }
+
+    /**
+     * The method will return an inverse matrix of the copy.
+     *
+     * @param p The efficiency to the given decimal places
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix inverse(final Rounding.POINT p) {
+        return dense().inverse(p);
+    }
+
+    /**
+     * The method solves the linear system Ax = b with the copy.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b) {
+        return dense().solve(b);
+    }
+
+    /**
+     * The method solves the linear system Ax = b with the copy.
+     *
+     * @param b the right-hand side
+     * @param p the decimal places to round the solution to
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b, final Rounding.POINT p) {
+        return dense().solve(b, p);
+    }
+
+    /**
+     * The method solves the linear systems AX = B with the copy.
+     *
+     * @param b the right-hand sides
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b) {
+        return dense().solve(b);
+    }
+
+    /**
+     * The method solves the linear systems AX = B with the copy.
+     *
+     * @param b the right-hand sides
+     * @param p the decimal places to round the solutions to
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b, final Rounding.POINT p) {
+        return dense().solve(b, p);
+    }
+
+    /**
+     * The method performs a scalar addition on a square matrix.
+     *
+     * @param n the scalar to add
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public Matrix add(final Number n) {
+        return dense().add(n);
+    }
+
+    /**
+     * The method adds two matrices together, the rows of the part are
+     * copied straight into the result.
+     *
+     * @param m the matrix to add
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        return addSubtract(m, true);
+    }
+
+    /**
+     * The method subtracts two matrices, the rows of the part are
+     * copied straight into the result.
+     *
+     * @param m the matrix to subtract
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        return addSubtract(m, false);
+    }
+
+    /**
+     * The method adds or subtracts two matrices.
+     *
+     * @param m   the other matrix
+     * @param add either addition or subtraction
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    private Matrix addSubtract(final Matrix m, final boolean add) {
+        if (!Arrays.equals(d, m.getDimension()))
+            throw new InvalidMatrixOperationException("Matrices dimensions must be the same.");
+
+        var n = toDoubleArray();
+        var o = DoubleArrayMatrix.elements(m);
+
+        if (add)
+            Kernels.add(n, o, n, n.length);
+        else
+            Kernels.subtract(n, o, n, n.length);
+
+        return new DoubleArrayMatrix(n, d[0], d[1], NOT_SPECIFIED);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on the copy.
+     *
+     * @param n a scalar to scale the matrix with
+     *
+     * @return a new scaled matrix
+     */
+    @Override
+    public Matrix multiply(final Number n) {
+        return dense().multiply(n);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on the copy.
+     *
+     * @param n a scalar to scale the matrix with
+     * @param p the rounding to the given decimal points
+     *
+     * @return a new scaled matrix
+     */
+    @Override
+    public Matrix multiply(final Number n, final Rounding.POINT p) {
+        return dense().multiply(n, p);
+    }
+
+    /**
+     * The method will perform a matrix multiplication of a matrix and returns a new Matrix.
+     *
+     * @param m the matrix to multiply
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        return multiply(m, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will perform a matrix multiplication of a matrix and returns a new Matrix.
+     * A part of a {@link DoubleArrayMatrix} is multiplied in place with the dense matrices
+     * and the parts, the structured matrices, e.g. a {@link SparseMatrix}, are multiplied
+     * with the copy, which they know how to handle.
+     *
+     * @param m the matrix to multiply
+     * @param p the decimal precision
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m, final Rounding.POINT p) {
+        var _d = m.getDimension();
+
+        if (d[1] != _d[0])
+            throw new InvalidMatrixOperationException("the rows and columns don't match");
+
+        if (e == null || !(m instanceof DoubleArrayMatrix || m instanceof ArrayMatrix || m instanceof SubMatrix))
+            return dense().multiply(m, p);
+
+        if (m instanceof SubMatrix) {
+            var o = ((SubMatrix) m).multiplyLeft(e, (r0 * ld) + c0, ld, d[0], p);
+            if (o != null)
+                return o;
+        }
+
+        var _c = new double[d[0] * _d[1]];
+        Multiplication.multiply(e, r0 * ld + c0, ld, DoubleArrayMatrix.elements(m), 0, _d[1],
+                _c, 0, _d[1], d[0], d[1], _d[1]);
+
+        return new DoubleArrayMatrix(_c, d[0], _d[1], NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method multiplies a dense matrix with this part from the left, i.e. A x this,
+     * the part is read in place. It is only possible for a part of a {@link DoubleArrayMatrix}.
+     *
+     * @param a   the elements of A
+     * @param ao  the offset of A
+     * @param lda the leading dimension of A
+     * @param m   the number of rows of A, the number of its columns must be the number
+     *            of rows of the part
+     * @param p   the decimal precision
+     *
+     * @return the resulting matrix, or null when the part isn't of a {@link DoubleArrayMatrix}
+     */
+    Matrix multiplyLeft(final double[] a, final int ao, final int lda, final int m, final Rounding.POINT p) {
+        if (e == null)
+            return null;
+
+        var _c = new double[m * d[1]];
+        Multiplication.multiply(a, ao, lda, e, r0 * ld + c0, ld, _c, 0, d[1], m, d[0], d[1]);
+
+        return new DoubleArrayMatrix(_c, m, d[1], NOT_SPECIFIED, p);
+    }
+
+    /**
+     * Returns a string representation of the copy.
+     *
+     * @return a string representation of the object.
+     */
+    public String toString() {
+        return dense().toString();
+    }
+
+    /**
+     * Returns the hash code of the copy, so the part and
+     * the copy hash alike.
+     *
+     * @return a hash code value for this object.
+     *
+     * @see Object#equals(Object)
+     */
+    public int hashCode() {
+        return dense().hashCode();
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one, the copy
+     * of the part is compared with the other matrix.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     *
+     * @see #hashCode()
+     */
+    public boolean equals(final Object obj) {
+        return this == obj || dense().equals(obj);
+    }
+}
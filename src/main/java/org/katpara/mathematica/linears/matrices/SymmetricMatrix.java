@@ -0,0 +1,884 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.commons.Memo;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+import org.katpara.mathematica.linears.vectors.Vector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.*;
+
+/**
+ * The class is an implementation of the Matrix interface for the symmetric matrices,
+ * i.e. A = A^T, e.g. the covariance and the Gram matrices, or the hilbert, the lehmer
+ * and the symmetric pascal's matrices.
+ * <p>
+ * The matrix stores only its lower triangle, packed row by row, the row i holds its
+ * i + 1 elements from the first column to the diagonal, so the element (i, j), where
+ * j &lt;= i, is at i(i + 1) / 2 + j. It takes n(n + 1) / 2 elements instead of n^2,
+ * and the operations below read every stored element only once:
+ * <ul>
+ *     <li>the product with a matrix (SYMM), see {@link #multiply(Matrix, Rounding.POINT)},
+ *     and with a vector (SYMV), see {@link #multiply(Vector)}</li>
+ *     <li>the rank-k update A + aBB^T (SYRK), see {@link #rankUpdate(Matrix, Number)},
+ *     and the Gram matrix B^TB, see {@link #gramMatrix(Matrix)}, calculate only
+ *     the lower triangle</li>
+ *     <li>the Cholesky decomposition, see {@link #getCholeskyDecomposition()}, which the
+ *     determinant, the inverse and the solutions use when the matrix is positive definite,
+ *     otherwise they fall back to the LU decomposition of the dense elements</li>
+ * </ul>
+ * The sums and the scalar products with symmetric matrices are again symmetric, the
+ * results that take a {@link Rounding.POINT} are rounded right away. The transpose
+ * is the matrix itself.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class SymmetricMatrix implements Matrix {
+
+    /**
+     * The number of rows and columns
+     */
+    private final int n;
+
+    /**
+     * The packed rows of the lower triangle
+     */
+    private final double[] e;
+
+    /**
+     * The type of the matrix
+     */
+    private final MatrixType t;
+
+    /**
+     * Useful to cache some of the calculated properties
+     */
+    private final Cache c = new Cache();
+
+    /**
+     * The constructor creates a matrix out of the packed rows of the lower triangle,
+     * which are not copied.
+     *
+     * @param e the packed rows, n(n + 1) / 2 elements
+     * @param n the number of rows and columns
+     * @param t the type of the matrix
+     *
+     * @throws InvalidMatrixDimensionException when matrix doesn't have at least one element
+     */
+    SymmetricMatrix(final double[] e, final int n, final MatrixType t) {
+        if (n < 1)
+            throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+        this.n = n;
+        this.e = e;
+        this.t = t;
+    }
+
+    /**
+     * The method returns the index of the element (i, j) in the packed rows.
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the index
+     */
+    private static int index(final int i, final int j) {
+        return (i >= j) ? i * (i + 1) / 2 + j : j * (j + 1) / 2 + i;
+    }
+
+    /**
+     * The method returns the type of the matrix.
+     *
+     * @return the type of the matrix
+     */
+    MatrixType getType() {
+        return t;
+    }
+
+    /**
+     * The method returns the dimension of a matrix.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public int[] getDimension() {
+        return new int[]{n, n};
+    }
+
+    /**
+     * The method returns the packed rows of the lower triangle.
+     *
+     * @return the packed elements
+     */
+    public double[] toPackedArray() {
+        return e.clone();
+    }
+
+    /**
+     * The method returns all the elements in the row-major order, both triangles.
+     *
+     * @return the row-major elements
+     */
+    public double[] toDoubleArray() {
+        var a = new double[n * n];
+        for (int i = 0, ri = 0; i < n; ri += ++i)
+            for (var j = 0; j <= i; j++)
+                a[i * n + j] = a[j * n + i] = e[ri + j];
+
+        return a;
+    }
+
+    /**
+     * The method converts the matrix into a dense {@link DoubleArrayMatrix}.
+     *
+     * @return the dense matrix
+     */
+    public DoubleArrayMatrix toDoubleArrayMatrix() {
+        return new DoubleArrayMatrix(toDoubleArray(), n, n, t);
+    }
+
+    /**
+     * The method returns all the elements of a matrix, they are built on every call.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public Number[][] toArray() {
+        return toDoubleArrayMatrix().toArray();
+    }
+
+    /**
+     * The method returns a single element of a matrix, the element of the
+     * lower triangle (max(i, j), min(i, j)).
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the element at the given row and column
+     *
+     * @throws IndexOutOfBoundsException if the indices are outside the matrix
+     */
+    @Override
+    public double get(final int i, final int j) {
+        Objects.checkIndex(i, n);
+        Objects.checkIndex(j, n);
+
+        return e[index(i, j)];
+    }
+
+    /**
+     * The method returns all the elements as a list of lists, they are built on every call.
+     *
+     * @return the matrix elements as a list of lists
+     */
+    @Override
+    public List<List<Number>> toList() {
+        return toDoubleArrayMatrix().toList();
+    }
+
+    /**
+     * The method returns the list of Vectors, they are built on every call.
+     *
+     * @return the matrix elements as a list of vectors
+     */
+    @Override
+    public List<Vector> toArrayVectors() {
+        return toDoubleArrayMatrix().toArrayVectors();
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * row vector, which is 1 x n
+     *
+     * @return false, a symmetric matrix is square
+     */
+    @Override
+    public boolean isRowVector() {
+        return false;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * column vector, which is n x 1.
+     *
+     * @return false, a symmetric matrix is square
+     */
+    @Override
+    public boolean isColumnVector() {
+        return false;
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * square matrix, which is n x n.
+     *
+     * @return true, a symmetric matrix is square
+     */
+    @Override
+    public boolean isSquareMatrix() {
+        return true;
+    }
+
+    /**
+     * The trace of the matrix is defined as the sum of all the elements,
+     * on the main diagonal.
+     *
+     * @return the trace of the matrix
+     */
+    @Override
+    public double getTrace() {
+        return getTrace(Rounding.POINT.TEN);
+    }
+
+    /**
+     * The trace of the matrix is defined as the sum of all the elements,
+     * on the main diagonal.
+     *
+     * @param p the decimal places for the precision
+     *
+     * @return the trace of the matrix
+     */
+    @Override
+    public double getTrace(final Rounding.POINT p) {
+        var s = 0.0;
+        for (int i = 0, ri = 0; i < n; ri += ++i)
+            s += e[ri + i];
+
+        return Rounding.roundToDouble(s, p);
+    }
+
+    /**
+     * A rank of a matrix is independent rows of a matrix, a positive definite
+     * matrix has the full rank, otherwise it is calculated on the dense matrix.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public int getRank() {
+        return c.r.get(() -> getCholeskyDecomposition().isPositiveDefinite() ? n : toDoubleArrayMatrix().getRank());
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double getDeterminant() {
+        return getDeterminant(Rounding.POINT.TEN);
+    }
+
+    /**
+     * A determinant is a scalar value computed for a square matrix; that
+     * encodes many properties of the linear algebra described by the matrix.
+     * It is calculated from the Cholesky decomposition when the matrix is
+     * positive definite, otherwise from the LU decomposition.
+     *
+     * @param p the decimal point accuracy
+     *
+     * @return the determinant of the square matrix
+     */
+    @Override
+    public double getDeterminant(final Rounding.POINT p) {
+        var h = getCholeskyDecomposition();
+        var det = h.isPositiveDefinite() ? h.getDeterminant() : getLUDecomposition().getDeterminant();
+
+        return Rounding.roundToDouble(det, p);
+    }
+
+    /**
+     * The method returns the Cholesky decomposition of the matrix, it is calculated
+     * only once and cached. It tells if the matrix is positive definite.
+     *
+     * @return the Cholesky decomposition
+     */
+    public CholeskyDecomposition getCholeskyDecomposition() {
+        return c.h.get(() -> MatrixCache.weigh(this, new CholeskyDecomposition(e, n), e.length));
+    }
+
+    /**
+     * The method returns the eigendecomposition of the matrix, it is calculated
+     * only once and cached.
+     *
+     * @return the eigendecomposition
+     */
+    @Override
+    public EigenDecomposition getEigenDecomposition() {
+        return c.g.get(() -> MatrixCache.weigh(this, new EigenDecomposition(toDoubleArray(), n, true),
+                (long) n * (n + 1)));
+    }
+
+    /**
+     * The method returns the LU decomposition of a square matrix with partial
+     * pivoting, of the dense elements. It is calculated only once and cached.
+     *
+     * @return the LU decomposition
+     */
+    @Override
+    public LUDecomposition getLUDecomposition() {
+        return c.l.get(() -> MatrixCache.weigh(this, new LUDecomposition(toDoubleArray(), n), (long) n * n));
+    }
+
+    /**
+     * The transpose of a symmetric matrix is the matrix itself.
+     *
+     * @return the matrix
+     */
+    @Override
+    public Matrix transpose() {
+        return this;
+    }
+
+    /**
+     * The method will return an inverse matrix of a given matrix.
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is singular
+     */
+    @Override
+    public Matrix inverse() {
+        return inverse(Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will return an inverse matrix of a given matrix, the inverse of a
+     * symmetric matrix is symmetric, so only its lower triangle is kept.
+     *
+     * @param p The efficiency to the given decimal places
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is singular
+     */
+    @Override
+    public Matrix inverse(final Rounding.POINT p) {
+        var h = getCholeskyDecomposition();
+        var i = h.isPositiveDefinite() ? h.inverse() : getLUDecomposition().inverse();
+
+        return new SymmetricMatrix(Rounding.round(pack(i, n), p), n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method solves the linear system Ax = b with the cached decomposition.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b) {
+        return solve(b, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method solves the linear system Ax = b with the cached decomposition.
+     *
+     * @param b the right-hand side
+     * @param p the decimal places to round the solution to
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b, final Rounding.POINT p) {
+        return new DoubleArrayVector(Rounding.round(solve(DoubleArrayMatrix.elements(b), 1), p));
+    }
+
+    /**
+     * The method solves the linear systems AX = B with the cached decomposition.
+     *
+     * @param b the right-hand sides
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b) {
+        return solve(b, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method solves the linear systems AX = B with the cached decomposition.
+     *
+     * @param b the right-hand sides
+     * @param p the decimal places to round the solutions to
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b, final Rounding.POINT p) {
+        var k = b.getDimension()[1];
+        return new DoubleArrayMatrix(solve(DoubleArrayMatrix.elements(b), k), n, k, NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method solves AX = B with the Cholesky decomposition when the matrix
+     * is positive definite, otherwise with the LU decomposition.
+     *
+     * @param b the row-major right-hand sides
+     * @param k the number of right-hand sides
+     *
+     * @return the row-major solutions
+     *
+     * @throws InvalidMatrixOperationException if the size of B doesn't match,
+     *                                         or the matrix is singular
+     */
+    private double[] solve(final double[] b, final int k) {
+        var h = getCholeskyDecomposition();
+        return h.isPositiveDefinite() ? h.solve(b, k) : getLUDecomposition().solve(b, k);
+    }
+
+    /**
+     * The method performs a scalar addition on a square matrix,
+     * i.e. M + a = M + a(I), where I is an identity matrix.
+     *
+     * @param s the scalar to add
+     *
+     * @return the resulting symmetric matrix
+     */
+    @Override
+    public Matrix add(final Number s) {
+        var _s = s.doubleValue();
+        var r = e.clone();
+
+        for (int i = 0, ri = 0; i < n; ri += ++i)
+            r[ri + i] += _s;
+
+        return new SymmetricMatrix(r, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method adds two matrices together, the sum with a symmetric matrix is
+     * symmetric, otherwise it is a {@link DoubleArrayMatrix}.
+     *
+     * @param m the matrix to add
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        return addSubtract(m, true);
+    }
+
+    /**
+     * The method subtracts two matrices, the difference with a symmetric matrix is
+     * symmetric, otherwise it is a {@link DoubleArrayMatrix}.
+     *
+     * @param m the matrix to subtract
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        return addSubtract(m, false);
+    }
+
+    /**
+     * The method adds or subtracts two matrices.
+     *
+     * @param m   the other matrix
+     * @param add either addition or subtraction
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    private Matrix addSubtract(final Matrix m, final boolean add) {
+        var _d = m.getDimension();
+        if (_d[0] != n || _d[1] != n)
+            throw new InvalidMatrixOperationException("Matrices dimensions must be the same.");
+
+        if (m instanceof SymmetricMatrix) {
+            var o = ((SymmetricMatrix) m).e;
+            var r = new double[e.length];
+
+            if (add)
+                Kernels.add(e, o, r, r.length);
+            else
+                Kernels.subtract(e, o, r, r.length);
+
+            return new SymmetricMatrix(r, n, NOT_SPECIFIED);
+        }
+
+        var r = toDoubleArray();
+        var o = DoubleArrayMatrix.elements(m);
+
+        if (add)
+            Kernels.add(r, o, r, r.length);
+        else
+            Kernels.subtract(r, o, r, r.length);
+
+        return new DoubleArrayMatrix(r, n, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on a matrix and returns a new matrix.
+     *
+     * @param s a scalar to scale the matrix with
+     *
+     * @return a new scaled symmetric matrix
+     */
+    @Override
+    public Matrix multiply(final Number s) {
+        return multiply(s, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on a matrix and returns a new matrix.
+     *
+     * @param s a scalar to scale the matrix with
+     * @param p the rounding to the given decimal points
+     *
+     * @return a new scaled symmetric matrix
+     */
+    @Override
+    public Matrix multiply(final Number s, final Rounding.POINT p) {
+        var _s = s.doubleValue();
+        var r = new double[e.length];
+
+        for (var i = 0; i < r.length; i++)
+            r[i] = Rounding.roundToDouble(e[i] * _s, p);
+
+        return new SymmetricMatrix(r, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method will perform a matrix multiplication of a matrix and returns a new Matrix.
+     *
+     * @param m the matrix to multiply
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        return multiply(m, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will perform a matrix multiplication of a matrix and returns a new Matrix.
+     * <p>
+     * Every stored element A(i, j) of the lower triangle adds the row j of the other
+     * matrix, scaled, to the row i of the result, and, off the diagonal, the row i to
+     * the row j, so the upper triangle is never read.
+     *
+     * @param m the matrix to multiply
+     * @param p the decimal precision
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m, final Rounding.POINT p) {
+        var _d = m.getDimension();
+
+        if (n != _d[0])
+            throw new InvalidMatrixOperationException("the rows and columns don't match");
+
+        int q = _d[1];
+        var b = DoubleArrayMatrix.elements(m);
+
+        return new DoubleArrayMatrix(multiply(b, q), n, q, NOT_SPECIFIED, p);
+    }
+
+    /**
+     * The method multiplies the matrix with the row-major elements of an n x q matrix.
+     *
+     * @param b the row-major elements
+     * @param q the number of columns
+     *
+     * @return the row-major product
+     */
+    private double[] multiply(final double[] b, final int q) {
+        var r = new double[n * q];
+
+        for (int i = 0, ri = 0; i < n; ri += ++i) {
+            for (var j = 0; j < i; j++) {
+                var a = e[ri + j];
+                if (a != 0) {
+                    Kernels.axpy(a, b, j * q, r, i * q, q);
+                    Kernels.axpy(a, b, i * q, r, j * q, q);
+                }
+            }
+
+            Kernels.axpy(e[ri + i], b, i * q, r, i * q, q);
+        }
+
+        return r;
+    }
+
+    /**
+     * The method multiplies the matrix with a vector (SYMV), i.e. Ax.
+     *
+     * @param b the vector x, its dimension must be the number of columns
+     *
+     * @return the resulting vector
+     *
+     * @throws InvalidMatrixOperationException if the dimension of the vector doesn't match
+     */
+    public DoubleArrayVector multiply(final Vector b) {
+        if (b.getDimension() != n)
+            throw new InvalidMatrixOperationException("The dimensions don't match");
+
+        return new DoubleArrayVector(multiply(DoubleArrayMatrix.elements(b), 1));
+    }
+
+    /**
+     * The method performs the symmetric rank-k update (SYRK), i.e. A + aBB^T, where
+     * B is an n x k matrix. Only the lower triangle is calculated, the element (i, j)
+     * gains a times the dot product of the rows i and j of B.
+     *
+     * @param b the matrix B, with n rows
+     * @param a the scalar a
+     *
+     * @return the updated symmetric matrix
+     *
+     * @throws InvalidMatrixOperationException if B doesn't have n rows
+     */
+    public SymmetricMatrix rankUpdate(final Matrix b, final Number a) {
+        var _d = b.getDimension();
+
+        if (_d[0] != n)
+            throw new InvalidMatrixOperationException("The number of rows doesn't match");
+
+        int k = _d[1];
+        var _a = a.doubleValue();
+        var _b = DoubleArrayMatrix.elements(b);
+        var r = e.clone();
+
+        for (int i = 0, ri = 0; i < n; ri += ++i)
+            for (var j = 0; j <= i; j++)
+                r[ri + j] += _a * Kernels.dot(_b, i * k, _b, j * k, k);
+
+        return new SymmetricMatrix(r, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method calculates the Gram matrix B^TB of an m x n matrix, e.g. the scatter
+     * matrix of m samples of n features. Every row of B adds its outer product with
+     * itself to the lower triangle, so it takes half of the flops of the product.
+     *
+     * @param b the matrix B
+     *
+     * @return the symmetric n x n matrix B^TB
+     */
+    public static SymmetricMatrix gramMatrix(final Matrix b) {
+        var _d = b.getDimension();
+        int m = _d[0], n = _d[1];
+        var _b = DoubleArrayMatrix.elements(b);
+        var r = new double[n * (n + 1) / 2];
+
+        for (var s = 0; s < m; s++)
+            for (int i = 0, ri = 0; i < n; ri += ++i) {
+                var f = _b[s * n + i];
+                if (f != 0)
+                    Kernels.axpy(f, _b, s * n, r, ri, i + 1);
+            }
+
+        return new SymmetricMatrix(r, n, NOT_SPECIFIED);
+    }
+
+    /**
+     * The method converts a symmetric matrix into the packed storage.
+     *
+     * @param m the matrix to convert
+     *
+     * @return the symmetric matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not square or not symmetric
+     */
+    public static SymmetricMatrix of(final Matrix m) {
+        if (m instanceof SymmetricMatrix)
+            return (SymmetricMatrix) m;
+
+        if (!m.isSquareMatrix())
+            throw new InvalidMatrixOperationException("The matrix is not a square matrix");
+
+        var n = m.getDimension()[0];
+        var a = DoubleArrayMatrix.elements(m);
+
+        for (var i = 0; i < n; i++)
+            for (var j = 0; j < i; j++)
+                if (a[i * n + j] != a[j * n + i])
+                    throw new InvalidMatrixOperationException("The matrix is not symmetric");
+
+        return new SymmetricMatrix(pack(a, n), n, (m instanceof DoubleArrayMatrix)
+                                                          ? ((DoubleArrayMatrix) m).getType() : NOT_SPECIFIED);
+    }
+
+    /**
+     * The method packs the lower triangle of a square row-major array.
+     *
+     * @param a the row-major array
+     * @param n the number of rows and columns
+     *
+     * @return the packed rows
+     */
+    static double[] pack(final double[] a, final int n) {
+        var r = new double[n * (n + 1) / 2];
+        for (int i = 0, ri = 0; i < n; ri += ++i)
+            System.arraycopy(a, i * n, r, ri, i + 1);
+
+        return r;
+    }
+
+    /**
+     * The method will create a symmetric pascal's square matrix, the element (i, j)
+     * is the binomial coefficient (i + j) choose i.
+     *
+     * @param n the number of rows and columns
+     *
+     * @return a symmetric pascal's matrix
+     *
+     * @throws InvalidMatrixDimensionException when n &lt; 1
+     */
+    public static SymmetricMatrix pascalMatrix(final int n) {
+        return MatrixCache.get(() -> {
+            if (n < 1)
+                throw new InvalidMatrixDimensionException("Pascal's matrix should have at least one element");
+
+            // (i, j) = (i, j - 1) + (i - 1, j), where (i - 1, i) is (i, i - 1) on the diagonal
+            var r = new double[n * (n + 1) / 2];
+            for (int i = 0, ri = 0; i < n; ri += ++i)
+                for (var j = 0; j <= i; j++)
+                    r[ri + j] = (j == 0) ? 1 : r[ri + j - 1] + ((j < i) ? r[ri - i + j] : r[ri + j - 1]);
+
+            return new SymmetricMatrix(r, n, PASCAL);
+        }, n, n, SymmetricMatrix.class, PASCAL);
+    }
+
+    /**
+     * A lehmer matrix is a constant systematic square matrix.
+     *
+     * @param n the number of rows and columns
+     *
+     * @return the lehmer matrix
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static SymmetricMatrix lehmerMatrix(final int n) {
+        return MatrixCache.get(() -> calculateMatrix(n, (i, j) -> (j + 1.0) / (i + 1), LEHMER),
+                n, n, SymmetricMatrix.class, LEHMER);
+    }
+
+    /**
+     * A Hilbert matrix is a square matrix with entries being the unit fractions.
+     *
+     * @param n the number of rows and columns
+     *
+     * @return a hilbert symmetric matrix
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    public static SymmetricMatrix hilbertMatrix(final int n) {
+        return MatrixCache.get(() -> calculateMatrix(n, (i, j) -> 1.0 / (i + j + 1), HILBERT),
+                n, n, SymmetricMatrix.class, HILBERT);
+    }
+
+    /**
+     * The method calculates the lower triangle of a symmetric matrix.
+     *
+     * @param n the number of rows and columns
+     * @param o the element (i, j), where j &lt;= i
+     * @param t the type of the matrix
+     *
+     * @return the symmetric matrix
+     *
+     * @throws InvalidMatrixDimensionException if n &lt; 1
+     */
+    private static SymmetricMatrix calculateMatrix(final int n, final Element o, final MatrixType t) {
+        if (n < 1)
+            throw new InvalidMatrixDimensionException("The matrix should have at least one element");
+
+        var r = new double[n * (n + 1) / 2];
+        for (int i = 0, ri = 0; i < n; ri += ++i)
+            for (var j = 0; j <= i; j++)
+                r[ri + j] = o.get(i, j);
+
+        return new SymmetricMatrix(r, n, t);
+    }
+
+    /*
+     * The element of the lower triangle at the given row and column.
+     */
+    @FunctionalInterface
+    private interface Element {
+        double get(int i, int j);
+    }
+
+    /*
+     * The class caches some properties of a given matrix to save computation.
+     */
+    private static class Cache {
+        private final Memo<Integer> r = new Memo<>();
+        private final Memo<LUDecomposition> l = new Memo<>();
+        private final Memo<CholeskyDecomposition> h = new Memo<>();
+        private final Memo<EigenDecomposition> g = new Memo<>();
+    }
+
+    /**
+     * Returns a string representation of the dense matrix.
+     *
+     * @return a string representation of the object.
+     */
+    public String toString() {
+        return toDoubleArrayMatrix().toString();
+    }
+
+    /**
+     * Returns a hash code value for the object, calculated from
+     * the dimension and the packed elements.
+     *
+     * @return a hash code value for this object.
+     *
+     * @see Object#equals(Object)
+     */
+    public int hashCode() {
+        return 31 * n + Arrays.hashCode(e);
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     * Two symmetric matrices are equal when they have the same dimension
+     * and the same packed elements.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     *
+     * @see #hashCode()
+     */
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        var that = (SymmetricMatrix) obj;
+        return n == that.n && Arrays.equals(e, that.e);
+    }
+}
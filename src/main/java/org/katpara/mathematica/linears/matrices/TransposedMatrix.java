@@ -0,0 +1,500 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.Vector;
+
+import java.util.List;
+
+import static org.katpara.mathematica.linears.matrices.Matrix.MatrixType.NOT_SPECIFIED;
+
+/**
+ * The class is a view of the transpose of an {@link ArrayMatrix} or a {@link DoubleArrayMatrix},
+ * it is what their {@link Matrix#transpose()} returns.
+ * <p>
+ * The view keeps only the source matrix and swaps the indices, so the transpose takes
+ * O(1) time and memory, and transposing it again gives the source back. The properties
+ * the transpose shares with the source, i.e. the trace, the rank and the determinant,
+ * are taken from the source and its caches.
+ * <p>
+ * A^T x B is calculated by the multiplication kernel straight from the elements of A,
+ * which it reads column by column while it packs them anyway. The operations that need
+ * the elements laid out in the transposed order, e.g. B x A^T, the inverse or the sums,
+ * work on the transposed copy of the source, see {@link #materialise()}. The copy is
+ * created only once and cached on the source, so every view of the same matrix shares it.
+ * <p>
+ * The view is equal to the transposed copy, and so the copy is equal to the view.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+final class TransposedMatrix implements Matrix {
+
+    /**
+     * The transposed matrix
+     */
+    private final Matrix s;
+
+    /**
+     * The constructor creates a view of the transpose.
+     *
+     * @param s the matrix to transpose, an {@link ArrayMatrix} or a {@link DoubleArrayMatrix}
+     */
+    TransposedMatrix(final Matrix s) {
+        this.s = s;
+    }
+
+    /**
+     * The method returns the transposed copy of the source, of the same class as the
+     * source. It is created on the first call and cached on the source.
+     *
+     * @return the transposed copy
+     */
+    Matrix materialise() {
+        return (s instanceof ArrayMatrix) ? ((ArrayMatrix) s).transposed() : ((DoubleArrayMatrix) s).transposed();
+    }
+
+    /**
+     * The method returns the dimension of a matrix, the swapped dimension of the source.
+     *
+     * @return the dimension of the matrix
+     */
+    @Override
+    public int[] getDimension() {
+        var d = s.getDimension();
+        return new int[]{d[1], d[0]};
+    }
+
+    /**
+     * The method returns all the elements of a matrix.
+     *
+     * @return the matrix elements
+     */
+    @Override
+    public Number[][] toArray() {
+        return materialise().toArray();
+    }
+
+    /**
+     * The method returns a single element of a matrix, the element (j, i) of the source.
+     *
+     * @param i the row index
+     * @param j the column index
+     *
+     * @return the element at the given row and column
+     *
+     * @throws IndexOutOfBoundsException if the indices are outside the matrix
+     */
+    @Override
+    public double get(final int i, final int j) {
+        return s.get(j, i);
+    }
+
+    /**
+     * The method returns all the elements as a list of lists.
+     *
+     * @return the matrix elements as a list of lists
+     */
+    @Override
+    public List<List<Number>> toList() {
+        return materialise().toList();
+    }
+
+    /**
+     * The method returns the list of Vectors.
+     *
+     * @return the matrix elements as a list of vectors
+     */
+    @Override
+    public List<Vector> toArrayVectors() {
+        return materialise().toArrayVectors();
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * row vector, i.e. the source is a column vector.
+     *
+     * @return true if it is a row vector
+     */
+    @Override
+    public boolean isRowVector() {
+        return s.isColumnVector();
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * column vector, i.e. the source is a row vector.
+     *
+     * @return true if it is a column vector
+     */
+    @Override
+    public boolean isColumnVector() {
+        return s.isRowVector();
+    }
+
+    /**
+     * The method will return true if the matrix is a
+     * square matrix, which is n x n.
+     *
+     * @return true if it is a square matrix
+     */
+    @Override
+    public boolean isSquareMatrix() {
+        return s.isSquareMatrix();
+    }
+
+    /**
+     * The trace of the transpose is the trace of the source.
+     *
+     * @return the trace of the matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getTrace() {
+        return s.getTrace();
+    }
+
+    /**
+     * The trace of the transpose is the trace of the source.
+     *
+     * @param p the decimal places for the precision
+     *
+     * @return the trace of the matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getTrace(final Rounding.POINT p) {
+        return s.getTrace(p);
+    }
+
+    /**
+     * The rank of the transpose is the rank of the source.
+     *
+     * @return the rank of matrix
+     */
+    @Override
+    public int getRank() {
+        return s.getRank();
+    }
+
+    /**
+     * The determinant of the transpose is the determinant of the source.
+     *
+     * @return the determinant of the square matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getDeterminant() {
+        return s.getDeterminant();
+    }
+
+    /**
+     * The determinant of the transpose is the determinant of the source.
+     *
+     * @param p the decimal point accuracy
+     *
+     * @return the determinant of the square matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public double getDeterminant(final Rounding.POINT p) {
+        return s.getDeterminant(p);
+    }
+
+    /**
+     * The method returns the LU decomposition of the transposed copy.
+     *
+     * @return the LU decomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public LUDecomposition getLUDecomposition() {
+        return materialise().getLUDecomposition();
+    }
+
+    /**
+     * The method returns the QR decomposition of the transposed copy.
+     *
+     * @return the QR decomposition
+     */
+    @Override
+    public QRDecomposition getQRDecomposition() {
+        return materialise().getQRDecomposition();
+    }
+
+    /**
+     * The method returns the singular value decomposition of the transposed copy.
+     *
+     * @return the singular value decomposition
+     */
+    @Override
+    public SingularValueDecomposition getSingularValueDecomposition() {
+        return materialise().getSingularValueDecomposition();
+    }
+
+    /**
+     * The method returns the eigendecomposition of the transposed copy.
+     *
+     * @return the eigendecomposition
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a symmetric matrix
+     */
+    @Override
+    public EigenDecomposition getEigenDecomposition() {
+        return materialise().getEigenDecomposition();
+    }
+
+    /**
+     * The transpose of the transpose is the source.
+     *
+     * @return the source matrix
+     */
+    @Override
+    public Matrix transpose() {
+        return s;
+    }
+
+    /**
+     * The method will return an inverse matrix of the transposed copy.
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public Matrix inverse() {
+        return materialise().inverse();
+    }
+
+    /**
+     * The method will return an inverse matrix of the transposed copy.
+     *
+     * @param p The efficiency to the given decimal places
+     *
+     * @return The inverse matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public Matrix inverse(final Rounding.POINT p) {
+        return materialise().inverse(p);
+    }
+
+    /**
+     * The method solves the linear system Ax = b with the transposed copy.
+     *
+     * @param b the right-hand side
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b) {
+        return materialise().solve(b);
+    }
+
+    /**
+     * The method solves the linear system Ax = b with the transposed copy.
+     *
+     * @param b the right-hand side
+     * @param p the decimal places to round the solution to
+     *
+     * @return the solution x
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         dimension of the vector doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Vector solve(final Vector b, final Rounding.POINT p) {
+        return materialise().solve(b, p);
+    }
+
+    /**
+     * The method solves the linear systems AX = B with the transposed copy.
+     *
+     * @param b the right-hand sides
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b) {
+        return materialise().solve(b);
+    }
+
+    /**
+     * The method solves the linear systems AX = B with the transposed copy.
+     *
+     * @param b the right-hand sides
+     * @param p the decimal places to round the solutions to
+     *
+     * @return the solutions X, one per column
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix, the
+     *                                         number of rows doesn't match,
+     *                                         or the matrix is singular
+     */
+    @Override
+    public Matrix solve(final Matrix b, final Rounding.POINT p) {
+        return materialise().solve(b, p);
+    }
+
+    /**
+     * The method performs a scalar addition on the transposed copy.
+     *
+     * @param n the scalar to add
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if the matrix is not a square matrix
+     */
+    @Override
+    public Matrix add(final Number n) {
+        return materialise().add(n);
+    }
+
+    /**
+     * The method adds a matrix to the transposed copy.
+     *
+     * @param m the matrix to add
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix add(final Matrix m) {
+        return materialise().add(m);
+    }
+
+    /**
+     * The method subtracts a matrix from the transposed copy.
+     *
+     * @param m the matrix to subtract
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices don't have the same dimension
+     */
+    @Override
+    public Matrix subtract(final Matrix m) {
+        return materialise().subtract(m);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on the transposed copy.
+     *
+     * @param n a scalar to scale the matrix with
+     *
+     * @return a new scaled matrix
+     */
+    @Override
+    public Matrix multiply(final Number n) {
+        return materialise().multiply(n);
+    }
+
+    /**
+     * The method will perform a scalar multiplication on the transposed copy.
+     *
+     * @param n a scalar to scale the matrix with
+     * @param p the rounding to the given decimal points
+     *
+     * @return a new scaled matrix
+     */
+    @Override
+    public Matrix multiply(final Number n, final Rounding.POINT p) {
+        return materialise().multiply(n, p);
+    }
+
+    /**
+     * The method will perform a matrix multiplication, i.e. A^T x B.
+     *
+     * @param m the matrix to multiply
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m) {
+        return multiply(m, Rounding.POINT.TEN);
+    }
+
+    /**
+     * The method will perform a matrix multiplication, i.e. A^T x B. The dense matrices
+     * are multiplied straight from the elements of A, the result has the class of A.
+     * The structured matrices, e.g. a {@link SparseMatrix}, are multiplied with the
+     * transposed copy, which they know how to handle.
+     *
+     * @param m the matrix to multiply
+     * @param p the decimal precision
+     *
+     * @return the resulting matrix
+     *
+     * @throws InvalidMatrixOperationException if two matrices have different columns and rows
+     */
+    @Override
+    public Matrix multiply(final Matrix m, final Rounding.POINT p) {
+        int[] d = getDimension(), _d = m.getDimension();
+
+        if (d[1] != _d[0])
+            throw new InvalidMatrixOperationException("the rows and columns don't match");
+
+        if (!(m instanceof DoubleArrayMatrix || m instanceof ArrayMatrix || m instanceof TransposedMatrix))
+            return materialise().multiply(m, p);
+
+        var r = Multiplication.multiplyTransposed(DoubleArrayMatrix.elements(s), DoubleArrayMatrix.elements(m),
+                d[0], d[1], _d[1]);
+
+        return (s instanceof ArrayMatrix) ? ArrayMatrix.box(r, d[0], _d[1], p)
+                       : new DoubleArrayMatrix(r, d[0], _d[1], NOT_SPECIFIED, p);
+    }
+
+    /**
+     * Returns a string representation of the transposed copy.
+     *
+     * @return a string representation of the object.
+     */
+    public String toString() {
+        return materialise().toString();
+    }
+
+    /**
+     * Returns the hash code of the transposed copy, so the view and
+     * the copy hash alike.
+     *
+     * @return a hash code value for this object.
+     *
+     * @see Object#equals(Object)
+     */
+    public int hashCode() {
+        return materialise().hashCode();
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one, the transposed
+     * copy is compared with the other matrix.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     *
+     * @see #hashCode()
+     */
+    public boolean equals(final Object obj) {
+        return this == obj || materialise().equals(obj);
+    }
+}
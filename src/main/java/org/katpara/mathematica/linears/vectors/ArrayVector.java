@@ -1,5 +1,6 @@
 package org.katpara.mathematica.linears.vectors;
 
+import org.katpara.mathematica.commons.Memo;
 import org.katpara.mathematica.commons.Rounding;
 import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
 import org.katpara.mathematica.exceptions.NullArgumentProvidedException;
@@ -7,6 +8,7 @@ import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationExceptio
 import org.katpara.mathematica.exceptions.linears.InvalidVectorDimensionException;
 import org.katpara.mathematica.exceptions.linears.InvalidVectorOperationException;
 import org.katpara.mathematica.linears.matrices.Matrix;
+import org.katpara.mathematica.linears.matrices.SparseMatrix;
 
 import java.util.*;
 import java.util.function.DoubleUnaryOperator;
@@ -152,15 +154,13 @@ public final class ArrayVector implements Vector {
      */
     @Override
     public double getMagnitude() {
-        if (c.getM() == 0) {
-            var s = 0;
+        return c.m.get(() -> {
+            var s = 0.0;
             for (var n : e)
                 s += n.doubleValue() * n.doubleValue();
 
-            c.setM(Math.sqrt(s));
-        }
-
-        return c.getM();
+            return Math.sqrt(s);
+        });
     }
 
     /**
@@ -178,7 +178,7 @@ public final class ArrayVector implements Vector {
      */
     @Override
     public double getMagnitude(final Rounding.POINT point) {
-        return Rounding.round(getMagnitude(), point).doubleValue();
+        return Rounding.roundToDouble(getMagnitude(), point);
     }
 
     /**
@@ -192,13 +192,7 @@ public final class ArrayVector implements Vector {
      */
     @Override
     public double[] getCosines(final Angle a) {
-        if (a == DEGREE && c.getCd() == null) {
-            c.setCd(calculateCosines(a));
-        } else if (a == RADIAN && c.getCr() == null) {
-            c.setCr(calculateCosines(a));
-        }
-
-        return (a == DEGREE) ? c.getCd() : c.getCr();
+        return (a == DEGREE ? c.cd : c.cr).get(() -> calculateCosines(a)).clone();
     }
 
     /**
@@ -213,11 +207,7 @@ public final class ArrayVector implements Vector {
      */
     @Override
     public double[] getCosines(final Angle a, final Rounding.POINT p) {
-        var n = getCosines(a);
-        for (var i = 0; i < d; i++)
-            n[i++] = Rounding.round(n[i], p).doubleValue();
-
-        return n;
+        return Rounding.round(getCosines(a), p);
     }
 
     /**
@@ -242,14 +232,29 @@ public final class ArrayVector implements Vector {
         return n;
     }
 
+    /**
+     * The method returns a single element of the vector as a primitive double.
+     *
+     * @param i the zero based index
+     *
+     * @return the element at the given index
+     *
+     * @throws IndexOutOfBoundsException if the index is outside the vector
+     */
+    @Override
+    public double get(final int i) {
+        return e[i].doubleValue();
+    }
+
     /**
      * The method returns the elements of a vector as an array.
+     * The elements are copied into a new array on every call.
      *
      * @return the array of {@link Number}
      */
     @Override
     public Number[] toArray() {
-        return e;
+        return e.clone();
     }
 
     /**
@@ -301,11 +306,10 @@ public final class ArrayVector implements Vector {
         if (d != v.getDimension())
             throw new InvalidVectorOperationException("Vectors have different dimensions");
 
-        var _e = v.toArray();
-        var a = _e[0].doubleValue() / e[0].doubleValue();
+        var a = v.get(0) / e[0].doubleValue();
 
         for (int i = 1; i < d; i++)
-            if (a != _e[i].doubleValue() / e[i].doubleValue())
+            if (a != v.get(i) / e[i].doubleValue())
                 return false;
 
         return true;
@@ -340,7 +344,7 @@ public final class ArrayVector implements Vector {
      */
     @Override
     public double angle(final Vector v, final Angle a, final Rounding.POINT p) {
-        return Rounding.round(angle(v, a), p).doubleValue();
+        return Rounding.roundToDouble(angle(v, a), p);
     }
 
     /**
@@ -455,7 +459,7 @@ public final class ArrayVector implements Vector {
      */
     @Override
     public Vector add(final Vector vector) {
-        return new ArrayVector(addElements(e, vector.toArray()));
+        return new ArrayVector(addElements(e.clone(), vector));
     }
 
     /**
@@ -471,27 +475,27 @@ public final class ArrayVector implements Vector {
         if (vectors.size() < 2)
             throw new InvalidParameterProvidedException("The list must have at least 2 vectors");
 
-        var n = e;
+        var n = e.clone();
         for (Vector vector : vectors)
-            addElements(n, vector.toArray());
+            addElements(n, vector);
 
         return new ArrayVector(n);
     }
 
     /**
-     * The method adds two array together.
+     * The method adds a vector to the given array, in place.
      *
-     * @param e  the base array
-     * @param _e the array to be added
+     * @param e the base array
+     * @param v the vector to be added
      *
      * @return the array addition
      */
-    private Number[] addElements(final Number[] e, final Number[] _e) {
-        if (e.length != _e.length)
+    private Number[] addElements(final Number[] e, final Vector v) {
+        if (e.length != v.getDimension())
             throw new InvalidVectorOperationException("Both vectors have different dimensions");
 
         for (var i = 0; i < e.length; i++)
-            e[i] = e[i].doubleValue() + _e[i].doubleValue();
+            e[i] = e[i].doubleValue() + v.get(i);
 
         return e;
     }
@@ -523,13 +527,15 @@ public final class ArrayVector implements Vector {
      */
     @Override
     public double dot(final Vector vector) {
-        Number[] _e;
-        if (d != (_e = vector.toArray()).length)
+        if (d != vector.getDimension())
             throw new InvalidVectorOperationException("Both Vectors have different dimensions");
 
-        var sum = 0;
+        if (vector instanceof SparseVector)
+            return vector.dot(this);
+
+        var sum = 0.0;
         for (var i = 0; i < d; i++) {
-            sum += e[i].doubleValue() * _e[i].doubleValue();
+            sum += e[i].doubleValue() * vector.get(i);
         }
 
         return sum;
@@ -550,7 +556,7 @@ public final class ArrayVector implements Vector {
      */
     @Override
     public double dot(final Vector v, final Rounding.POINT p) {
-        return Rounding.round(dot(v), p).doubleValue();
+        return Rounding.roundToDouble(dot(v), p);
     }
 
     /**
@@ -575,13 +581,13 @@ public final class ArrayVector implements Vector {
      */
     @Override
     public Vector cross(final Vector v) {
-        Number[] _e, n = new Number[3];
-        if (d != 3 || (_e = v.toArray()).length != 3)
+        var n = new Number[3];
+        if (d != 3 || v.getDimension() != 3)
             throw new InvalidVectorOperationException("The cross product is only supported for vectors in 3rd dimension");
 
-        n[0] = e[1].doubleValue() * _e[2].doubleValue() - e[2].doubleValue() * _e[1].doubleValue();
-        n[1] = e[2].doubleValue() * _e[0].doubleValue() - e[0].doubleValue() * _e[2].doubleValue();
-        n[2] = e[0].doubleValue() * _e[1].doubleValue() - e[1].doubleValue() * _e[0].doubleValue();
+        n[0] = e[1].doubleValue() * v.get(2) - e[2].doubleValue() * v.get(1);
+        n[1] = e[2].doubleValue() * v.get(0) - e[0].doubleValue() * v.get(2);
+        n[2] = e[0].doubleValue() * v.get(1) - e[1].doubleValue() * v.get(0);
 
         return new ArrayVector(n);
     }
@@ -621,7 +627,7 @@ public final class ArrayVector implements Vector {
      */
     @Override
     public double scalarProjection(final Vector v, final Rounding.POINT p) {
-        return Rounding.round(scalarProjection(v), p).doubleValue();
+        return Rounding.roundToDouble(scalarProjection(v), p);
     }
 
     /**
@@ -673,6 +679,13 @@ public final class ArrayVector implements Vector {
      */
     @Override
     public Vector multiply(final Matrix m) {
+        if (m instanceof SparseMatrix) {
+            if (d != m.getDimension()[1])
+                throw new InvalidVectorOperationException("The vector dimension doesn't match with the matrix columns");
+
+            return new ArrayVector(((SparseMatrix) m).multiply(this).toArray());
+        }
+
         Number[][] _e = m.toArray();
 
         if(d != _e[0].length)
@@ -906,42 +919,10 @@ public final class ArrayVector implements Vector {
      * The class is used for caching some of the constant properties.
      */
     private static class Cache {
-        private double m;
-        private double[] cd;
-        private double[] cr;
-        private String s;
-
-        private double getM() {
-            return m;
-        }
-
-        private void setM(final double m) {
-            this.m = m;
-        }
-
-        private double[] getCd() {
-            return cd;
-        }
-
-        private void setCd(final double[] cd) {
-            this.cd = cd;
-        }
-
-        private double[] getCr() {
-            return cr;
-        }
-
-        private void setCr(final double[] cr) {
-            this.cr = cr;
-        }
-
-        private String getS() {
-            return s;
-        }
-
-        private void setS(final String s) {
-            this.s = s;
-        }
+        private final Memo<Double> m = new Memo<>();
+        private final Memo<double[]> cd = new Memo<>();
+        private final Memo<double[]> cr = new Memo<>();
+        private final Memo<String> s = new Memo<>();
     }
 
     /**
@@ -966,13 +947,11 @@ public final class ArrayVector implements Vector {
      * @return a string representation of the object.
      */
     public String toString() {
-        if (c.getS() == null) {
+        return c.s.get(() -> {
             var l = new LinkedList<String>();
             Arrays.stream(e).forEach(v -> l.add(v.toString()));
-            c.setS("<" + String.join(", ", l) + ">");
-        }
-
-        return c.getS();
+            return "<" + String.join(", ", l) + ">";
+        });
     }
 
     /**
@@ -1031,9 +1010,8 @@ public final class ArrayVector implements Vector {
         var that = (ArrayVector) obj;
         if (d != that.getDimension()) return false;
 
-        Number[] n = that.toArray();
         for (int i = 0; i < d; i++)
-            if (e[i].doubleValue() != n[i].doubleValue())
+            if (e[i].doubleValue() != that.e[i].doubleValue())
                 return false;
 
         return true;
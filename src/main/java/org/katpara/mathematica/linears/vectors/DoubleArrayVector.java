@@ -0,0 +1,891 @@
+package org.katpara.mathematica.linears.vectors;
+
+import org.katpara.mathematica.commons.Kernels;
+import org.katpara.mathematica.commons.Memo;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+import org.katpara.mathematica.exceptions.NullArgumentProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidVectorDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidVectorOperationException;
+import org.katpara.mathematica.linears.matrices.Matrix;
+import org.katpara.mathematica.linears.matrices.BandedMatrix;
+import org.katpara.mathematica.linears.matrices.SparseMatrix;
+import org.katpara.mathematica.linears.matrices.SymmetricMatrix;
+
+import java.util.*;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.katpara.mathematica.linears.vectors.Vector.Angle.DEGREE;
+
+/**
+ * The DoubleArrayVector class is an implementation of the Vector interface,
+ * that keeps the elements in an array of primitive doubles.
+ * <p>
+ * {@link ArrayVector} holds boxed numbers, so every dot product or magnitude has to
+ * unbox each element, and every operation boxes each result. This class works on
+ * primitives only; {@link #dot(Vector)}, {@link #getMagnitude()} and
+ * {@link #angle(Vector, Angle)} don't allocate at all. When both operands are
+ * primitive vectors, the operations read the arrays directly, a {@link SparseVector}
+ * is read only at its non-zero elements, otherwise the other vector is read element
+ * by element through {@link Vector#get(int)}.
+ * <p>
+ * The vector must be at least 2 dimensional or more, and it is immutable.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class DoubleArrayVector implements Vector {
+    private static final long serialVersionUID = 2811309472201693578L;
+
+    /**
+     * The vector elements are stored as an array of primitives
+     */
+    private final double[] e;
+
+    /**
+     * The dimension of the vector
+     */
+    private final int d;
+
+    /**
+     * Useful to cache some of the calculated properties
+     */
+    private final Cache c = new Cache();
+
+    /**
+     * The constructor creates a vector from the given array. The array is not copied,
+     * so it must not be changed after the vector is created.
+     *
+     * @param e the array of elements
+     *
+     * @throws InvalidVectorDimensionException if the size of the array is less than 2
+     */
+    public DoubleArrayVector(final double[] e) {
+        if (e.length < 2)
+            throw new InvalidVectorDimensionException();
+
+        this.e = e;
+        this.d = e.length;
+    }
+
+    /**
+     * The constructor will create a vector from a {@link Collection} of numbers.
+     * The collection must contain at least 2 Numbers or more; failed to comply
+     * will result in the {@link InvalidVectorDimensionException} exception.
+     *
+     * @param numbers the collection of elements
+     *
+     * @throws InvalidVectorDimensionException when the collection have less than 2 elements
+     * @throws NullArgumentProvidedException   when the collection contains null values
+     */
+    public DoubleArrayVector(final Collection<? extends Number> numbers) {
+        if ((e = new double[numbers.size()]).length < 2)
+            throw new InvalidVectorDimensionException();
+
+        var i = 0;
+        for (var n : numbers) {
+            if (n == null)
+                throw new NullArgumentProvidedException();
+
+            e[i++] = n.doubleValue();
+        }
+
+        this.d = e.length;
+    }
+
+    /**
+     * The constructor converts any other {@link Vector} into a primitive vector.
+     * When the given vector is already a {@link DoubleArrayVector}, the storage is
+     * shared rather than copied, since both of them are immutable.
+     *
+     * @param v the vector to convert
+     */
+    public DoubleArrayVector(final Vector v) {
+        if (v instanceof DoubleArrayVector) {
+            this.e = ((DoubleArrayVector) v).e;
+        } else {
+            this.e = new double[v.getDimension()];
+            for (var i = 0; i < e.length; i++)
+                e[i] = v.get(i);
+        }
+
+        this.d = e.length;
+    }
+
+    /**
+     * A dimension of a vector is determined based on the number of elements
+     * it holds. Such as, a two-dimensional vector could be represented as,
+     * (v1, v12); the same as an n-dimensional vector can be represented
+     * as (v1, v2,...., vn), where n belongs to the set of natural numbers "N".
+     *
+     * @return the dimension of the vector
+     */
+    @Override
+    public int getDimension() {
+        return d;
+    }
+
+    /**
+     * The method returns a single element of the vector.
+     *
+     * @param i the zero based index
+     *
+     * @return the element at the given index
+     *
+     * @throws IndexOutOfBoundsException if the index is outside the vector
+     */
+    @Override
+    public double get(final int i) {
+        return e[i];
+    }
+
+    /**
+     * The magnitude of a vector, also known as "norm", is square root of
+     * the sum all the vector elements powered by 2.
+     * <p>
+     * For n-dimensional vector, the magnitude is defined as;
+     * |v| = sqrt(v1^2 + v2^2 + ... + vn^2).
+     *
+     * @return the magnitude of the vector
+     */
+    @Override
+    public double getMagnitude() {
+        return c.m.get(() -> {
+            var s = 0.0;
+            for (var v : e)
+                s += v * v;
+
+            return Math.sqrt(s);
+        });
+    }
+
+    /**
+     * The magnitude of a vector, also known as "norm", is square root of
+     * the sum all the vector elements powered by 2.
+     *
+     * @param p the value round up to the given decimal point
+     *          see, {@link Rounding.POINT}
+     *
+     * @return the magnitude of the vector
+     */
+    @Override
+    public double getMagnitude(final Rounding.POINT p) {
+        return Rounding.roundToDouble(getMagnitude(), p);
+    }
+
+    /**
+     * The method calculates the cosines with respect to their dimensional axioms.
+     * The number of elements in the returned array will be equal to the number of
+     * dimensions.
+     *
+     * @param a The angle, see {@link Angle}
+     *
+     * @return an array of cosines with respect to axiom.
+     */
+    @Override
+    public double[] getCosines(final Angle a) {
+        return (a == DEGREE ? c.cd : c.cr).get(() -> calculateCosines(a)).clone();
+    }
+
+    /**
+     * The method calculates the cosines with respect to their dimensional axioms.
+     * The number of elements in the returned array will be equal to the number of
+     * dimensions.
+     *
+     * @param a the angle, see {@link Angle}
+     * @param p the rounding point
+     *
+     * @return an array of cosines with respect to axiom.
+     */
+    @Override
+    public double[] getCosines(final Angle a, final Rounding.POINT p) {
+        return Rounding.round(getCosines(a), p);
+    }
+
+    /**
+     * The method calculates the cosigns.
+     *
+     * @param a the angle specification
+     *
+     * @return the array with cosines
+     */
+    private double[] calculateCosines(final Angle a) {
+        var n = new double[d];
+        var m = getMagnitude();
+
+        for (var i = 0; i < d; i++)
+            n[i] = (a == DEGREE) ? Math.toDegrees(e[i] / m) : e[i] / m;
+
+        return n;
+    }
+
+    /**
+     * The method returns the elements of a vector as an array.
+     * The elements are boxed into a new array on every call.
+     *
+     * @return the array of {@link Number}
+     */
+    @Override
+    public Number[] toArray() {
+        var n = new Number[d];
+        for (var i = 0; i < d; i++)
+            n[i] = e[i];
+
+        return n;
+    }
+
+    /**
+     * The method returns a copy of the elements as primitives.
+     *
+     * @return the array of elements
+     */
+    public double[] toDoubleArray() {
+        return e.clone();
+    }
+
+    /**
+     * The method returns the elements of a vector as a list of {@link Number}.
+     *
+     * @return the list of {@link Number}
+     */
+    @Override
+    public List<Number> toList() {
+        return new ArrayList<>(Arrays.asList(toArray()));
+    }
+
+    /**
+     * If the given vector is orthogonal to the current vector, then it returns true;
+     * otherwise it would be false. Two vectors are orthogonal when their dot product is zero.
+     *
+     * @param v the vector to check orthogonality
+     *
+     * @return true if it's orthogonal
+     *
+     * @throws InvalidVectorOperationException when both vectors have different dimensions
+     */
+    @Override
+    public boolean isOrthogonal(final Vector v) {
+        return dot(v) == 0;
+    }
+
+    /**
+     * If the given vector is parallel to the current vector then it returns true.
+     * <p>
+     * If a vector V1 = (v1, v2, ... , vn), and a vector W = (w1, w2, ..., wn);
+     * where n belongs to the set of Integers. Then the parallel vectors can be
+     * written as;
+     * W = a(V); where a is a constant (here "the factor").
+     *
+     * @param v the vector to check parallelism
+     *
+     * @return if it's parallel then returns true
+     *
+     * @throws InvalidVectorOperationException when both vectors have different dimensions
+     */
+    @Override
+    public boolean isParallel(final Vector v) {
+        if (d != v.getDimension())
+            throw new InvalidVectorOperationException("Vectors have different dimensions");
+
+        var a = Double.NaN;
+        for (var i = 0; i < d; i++) {
+            double w = v.get(i);
+
+            if (e[i] == 0) {
+                if (w != 0)
+                    return false;
+            } else if (Double.isNaN(a)) {
+                a = w / e[i];
+            } else if (a != w / e[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The method returns the angle between two vectors.
+     *
+     * @param v the another vector to calculate
+     * @param a the angle either in degree or radian, see {@link Angle}
+     *
+     * @return the angle in degrees or radian.
+     */
+    @Override
+    public double angle(final Vector v, final Angle a) {
+        var cos = dot(v) / (getMagnitude() * v.getMagnitude());
+        var r = Math.acos(Math.max(-1, Math.min(1, cos)));
+        return (a == DEGREE) ? Math.toDegrees(r) : r;
+    }
+
+    /**
+     * The method returns the angle between two vectors.
+     *
+     * @param v the another vector to calculate
+     * @param a the angle either in degree or radian, See, {@link Angle}
+     * @param p the decimal point you want to round up to
+     *
+     * @return the angle in degrees or radian.
+     */
+    @Override
+    public double angle(final Vector v, final Angle a, final Rounding.POINT p) {
+        return Rounding.roundToDouble(angle(v, a), p);
+    }
+
+    /**
+     * The method will return the inverse vector.
+     * The inverse vector satisfy the following equation:
+     * V + inverse(V) = 0 (Zero Vector).
+     *
+     * @return the inverse vector
+     */
+    @Override
+    public Vector inverse() {
+        return scale(-1);
+    }
+
+    /**
+     * The method will scale the vector by the given value, and returns a new vector.
+     *
+     * @param s the scalar you want to scale the vector with.
+     *
+     * @return a new vector scaled by the given number.
+     */
+    @Override
+    public Vector scale(final double s) {
+        var n = new double[d];
+        for (var i = 0; i < d; i++)
+            n[i] = e[i] * s;
+
+        return new DoubleArrayVector(n);
+    }
+
+    /**
+     * The method will transpose vector to another dimension. If the given dimension
+     * is less then 2 or the same as the vector's dimension then the method will
+     * throw {@link InvalidVectorDimensionException} exception.
+     *
+     * @param dimension the dimension to be transposed to
+     *
+     * @return the transposed vector
+     *
+     * @throws InvalidVectorDimensionException when the given dimension is less
+     *                                         than 2 or the same as the given
+     *                                         vector dimension
+     */
+    @Override
+    public Vector transpose(final int dimension) {
+        if (dimension < 2 || this.d == dimension)
+            throw new InvalidVectorDimensionException();
+
+        return new DoubleArrayVector(Arrays.copyOf(e, dimension));
+    }
+
+    /**
+     * The method performs the scalar addition on the vector.
+     *
+     * @param s the scalar to add
+     *
+     * @return a resulting vector
+     */
+    @Override
+    public Vector add(final Number s) {
+        var n = new double[d];
+        var _s = s.doubleValue();
+
+        for (var i = 0; i < d; i++)
+            n[i] = e[i] + _s;
+
+        return new DoubleArrayVector(n);
+    }
+
+    /**
+     * The method will add a vector to the current vector.
+     * In order to add another vector, both vectors must in the same dimension.
+     *
+     * @param v the vector to be added
+     *
+     * @return the resulting vector
+     *
+     * @throws InvalidVectorOperationException if the vectors have different dimensions
+     */
+    @Override
+    public Vector add(final Vector v) {
+        return new DoubleArrayVector(addElements(e.clone(), v, 1));
+    }
+
+    /**
+     * The method will add a list of vectors to the current vector.
+     * In order to vectors from the list, all vectors must in the same dimension.
+     *
+     * @param vectors the list of vector
+     *
+     * @return the resulting vector
+     *
+     * @throws InvalidParameterProvidedException if the list has less than 2 vectors
+     * @throws InvalidVectorOperationException   if the vectors have different dimensions
+     */
+    @Override
+    public Vector add(final List<Vector> vectors) {
+        if (vectors.size() < 2)
+            throw new InvalidParameterProvidedException("The list must have at least 2 vectors");
+
+        var n = e.clone();
+        for (var v : vectors)
+            addElements(n, v, 1);
+
+        return new DoubleArrayVector(n);
+    }
+
+    /**
+     * The method will subtract a vector from the current vector.
+     * In order to subtract another vector, both vectors must in the same dimension.
+     *
+     * @param v the vector to be subtracted
+     *
+     * @return the resulting vector
+     *
+     * @throws InvalidVectorOperationException if the vectors have different dimensions
+     */
+    @Override
+    public Vector subtract(final Vector v) {
+        return new DoubleArrayVector(addElements(e.clone(), v, -1));
+    }
+
+    /**
+     * The method adds a scaled vector to the given array, in place.
+     *
+     * @param n the array to add to
+     * @param v the vector to be added
+     * @param s the scale of the added vector, i.e. 1 or -1
+     *
+     * @return the same array
+     */
+    private static double[] addElements(final double[] n, final Vector v, final double s) {
+        if (n.length != v.getDimension())
+            throw new InvalidVectorOperationException("Both vectors have different dimensions");
+
+        if (v instanceof DoubleArrayVector) {
+            Kernels.axpy(s, ((DoubleArrayVector) v).e, 0, n, 0, n.length);
+        } else if (v instanceof SparseVector) {
+            var _v = (SparseVector) v;
+            var x = _v.getIndices();
+            var e = _v.getValues();
+            for (var k = 0; k < x.length; k++)
+                n[x[k]] += s * e[k];
+        } else {
+            for (var i = 0; i < n.length; i++)
+                n[i] += s * v.get(i);
+        }
+
+        return n;
+    }
+
+    /**
+     * The method will return a dot product of two vectors.
+     * If both vectors are on different dimensions then
+     * {@link InvalidVectorOperationException} exception is thrown.
+     *
+     * @param v the second vector
+     *
+     * @return the resulting dot product
+     *
+     * @throws InvalidVectorOperationException when both products are on different
+     *                                         dimensions.
+     */
+    @Override
+    public double dot(final Vector v) {
+        if (d != v.getDimension())
+            throw new InvalidVectorOperationException("Both Vectors have different dimensions");
+
+        if (v instanceof DoubleArrayVector)
+            return Kernels.dot(e, ((DoubleArrayVector) v).e, d);
+
+        if (v instanceof SparseVector)
+            return v.dot(this);
+
+        var sum = 0.0;
+        for (var i = 0; i < d; i++)
+            sum += e[i] * v.get(i);
+
+        return sum;
+    }
+
+    /**
+     * The method will return a dot product of two vectors.
+     *
+     * @param v the second vector
+     * @param p the rounding point, {@link Rounding.POINT}
+     *
+     * @return the resulting dot product
+     *
+     * @throws InvalidVectorOperationException when both products are on different
+     *                                         dimensions.
+     */
+    @Override
+    public double dot(final Vector v, final Rounding.POINT p) {
+        return Rounding.roundToDouble(dot(v), p);
+    }
+
+    /**
+     * The method returns the cross product of two vectors.
+     * A cross product of two vectors if a new vector, this
+     * new vector is perpendicular to both vectors.
+     *
+     * @param v the second 3 dimensional vector
+     *
+     * @return the cross product vector
+     *
+     * @throws InvalidVectorOperationException when both vectors are not in
+     *                                         the third dimension.
+     */
+    @Override
+    public Vector cross(final Vector v) {
+        if (d != 3 || v.getDimension() != 3)
+            throw new InvalidVectorOperationException("The cross product is only supported for vectors in 3rd dimension");
+
+        double x = v.get(0), y = v.get(1), z = v.get(2);
+
+        return new DoubleArrayVector(new double[]{
+                e[1] * z - e[2] * y,
+                e[2] * x - e[0] * z,
+                e[0] * y - e[1] * x
+        });
+    }
+
+    /**
+     * The method calculates the scalar project of a given vector onto
+     * the current vector.
+     * <p>
+     * Let this vector be V and the given vector be W.
+     * The scalar projection is defined as,
+     * dot(V, W) / magnitude(V)
+     *
+     * @param v the projecting vector
+     *
+     * @return the projected scalar
+     */
+    @Override
+    public double scalarProjection(final Vector v) {
+        return dot(v) / getMagnitude();
+    }
+
+    /**
+     * The method calculates the scalar project of a given vector onto
+     * the current vector.
+     *
+     * @param v the projecting vector
+     * @param p the rounding point, {@link Rounding.POINT}
+     *
+     * @return the projected scalar
+     */
+    @Override
+    public double scalarProjection(final Vector v, final Rounding.POINT p) {
+        return Rounding.roundToDouble(scalarProjection(v), p);
+    }
+
+    /**
+     * The method calculates the vector project of a given vector onto
+     * the current vector. This will produce another vector.
+     * <p>
+     * Let this vector be V and the given vector be W.
+     * The vector projection is defined as,
+     * [dot(V, W) / magnitude(V)] x V
+     *
+     * @param v the projecting vector
+     *
+     * @return the projected scalar
+     */
+    @Override
+    public Vector vectorProjection(final Vector v) {
+        return new DoubleArrayVector(calculateProjection(v));
+    }
+
+    /**
+     * The method will return a rejection vector from the the given vector.
+     * The projecting vector can be calculated as;
+     * R = V - ScalarProjection(W)
+     *
+     * @param v the projecting vector
+     *
+     * @return the rejection vector
+     */
+    @Override
+    public Vector vectorRejection(final Vector v) {
+        var n = calculateProjection(v);
+        for (var i = 0; i < d; i++)
+            n[i] = e[i] - n[i];
+
+        return new DoubleArrayVector(n);
+    }
+
+    /**
+     * The method calculates the elements of projection
+     *
+     * @param v the projecting vector
+     *
+     * @return the array with projection
+     */
+    private double[] calculateProjection(final Vector v) {
+        double sp = scalarProjection(v), m = getMagnitude();
+        var n = new double[d];
+
+        for (var i = 0; i < d; i++)
+            n[i] = sp * e[i] / m;
+
+        return n;
+    }
+
+    /**
+     * The method will perform multiplication of a matrix with a vector.
+     * The vector must have the dimension equal to the number of columns of the matrix,
+     * and the resulting vector has the dimension equal to the number of rows.
+     * The product with a {@link SparseMatrix} only visits its non-zero elements,
+     * the product with a {@link SymmetricMatrix} only its packed triangle and the product
+     * with a {@link BandedMatrix} only its band.
+     *
+     * @param m the matrix to multiply
+     *
+     * @return the resulting vector
+     *
+     * @throws InvalidVectorOperationException if the number of columns is not equal to
+     *                                         the dimension of a given vector
+     */
+    @Override
+    public Vector multiply(final Matrix m) {
+        var _d = m.getDimension();
+
+        if (d != _d[1])
+            throw new InvalidVectorOperationException("The vector dimension doesn't match with the matrix columns");
+
+        if (m instanceof SparseMatrix)
+            return ((SparseMatrix) m).multiply(this);
+
+        if (m instanceof SymmetricMatrix)
+            return ((SymmetricMatrix) m).multiply(this);
+
+        if (m instanceof BandedMatrix)
+            return ((BandedMatrix) m).multiply(this);
+
+        var n = new double[_d[0]];
+        for (var i = 0; i < _d[0]; i++) {
+            var sum = 0.0;
+            for (var j = 0; j < d; j++)
+                sum += m.get(i, j) * e[j];
+
+            n[i] = sum;
+        }
+
+        return new DoubleArrayVector(n);
+    }
+
+    /**
+     * The method will return an unit vector of given dimensions.
+     *
+     * @param d the dimension of a vector
+     *
+     * @return a vector
+     */
+    public static DoubleArrayVector of(final int d) {
+        if (d < 2)
+            throw new InvalidVectorDimensionException();
+
+        var n = new double[d];
+        Arrays.fill(n, 1);
+        return new DoubleArrayVector(n);
+    }
+
+    /**
+     * The method creates a two-dimensional {@link DoubleArrayVector}.
+     *
+     * @param x x value
+     * @param y y Value
+     *
+     * @return a {@link DoubleArrayVector}
+     */
+    public static DoubleArrayVector of(final double x, final double y) {
+        return new DoubleArrayVector(new double[]{x, y});
+    }
+
+    /**
+     * The method creates a three-dimensional {@link DoubleArrayVector}.
+     *
+     * @param x x value
+     * @param y y Value
+     * @param z z Value
+     *
+     * @return a {@link DoubleArrayVector}
+     */
+    public static DoubleArrayVector of(final double x, final double y, final double z) {
+        return new DoubleArrayVector(new double[]{x, y, z});
+    }
+
+    /**
+     * The method creates a four-dimensional {@link DoubleArrayVector}.
+     *
+     * @param x x value
+     * @param y y Value
+     * @param z z Value
+     * @param t t Value
+     *
+     * @return a {@link DoubleArrayVector}
+     */
+    public static DoubleArrayVector of(final double x, final double y, final double z, final double t) {
+        return new DoubleArrayVector(new double[]{x, y, z, t});
+    }
+
+    /**
+     * The method will generate vector elements based on the provided lambda functions.
+     *
+     * @param d the number of dimensions
+     * @param o the lambda function to be apply at each increment
+     *
+     * @return the {@link DoubleArrayVector}
+     */
+    public static DoubleArrayVector of(final int d, final DoubleUnaryOperator o) {
+        var n = new double[Math.max(d, 0)];
+
+        for (var i = 0; i < n.length; i++)
+            n[i] = o.applyAsDouble(i);
+
+        return new DoubleArrayVector(n);
+    }
+
+    /**
+     * The method will generate vector elements based on the provided lambda functions.
+     * It will also rounds up the values to the given decimal points.
+     *
+     * @param d the number of dimensions
+     * @param o the lambda function to be apply at each increment
+     * @param p the decimal point precision
+     *
+     * @return the {@link DoubleArrayVector}
+     */
+    public static DoubleArrayVector of(final int d, final DoubleUnaryOperator o, final Rounding.POINT p) {
+        return of(d, i -> Rounding.roundToDouble(o.applyAsDouble(i), p));
+    }
+
+    /**
+     * The method will generate vector elements based on the provided lambda functions.
+     * The min and max are the lower and upper bound values for generating values.
+     *
+     * @param d   the number of dimensions
+     * @param min the lower bound value (inclusive)
+     * @param max the upper bound value (Exclusive)
+     * @param o   the lambda function to be apply at each increment
+     *
+     * @return the {@link DoubleArrayVector}
+     */
+    public static DoubleArrayVector of(final int d, final double min, final double max, final DoubleUnaryOperator o) {
+        return of(d, i -> o.applyAsDouble(min + (Math.random() * (max - min))));
+    }
+
+    /**
+     * The method will generate vector elements based on the provided lambda functions.
+     * The min and max are the lower and upper bound values for generating values.
+     * The method also rounds up values to given decimal points.
+     *
+     * @param d   the number of dimensions
+     * @param min the lower bound value (inclusive)
+     * @param max the upper bound value (Exclusive)
+     * @param o   the lambda function to be apply at each increment
+     * @param p   the decimal point precision
+     *
+     * @return the {@link DoubleArrayVector}
+     */
+    public static DoubleArrayVector of(final int d, final double min, final double max, final DoubleUnaryOperator o,
+                                       final Rounding.POINT p) {
+        return of(d, i -> Rounding.roundToDouble(o.applyAsDouble(min + (Math.random() * (max - min))), p));
+    }
+
+    /**
+     * The method will generate a vector of random values between 0 and 1.
+     *
+     * @param d the number of dimensions
+     * @param p the rounding decimals
+     *
+     * @return the random vector
+     */
+    public static DoubleArrayVector of(final int d, final Rounding.POINT p) {
+        return of(d, 0, 1, p);
+    }
+
+    /**
+     * The method will create a random vector, with given upper and lower bound limits,
+     * as well as the rounding mode.
+     *
+     * @param d   the dimension of the vector
+     * @param min the lower bound limit
+     * @param max the upper bound limit
+     * @param p   the rounding decimal points
+     *
+     * @return the random vector
+     */
+    public static DoubleArrayVector of(final int d, final double min, final double max, final Rounding.POINT p) {
+        return of(d, i -> Rounding.roundToDouble(min + (Math.random() * (max - min)), p));
+    }
+
+    /**
+     * The class is used for caching some of the constant properties.
+     */
+    private static class Cache {
+        private final Memo<Double> m = new Memo<>();
+        private final Memo<double[]> cd = new Memo<>();
+        private final Memo<double[]> cr = new Memo<>();
+    }
+
+    /**
+     * Returns a string representation of the object, in the same
+     * format as {@link ArrayVector}, i.e. &lt;1.0, 2.0&gt;.
+     *
+     * @return a string representation of the object.
+     */
+    public String toString() {
+        var s = new StringJoiner(", ", "<", ">");
+        for (var v : e)
+            s.add(Double.toString(v));
+
+        return s.toString();
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     * Two primitive vectors are equal when they have the same dimension
+     * and all of their elements are equal.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     *
+     * @see #hashCode()
+     */
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        var that = (DoubleArrayVector) obj;
+        if (d != that.d) return false;
+
+        for (int i = 0; i < d; i++)
+            if (e[i] != that.e[i])
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Returns a hash code value for the object, where 0.0 and -0.0 hash
+     * alike so that the method stays consistent with {@link #equals(Object)}.
+     *
+     * @return a hash code value for this object.
+     *
+     * @see Object#equals(Object)
+     */
+    public int hashCode() {
+        int hash = 1;
+        for (var v : e) hash = 31 * hash + Double.hashCode(v + 0.0);
+        return hash;
+    }
+}
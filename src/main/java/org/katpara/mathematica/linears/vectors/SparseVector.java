@@ -0,0 +1,825 @@
+package org.katpara.mathematica.linears.vectors;
+
+import org.katpara.mathematica.commons.Memo;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidVectorDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidVectorOperationException;
+import org.katpara.mathematica.linears.matrices.Matrix;
+import org.katpara.mathematica.linears.matrices.SparseMatrix;
+
+import java.util.*;
+
+import static org.katpara.mathematica.linears.vectors.Vector.Angle.DEGREE;
+
+/**
+ * The SparseVector class is an implementation of the Vector interface for the vectors,
+ * where almost all the elements are zero, e.g. the bag-of-words or the one-hot features.
+ * <p>
+ * The vector keeps only its non-zero elements, as the sorted indices and their values,
+ * so the memory scales with the number of non-zero elements (nnz) rather than with the
+ * dimension. {@link #getMagnitude()} takes O(nnz), and the dot product, the sum and the
+ * difference of two sparse vectors merge their indices in O(nnz1 + nnz2). The dot product
+ * with any other vector reads only the nnz elements of the other vector, so it takes
+ * O(nnz) as well.
+ * <p>
+ * The operations that fill the zeros in, such as the scalar addition or the sum with
+ * a dense vector, return a {@link DoubleArrayVector}. The zeros are never stored, so
+ * two sparse vectors with the same elements have the same arrays.
+ * <p>
+ * The vector must be at least 2 dimensional or more, and it is immutable.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+public final class SparseVector implements Vector {
+    private static final long serialVersionUID = -3158817702951617724L;
+
+    /**
+     * The dimension of the vector
+     */
+    private final int d;
+
+    /**
+     * The sorted indices of the non-zero elements
+     */
+    private final int[] x;
+
+    /**
+     * The non-zero elements
+     */
+    private final double[] v;
+
+    /**
+     * Useful to cache some of the calculated properties
+     */
+    private final Cache c = new Cache();
+
+    /**
+     * The constructor creates a vector out of the sorted indices and their non-zero
+     * values, which are not copied.
+     *
+     * @param d the dimension
+     * @param x the indices
+     * @param v the values
+     *
+     * @throws InvalidVectorDimensionException if the dimension is less than 2
+     */
+    SparseVector(final int d, final int[] x, final double[] v) {
+        if (d < 2)
+            throw new InvalidVectorDimensionException();
+
+        this.d = d;
+        this.x = x;
+        this.v = v;
+    }
+
+    /**
+     * A dimension of a vector is determined based on the number of elements
+     * it holds, the zeros included.
+     *
+     * @return the dimension of the vector
+     */
+    @Override
+    public int getDimension() {
+        return d;
+    }
+
+    /**
+     * The method returns the number of non-zero elements.
+     *
+     * @return the number of non-zero elements
+     */
+    public int getNonZeros() {
+        return x.length;
+    }
+
+    /**
+     * The method returns a copy of the sorted indices of the non-zero elements.
+     *
+     * @return the indices
+     */
+    public int[] getIndices() {
+        return x.clone();
+    }
+
+    /**
+     * The method returns a copy of the non-zero elements, in the order of their indices.
+     *
+     * @return the values
+     */
+    public double[] getValues() {
+        return v.clone();
+    }
+
+    /**
+     * The method returns a single element of the vector, it is looked up with
+     * a binary search through the non-zero elements.
+     *
+     * @param i the zero based index
+     *
+     * @return the element at the given index
+     *
+     * @throws IndexOutOfBoundsException if the index is outside the vector
+     */
+    @Override
+    public double get(final int i) {
+        Objects.checkIndex(i, d);
+
+        var k = Arrays.binarySearch(x, i);
+        return (k < 0) ? 0 : v[k];
+    }
+
+    /**
+     * The magnitude of a vector, also known as "norm", is square root of
+     * the sum all the vector elements powered by 2, only the non-zero
+     * elements are visited.
+     *
+     * @return the magnitude of the vector
+     */
+    @Override
+    public double getMagnitude() {
+        return c.m.get(() -> {
+            var s = 0.0;
+            for (var e : v)
+                s += e * e;
+
+            return Math.sqrt(s);
+        });
+    }
+
+    /**
+     * The magnitude of a vector, also known as "norm", is square root of
+     * the sum all the vector elements powered by 2.
+     *
+     * @param p the value round up to the given decimal point
+     *          see, {@link Rounding.POINT}
+     *
+     * @return the magnitude of the vector
+     */
+    @Override
+    public double getMagnitude(final Rounding.POINT p) {
+        return Rounding.roundToDouble(getMagnitude(), p);
+    }
+
+    /**
+     * The method calculates the cosines with respect to their dimensional axioms.
+     * The number of elements in the returned array will be equal to the number of
+     * dimensions.
+     *
+     * @param a The angle, see {@link Angle}
+     *
+     * @return an array of cosines with respect to axiom.
+     */
+    @Override
+    public double[] getCosines(final Angle a) {
+        var n = new double[d];
+        var m = getMagnitude();
+
+        for (var k = 0; k < x.length; k++)
+            n[x[k]] = (a == DEGREE) ? Math.toDegrees(v[k] / m) : v[k] / m;
+
+        return n;
+    }
+
+    /**
+     * The method calculates the cosines with respect to their dimensional axioms.
+     * The number of elements in the returned array will be equal to the number of
+     * dimensions.
+     *
+     * @param a the angle, see {@link Angle}
+     * @param p the rounding point
+     *
+     * @return an array of cosines with respect to axiom.
+     */
+    @Override
+    public double[] getCosines(final Angle a, final Rounding.POINT p) {
+        return Rounding.round(getCosines(a), p);
+    }
+
+    /**
+     * The method returns the elements of a vector as an array, the zeros included.
+     * The elements are boxed into a new array on every call.
+     *
+     * @return the array of {@link Number}
+     */
+    @Override
+    public Number[] toArray() {
+        var n = new Number[d];
+        Arrays.fill(n, 0.0);
+
+        for (var k = 0; k < x.length; k++)
+            n[x[k]] = v[k];
+
+        return n;
+    }
+
+    /**
+     * The method returns all the elements as primitives, the zeros included.
+     *
+     * @return the array of elements
+     */
+    public double[] toDoubleArray() {
+        var n = new double[d];
+        for (var k = 0; k < x.length; k++)
+            n[x[k]] = v[k];
+
+        return n;
+    }
+
+    /**
+     * The method returns the elements of a vector as a list of {@link Number}.
+     *
+     * @return the list of {@link Number}
+     */
+    @Override
+    public List<Number> toList() {
+        return new ArrayList<>(Arrays.asList(toArray()));
+    }
+
+    /**
+     * If the given vector is orthogonal to the current vector, then it returns true;
+     * otherwise it would be false. Two vectors are orthogonal when their dot product is zero.
+     *
+     * @param o the vector to check orthogonality
+     *
+     * @return true if it's orthogonal
+     *
+     * @throws InvalidVectorOperationException when both vectors have different dimensions
+     */
+    @Override
+    public boolean isOrthogonal(final Vector o) {
+        return dot(o) == 0;
+    }
+
+    /**
+     * If the given vector is parallel to the current vector then it returns true,
+     * i.e. W = a(V); where a is a constant. The other vector must be zero wherever
+     * this vector is, so a sparse vector must have the same indices.
+     *
+     * @param o the vector to check parallelism
+     *
+     * @return if it's parallel then returns true
+     *
+     * @throws InvalidVectorOperationException when both vectors have different dimensions
+     */
+    @Override
+    public boolean isParallel(final Vector o) {
+        if (d != o.getDimension())
+            throw new InvalidVectorOperationException("Vectors have different dimensions");
+
+        if (o instanceof SparseVector && !Arrays.equals(x, ((SparseVector) o).x))
+            return false;
+
+        var a = Double.NaN;
+        for (int i = 0, k = 0; i < d; i++) {
+            var w = o.get(i);
+
+            if (k == x.length || x[k] != i) {
+                if (w != 0)
+                    return false;
+            } else if (Double.isNaN(a)) {
+                a = w / v[k++];
+            } else if (a != w / v[k++]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The method returns the angle between two vectors.
+     *
+     * @param o the another vector to calculate
+     * @param a the angle either in degree or radian, see {@link Angle}
+     *
+     * @return the angle in degrees or radian.
+     */
+    @Override
+    public double angle(final Vector o, final Angle a) {
+        var cos = dot(o) / (getMagnitude() * o.getMagnitude());
+        var r = Math.acos(Math.max(-1, Math.min(1, cos)));
+        return (a == DEGREE) ? Math.toDegrees(r) : r;
+    }
+
+    /**
+     * The method returns the angle between two vectors.
+     *
+     * @param o the another vector to calculate
+     * @param a the angle either in degree or radian, See, {@link Angle}
+     * @param p the decimal point you want to round up to
+     *
+     * @return the angle in degrees or radian.
+     */
+    @Override
+    public double angle(final Vector o, final Angle a, final Rounding.POINT p) {
+        return Rounding.roundToDouble(angle(o, a), p);
+    }
+
+    /**
+     * The method will return the inverse vector.
+     * The inverse vector satisfy the following equation:
+     * V + inverse(V) = 0 (Zero Vector).
+     *
+     * @return the inverse vector
+     */
+    @Override
+    public Vector inverse() {
+        return scale(-1);
+    }
+
+    /**
+     * The method will scale the vector by the given value, and returns a new sparse vector.
+     *
+     * @param s the scalar you want to scale the vector with.
+     *
+     * @return a new vector scaled by the given number.
+     */
+    @Override
+    public Vector scale(final double s) {
+        var n = new double[x.length];
+        for (var k = 0; k < n.length; k++)
+            n[k] = v[k] * s;
+
+        return compact(d, x.clone(), n, n.length);
+    }
+
+    /**
+     * The method will transpose vector to another dimension, the elements
+     * outside the new dimension are dropped.
+     *
+     * @param dimension the dimension to be transposed to
+     *
+     * @return the transposed vector
+     *
+     * @throws InvalidVectorDimensionException when the given dimension is less
+     *                                         than 2 or the same as the given
+     *                                         vector dimension
+     */
+    @Override
+    public Vector transpose(final int dimension) {
+        if (dimension < 2 || this.d == dimension)
+            throw new InvalidVectorDimensionException();
+
+        var k = Arrays.binarySearch(x, dimension);
+        var l = (k < 0) ? -k - 1 : k;
+        return new SparseVector(dimension, Arrays.copyOf(x, l), Arrays.copyOf(v, l));
+    }
+
+    /**
+     * The method performs the scalar addition on the vector, the zeros
+     * are filled in, so the result is a {@link DoubleArrayVector}.
+     *
+     * @param s the scalar to add
+     *
+     * @return a resulting vector
+     */
+    @Override
+    public Vector add(final Number s) {
+        var n = new double[d];
+        Arrays.fill(n, s.doubleValue());
+
+        for (var k = 0; k < x.length; k++)
+            n[x[k]] += v[k];
+
+        return new DoubleArrayVector(n);
+    }
+
+    /**
+     * The method will add a vector to the current vector. The sum of two sparse vectors
+     * is sparse, otherwise it is a {@link DoubleArrayVector}.
+     *
+     * @param o the vector to be added
+     *
+     * @return the resulting vector
+     *
+     * @throws InvalidVectorOperationException if the vectors have different dimensions
+     */
+    @Override
+    public Vector add(final Vector o) {
+        return addSubtract(o, 1);
+    }
+
+    /**
+     * The method will add a list of vectors to the current vector, the sum stays
+     * sparse as long as all the vectors are sparse.
+     *
+     * @param vectors the list of vector
+     *
+     * @return the resulting vector
+     *
+     * @throws InvalidParameterProvidedException if the list has less than 2 vectors
+     * @throws InvalidVectorOperationException   if the vectors have different dimensions
+     */
+    @Override
+    public Vector add(final List<Vector> vectors) {
+        if (vectors.size() < 2)
+            throw new InvalidParameterProvidedException("The list must have at least 2 vectors");
+
+        Vector n = this;
+        for (var o : vectors)
+            n = n.add(o);
+
+        return n;
+    }
+
+    /**
+     * The method will subtract a vector from the current vector. The difference of
+     * two sparse vectors is sparse, otherwise it is a {@link DoubleArrayVector}.
+     *
+     * @param o the vector to be subtracted
+     *
+     * @return the resulting vector
+     *
+     * @throws InvalidVectorOperationException if the vectors have different dimensions
+     */
+    @Override
+    public Vector subtract(final Vector o) {
+        return addSubtract(o, -1);
+    }
+
+    /**
+     * The method calculates this + s x o.
+     *
+     * @param o the other vector
+     * @param s 1 to add, -1 to subtract
+     *
+     * @return the resulting vector
+     *
+     * @throws InvalidVectorOperationException if the vectors have different dimensions
+     */
+    private Vector addSubtract(final Vector o, final int s) {
+        if (d != o.getDimension())
+            throw new InvalidVectorOperationException("Both vectors have different dimensions");
+
+        if (o instanceof SparseVector)
+            return merge((SparseVector) o, s);
+
+        var n = new double[d];
+        for (var i = 0; i < d; i++)
+            n[i] = s * o.get(i);
+
+        for (var k = 0; k < x.length; k++)
+            n[x[k]] += v[k];
+
+        return new DoubleArrayVector(n);
+    }
+
+    /**
+     * The method merges the sorted indices of two sparse vectors, it calculates this + s x b.
+     *
+     * @param b the other vector
+     * @param s 1 to add, -1 to subtract
+     *
+     * @return the resulting sparse vector
+     */
+    private SparseVector merge(final SparseVector b, final int s) {
+        var n = x.length + b.x.length;
+        int[] rx = new int[n];
+        var rv = new double[n];
+        int ka = 0, kb = 0, l = 0;
+
+        while (ka < x.length || kb < b.x.length) {
+            if (kb == b.x.length || (ka < x.length && x[ka] < b.x[kb])) {
+                rx[l] = x[ka];
+                rv[l++] = v[ka++];
+            } else if (ka == x.length || b.x[kb] < x[ka]) {
+                rx[l] = b.x[kb];
+                rv[l++] = s * b.v[kb++];
+            } else {
+                rx[l] = x[ka];
+                rv[l++] = v[ka++] + s * b.v[kb++];
+            }
+        }
+
+        return compact(d, rx, rv, l);
+    }
+
+    /**
+     * The method will return a dot product of two vectors. The indices of two sparse
+     * vectors are merged, any other vector is read only at the non-zero indices,
+     * so it takes O(nnz) either way.
+     *
+     * @param o the second vector
+     *
+     * @return the resulting dot product
+     *
+     * @throws InvalidVectorOperationException when both products are on different
+     *                                         dimensions.
+     */
+    @Override
+    public double dot(final Vector o) {
+        if (d != o.getDimension())
+            throw new InvalidVectorOperationException("Both Vectors have different dimensions");
+
+        var sum = 0.0;
+        if (o instanceof SparseVector) {
+            var b = (SparseVector) o;
+            for (int ka = 0, kb = 0; ka < x.length && kb < b.x.length; ) {
+                if (x[ka] < b.x[kb])
+                    ka++;
+                else if (x[ka] > b.x[kb])
+                    kb++;
+                else
+                    sum += v[ka++] * b.v[kb++];
+            }
+        } else {
+            for (var k = 0; k < x.length; k++)
+                sum += v[k] * o.get(x[k]);
+        }
+
+        return sum;
+    }
+
+    /**
+     * The method will return a dot product of two vectors.
+     *
+     * @param o the second vector
+     * @param p the rounding point, {@link Rounding.POINT}
+     *
+     * @return the resulting dot product
+     *
+     * @throws InvalidVectorOperationException when both products are on different
+     *                                         dimensions.
+     */
+    @Override
+    public double dot(final Vector o, final Rounding.POINT p) {
+        return Rounding.roundToDouble(dot(o), p);
+    }
+
+    /**
+     * The method returns the cross product of two vectors.
+     * A cross product of two vectors if a new vector, this
+     * new vector is perpendicular to both vectors.
+     *
+     * @param o the second 3 dimensional vector
+     *
+     * @return the cross product vector
+     *
+     * @throws InvalidVectorOperationException when both vectors are not in
+     *                                         the third dimension.
+     */
+    @Override
+    public Vector cross(final Vector o) {
+        if (d != 3 || o.getDimension() != 3)
+            throw new InvalidVectorOperationException("The cross product is only supported for vectors in 3rd dimension");
+
+        double a = get(0), b = get(1), _c = get(2),
+                p = o.get(0), q = o.get(1), r = o.get(2);
+
+        return compact(3, new int[]{0, 1, 2}, new double[]{b * r - _c * q, _c * p - a * r, a * q - b * p}, 3);
+    }
+
+    /**
+     * The method calculates the scalar project of a given vector onto
+     * the current vector, i.e. dot(V, W) / magnitude(V).
+     *
+     * @param o the projecting vector
+     *
+     * @return the projected scalar
+     */
+    @Override
+    public double scalarProjection(final Vector o) {
+        return dot(o) / getMagnitude();
+    }
+
+    /**
+     * The method calculates the scalar project of a given vector onto
+     * the current vector.
+     *
+     * @param o the projecting vector
+     * @param p the rounding point, {@link Rounding.POINT}
+     *
+     * @return the projected scalar
+     */
+    @Override
+    public double scalarProjection(final Vector o, final Rounding.POINT p) {
+        return Rounding.roundToDouble(scalarProjection(o), p);
+    }
+
+    /**
+     * The method calculates the vector project of a given vector onto
+     * the current vector, i.e. [dot(V, W) / magnitude(V)] x V / magnitude(V),
+     * which is a scaled copy of this vector, so it is sparse.
+     *
+     * @param o the projecting vector
+     *
+     * @return the projected vector
+     */
+    @Override
+    public Vector vectorProjection(final Vector o) {
+        return calculateProjection(o, false);
+    }
+
+    /**
+     * The method will return a rejection vector from the the given vector,
+     * i.e. R = V - VectorProjection(W), which is sparse as well.
+     *
+     * @param o the projecting vector
+     *
+     * @return the rejection vector
+     */
+    @Override
+    public Vector vectorRejection(final Vector o) {
+        return calculateProjection(o, true);
+    }
+
+    /**
+     * The method calculates the projection or the rejection, element by element
+     * in the same order as {@link DoubleArrayVector} does.
+     *
+     * @param o the projecting vector
+     * @param r true for the rejection
+     *
+     * @return the resulting sparse vector
+     */
+    private SparseVector calculateProjection(final Vector o, final boolean r) {
+        double sp = scalarProjection(o), m = getMagnitude();
+        var n = new double[x.length];
+
+        for (var k = 0; k < n.length; k++)
+            n[k] = r ? v[k] - sp * v[k] / m : sp * v[k] / m;
+
+        return compact(d, x.clone(), n, n.length);
+    }
+
+    /**
+     * The method will perform multiplication of a matrix with a vector, only the
+     * columns of the non-zero elements are read.
+     *
+     * @param m the matrix to multiply
+     *
+     * @return the resulting vector
+     *
+     * @throws InvalidVectorOperationException if the number of columns is not equal to
+     *                                         the dimension of a given vector
+     */
+    @Override
+    public Vector multiply(final Matrix m) {
+        var _d = m.getDimension();
+
+        if (d != _d[1])
+            throw new InvalidVectorOperationException("The vector dimension doesn't match with the matrix columns");
+
+        if (m instanceof SparseMatrix)
+            return ((SparseMatrix) m).multiply(this);
+
+        var n = new double[_d[0]];
+        for (var i = 0; i < _d[0]; i++) {
+            var sum = 0.0;
+            for (var k = 0; k < x.length; k++)
+                sum += m.get(i, x[k]) * v[k];
+
+            n[i] = sum;
+        }
+
+        return new DoubleArrayVector(n);
+    }
+
+    /**
+     * The method creates a sparse vector from the indices and the values in any order,
+     * the values of the same index are summed and the zeros are dropped.
+     *
+     * @param d the dimension
+     * @param i the indices
+     * @param e the values
+     *
+     * @return the sparse vector
+     *
+     * @throws InvalidVectorDimensionException   if the dimension is less than 2
+     * @throws InvalidParameterProvidedException when the arrays have different lengths
+     * @throws IndexOutOfBoundsException         when an index is outside the vector
+     */
+    public static SparseVector of(final int d, final int[] i, final double[] e) {
+        if (i.length != e.length)
+            throw new InvalidParameterProvidedException("The indices and the values have different lengths");
+
+        if (d < 2)
+            throw new InvalidVectorDimensionException();
+
+        for (var k : i)
+            Objects.checkIndex(k, d);
+
+        var o = new Integer[i.length];
+        for (var k = 0; k < o.length; k++)
+            o[k] = k;
+
+        Arrays.sort(o, Comparator.comparingInt(k -> i[k]));
+
+        int[] x = new int[i.length];
+        var v = new double[i.length];
+        var l = 0;
+
+        for (var k = 0; k < o.length; k++) {
+            if (l > 0 && x[l - 1] == i[o[k]]) {
+                v[l - 1] += e[o[k]];
+            } else {
+                x[l] = i[o[k]];
+                v[l++] = e[o[k]];
+            }
+        }
+
+        return compact(d, x, v, l);
+    }
+
+    /**
+     * The method converts any vector into a sparse vector, only its non-zero
+     * elements are kept.
+     *
+     * @param o the vector to convert
+     *
+     * @return the sparse vector
+     */
+    public static SparseVector of(final Vector o) {
+        if (o instanceof SparseVector)
+            return (SparseVector) o;
+
+        var d = o.getDimension();
+        int[] x = new int[d];
+        var v = new double[d];
+
+        for (var i = 0; i < d; i++) {
+            x[i] = i;
+            v[i] = o.get(i);
+        }
+
+        return compact(d, x, v, d);
+    }
+
+    /**
+     * The method drops the zeros out of the first l sorted indices and values,
+     * the arrays are reused when there is no zero.
+     *
+     * @param d the dimension
+     * @param x the sorted indices
+     * @param v the values
+     * @param l the number of elements to keep
+     *
+     * @return the sparse vector
+     */
+    private static SparseVector compact(final int d, final int[] x, final double[] v, final int l) {
+        var n = 0;
+        for (var k = 0; k < l; k++)
+            if (v[k] != 0) {
+                x[n] = x[k];
+                v[n++] = v[k];
+            }
+
+        return (n == x.length) ? new SparseVector(d, x, v)
+                       : new SparseVector(d, Arrays.copyOf(x, n), Arrays.copyOf(v, n));
+    }
+
+    /**
+     * The class is used for caching some of the constant properties.
+     */
+    private static class Cache {
+        private final Memo<Double> m = new Memo<>();
+    }
+
+    /**
+     * Returns a string representation of the object, the dimension and
+     * the non-zero elements as index: value, i.e. 4&lt;1: 2.0, 3: 5.0&gt;.
+     *
+     * @return a string representation of the object.
+     */
+    public String toString() {
+        var s = new StringJoiner(", ", d + "<", ">");
+        for (var k = 0; k < x.length; k++)
+            s.add(x[k] + ": " + v[k]);
+
+        return s.toString();
+    }
+
+    /**
+     * Indicates whether some other object is "equal to" this one.
+     * Two sparse vectors are equal when they have the same dimension
+     * and the same non-zero elements.
+     *
+     * @param obj the reference object with which to compare.
+     *
+     * @return {@code true} if this object is the same as the obj
+     *         argument; {@code false} otherwise.
+     *
+     * @see #hashCode()
+     */
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        var that = (SparseVector) obj;
+        return d == that.d && Arrays.equals(x, that.x) && Arrays.equals(v, that.v);
+    }
+
+    /**
+     * Returns a hash code value for the object, calculated from
+     * the dimension and the non-zero elements.
+     *
+     * @return a hash code value for this object.
+     *
+     * @see Object#equals(Object)
+     */
+    public int hashCode() {
+        return 31 * (31 * d + Arrays.hashCode(x)) + Arrays.hashCode(v);
+    }
+}
@@ -10,7 +10,8 @@ import java.io.Serializable;
 import java.util.List;
 
 /**
- * The Vector interface. The known implementation is ArrayVector.
+ * The Vector interface. The known implementations are ArrayVector, DoubleArrayVector
+ * and SparseVector.
  *
  * @author Mehul Katpara
  * @since 1.0.0
@@ -87,6 +88,19 @@ public interface Vector extends Cloneable, Serializable {
      */
     double[] getCosines(final Angle angle, final Rounding.POINT point);
 
+    /**
+     * The method returns a single element of the vector as a primitive double.
+     * Operations that take another vector should read it through this method,
+     * since it doesn't box or copy anything.
+     *
+     * @param i the zero based index
+     *
+     * @return the element at the given index
+     *
+     * @throws IndexOutOfBoundsException if the index is outside the vector
+     */
+    double get(final int i);
+
     /**
      * The method returns the elements of a vector as an array.
      *
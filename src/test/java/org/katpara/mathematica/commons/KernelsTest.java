@@ -0,0 +1,61 @@
+package org.katpara.mathematica.commons;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.katpara.mathematica.commons.TestArrays.random;
+
+class KernelsTest {
+
+    private final ScalarKernel s = new ScalarKernel();
+
+    @Test
+    void testDot() {
+        for (var n : new int[]{0, 1, 7, 8, 33, 1000}) {
+            double[] x = random(n, 1), y = random(n, 2);
+            assertEquals(s.dot(x, y, n), Kernels.dot(x, y, n), 1e-12);
+        }
+
+        double[] x = random(1000, 3), y = random(1000, 4);
+        for (var n : new int[]{1, 7, 8, 33, 900})
+            assertEquals(s.dot(x, 5, y, 3, n), Kernels.dot(x, 5, y, 3, n), 1e-12);
+    }
+
+    @Test
+    void testElementwise() {
+        for (var n : new int[]{1, 7, 8, 33, 1000}) {
+            double[] x = random(n + 5, 3), y = random(n + 3, 4),
+                    r1 = new double[n], r2 = new double[n],
+                    y1 = y.clone(), y2 = y.clone();
+
+            s.axpy(-0.7, x, 5, y1, 3, n);
+            Kernels.axpy(-0.7, x, 5, y2, 3, n);
+            assertArrayEquals(y1, y2);
+
+            s.add(x, y, r1, n);
+            Kernels.add(x, y, r2, n);
+            assertArrayEquals(r1, r2);
+
+            s.subtract(x, y, r1, n);
+            Kernels.subtract(x, y, r2, n);
+            assertArrayEquals(r1, r2);
+        }
+    }
+
+    @Test
+    void testMultiply4x4() {
+        double[] ap = random(4 * 100, 5), bp = random(4 * 100, 6), t1 = new double[16], t2 = new double[16];
+
+        s.multiply4x4(99, ap, 4, bp, 4, t1);
+        Kernels.multiply4x4(99, ap, 4, bp, 4, t2);
+        assertArrayEquals(t1, t2);
+
+        for (var i = 0; i < 4; i++)
+            for (var j = 0; j < 4; j++) {
+                var c = 0.0;
+                for (var k = 1; k < 100; k++)
+                    c += ap[k * 4 + i] * bp[k * 4 + j];
+                assertEquals(c, t1[i * 4 + j]);
+            }
+    }
+}
@@ -0,0 +1,58 @@
+package org.katpara.mathematica.commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoTest {
+
+    @Test
+    void testCalculatedOnce() throws Exception {
+        var m = new Memo<double[]>();
+        var calls = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        var pool = Executors.newFixedThreadPool(8);
+
+        try {
+            var f = new Future<?>[8];
+            for (var i = 0; i < f.length; i++)
+                f[i] = pool.submit(() -> {
+                    start.await();
+                    return m.get(() -> {
+                        calls.incrementAndGet();
+                        return new double[]{1, 2};
+                    });
+                });
+
+            start.countDown();
+            var r = f[0].get(10, TimeUnit.SECONDS);
+            for (var v : f)
+                assertSame(r, v.get(10, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testFailureIsNotMemorised() {
+        var m = new Memo<String>();
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> m.get(() -> {
+                    throw new IllegalStateException();
+                })),
+                () -> assertNull(m.peek()),
+                () -> assertThrows(NullPointerException.class, () -> m.get(() -> null)),
+                () -> assertEquals("a", m.get(() -> "a")),
+                () -> assertEquals("a", m.get(() -> "b"))
+        );
+    }
+}
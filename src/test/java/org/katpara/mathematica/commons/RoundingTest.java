@@ -0,0 +1,87 @@
+package org.katpara.mathematica.commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoundingTest {
+
+    private static double reference(final double n, final Rounding.POINT p) {
+        return new BigDecimal(n).setScale(p.ordinal(), RoundingMode.HALF_UP).doubleValue();
+    }
+
+    @Test
+    void testHalfUp() {
+        assertAll(
+                () -> assertEquals(0.13, Rounding.round(0.125, Rounding.POINT.TWO)),
+                () -> assertEquals(1.0, Rounding.round(1.005, Rounding.POINT.TWO)),
+                () -> assertEquals(2.67, Rounding.round(2.675, Rounding.POINT.TWO)),
+                () -> assertEquals(-2.5, Rounding.round(-2.5, Rounding.POINT.ONE)),
+                () -> assertEquals(123456.79, Rounding.round(123456.78945, Rounding.POINT.TWO)),
+                () -> assertEquals(-0.0, Rounding.roundToDouble(-0.001, Rounding.POINT.TWO)),
+                () -> assertEquals(0.0, Rounding.roundToDouble(1e-20, Rounding.POINT.TEN))
+        );
+    }
+
+    @Test
+    void testZeroPoint() {
+        assertAll(
+                () -> assertEquals(3, Rounding.round(2.5, Rounding.POINT.ZERO)),
+                () -> assertEquals(-3, Rounding.round(-2.5, Rounding.POINT.ZERO)),
+                () -> assertEquals(0, Rounding.round(-0.4, Rounding.POINT.ZERO)),
+                () -> assertEquals(1e12, Rounding.round(1e12 + 0.2, Rounding.POINT.ZERO)),
+                () -> assertEquals(Double.NaN, Rounding.round(Double.NaN, Rounding.POINT.ZERO))
+        );
+    }
+
+    @Test
+    void testSpecialValues() {
+        assertAll(
+                () -> assertEquals(Double.NaN, Rounding.roundToDouble(Double.NaN, Rounding.POINT.TWO)),
+                () -> assertEquals(Double.POSITIVE_INFINITY, Rounding.roundToDouble(Double.POSITIVE_INFINITY, Rounding.POINT.TWO)),
+                () -> assertEquals(Double.NEGATIVE_INFINITY, Rounding.roundToDouble(Double.NEGATIVE_INFINITY, Rounding.POINT.TEN)),
+                () -> assertEquals(1e300, Rounding.roundToDouble(1e300, Rounding.POINT.TEN))
+        );
+    }
+
+    @Test
+    void testAgainstBigDecimal() {
+        var r = new Random(1);
+
+        for (var p : Rounding.POINT.values())
+            if (p != Rounding.POINT.NONE)
+                    for (var i = 0; i < 20_000; i++) {
+                    // Values with few decimals hit the ties, the others any fraction
+                    var n = (i % 2 == 0) ? (r.nextInt(2_000_000) - 1_000_000) / 1000.0 / Math.pow(10, r.nextInt(8))
+                                    : (r.nextDouble() - 0.5) * Math.pow(10, r.nextInt(12));
+
+                    // The delta of 0 lets -0.0 match 0.0, BigDecimal drops the sign of the zero
+                    assertEquals(reference(n, p), Rounding.roundToDouble(n, p), 0, () -> n + " at " + p);
+                }
+    }
+
+    @Test
+    void testArray() {
+        var a = new double[]{0.125, -1.375, 2};
+
+        assertAll(
+                () -> assertSame(a, Rounding.round(a, Rounding.POINT.TWO)),
+                () -> assertArrayEquals(new double[]{0.13, -1.38, 2}, a)
+        );
+    }
+
+    @Test
+    void testNone() {
+        var a = new double[]{0.125, 1.0 / 3};
+
+        assertAll(
+                () -> assertEquals(1.0 / 3, Rounding.roundToDouble(1.0 / 3, Rounding.POINT.NONE)),
+                () -> assertEquals(7L, Rounding.round(7L, Rounding.POINT.NONE)),
+                () -> assertArrayEquals(new double[]{0.125, 1.0 / 3}, Rounding.round(a, Rounding.POINT.NONE))
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package org.katpara.mathematica.commons;
+
+import java.util.Random;
+
+/**
+ * The random arrays shared by the tests of the kernels and the matrix products.
+ */
+public final class TestArrays {
+
+    private TestArrays() {
+    }
+
+    /**
+     * The array of n elements uniform in [-1, 1).
+     *
+     * @param n    the number of elements
+     * @param seed the seed of the random numbers
+     *
+     * @return the array
+     */
+    public static double[] random(final int n, final long seed) {
+        var r = new Random(seed);
+        var a = new double[n];
+        for (var i = 0; i < n; i++)
+            a[i] = r.nextDouble() * 2 - 1;
+
+        return a;
+    }
+}
@@ -479,6 +479,31 @@ class ArrayMatrixTest {
         );
     }
 
+    @Test
+    void testInversePrecision() {
+        ArrayMatrix m = new ArrayMatrix(new Number[][]{
+                {25, 5, 1},
+                {64, 8, 1},
+                {144, 12, 1}
+        });
+        ArrayMatrix a = new ArrayMatrix(new Number[][]{
+                {0.05, -0.08, 0.04},
+                {-0.95, 1.42, -0.46},
+                {4.57, -5.0, 1.43}
+        });
+        var i = m.inverse(Rounding.POINT.FOUR);
+
+        assertAll(
+                () -> assertEquals(a, m.inverse(Rounding.POINT.TWO)),
+                () -> assertSame(i, m.inverse(Rounding.POINT.FOUR)),
+                () -> assertEquals(-0.0833, m.inverse(Rounding.POINT.FOUR).get(0, 1)),
+                () -> assertEquals(-0.0833333333, m.inverse().get(0, 1)),
+                () -> assertEquals(new ArrayMatrix(new Number[][]{{-2D, 1D}, {1.5, -0.5}}),
+                        new ArrayMatrix(new Number[][]{{1, 2}, {3, 4}}).inverse(Rounding.POINT.ONE)),
+                () -> assertNull(new ArrayMatrix(new Number[][]{{1, 2}, {2, 4}}).inverse())
+        );
+    }
+
     @Test
     void testStaticGenerators() {
         Matrix m1 = ArrayMatrix.of(5);
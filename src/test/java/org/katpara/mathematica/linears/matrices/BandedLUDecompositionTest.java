@@ -0,0 +1,41 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BandedLUDecompositionTest {
+
+    @Test
+    void testDeterminant() {
+        var a = new DoubleArrayMatrix(new double[][]{{0, 1, 0, 0}, {2, 0, 3, 0}, {0, 4, 0, 5}, {0, 0, 6, 1}});
+
+        assertAll(
+                () -> assertEquals(a.getDeterminant(), BandedLUDecomposition.of(a).getDeterminant(), 1e-12),
+                () -> assertEquals(-1, BandedLUDecomposition.of(DoubleArrayMatrix.exchangeMatrix(6)).getDeterminant()),
+                () -> assertEquals(a.getDeterminant(),
+                        BandedLUDecomposition.of(DoubleArrayMatrix.pascalMatrix(4, Matrix.PascalMatrixType.LOWER))
+                                             .getDeterminant() * a.getDeterminant(), 1e-12),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> BandedLUDecomposition.of(DoubleArrayMatrix.zeroMatrix(2, 3)))
+        );
+    }
+
+    @Test
+    void testSolve() {
+        // The zero diagonal needs the pivoting, which widens the upper band of U
+        var a = new DoubleArrayMatrix(new double[][]{{0, 1, 0, 0}, {2, 0, 3, 0}, {0, 4, 0, 5}, {0, 0, 6, 1}});
+        var lu = BandedLUDecomposition.of(a);
+        var i = new DoubleArrayMatrix(lu.inverse(), 4, 4, Matrix.MatrixType.NOT_SPECIFIED);
+
+        assertAll(
+                () -> assertFalse(lu.isSingular()),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(a.inverse()), DoubleArrayMatrix.elements(i), 1e-12),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(a.solve(a)), DoubleArrayMatrix.elements(lu.solve(a)), 1e-12),
+                () -> assertTrue(BandedLUDecomposition.of(DoubleArrayMatrix.oneMatrix(3, 3)).isSingular()),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> BandedLUDecomposition.of(DoubleArrayMatrix.oneMatrix(3, 3)).inverse())
+        );
+    }
+}
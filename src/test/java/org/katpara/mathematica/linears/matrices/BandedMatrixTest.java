@@ -0,0 +1,149 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BandedMatrixTest {
+
+    private final DoubleArrayMatrix a = new DoubleArrayMatrix(new double[][]{
+            {4, 1, 0, 0, 0},
+            {2, 5, 1, 0, 0},
+            {1, 3, 6, 2, 0},
+            {0, 2, 1, 7, 1},
+            {0, 0, 3, 1, 8}
+    });
+
+    private final BandedMatrix b = BandedMatrix.of(a);
+
+    private static BandedMatrix random(final int n, final int kl, final int ku, final long seed) {
+        var r = new Random(seed);
+        var e = new double[n][n];
+        for (var i = 0; i < n; i++)
+            for (var j = Math.max(0, i - kl); j <= Math.min(n - 1, i + ku); j++)
+                e[i][j] = r.nextInt(19) - 9;
+
+        return BandedMatrix.of(new DoubleArrayMatrix(e), kl, ku);
+    }
+
+    @Test
+    void testConstructors() {
+        var t = BandedMatrix.tridiagonalMatrix(new double[]{1, 2}, new double[]{3, 4, 5}, new double[]{6, 7});
+
+        assertAll(
+                () -> assertEquals(2, b.getLowerBandwidth()),
+                () -> assertEquals(1, b.getUpperBandwidth()),
+                () -> assertEquals(a, b.toDoubleArrayMatrix()),
+                () -> assertEquals(a, new DoubleArrayMatrix(b)),
+                () -> assertEquals(3, b.get(4, 2)),
+                () -> assertEquals(0, b.get(4, 0)),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{3, 6, 0}, {1, 4, 7}, {0, 2, 5}}),
+                        new DoubleArrayMatrix(t)),
+                () -> assertEquals(0, BandedMatrix.of(ImplicitMatrix.shiftMatrix(4, Matrix.ShiftMatrixType.UPPER))
+                                                  .getLowerBandwidth()),
+                () -> assertEquals(b, BandedMatrix.of(a, 2, 1)),
+                () -> assertEquals(a, new DoubleArrayMatrix(BandedMatrix.of(a, 3, 2))),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> BandedMatrix.of(a, 1, 1)),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> BandedMatrix.of(a, 5, 1)),
+                () -> assertThrows(InvalidParameterProvidedException.class,
+                        () -> BandedMatrix.tridiagonalMatrix(new double[]{1}, new double[]{3, 4, 5}, new double[]{6, 7})),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> b.get(0, 5))
+        );
+    }
+
+    @Test
+    void testProperties() {
+        assertAll(
+                () -> assertEquals(30, b.getTrace()),
+                () -> assertEquals(a.getDeterminant(), b.getDeterminant()),
+                () -> assertEquals(5, b.getRank()),
+                () -> assertEquals(a.inverse(), b.inverse()),
+                () -> assertEquals(a.transpose(), new DoubleArrayMatrix(b.transpose())),
+                () -> assertEquals(1, ((BandedMatrix) b.transpose()).getLowerBandwidth()),
+                () -> assertEquals(b, b.transpose().transpose()),
+                () -> assertEquals(1, BandedMatrix.of(DoubleArrayMatrix.oneMatrix(3, 3), 2, 2).getRank())
+        );
+    }
+
+    @Test
+    void testAddSubtract() {
+        var c = random(5, 1, 3, 2);
+        var dc = new DoubleArrayMatrix(c);
+
+        assertAll(
+                () -> assertEquals(a.add(dc), new DoubleArrayMatrix(b.add(c))),
+                () -> assertEquals(a.subtract(dc), new DoubleArrayMatrix(b.subtract(c))),
+                () -> assertEquals(3, ((BandedMatrix) b.add(c)).getUpperBandwidth()),
+                () -> assertEquals(a.add(dc), b.add(dc)),
+                () -> assertEquals(a.subtract(dc), b.subtract(dc)),
+                () -> assertEquals(a.add(2), new DoubleArrayMatrix(b.add(2))),
+                () -> assertEquals(a.multiply(3), new DoubleArrayMatrix(b.multiply(3))),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> b.add(random(4, 1, 1, 2)))
+        );
+    }
+
+    @Test
+    void testMultiply() {
+        var c = random(5, 1, 2, 3);
+        var dc = new DoubleArrayMatrix(c);
+        var x = new DoubleArrayVector(new double[]{1, -2, 3, -4, 5});
+
+        assertAll(
+                () -> assertEquals(a.multiply(dc), new DoubleArrayMatrix(b.multiply(c))),
+                () -> assertEquals(3, ((BandedMatrix) b.multiply(c)).getLowerBandwidth()),
+                () -> assertEquals(3, ((BandedMatrix) b.multiply(c)).getUpperBandwidth()),
+                () -> assertEquals(a.multiply(dc), b.multiply(dc)),
+                () -> assertEquals(a.multiply(dc), a.multiply(c)),
+                () -> assertEquals(x.multiply(a), b.multiply(x)),
+                () -> assertEquals(x.multiply(a), x.multiply(b)),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> b.multiply(DoubleArrayVector.of(1, 2)))
+        );
+    }
+
+    @Test
+    void testSolve() {
+        var x = new DoubleArrayVector(new double[]{1, 2, 3, 4, 5});
+        var n = 1_000_000;
+        var l = new double[n - 1];
+        var d = new double[n];
+        var r = new double[n];
+        Arrays.fill(l, -1);
+        Arrays.fill(d, 4);
+        Arrays.fill(r, 1);
+
+        var t = BandedMatrix.tridiagonalMatrix(l, d, l);
+        var y = t.multiply(t.solve(new DoubleArrayVector(r), Rounding.POINT.NONE));
+
+        assertAll(
+                () -> assertEquals(a.solve(x), b.solve(x)),
+                () -> assertEquals(a.solve(a), b.solve(a)),
+                () -> assertEquals(1, y.get(0), 1e-12),
+                () -> assertEquals(1, y.get(n / 2), 1e-12),
+                () -> assertEquals(1, y.get(n - 1), 1e-12),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> BandedMatrix.of(DoubleArrayMatrix.oneMatrix(3, 3)).solve(DoubleArrayVector.of(1, 2, 3)))
+        );
+    }
+
+    @Test
+    void testThomasMatchesBandedLU() {
+        // A dominant tridiagonal matrix is solved by the Thomas algorithm, the other one by the banded LU
+        var t = BandedMatrix.tridiagonalMatrix(new double[]{1, 2, 3}, new double[]{5, 6, 7, 8}, new double[]{-1, 2, -3});
+        var u = BandedMatrix.tridiagonalMatrix(new double[]{1, 2, 3}, new double[]{0, 1, 7, 8}, new double[]{-1, 2, -3});
+        var x = new DoubleArrayVector(new double[]{1, 2, 3, 4});
+
+        assertAll(
+                () -> assertEquals(t.toDoubleArrayMatrix().solve(x), t.solve(x)),
+                () -> assertEquals(u.toDoubleArrayMatrix().solve(x), u.solve(x)),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(t.solve(x, Rounding.POINT.NONE)),
+                        DoubleArrayMatrix.elements(t.getBandedLUDecomposition().solve(x)), 1e-12)
+        );
+    }
+}
@@ -0,0 +1,111 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CholeskyDecompositionTest {
+
+    @Test
+    void testFactors() {
+        var a = SymmetricMatrix.of(new DoubleArrayMatrix(new double[][]{{4, 12, -16}, {12, 37, -43}, {-16, -43, 98}}));
+        var h = a.getCholeskyDecomposition();
+
+        assertAll(
+                () -> assertTrue(h.isPositiveDefinite()),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{2, 0, 0}, {6, 1, 0}, {-8, 5, 3}}), h.getL()),
+                () -> assertEquals(new DoubleArrayMatrix(a), h.getL().multiply(h.getL().transpose())),
+                () -> assertEquals(36, h.getDeterminant(), 1e-9),
+                () -> assertSame(h, a.getCholeskyDecomposition())
+        );
+    }
+
+    @Test
+    void testSolve() {
+        var a = DoubleArrayMatrix.lehmerMatrix(6);
+        var h = CholeskyDecomposition.of(a);
+        var b = new DoubleArrayVector(new double[]{1, 2, 3, 4, 5, 6});
+        var x = h.solve(b);
+
+        assertAll(
+                () -> assertEquals(a.getDeterminant(), h.getDeterminant(), 1e-9),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(a.getLUDecomposition().solve(b)),
+                        DoubleArrayMatrix.elements(x), 1e-9),
+                () -> assertArrayEquals(a.getLUDecomposition().inverse(), h.inverse(), 1e-9),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(a.solve(a)),
+                        DoubleArrayMatrix.elements(h.solve(a)), 1e-9),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> h.solve(DoubleArrayVector.of(1, 2)))
+        );
+    }
+
+    @Test
+    void testNotPositiveDefinite() {
+        var h = CholeskyDecomposition.of(new DoubleArrayMatrix(new double[][]{{1, 2}, {2, 1}}));
+
+        assertAll(
+                () -> assertFalse(h.isPositiveDefinite()),
+                () -> assertFalse(CholeskyDecomposition.of(DoubleArrayMatrix.zeroMatrix(3, 3)).isPositiveDefinite()),
+                () -> assertThrows(InvalidMatrixOperationException.class, h::getL),
+                () -> assertThrows(InvalidMatrixOperationException.class, h::getDeterminant),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> CholeskyDecomposition.of(DoubleArrayMatrix.pascalMatrix(3, Matrix.PascalMatrixType.UPPER)))
+        );
+    }
+
+    @Test
+    void testBlocked() {
+        // Wider than a panel, so the earlier panels are subtracted from the later ones
+        var n = CholeskyDecomposition.NB * 2 + 7;
+        var r = new Random(5);
+        var b = new double[n * n];
+        for (var i = 0; i < b.length; i++)
+            b[i] = r.nextDouble() - 0.5;
+
+        var m = new DoubleArrayMatrix(b, n, n, Matrix.MatrixType.NOT_SPECIFIED);
+        var a = new DoubleArrayMatrix(DoubleArrayMatrix.elements(m.transpose().multiply(m, Rounding.POINT.NONE).add(n)),
+                n, n, Matrix.MatrixType.NOT_SPECIFIED);
+        var h = a.getCholeskyDecomposition();
+        var l = h.getL();
+        var x = new DoubleArrayVector(new double[n]).add(1);
+
+        assertAll(
+                () -> assertTrue(h.isPositiveDefinite()),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(a),
+                        DoubleArrayMatrix.elements(l.multiply(l.transpose(), Rounding.POINT.NONE)), 1e-9),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(a.getLUDecomposition().solve(x)),
+                        DoubleArrayMatrix.elements(h.solve(x)), 1e-9)
+        );
+    }
+
+    @Test
+    void testDenseMatrices() {
+        // The dense matrices use the Cholesky decomposition when they are positive definite
+        var a = new DoubleArrayMatrix(new double[][]{{4, 12, -16, 0}, {12, 37, -43, 1}, {-16, -43, 98, 2}, {0, 1, 2, 9}});
+        var b = new ArrayMatrix(a.toArray());
+        var x = new DoubleArrayVector(new double[]{1, 2, 3, 4});
+        var n = new DoubleArrayMatrix(new double[][]{{1, 2, 0, 0}, {2, 1, 0, 0}, {0, 0, 1, 0}, {0, 0, 0, 1}});
+
+        assertAll(
+                () -> assertEquals(a.getLUDecomposition().getDeterminant(), a.getDeterminant(Rounding.POINT.NONE), 1e-9),
+                () -> assertSame(a.getCholeskyDecomposition(), a.getCholeskyDecomposition()),
+                () -> assertArrayEquals(a.getLUDecomposition().inverse(), DoubleArrayMatrix.elements(a.inverse()), 1e-9),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(a.getLUDecomposition().solve(x)),
+                        DoubleArrayMatrix.elements(a.solve(x)), 1e-9),
+                () -> assertEquals(a.getDeterminant(), b.getDeterminant()),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(a.solve(x)), DoubleArrayMatrix.elements(b.solve(x)), 1e-9),
+                () -> assertEquals(-3, n.getDeterminant()),
+                () -> assertEquals(-3, new ArrayMatrix(n.toArray()).getDeterminant()),
+                () -> assertSame(b.getCholeskyDecomposition(), b.getCholeskyDecomposition()),
+                () -> assertEquals(a.getCholeskyDecomposition().getL(), b.getCholeskyDecomposition().getL()),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> DoubleArrayMatrix.pascalMatrix(4, Matrix.PascalMatrixType.UPPER).getCholeskyDecomposition()),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> ArrayMatrix.pascalMatrix(4, Matrix.PascalMatrixType.UPPER).getCholeskyDecomposition())
+        );
+    }
+}
@@ -0,0 +1,181 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.NullArgumentProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleArrayMatrixTest {
+
+    @Test
+    void testArrayConstructor() {
+        assertAll(
+                () -> assertThrows(InvalidMatrixDimensionException.class, () -> new DoubleArrayMatrix(new double[0][0])),
+                () -> assertThrows(InvalidMatrixDimensionException.class, () -> new DoubleArrayMatrix(new double[1][0])),
+                () -> assertThrows(InvalidMatrixDimensionException.class,
+                        () -> new DoubleArrayMatrix(new double[][]{{1, 2}, {3}})),
+                () -> assertThrows(NullArgumentProvidedException.class,
+                        () -> new DoubleArrayMatrix(new Number[][]{{1, null}, {2, 0}})),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{1, 2}, {3, 4}}),
+                        new DoubleArrayMatrix(new Number[][]{{1, 2}, {3, 4}}))
+        );
+    }
+
+    @Test
+    void testConversion() {
+        var a = new ArrayMatrix(new Number[][]{{1, 2, 3}, {4, 5, 6}});
+        var m = new DoubleArrayMatrix(a);
+
+        assertAll(
+                () -> assertArrayEquals(new int[]{2, 3}, m.getDimension()),
+                () -> assertEquals(6, m.get(1, 2)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> m.get(0, 3)),
+                () -> assertArrayEquals(new double[]{1, 2, 3, 4, 5, 6}, m.toDoubleArray()),
+                () -> assertEquals(new ArrayMatrix(new Number[][]{{1D, 2D, 3D}, {4D, 5D, 6D}}), m.toArrayMatrix()),
+                () -> assertEquals(m, new DoubleArrayMatrix(m)),
+                () -> assertEquals(5, DoubleArrayMatrix.identityMatrix(5).toArrayMatrix().getTrace())
+        );
+    }
+
+    @Test
+    void testTrace() {
+        assertAll(
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> DoubleArrayMatrix.oneMatrix(5, 10).getTrace()),
+                () -> assertEquals(5, DoubleArrayMatrix.identityMatrix(5).getTrace()),
+                () -> assertEquals(1, DoubleArrayMatrix.exchangeMatrix(7).getTrace()),
+                () -> assertEquals(12, DoubleArrayMatrix.pascalMatrix(12, Matrix.PascalMatrixType.UPPER).getTrace()),
+                () -> assertEquals(5D, new DoubleArrayMatrix(new double[][]{
+                        {3, 2, 0, 4},
+                        {4, 1, -2, 3},
+                        {-3, -2, -4, 7},
+                        {3, 1, 1, 5}
+                }).getTrace())
+        );
+    }
+
+    @Test
+    void testDeterminant() {
+        assertAll(
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> new DoubleArrayMatrix(new double[][]{{1, 2, 3}, {1, 2, 3}}).getDeterminant()),
+                () -> assertEquals(-4D, new DoubleArrayMatrix(new double[][]{{3, 2}, {5, 2}}).getDeterminant()),
+                () -> assertEquals(16D, new DoubleArrayMatrix(new double[][]{
+                        {1, 2, 1, 0},
+                        {0, 3, 1, 1},
+                        {-1, 0, 3, 1},
+                        {3, 1, 2, 0}
+                }).getDeterminant(Rounding.POINT.FOUR)),
+                () -> assertEquals(-49964D, new DoubleArrayMatrix(new double[][]{
+                        {6, 3, -6, -4, 9},
+                        {-2, -5, 9, 2, 10},
+                        {2, 3, 4, -5, 6},
+                        {8, 6, 1, 4, 7},
+                        {12, 8, -20, 17, 4}
+                }).getDeterminant(Rounding.POINT.SIX)),
+                () -> assertEquals(0.0, DoubleArrayMatrix.zeroMatrix(4, 4).getDeterminant())
+        );
+    }
+
+    @Test
+    void testRank() {
+        assertAll(
+                () -> assertEquals(5, DoubleArrayMatrix.identityMatrix(5).getRank()),
+                () -> assertEquals(4, DoubleArrayMatrix.shiftMatrix(5, Matrix.ShiftMatrixType.LOWER).getRank()),
+                () -> assertEquals(2, new DoubleArrayMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}, {7, 8, 9}}).getRank()),
+                () -> assertEquals(3, new DoubleArrayMatrix(new double[][]{{12, 29, 72}, {2, 7, 8}, {6, 5, 0}}).getRank()),
+                () -> assertEquals(3, new DoubleArrayMatrix(new double[][]{{2, 7, 8}, {0, 6, 5}, {5, 7, 0}, {5, 2, 1}}).getRank())
+        );
+    }
+
+    @Test
+    void testAddition() {
+        Matrix m = new DoubleArrayMatrix(new double[][]{{1, 2}, {3, 4}});
+
+        assertAll(
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{11, 2}, {3, 14}}), m.add(10)),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{6, 8}, {10, 12}}),
+                        m.add(new ArrayMatrix(new Number[][]{{5, 6}, {7, 8}}))),
+                () -> assertEquals(DoubleArrayMatrix.zeroMatrix(2, 2).toArrayMatrix().toList(),
+                        m.subtract(m).toList())
+        );
+    }
+
+    @Test
+    void testMultiplication() {
+        Matrix b = new DoubleArrayMatrix(new double[][]{{1, 2}, {5, 9}});
+        Matrix c = new DoubleArrayMatrix(new double[][]{{1, 8}, {3, 6}});
+        Matrix d = new DoubleArrayMatrix(new double[][]{{1, 2, 3, 4}, {5, 6, 7, 8}, {9, 10, 11, 12}});
+        Matrix e = new ArrayMatrix(new Number[][]{{1, 2}, {3, 4}, {5, 6}, {7, 8}});
+
+        assertAll(
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> c.multiply(d)),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{2, 16}, {6, 12}}), c.multiply(2)),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{7, 20}, {32, 94}}), b.multiply(c)),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{50, 60}, {114, 140}, {178, 220}}), d.multiply(e))
+        );
+    }
+
+    @Test
+    void testTranspose() {
+        assertEquals(new DoubleArrayMatrix(new double[][]{{0, 7, 3}, {4, 0, 1}}),
+                new DoubleArrayMatrix(new double[][]{{0, 4}, {7, 0}, {3, 1}}).transpose());
+    }
+
+    @Test
+    void testInverse() {
+        var m = new DoubleArrayMatrix(new double[][]{
+                {25, 5, 1},
+                {64, 8, 1},
+                {144, 12, 1}
+        });
+        var a = new DoubleArrayMatrix(new double[][]{
+                {0.0476, -0.0833, 0.0357},
+                {-0.9524, 1.4167, -0.4643},
+                {4.5714, -5.0, 1.4286}
+        });
+
+        assertAll(
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> new DoubleArrayMatrix(new double[][]{{1, 2}}).inverse()),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> new DoubleArrayMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}, {7, 8, 9}}).inverse()),
+                () -> assertEquals(a, m.inverse(Rounding.POINT.FOUR)),
+                () -> assertEquals(DoubleArrayMatrix.identityMatrix(3), m.multiply(m.inverse(), Rounding.POINT.SIX))
+        );
+    }
+
+    @Test
+    void testStaticGenerators() {
+        assertAll(
+                () -> assertThrows(InvalidMatrixDimensionException.class, () -> DoubleArrayMatrix.identityMatrix(0)),
+                () -> assertEquals(ArrayMatrix.pascalMatrix(5, Matrix.PascalMatrixType.SYMMETRIC).toList().toString(),
+                        DoubleArrayMatrix.pascalMatrix(5, Matrix.PascalMatrixType.SYMMETRIC).toArrayMatrix()
+                                         .toList().toString().replace(".0", "")),
+                () -> assertEquals(new DoubleArrayMatrix(ArrayMatrix.hilbertMatrix(4)), DoubleArrayMatrix.hilbertMatrix(4)),
+                () -> assertEquals(new DoubleArrayMatrix(ArrayMatrix.redhefferMatrix(6)), DoubleArrayMatrix.redhefferMatrix(6)),
+                () -> assertArrayEquals(new int[]{3, 4}, DoubleArrayMatrix.of(3, 4, Rounding.POINT.TWO).getDimension())
+        );
+    }
+
+    @Test
+    void testDeferredRounding() {
+        var a = new DoubleArrayMatrix(new double[][]{{1, 2}, {3, 4}});
+        var t = a.multiply(1.0 / 3, Rounding.POINT.TWO);
+
+        assertAll(
+                () -> assertEquals(0.33, t.get(0, 0)),
+                () -> assertEquals(List.of(List.of(0.33, 0.67), List.of(1.0, 1.33)), t.toList()),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{0.33, 0.67}, {1.0, 1.33}}), t),
+                // The next operation works with the full precision, not with the rounded elements
+                () -> assertEquals(a, t.multiply(3, Rounding.POINT.NONE)),
+                () -> assertEquals(1.0 / 3, a.multiply(1.0 / 3, Rounding.POINT.NONE).get(0, 0)),
+                () -> assertEquals(0.33, t.transpose().get(0, 0))
+        );
+    }
+}
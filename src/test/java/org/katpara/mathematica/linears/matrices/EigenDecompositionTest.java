@@ -0,0 +1,128 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Parallelism;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.katpara.mathematica.linears.matrices.TestMatrices.assertOrthonormal;
+import static org.katpara.mathematica.linears.matrices.TestMatrices.symmetric;
+
+class EigenDecompositionTest {
+
+    private static void assertDecomposition(final Matrix a, final EigenDecomposition ed, final double delta) {
+        var n = a.getDimension()[0];
+        var v = ed.getV();
+        var l = ed.getEigenvalues();
+
+        var increasing = true;
+        for (var i = 1; i < n; i++)
+            increasing &= l[i - 1] <= l[i];
+
+        var f = increasing;
+        assertAll(
+                () -> assertTrue(f),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(a.multiply(v, Rounding.POINT.NONE)),
+                        DoubleArrayMatrix.elements(v.multiply(ed.getD(), Rounding.POINT.NONE)), delta),
+                () -> assertOrthonormal(v, delta)
+        );
+    }
+
+    @Test
+    void testDecomposition() {
+        var a = symmetric(60, 1);
+        var ed = a.getEigenDecomposition();
+        var values = EigenDecomposition.of(a, false);
+
+        assertDecomposition(a, ed, 1e-12);
+        assertAll(
+                () -> assertSame(ed, a.getEigenDecomposition()),
+                () -> assertTrue(ed.hasEigenvectors()),
+                () -> assertFalse(values.hasEigenvectors()),
+                () -> assertArrayEquals(ed.getEigenvalues(), values.getEigenvalues(), 1e-12),
+                () -> assertThrows(InvalidMatrixOperationException.class, values::getV),
+                () -> assertEquals(a.getTrace(Rounding.POINT.NONE),
+                        Arrays.stream(ed.getEigenvalues()).sum(), 1e-12)
+        );
+    }
+
+    @Test
+    void testSmallMatrices() {
+        var a = new DoubleArrayMatrix(new double[][]{{2, 1}, {1, 2}});
+        var ed = a.getEigenDecomposition();
+        var d = new DoubleArrayMatrix(new double[][]{{3, 0, 0}, {0, -1, 0}, {0, 0, 2}});
+
+        assertAll(
+                () -> assertArrayEquals(new double[]{1, 3}, ed.getEigenvalues(), 1e-15),
+                () -> assertEquals(Math.sqrt(0.5), Math.abs(ed.getEigenvector(1).get(0)), 1e-15),
+                () -> assertArrayEquals(new double[]{-1, 2, 3}, d.getEigenDecomposition().getEigenvalues(), 0),
+                () -> assertArrayEquals(new double[]{-4}, EigenDecomposition.of(
+                        new DoubleArrayMatrix(new double[][]{{-4}})).getEigenvalues(), 0),
+                () -> assertDecomposition(new ArrayMatrix(a.toArray()), new ArrayMatrix(a.toArray())
+                        .getEigenDecomposition(), 1e-15)
+        );
+    }
+
+    @Test
+    void testSymmetricMatrices() {
+        // The eigenvalues of the tridiagonal Toeplitz matrix (2, -1) are 2 - 2cos(k pi / (n + 1))
+        var n = 30;
+        var t = new double[n * n];
+        for (var i = 0; i < n; i++) {
+            t[i * n + i] = 2;
+            if (i > 0)
+                t[i * n + i - 1] = t[(i - 1) * n + i] = -1;
+        }
+
+        var expected = new double[n];
+        for (var k = 1; k <= n; k++)
+            expected[k - 1] = 2 - 2 * Math.cos(k * Math.PI / (n + 1));
+
+        var h = SymmetricMatrix.hilbertMatrix(8);
+        assertAll(
+                () -> assertArrayEquals(expected, EigenDecomposition.of(new DoubleArrayMatrix(t, n, n,
+                        Matrix.MatrixType.NOT_SPECIFIED), false).getEigenvalues(), 1e-13),
+                () -> assertDecomposition(h, h.getEigenDecomposition(), 1e-13),
+                () -> assertSame(h.getEigenDecomposition(), h.getEigenDecomposition()),
+                () -> assertDecomposition(DoubleArrayMatrix.identityMatrix(5),
+                        DoubleArrayMatrix.identityMatrix(5).getEigenDecomposition(), 0),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> new DoubleArrayMatrix(new double[][]{{1, 2}, {3, 4}}).getEigenDecomposition()),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> new DoubleArrayMatrix(new double[][]{{1, 2, 3}}).getEigenDecomposition())
+        );
+    }
+
+    @Test
+    void testParallel() {
+        // The same eigenvalues and eigenvectors with the blocks run in parallel
+        var a = symmetric(EigenDecomposition.RB * 3 + 7, 2);
+        var pool = Parallelism.getPool();
+        var threshold = Parallelism.getThreshold();
+        var p = new ForkJoinPool(4);
+
+        try {
+            Parallelism.setThreshold(Long.MAX_VALUE);
+            var serial = EigenDecomposition.of(a);
+
+            Parallelism.setThreshold(0);
+            Parallelism.setPool(p);
+            var parallel = EigenDecomposition.of(a);
+
+            assertDecomposition(a, parallel, 1e-12);
+            assertAll(
+                    () -> assertArrayEquals(serial.getEigenvalues(), parallel.getEigenvalues(), 0),
+                    () -> assertArrayEquals(DoubleArrayMatrix.elements(serial.getV()),
+                            DoubleArrayMatrix.elements(parallel.getV()), 0)
+            );
+        } finally {
+            p.shutdown();
+            Parallelism.setPool(pool);
+            Parallelism.setThreshold(threshold);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImplicitMatrixTest {
+
+    private static final Matrix.ShiftMatrixType UP = Matrix.ShiftMatrixType.UPPER, DOWN = Matrix.ShiftMatrixType.LOWER;
+
+    private final DoubleArrayMatrix a = new DoubleArrayMatrix(new double[][]{
+            {1, 2, 3, 4},
+            {5, 6, 7, 8},
+            {9, 10, 11, 12},
+            {13, 14, 15, 16}
+    });
+
+    private static ImplicitMatrix[] all(final int n) {
+        return new ImplicitMatrix[]{
+                ImplicitMatrix.identityMatrix(n), ImplicitMatrix.exchangeMatrix(n),
+                ImplicitMatrix.shiftMatrix(n, UP), ImplicitMatrix.shiftMatrix(n, DOWN),
+                ImplicitMatrix.zeroMatrix(n, n), ImplicitMatrix.oneMatrix(n, n),
+                ImplicitMatrix.hilbertMatrix(n), ImplicitMatrix.lehmerMatrix(n)
+        };
+    }
+
+    @Test
+    void testElements() {
+        assertAll(
+                () -> assertEquals(DoubleArrayMatrix.identityMatrix(5), new DoubleArrayMatrix(ImplicitMatrix.identityMatrix(5))),
+                () -> assertEquals(DoubleArrayMatrix.exchangeMatrix(5), new DoubleArrayMatrix(ImplicitMatrix.exchangeMatrix(5))),
+                () -> assertEquals(DoubleArrayMatrix.shiftMatrix(5, UP), new DoubleArrayMatrix(ImplicitMatrix.shiftMatrix(5, UP))),
+                () -> assertEquals(DoubleArrayMatrix.shiftMatrix(5, DOWN), new DoubleArrayMatrix(ImplicitMatrix.shiftMatrix(5, DOWN))),
+                () -> assertEquals(DoubleArrayMatrix.oneMatrix(2, 3), new DoubleArrayMatrix(ImplicitMatrix.oneMatrix(2, 3))),
+                () -> assertEquals(DoubleArrayMatrix.zeroMatrix(3, 2), new DoubleArrayMatrix(ImplicitMatrix.zeroMatrix(3, 2))),
+                () -> assertEquals(DoubleArrayMatrix.hilbertMatrix(5), new DoubleArrayMatrix(ImplicitMatrix.hilbertMatrix(5))),
+                () -> assertEquals(DoubleArrayMatrix.lehmerMatrix(5), new DoubleArrayMatrix(ImplicitMatrix.lehmerMatrix(5))),
+                () -> assertArrayEquals(new int[]{32768, 32768}, ImplicitMatrix.identityMatrix(32768).getDimension()),
+                () -> assertEquals(1, ImplicitMatrix.identityMatrix(32768).get(32767, 32767)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> ImplicitMatrix.identityMatrix(3).get(3, 0)),
+                () -> assertThrows(InvalidMatrixDimensionException.class, () -> ImplicitMatrix.hilbertMatrix(0))
+        );
+    }
+
+    @Test
+    void testMultiply() {
+        for (var m : all(4)) {
+            var d = new DoubleArrayMatrix(m);
+
+            assertEquals(d.multiply(a), new DoubleArrayMatrix(m.multiply(a)), m::toString);
+            assertEquals(a.multiply(d), new DoubleArrayMatrix(a.multiply(m)), m::toString);
+        }
+
+        assertAll(
+                () -> assertEquals(a, ImplicitMatrix.identityMatrix(4).multiply(a)),
+                () -> assertEquals(a, a.multiply(ImplicitMatrix.identityMatrix(4))),
+                () -> assertSame(a, a.multiply(ImplicitMatrix.identityMatrix(4), Rounding.POINT.NONE)),
+                () -> assertEquals(ImplicitMatrix.zeroMatrix(2, 4), ImplicitMatrix.zeroMatrix(2, 4).multiply(a)),
+                () -> assertEquals(DoubleArrayMatrix.oneMatrix(3, 2).multiply(DoubleArrayMatrix.hilbertMatrix(2)),
+                        new DoubleArrayMatrix(ImplicitMatrix.oneMatrix(3, 2).multiply(ImplicitMatrix.hilbertMatrix(2)))),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> ImplicitMatrix.exchangeMatrix(3).multiply(a))
+        );
+    }
+
+    @Test
+    void testMultiplyIdentity() {
+        // The product with the identity matrix is rounded as any other product
+        var b = new DoubleArrayMatrix(new double[][]{{1.23456, 2}, {3, 4.5678}});
+        var c = new ArrayMatrix(b.toArray());
+        var i = ImplicitMatrix.identityMatrix(2);
+
+        for (var m : new Matrix[]{b.multiply(i, Rounding.POINT.TWO), i.multiply(b, Rounding.POINT.TWO),
+                i.multiply(c, Rounding.POINT.TWO)})
+            assertAll(
+                    () -> assertEquals(1.23, m.get(0, 0)),
+                    () -> assertEquals(4.57, m.get(1, 1))
+            );
+
+        assertEquals(1.23456, b.multiply(i, Rounding.POINT.TWO).multiply(i, Rounding.POINT.NONE).get(0, 0));
+    }
+
+    @Test
+    void testProperties() {
+        for (var m : all(5)) {
+            var d = new DoubleArrayMatrix(m);
+
+            assertEquals(d.getTrace(), m.getTrace(), m::toString);
+            assertEquals(d.getRank(), m.getRank(), m::toString);
+            assertEquals(d.getDeterminant(), m.getDeterminant(), 1e-10, m::toString);
+            assertEquals(d.transpose(), new DoubleArrayMatrix(m.transpose()), m::toString);
+        }
+
+        assertAll(
+                () -> assertEquals(1, ImplicitMatrix.exchangeMatrix(4).getDeterminant()),
+                () -> assertEquals(-1, ImplicitMatrix.exchangeMatrix(6).getDeterminant()),
+                () -> assertEquals(ImplicitMatrix.zeroMatrix(3, 2), ImplicitMatrix.zeroMatrix(2, 3).transpose()),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> ImplicitMatrix.oneMatrix(2, 3).getDeterminant())
+        );
+    }
+
+    @Test
+    void testInverseAndSolve() {
+        var j = ImplicitMatrix.exchangeMatrix(4);
+        var h = ImplicitMatrix.hilbertMatrix(3);
+
+        assertAll(
+                () -> assertSame(j, j.inverse()),
+                () -> assertEquals(DoubleArrayMatrix.hilbertMatrix(3).inverse(Rounding.POINT.SIX), h.inverse(Rounding.POINT.SIX)),
+                () -> assertEquals(DoubleArrayVector.of(4, 3, 2, 1), j.solve(DoubleArrayVector.of(1, 2, 3, 4))),
+                () -> assertEquals(new DoubleArrayMatrix(j).solve(a), j.solve(a)),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> ImplicitMatrix.shiftMatrix(3, UP).inverse()),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> j.solve(DoubleArrayVector.of(1, 2)))
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.ArrayVector;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LUDecompositionTest {
+
+    @Test
+    void testFactors() {
+        var a = new DoubleArrayMatrix(new double[][]{{1, 2, 0}, {3, 4, 4}, {5, 6, 3}});
+        var lu = a.getLUDecomposition();
+
+        assertAll(
+                () -> assertArrayEquals(new int[]{2, 0, 1}, lu.getPivot()),
+                () -> assertEquals(lu.getP().multiply(a), lu.getL().multiply(lu.getU())),
+                () -> assertEquals(0, lu.getL().get(0, 1)),
+                () -> assertEquals(1, lu.getL().get(2, 2)),
+                () -> assertEquals(0, lu.getU().get(2, 0)),
+                () -> assertSame(lu, a.getLUDecomposition())
+        );
+    }
+
+    @Test
+    void testDeterminant() {
+        assertAll(
+                () -> assertEquals(10, LUDecomposition.of(new ArrayMatrix(new Number[][]{{1, 2, 0}, {3, 4, 4}, {5, 6, 3}}))
+                                                       .getDeterminant(), 1e-12),
+                () -> assertEquals(-1, LUDecomposition.of(DoubleArrayMatrix.exchangeMatrix(6)).getDeterminant()),
+                () -> assertEquals(0.0, LUDecomposition.of(DoubleArrayMatrix.zeroMatrix(4, 4)).getDeterminant()),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> LUDecomposition.of(DoubleArrayMatrix.zeroMatrix(2, 3)))
+        );
+    }
+
+    @Test
+    void testSingular() {
+        var lu = LUDecomposition.of(new DoubleArrayMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}, {7, 8, 9}}));
+
+        assertAll(
+                () -> assertTrue(lu.isSingular()),
+                () -> assertThrows(InvalidMatrixOperationException.class, lu::inverse),
+                () -> assertFalse(LUDecomposition.of(DoubleArrayMatrix.hilbertMatrix(5)).isSingular())
+        );
+    }
+
+    @Test
+    void testPivotingAvoidsZeroDiagonal() {
+        // The diagonal starts with a zero, so an LU without pivoting divides by zero
+        var a = new ArrayMatrix(new Number[][]{{0, 1, 2, 3}, {1, 0, 1, 2}, {2, 1, 0, 1}, {3, 2, 1, 0}});
+        var i = a.multiply(a.inverse());
+
+        assertEquals(-12, a.getDeterminant());
+        assertEquals(4, a.getRank());
+        for (var r = 0; r < 4; r++)
+            for (var c = 0; c < 4; c++)
+                assertEquals(r == c ? 1 : 0, i.get(r, c), 1e-9);
+    }
+
+    @Test
+    void testSolve() {
+        var a = new ArrayMatrix(new Number[][]{{2, 1, -1}, {-3, -1, 2}, {-2, 1, 2}});
+        var f = new DoubleArrayMatrix(a);
+        var b = new DoubleArrayMatrix(new double[][]{{8, 1}, {-11, 0}, {-3, 0}});
+
+        assertAll(
+                () -> assertEquals(ArrayVector.of(2D, 3D, -1D), a.solve(ArrayVector.of(8, -11, -3), Rounding.POINT.SIX)),
+                () -> assertEquals(DoubleArrayVector.of(2, 3, -1), f.solve(DoubleArrayVector.of(8, -11, -3))),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{2, 4}, {3, -2}, {-1, 5}}), f.solve(b)),
+                () -> assertEquals(new ArrayMatrix(new Number[][]{{2D, 4D}, {3D, -2D}, {-1D, 5D}}), a.solve(b)),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> f.solve(DoubleArrayVector.of(1, 2))),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> DoubleArrayMatrix.zeroMatrix(2, 3).solve(DoubleArrayVector.of(1, 2))),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> new DoubleArrayMatrix(new double[][]{{1, 2}, {2, 4}}).solve(DoubleArrayVector.of(1, 2)))
+        );
+    }
+}
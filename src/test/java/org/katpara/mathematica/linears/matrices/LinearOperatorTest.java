@@ -0,0 +1,44 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.exceptions.NullArgumentProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinearOperatorTest {
+
+    private final Matrix a = new DoubleArrayMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}});
+
+    @Test
+    void testMatrix() {
+        var o = LinearOperator.of(a);
+        assertAll(
+                () -> assertArrayEquals(new int[]{2, 3}, o.getDimension()),
+                () -> assertArrayEquals(new double[]{14, 32}, o.multiply(new double[]{1, 2, 3})),
+                () -> assertArrayEquals(new double[]{9, 12, 15}, o.multiplyTransposed(new double[]{1, 2})),
+                () -> assertArrayEquals(new double[]{14, 1, 32, 4}, o.multiply(new double[]{1, 1, 2, 0, 3, 0}, 2)),
+                () -> assertArrayEquals(new double[]{9, 1, 12, 2, 15, 3},
+                        o.multiplyTransposed(new double[]{1, 1, 2, 0}, 2)),
+                () -> assertThrows(NullArgumentProvidedException.class, () -> LinearOperator.of(null))
+        );
+    }
+
+    @Test
+    void testCallbacks() {
+        var d = LinearOperator.of(a);
+        var o = LinearOperator.of(2, 3, d::multiply, d::multiplyTransposed);
+        var wrong = LinearOperator.of(2, 3, x -> new double[3], y -> new double[2]);
+
+        assertAll(
+                () -> assertArrayEquals(new double[]{14, 1, 32, 4}, o.multiply(new double[]{1, 1, 2, 0, 3, 0}, 2)),
+                () -> assertArrayEquals(new double[]{9, 1, 12, 2, 15, 3},
+                        o.multiplyTransposed(new double[]{1, 1, 2, 0}, 2)),
+                () -> assertThrows(InvalidMatrixDimensionException.class, () -> wrong.multiply(new double[3], 1)),
+                () -> assertThrows(InvalidMatrixDimensionException.class, () -> LinearOperator.of(0, 3, d::multiply,
+                        d::multiplyTransposed)),
+                () -> assertThrows(NullArgumentProvidedException.class, () -> LinearOperator.of(2, 3, null,
+                        d::multiplyTransposed))
+        );
+    }
+}
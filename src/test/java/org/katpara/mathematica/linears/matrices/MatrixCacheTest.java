@@ -0,0 +1,124 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatrixCacheTest {
+
+    private long capacity;
+
+    @BeforeEach
+    void setUp() {
+        capacity = MatrixCache.getCapacity();
+        MatrixCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MatrixCache.setCapacity(capacity);
+        MatrixCache.clear();
+    }
+
+    @Test
+    void testShared() {
+        var h = ArrayMatrix.hilbertMatrix(5);
+
+        assertAll(
+                () -> assertSame(h, ArrayMatrix.hilbertMatrix(5)),
+                () -> assertNotSame(h, ArrayMatrix.hilbertMatrix(6)),
+                () -> assertNotSame(ArrayMatrix.pascalMatrix(4, Matrix.PascalMatrixType.UPPER),
+                        ArrayMatrix.pascalMatrix(4, Matrix.PascalMatrixType.LOWER)),
+                () -> assertNotEquals(DoubleArrayMatrix.shiftMatrix(4, Matrix.ShiftMatrixType.UPPER),
+                        DoubleArrayMatrix.shiftMatrix(4, Matrix.ShiftMatrixType.LOWER)),
+                () -> assertSame(DoubleArrayMatrix.identityMatrix(3), DoubleArrayMatrix.identityMatrix(3)),
+                () -> assertEquals(DoubleArrayMatrix.identityMatrix(3), DoubleArrayMatrix.identityMatrix(3))
+        );
+    }
+
+    @Test
+    void testStatistics() {
+        ArrayMatrix.identityMatrix(4);
+        ArrayMatrix.identityMatrix(4);
+        ArrayMatrix.identityMatrix(4);
+        DoubleArrayMatrix.identityMatrix(4);
+
+        assertAll(
+                () -> assertEquals(2, MatrixCache.getHits()),
+                () -> assertEquals(2, MatrixCache.getMisses()),
+                () -> assertEquals(2, MatrixCache.getSize()),
+                () -> assertEquals(32, MatrixCache.getWeight())
+        );
+    }
+
+    @Test
+    void testEviction() {
+        MatrixCache.setCapacity(50);
+
+        var a = DoubleArrayMatrix.exchangeMatrix(5);
+        var b = DoubleArrayMatrix.redhefferMatrix(5);
+        DoubleArrayMatrix.exchangeMatrix(5);
+        DoubleArrayMatrix.lehmerMatrix(5);
+
+        assertAll(
+                () -> assertEquals(1, MatrixCache.getEvictions()),
+                () -> assertEquals(50, MatrixCache.getWeight()),
+                () -> assertSame(a, DoubleArrayMatrix.exchangeMatrix(5)),
+                () -> assertNotSame(b, DoubleArrayMatrix.redhefferMatrix(5)),
+                () -> assertNotSame(DoubleArrayMatrix.hilbertMatrix(8), DoubleArrayMatrix.hilbertMatrix(8))
+        );
+
+        MatrixCache.setCapacity(0);
+        assertEquals(0, MatrixCache.getSize());
+    }
+
+    @Test
+    void testImmutable() {
+        // The shared matrix can't be changed through the arrays and the vectors it hands out
+        ArrayMatrix.identityMatrix(3).toArrayVectors().get(0).toArray()[0] = 42;
+        ArrayMatrix.identityMatrix(3).toArray()[1][1] = 42;
+
+        assertArrayEquals(new double[]{1, 0, 0, 0, 1, 0, 0, 0, 1},
+                DoubleArrayMatrix.elements(ArrayMatrix.identityMatrix(3)));
+    }
+
+    @Test
+    void testDerived() {
+        // The decompositions and inverses of the shared matrices count towards the capacity
+        MatrixCache.setCapacity(250);
+
+        var h = DoubleArrayMatrix.hilbertMatrix(10);
+        var l = h.getLUDecomposition();
+        h.getLUDecomposition();
+        assertEquals(200, MatrixCache.getWeight());
+
+        var q = h.getQRDecomposition();
+        var a = ArrayMatrix.hilbertMatrix(4);
+        for (var p : Rounding.POINT.values())
+            a.inverse(p);
+
+        // 16 elements, its Cholesky decomposition, inverse and the last 4 rounded inverses
+        assertAll(
+                () -> assertEquals(1, MatrixCache.getSize()),
+                () -> assertEquals(16 + 10 + 16 + 4 * 16, MatrixCache.getWeight()),
+                () -> assertNotSame(h, DoubleArrayMatrix.hilbertMatrix(10)),
+                () -> assertSame(l, h.getLUDecomposition()),
+                () -> assertSame(q, h.getQRDecomposition())
+        );
+    }
+
+    @Test
+    void testInvalid() {
+        assertAll(
+                () -> assertThrows(InvalidMatrixDimensionException.class, () -> ArrayMatrix.identityMatrix(0)),
+                () -> assertThrows(InvalidMatrixDimensionException.class, () -> DoubleArrayMatrix.hilbertMatrix(-1)),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> MatrixCache.setCapacity(-1)),
+                () -> assertEquals(0, MatrixCache.getSize())
+        );
+    }
+}
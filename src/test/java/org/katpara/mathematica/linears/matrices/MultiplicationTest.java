@@ -0,0 +1,121 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Parallelism;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.katpara.mathematica.commons.TestArrays.random;
+
+class MultiplicationTest {
+
+    private static double[] reference(final double[] a, final double[] b, final int m, final int n, final int p) {
+        var c = new double[m * p];
+        for (var i = 0; i < m; i++)
+            for (var j = 0; j < p; j++) {
+                var s = 0.0;
+                for (var k = 0; k < n; k++)
+                    s += a[i * n + k] * b[k * p + j];
+                c[i * p + j] = s;
+            }
+
+        return c;
+    }
+
+    @Test
+    void testBlockedKernel() {
+        int[][] shapes = {{1, 1, 1}, {3, 5, 7}, {64, 64, 64}, {131, 257, 67}, {70, 300, 1030}, {5, 600, 9}};
+
+        for (var s : shapes) {
+            double[] a = random(s[0] * s[1], 1), b = random(s[1] * s[2], 2),
+                    c = Multiplication.multiply(a, b, s[0], s[1], s[2]),
+                    r = reference(a, b, s[0], s[1], s[2]);
+
+            for (var i = 0; i < r.length; i++)
+                assertEquals(r[i], c[i], 1e-10 * s[1]);
+        }
+    }
+
+    @Test
+    void testOffsetsAndLeadingDimensions() {
+        // Multiply the lower right 40 x 50 block of a 60 x 70 array with a 50 x 30 array,
+        // and add the product into the middle of a 50 x 50 array.
+        double[] a = random(60 * 70, 3), b = random(50 * 30, 4), c = new double[50 * 50];
+        var _a = new double[40 * 50];
+        for (var i = 0; i < 40; i++)
+            System.arraycopy(a, (20 + i) * 70 + 20, _a, i * 50, 50);
+
+        Multiplication.multiply(a, 20 * 70 + 20, 70, b, 0, 30, c, 5 * 50 + 10, 50, 40, 50, 30);
+        var r = reference(_a, b, 40, 50, 30);
+
+        for (var i = 0; i < 50; i++)
+            for (var j = 0; j < 50; j++) {
+                var inside = i >= 5 && i < 45 && j >= 10 && j < 40;
+                assertEquals(inside ? r[(i - 5) * 30 + j - 10] : 0, c[i * 50 + j], 1e-10);
+            }
+    }
+
+    @Test
+    void testTransposedOperand() {
+        int[][] shapes = {{3, 5, 7}, {131, 257, 67}, {300, 270, 110}};
+        var threshold = Parallelism.getThreshold();
+
+        try {
+            for (var t : new long[]{Long.MAX_VALUE, 0}) {
+                Parallelism.setThreshold(t);
+
+                for (var s : shapes) {
+                    // A is n x m, so A^T is m x n
+                    double[] a = random(s[1] * s[0], 7), b = random(s[1] * s[2], 8), _a = new double[a.length];
+                    for (var i = 0; i < s[1]; i++)
+                        for (var j = 0; j < s[0]; j++)
+                            _a[j * s[1] + i] = a[i * s[0] + j];
+
+                    assertArrayEquals(Multiplication.multiply(_a, b, s[0], s[1], s[2]),
+                            Multiplication.multiplyTransposed(a, b, s[0], s[1], s[2]));
+                }
+            }
+        } finally {
+            Parallelism.setThreshold(threshold);
+        }
+    }
+
+    @Test
+    void testParallelIsIdenticalToSerial() {
+        double[] a = random(300 * 270, 5), b = random(270 * 1100, 6);
+        var pool = Parallelism.getPool();
+        var threshold = Parallelism.getThreshold();
+
+        try {
+            Parallelism.setThreshold(Long.MAX_VALUE);
+            var serial = Multiplication.multiply(a, b, 300, 270, 1100);
+
+            Parallelism.setThreshold(0);
+            for (var t : new int[]{2, 3, 8}) {
+                var p = new ForkJoinPool(t);
+                Parallelism.setPool(p);
+                assertArrayEquals(serial, Multiplication.multiply(a, b, 300, 270, 1100));
+                p.shutdown();
+            }
+        } finally {
+            Parallelism.setPool(pool);
+            Parallelism.setThreshold(threshold);
+        }
+    }
+
+    @Test
+    void testStrassen() {
+        // The small crossover forces a few levels of recursion and peels the odd dimensions
+        int[][] shapes = {{64, 64, 64}, {65, 67, 71}, {100, 33, 90}, {129, 128, 127}, {10, 200, 10}};
+
+        for (var s : shapes) {
+            double[] a = random(s[0] * s[1], 7), b = random(s[1] * s[2], 8),
+                    c = Strassen.multiply(a, b, s[0], s[1], s[2], 16),
+                    r = reference(a, b, s[0], s[1], s[2]);
+
+            for (var i = 0; i < r.length; i++)
+                assertEquals(r[i], c[i], 1e-10 * s[1]);
+        }
+    }
+}
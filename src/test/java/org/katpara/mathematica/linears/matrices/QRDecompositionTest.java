@@ -0,0 +1,80 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.katpara.mathematica.linears.matrices.TestMatrices.assertOrthonormal;
+import static org.katpara.mathematica.linears.matrices.TestMatrices.random;
+
+class QRDecompositionTest {
+
+    @Test
+    void testFactors() {
+        // Wider than a panel, so the later panels see the updates of the earlier ones
+        var a = random(QRDecomposition.NB * 3 + 5, QRDecomposition.NB * 2 + 3, 7);
+        var qr = a.getQRDecomposition();
+        var q = qr.getQ();
+        var r = qr.getR();
+        var n = a.getDimension()[1];
+
+        var d = DoubleArrayMatrix.elements(r);
+        var diagonal = true;
+        for (var i = 1; i < n; i++)
+            diagonal &= Math.abs(d[i * n + i]) <= Math.abs(d[(i - 1) * n + i - 1]);
+
+        var decreasing = diagonal;
+        assertAll(
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(a.multiply(qr.getP(), Rounding.POINT.NONE)),
+                        DoubleArrayMatrix.elements(q.multiply(r, Rounding.POINT.NONE)), 1e-12),
+                () -> assertOrthonormal(q, 1e-12),
+                () -> assertTrue(decreasing),
+                () -> assertSame(qr, a.getQRDecomposition()),
+                () -> assertEquals(n, qr.getRank())
+        );
+    }
+
+    @Test
+    void testRank() {
+        // The rank 3 product of 60 x 3 and 3 x 40 matrices, every element is rounded off
+        var a = new DoubleArrayMatrix(DoubleArrayMatrix.elements(random(60, 3, 1).multiply(random(3, 40, 2),
+                Rounding.POINT.NONE)), 60, 40, Matrix.MatrixType.NOT_SPECIFIED);
+        var b = new DoubleArrayMatrix(new double[][]{{1, 2, 3}, {2, 4, 6.000001}, {1, 1, 1}});
+
+        assertAll(
+                () -> assertEquals(3, a.getRank()),
+                () -> assertEquals(3, a.transpose().getRank()),
+                () -> assertEquals(3, new ArrayMatrix(a.toArray()).getRank()),
+                () -> assertEquals(3, b.getRank()),
+                () -> assertEquals(2, b.getRank(1e-3)),
+                () -> assertEquals(2, QRDecomposition.of(b).getRank(1e-3)),
+                () -> assertEquals(0, QRDecomposition.of(DoubleArrayMatrix.zeroMatrix(2, 3)).getRank())
+        );
+    }
+
+    @Test
+    void testLeastSquares() {
+        // y = 1 + 2x sampled exactly, and the same with a residual orthogonal to the columns
+        var a = new DoubleArrayMatrix(new double[][]{{1, 0}, {1, 1}, {1, 2}, {1, 3}});
+        var y = new DoubleArrayVector(new double[]{1, 3, 5, 7});
+        var z = new DoubleArrayVector(new double[]{1, 2, 4, 8});
+        var b = random(200, 40, 3);
+        var x = new DoubleArrayVector(new double[40]).add(1);
+
+        assertAll(
+                () -> assertEquals(DoubleArrayVector.of(1, 2), a.leastSquares(y)),
+                () -> assertEquals(DoubleArrayVector.of(1, 2), a.leastSquares(y.add(DoubleArrayVector.of(1, -1, -1, 1)))),
+                () -> assertEquals(DoubleArrayVector.of(0.3, 2.3), a.leastSquares(z)),
+                () -> assertArrayEquals(new double[]{1, 2}, DoubleArrayMatrix.elements(new ArrayMatrix(a.toArray()).leastSquares(y))),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(x),
+                        DoubleArrayMatrix.elements(b.leastSquares(x.multiply(b), Rounding.POINT.NONE)), 1e-12),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(x),
+                        DoubleArrayMatrix.elements(b.getQRDecomposition().leastSquares(x.multiply(b))), 1e-12),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> a.leastSquares(DoubleArrayVector.of(1, 2))),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> a.transpose().leastSquares(DoubleArrayVector.of(1, 2)))
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.katpara.mathematica.linears.matrices.TestMatrices.assertOrthonormal;
+import static org.katpara.mathematica.linears.matrices.TestMatrices.random;
+import static org.katpara.mathematica.linears.matrices.TestMatrices.spectrum;
+
+class RandomizedRangeFinderTest {
+
+    @Test
+    void testRange() {
+        // The rank 6 product, the range of 6 + 4 columns holds all of it
+        var a = new DoubleArrayMatrix(DoubleArrayMatrix.elements(random(500, 6, 1).multiply(random(6, 80, 2),
+                Rounding.POINT.NONE)), 500, 80, Matrix.MatrixType.NOT_SPECIFIED);
+        var q = new RandomizedRangeFinder(6, 4, 1, 3).range(a);
+        var r = a.subtract(q.multiply(q.transpose().multiply(a, Rounding.POINT.NONE), Rounding.POINT.NONE));
+
+        assertAll(
+                () -> assertArrayEquals(new int[]{500, 10}, q.getDimension()),
+                () -> assertOrthonormal(q, 1e-12),
+                () -> assertArrayEquals(new double[500 * 80], DoubleArrayMatrix.elements(r), 1e-12),
+                () -> assertArrayEquals(new int[]{80, 3}, new RandomizedRangeFinder(3, 0, 0, 3)
+                        .range(a.transpose()).getDimension())
+        );
+    }
+
+    @Test
+    void testDecompose() {
+        var s = new double[60];
+        for (var i = 0; i < s.length; i++)
+            s[i] = Math.pow(0.7, i);
+
+        var a = spectrum(400, 60, s, 5);
+        var svd = new RandomizedRangeFinder(5, 10, 2, 7).decompose(a);
+        var u = svd.getU();
+        var v = svd.getV();
+        var r = DoubleArrayMatrix.elements(a.multiply(v, Rounding.POINT.NONE)
+                                            .subtract(u.multiply(svd.getS(), Rounding.POINT.NONE)));
+
+        assertAll(
+                () -> assertTrue(svd.isTruncated()),
+                () -> assertArrayEquals(new double[]{1, 0.7, 0.49, 0.343, 0.2401}, svd.getSingularValues(), 1e-12),
+                () -> assertOrthonormal(u, 1e-12),
+                () -> assertOrthonormal(v, 1e-12),
+                () -> assertArrayEquals(new double[r.length], r, 1e-8),
+                () -> assertArrayEquals(svd.getSingularValues(),
+                        new RandomizedRangeFinder(5, 10, 2, 7).decompose(a).getSingularValues(), 0)
+        );
+    }
+
+    @Test
+    void testLinearOperator() {
+        // The 3000 x 200 matrix of the elements 1 / (i + j + 1), only its products are given
+        int m = 3000, n = 200;
+        var o = LinearOperator.of(m, n, x -> {
+            var y = new double[m];
+            for (var i = 0; i < m; i++)
+                for (var j = 0; j < n; j++)
+                    y[i] += x[j] / (i + j + 1);
+            return y;
+        }, y -> {
+            var x = new double[n];
+            for (var i = 0; i < m; i++)
+                for (var j = 0; j < n; j++)
+                    x[j] += y[i] / (i + j + 1);
+            return x;
+        });
+
+        var e = new double[m * n];
+        for (var i = 0; i < m; i++)
+            for (var j = 0; j < n; j++)
+                e[i * n + j] = 1.0 / (i + j + 1);
+
+        var a = new DoubleArrayMatrix(e, m, n, Matrix.MatrixType.NOT_SPECIFIED);
+        var finder = new RandomizedRangeFinder(8);
+        var expected = SingularValueDecomposition.of(a, 8).getSingularValues();
+        var actual = finder.decompose(o).getSingularValues();
+
+        // The Hilbert-like matrix is badly conditioned, so the Cholesky QR falls back
+        assertAll(
+                () -> assertArrayEquals(expected, actual, 1e-10 * expected[0]),
+                () -> assertArrayEquals(actual, finder.decompose(a).getSingularValues(), 1e-10 * expected[0]),
+                () -> assertOrthonormal(finder.range(o), 1e-12)
+        );
+    }
+
+    @Test
+    void testParameters() {
+        var a = random(10, 4, 1);
+        assertAll(
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> new RandomizedRangeFinder(0)),
+                () -> assertThrows(InvalidParameterProvidedException.class,
+                        () -> new RandomizedRangeFinder(2, -1, 0, 0)),
+                () -> assertThrows(InvalidParameterProvidedException.class,
+                        () -> new RandomizedRangeFinder(2, 0, -1, 0)),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> new RandomizedRangeFinder(5).range(a)),
+                () -> assertArrayEquals(new int[]{10, 4}, new RandomizedRangeFinder(2).range(a).getDimension())
+        );
+    }
+}
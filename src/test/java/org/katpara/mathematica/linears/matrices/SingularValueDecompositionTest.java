@@ -0,0 +1,156 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.katpara.mathematica.linears.matrices.TestMatrices.assertOrthonormal;
+import static org.katpara.mathematica.linears.matrices.TestMatrices.random;
+import static org.katpara.mathematica.linears.matrices.TestMatrices.spectrum;
+
+class SingularValueDecompositionTest {
+
+    @Test
+    void testFactors() {
+        for (var d : new int[][]{{70, 40}, {40, 70}, {25, 25}}) {
+            var a = random(d[0], d[1], d[0] + d[1]);
+            var svd = a.getSingularValueDecomposition();
+            var s = svd.getSingularValues();
+
+            var decreasing = true;
+            for (var i = 1; i < s.length; i++)
+                decreasing &= s[i] <= s[i - 1];
+
+            var product = svd.getU().multiply(svd.getS(), Rounding.POINT.NONE)
+                             .multiply(svd.getV().transpose(), Rounding.POINT.NONE);
+            var f = decreasing;
+            assertAll(
+                    () -> assertEquals(Math.min(d[0], d[1]), s.length),
+                    () -> assertArrayEquals(DoubleArrayMatrix.elements(a), DoubleArrayMatrix.elements(product), 1e-12),
+                    () -> assertOrthonormal(svd.getU(), 1e-10),
+                    () -> assertOrthonormal(svd.getV(), 1e-10),
+                    () -> assertTrue(f),
+                    () -> assertFalse(svd.isTruncated()),
+                    () -> assertSame(svd, a.getSingularValueDecomposition())
+            );
+        }
+    }
+
+    @Test
+    void testNormAndCondition() {
+        var s = new double[]{1e3, 40, 5, 2, 0.5, 1e-2};
+        var a = spectrum(30, 6, s, 3);
+        var svd = a.getSingularValueDecomposition();
+        var b = new DoubleArrayMatrix(new double[][]{{3, 0}, {0, -4}});
+
+        assertAll(
+                () -> assertArrayEquals(s, svd.getSingularValues(), 1e-10),
+                () -> assertEquals(1e3, svd.getNorm(), 1e-10),
+                () -> assertEquals(1e5, svd.getConditionNumber(), 1e-4),
+                () -> assertEquals(4, b.getSingularValueDecomposition().getNorm(), 1e-14),
+                () -> assertEquals(4.0 / 3, new ArrayMatrix(b.toArray()).getSingularValueDecomposition()
+                                                                      .getConditionNumber(), 1e-14),
+                () -> assertTrue(SingularValueDecomposition.of(new DoubleArrayMatrix(new double[][]{{1, 2}, {2, 4}}))
+                                                           .getConditionNumber() > 1e15),
+                () -> assertEquals(Double.POSITIVE_INFINITY, SingularValueDecomposition.of(
+                        new DoubleArrayMatrix(new double[][]{{1, 0}, {0, 0}})).getConditionNumber())
+        );
+    }
+
+    @Test
+    void testRankDeficient() {
+        // The singular vectors of the zero singular values are completed to orthonormal ones
+        for (var a : new Matrix[]{new DoubleArrayMatrix(new double[][]{{1, 1}, {1, 1}}),
+                new DoubleArrayMatrix(new double[3 * 3], 3, 3, Matrix.MatrixType.NOT_SPECIFIED),
+                new DoubleArrayMatrix(new double[][]{{1, 2, 3, 4}, {2, 4, 6, 8}})}) {
+            var svd = SingularValueDecomposition.of(a);
+            var product = svd.getU().multiply(svd.getS(), Rounding.POINT.NONE)
+                             .multiply(svd.getV().transpose(), Rounding.POINT.NONE);
+            assertAll(
+                    () -> assertOrthonormal(svd.getU(), 1e-10),
+                    () -> assertOrthonormal(svd.getV(), 1e-10),
+                    () -> assertArrayEquals(DoubleArrayMatrix.elements(a), DoubleArrayMatrix.elements(product), 1e-14)
+            );
+        }
+    }
+
+    @Test
+    void testPseudoInverse() {
+        // The rank 3 product of 20 x 3 and 3 x 12 matrices
+        var a = new DoubleArrayMatrix(DoubleArrayMatrix.elements(random(20, 3, 5).multiply(random(3, 12, 6),
+                Rounding.POINT.NONE)), 20, 12, Matrix.MatrixType.NOT_SPECIFIED);
+        var svd = a.getSingularValueDecomposition();
+        var x = svd.getPseudoInverse();
+        var square = random(8, 8, 9);
+
+        assertAll(
+                () -> assertEquals(3, svd.getRank()),
+                () -> assertArrayEquals(new int[]{12, 20}, x.getDimension()),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(a), DoubleArrayMatrix.elements(
+                        a.multiply(x, Rounding.POINT.NONE).multiply(a, Rounding.POINT.NONE)), 1e-10),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(x), DoubleArrayMatrix.elements(
+                        x.multiply(a, Rounding.POINT.NONE).multiply(x, Rounding.POINT.NONE)), 1e-10),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(square.inverse(Rounding.POINT.NONE)),
+                        DoubleArrayMatrix.elements(square.getSingularValueDecomposition().getPseudoInverse()), 1e-9)
+        );
+    }
+
+    @Test
+    void testApproximation() {
+        var s = new double[]{8, 4, 2, 1, 0.5};
+        var a = spectrum(15, 10, s, 11);
+        var svd = a.getSingularValueDecomposition();
+        var two = svd.getApproximation(2);
+        var e = DoubleArrayMatrix.elements(a.subtract(two));
+
+        // The error of the best rank 2 approximation is the third singular value
+        assertAll(
+                () -> assertEquals(2, two.getRank(1e-9)),
+                () -> assertEquals(2, SingularValueDecomposition.of(
+                        new DoubleArrayMatrix(e, 15, 10, Matrix.MatrixType.NOT_SPECIFIED)).getNorm(), 1e-10),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(a),
+                        DoubleArrayMatrix.elements(svd.getApproximation(10)), 1e-12),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> svd.getApproximation(11))
+        );
+    }
+
+    @Test
+    void testTruncated() {
+        // A decaying spectrum, the Lanczos process only needs a few of the 150 columns
+        var s = new double[150];
+        for (var i = 0; i < s.length; i++)
+            s[i] = Math.pow(0.9, i);
+
+        var a = spectrum(300, 150, s, 13);
+        for (var m : new Matrix[]{a, a.transpose()}) {
+            var svd = SingularValueDecomposition.of(m, 5);
+            var u = svd.getU();
+            var v = svd.getV();
+
+            // The residuals of the singular triples, Av - su
+            var r = DoubleArrayMatrix.elements(m.multiply(v, Rounding.POINT.NONE)
+                                                .subtract(u.multiply(svd.getS(), Rounding.POINT.NONE)));
+            assertAll(
+                    () -> assertTrue(svd.isTruncated()),
+                    () -> assertArrayEquals(new double[]{1, 0.9, 0.81, 0.729, 0.6561}, svd.getSingularValues(), 1e-12),
+                    () -> assertArrayEquals(new int[]{m.getDimension()[0], 5}, u.getDimension()),
+                    () -> assertOrthonormal(u, 1e-10),
+                    () -> assertOrthonormal(v, 1e-10),
+                    () -> assertArrayEquals(new double[r.length], r, 1e-9),
+                    () -> assertThrows(InvalidMatrixOperationException.class, svd::getConditionNumber)
+            );
+        }
+
+        // A rank 2 matrix, the process runs into an invariant subspace
+        var b = spectrum(60, 40, new double[]{3, 1}, 17);
+        var svd = SingularValueDecomposition.of(b, 4);
+        assertAll(
+                () -> assertArrayEquals(new double[]{3, 1, 0, 0}, svd.getSingularValues(), 1e-12),
+                () -> assertEquals(2, svd.getRank()),
+                () -> assertOrthonormal(svd.getV(), 1e-10),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> SingularValueDecomposition.of(b, 41))
+        );
+    }
+}
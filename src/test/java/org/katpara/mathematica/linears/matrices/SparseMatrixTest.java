@@ -0,0 +1,150 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.ArrayVector;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseMatrixTest {
+
+    private final DoubleArrayMatrix a = new DoubleArrayMatrix(new double[][]{
+            {4, 0, 0, 1},
+            {0, 3, 0, 0},
+            {2, 0, 5, 0},
+            {0, 0, 0, 6}
+    });
+
+    private final SparseMatrix s = SparseMatrix.of(a);
+
+    private static SparseMatrix random(final int m, final int n, final long seed) {
+        var r = new Random(seed);
+        var b = SparseMatrix.builder(m, n);
+        for (var k = 0; k < m * n / 5; k++)
+            b.add(r.nextInt(m), r.nextInt(n), r.nextInt(19) - 9);
+
+        return b.build();
+    }
+
+    @Test
+    void testBuilder() {
+        var b = SparseMatrix.builder(4, 4)
+                            .add(3, 3, 6).add(0, 3, 1).add(2, 0, 2).add(1, 3, 7)
+                            .add(1, 1, 3).add(2, 2, 5).add(0, 0, 3).add(0, 0, 1).add(1, 3, -7)
+                            .build();
+
+        assertAll(
+                () -> assertEquals(s, b),
+                () -> assertEquals(s.hashCode(), b.hashCode()),
+                () -> assertEquals(6, b.getNonZeros()),
+                () -> assertEquals(a, b.toDoubleArrayMatrix()),
+                () -> assertEquals(a, new DoubleArrayMatrix(b)),
+                () -> assertEquals(5, b.get(2, 2)),
+                () -> assertEquals(0, b.get(1, 3)),
+                () -> assertEquals(s, SparseMatrix.of(4, 4, new int[]{0, 0, 1, 2, 2, 3}, new int[]{0, 3, 1, 0, 2, 3},
+                        new double[]{4, 1, 3, 2, 5, 6})),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> SparseMatrix.builder(2, 2).add(2, 0, 1)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> s.get(0, 4)),
+                () -> assertThrows(InvalidMatrixDimensionException.class, () -> SparseMatrix.builder(0, 2)),
+                () -> assertThrows(InvalidParameterProvidedException.class,
+                        () -> SparseMatrix.of(2, 2, new int[]{0}, new int[]{0, 1}, new double[]{1}))
+        );
+    }
+
+    @Test
+    void testProperties() {
+        assertAll(
+                () -> assertEquals(18, s.getTrace()),
+                () -> assertEquals(a.getDeterminant(), s.getDeterminant()),
+                () -> assertEquals(4, s.getRank()),
+                () -> assertEquals(a.inverse(), s.inverse()),
+                () -> assertEquals(a.transpose(), new DoubleArrayMatrix(s.transpose())),
+                () -> assertEquals(s, s.transpose().transpose()),
+                () -> assertArrayEquals(new int[]{3, 2}, random(2, 3, 1).transpose().getDimension()),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> random(2, 3, 1).getTrace())
+        );
+    }
+
+    @Test
+    void testAddSubtract() {
+        var b = random(6, 7, 2);
+        var c = random(6, 7, 3);
+        var db = new DoubleArrayMatrix(b);
+        var dc = new DoubleArrayMatrix(c);
+
+        assertAll(
+                () -> assertEquals(db.add(dc), new DoubleArrayMatrix(b.add(c))),
+                () -> assertEquals(db.subtract(dc), new DoubleArrayMatrix(b.subtract(c))),
+                () -> assertTrue(b.add(c) instanceof SparseMatrix),
+                () -> assertEquals(0, ((SparseMatrix) b.subtract(b)).getNonZeros()),
+                () -> assertEquals(db.add(dc), b.add(dc)),
+                () -> assertEquals(db.subtract(dc), b.subtract(dc)),
+                () -> assertEquals(a.add(2), new DoubleArrayMatrix(s.add(2))),
+                () -> assertEquals(a.multiply(3), new DoubleArrayMatrix(s.multiply(3))),
+                () -> assertEquals(0, ((SparseMatrix) s.multiply(0)).getNonZeros()),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> b.add(random(7, 6, 2)))
+        );
+    }
+
+    @Test
+    void testMultiply() {
+        var b = random(9, 7, 4);
+        var c = random(7, 5, 5);
+        var db = new DoubleArrayMatrix(b);
+        var dc = new DoubleArrayMatrix(c);
+        var x = new DoubleArrayVector(new double[]{1, 2, 3, 4, 5, 6, 7});
+
+        assertAll(
+                () -> assertEquals(db.multiply(dc), new DoubleArrayMatrix(b.multiply(c))),
+                () -> assertTrue(b.multiply(c) instanceof SparseMatrix),
+                () -> assertEquals(db.multiply(dc), b.multiply(dc)),
+                () -> assertEquals(db.multiply(dc), db.multiply(c)),
+                () -> assertEquals(x.multiply(db), b.multiply(x)),
+                () -> assertEquals(x.multiply(db), x.multiply(b)),
+                () -> assertEquals(new ArrayVector(x.multiply(db).toArray()),
+                        new ArrayVector(x.toArray()).multiply(b)),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> b.multiply(b)),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> c.multiply(x))
+        );
+    }
+
+    @Test
+    void testRounding() {
+        // The products keep the full precision whatever the storage, they are rounded when read
+        var h = SparseMatrix.of(new DoubleArrayMatrix(new double[][]{{1.23456, 0}, {0, 0.001}}));
+        var i = DoubleArrayMatrix.identityMatrix(2);
+        var scaled = h.multiply(1, Rounding.POINT.TWO);
+        var product = h.multiply(SparseMatrix.of(i), Rounding.POINT.TWO);
+        var rounded = SparseMatrix.of(new DoubleArrayMatrix(new double[][]{{1.23, 0}, {0, 0}}));
+
+        assertAll(
+                () -> assertEquals(1.23, scaled.get(0, 0)),
+                () -> assertEquals(0, scaled.get(1, 1)),
+                () -> assertEquals(2, ((SparseMatrix) scaled).getNonZeros()),
+                () -> assertEquals(rounded, scaled),
+                () -> assertEquals(rounded.hashCode(), scaled.hashCode()),
+                () -> assertEquals(rounded, product),
+                () -> assertEquals(h.multiply(i, Rounding.POINT.TWO), new DoubleArrayMatrix(product)),
+                () -> assertEquals(i.multiply(h, Rounding.POINT.TWO), new DoubleArrayMatrix(scaled)),
+                () -> assertEquals(1.23456, scaled.multiply(2, Rounding.POINT.NONE).get(0, 0) / 2),
+                () -> assertEquals(0.001, product.multiply(SparseMatrix.of(i), Rounding.POINT.NONE).get(1, 1))
+        );
+    }
+
+    @Test
+    void testSolve() {
+        var x = new DoubleArrayVector(new double[]{1, 2, 3, 4});
+
+        assertAll(
+                () -> assertEquals(a.solve(x), s.solve(x)),
+                () -> assertEquals(a.solve(a), s.solve(a)),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> SparseMatrix.builder(2, 2).build().solve(x))
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package org.katpara.mathematica.linears.matrices;
+
+import java.util.Random;
+
+/**
+ * The benchmark finds the crossover of the Strassen's algorithm on the current machine.
+ * <p>
+ * For every size it compares the blocked kernel with a single level of the recursion,
+ * i.e. seven kernel products of the half size. The smallest size where the single level
+ * wins is the crossover, and {@link Strassen#CROSSOVER} should be set close to it.
+ * It is not a test, run it by hand with the test classes on the classpath:
+ * <pre>
+ *     java -cp build/classes/java/main:build/classes/java/test \
+ *         org.katpara.mathematica.linears.matrices.StrassenBenchmark 256 512 1024 2048
+ * </pre>
+ */
+public class StrassenBenchmark {
+
+    public static void main(final String[] args) {
+        int[] sizes = args.length == 0 ? new int[]{256, 384, 512, 768, 1024, 1536, 2048} : new int[args.length];
+        for (var i = 0; i < args.length; i++)
+            sizes[i] = Integer.parseInt(args[i]);
+
+        System.out.printf("%6s %12s %12s %8s%n", "n", "kernel ms", "strassen ms", "speedup");
+        for (var n : sizes) {
+            var r = new Random(n);
+            double[] a = new double[n * n], b = new double[n * n];
+            for (var i = 0; i < a.length; i++) {
+                a[i] = r.nextDouble();
+                b[i] = r.nextDouble();
+            }
+
+            double k = time(() -> Multiplication.multiply(a, b, n, n, n)),
+                    s = time(() -> Strassen.multiply(a, b, n, n, n, n));
+
+            System.out.printf("%6d %12.1f %12.1f %8.2f%n", n, k, s, k / s);
+        }
+    }
+
+    /**
+     * The method returns the best time of a few runs after a warm up.
+     *
+     * @param r the code to time
+     *
+     * @return the best time in milliseconds
+     */
+    private static double time(final Runnable r) {
+        for (var i = 0; i < 2; i++)
+            r.run();
+
+        var best = Long.MAX_VALUE;
+        for (var i = 0; i < 3; i++) {
+            var t = System.nanoTime();
+            r.run();
+            best = Math.min(best, System.nanoTime() - t);
+        }
+
+        return best / 1e6;
+    }
+}
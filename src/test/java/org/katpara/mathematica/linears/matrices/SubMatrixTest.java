@@ -0,0 +1,76 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubMatrixTest {
+
+    private final DoubleArrayMatrix a = new DoubleArrayMatrix(new double[][]{
+            {1, 2, 3, 4},
+            {5, 6, 7, 8},
+            {9, 10, 11, 12},
+            {13, 14, 15, 17}
+    });
+
+    @Test
+    void testViews() {
+        var s = a.subMatrix(1, 3, 1, 4);
+
+        assertAll(
+                () -> assertArrayEquals(new int[]{2, 3}, s.getDimension()),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{6, 7, 8}, {10, 11, 12}}), s),
+                () -> assertEquals(s, new DoubleArrayMatrix(new double[][]{{6, 7, 8}, {10, 11, 12}})),
+                () -> assertEquals(12, s.get(1, 2)),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{11, 12}}), s.subMatrix(1, 2, 1, 3)),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{9, 10, 11, 12}}), a.row(2)),
+                () -> assertTrue(a.row(2).isRowVector()),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{3}, {7}, {11}, {15}}), a.column(2)),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{7}, {11}}), s.column(1)),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{2, 3}, {6, 7}}),
+                        a.transpose().subMatrix(1, 3, 0, 2).transpose()),
+                () -> assertEquals(6, ArrayMatrix.identityMatrix(8).subMatrix(2, 8, 2, 8).getTrace()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> s.get(2, 0)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> a.subMatrix(0, 5, 0, 1)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> a.row(4)),
+                () -> assertThrows(InvalidMatrixDimensionException.class, () -> a.subMatrix(1, 1, 0, 1))
+        );
+    }
+
+    @Test
+    void testOperations() {
+        var s = a.subMatrix(1, 4, 1, 4);
+        var _s = new DoubleArrayMatrix(s.toArray());
+        var b = a.subMatrix(1, 4, 0, 2);
+        var _b = new DoubleArrayMatrix(b.toArray());
+
+        assertAll(
+                () -> assertEquals(_s.multiply(_b), s.multiply(b)),
+                () -> assertEquals(_s.multiply(_b), s.multiply(_b)),
+                () -> assertEquals(_s.multiply(_b), _s.multiply(b)),
+                () -> assertEquals(_s.multiply(a.transpose().subMatrix(0, 3, 0, 2)),
+                        s.multiply(a.transpose().subMatrix(0, 3, 0, 2))),
+                () -> assertEquals(_s.add(_s), s.add(s)),
+                () -> assertEquals(_s.subtract(_s.multiply(2)), s.subtract(s.multiply(2))),
+                () -> assertEquals(_s.getDeterminant(), s.getDeterminant()),
+                () -> assertEquals(_s.inverse(), s.inverse()),
+                () -> assertEquals(_s.solve(DoubleArrayVector.of(1, 2, 3)), s.solve(DoubleArrayVector.of(1, 2, 3))),
+                () -> assertEquals(_s.transpose(), s.transpose()),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> s.multiply(a))
+        );
+    }
+
+    @Test
+    void testRounding() {
+        var r = a.multiply(1.0 / 3, Rounding.POINT.TWO);
+
+        assertAll(
+                () -> assertEquals(0.33, r.subMatrix(0, 2, 0, 2).get(0, 0)),
+                () -> assertEquals(r.multiply(a), r.subMatrix(0, 4, 0, 4).multiply(a))
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+import org.katpara.mathematica.linears.vectors.DoubleArrayVector;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.katpara.mathematica.linears.matrices.TestMatrices.integers;
+
+class SymmetricMatrixTest {
+
+    private final DoubleArrayMatrix a = new DoubleArrayMatrix(new double[][]{
+            {4, 1, 2},
+            {1, 5, 3},
+            {2, 3, 6}
+    });
+
+    private final SymmetricMatrix s = SymmetricMatrix.of(a);
+
+    @Test
+    void testConstructors() {
+        assertAll(
+                () -> assertArrayEquals(new double[]{4, 1, 5, 2, 3, 6}, s.toPackedArray()),
+                () -> assertEquals(a, s.toDoubleArrayMatrix()),
+                () -> assertEquals(a, new DoubleArrayMatrix(s)),
+                () -> assertEquals(3, s.get(1, 2)),
+                () -> assertEquals(3, s.get(2, 1)),
+                () -> assertSame(s, s.transpose()),
+                () -> assertSame(s, SymmetricMatrix.of(s)),
+                () -> assertEquals(s, SymmetricMatrix.of(new ArrayMatrix(a.toArray()))),
+                () -> assertEquals(s.hashCode(), SymmetricMatrix.of(a).hashCode()),
+                () -> assertEquals(DoubleArrayMatrix.hilbertMatrix(6),
+                        new DoubleArrayMatrix(SymmetricMatrix.hilbertMatrix(6))),
+                () -> assertEquals(DoubleArrayMatrix.lehmerMatrix(6),
+                        new DoubleArrayMatrix(SymmetricMatrix.lehmerMatrix(6))),
+                () -> assertEquals(DoubleArrayMatrix.pascalMatrix(7, Matrix.PascalMatrixType.SYMMETRIC),
+                        new DoubleArrayMatrix(SymmetricMatrix.pascalMatrix(7))),
+                () -> assertSame(SymmetricMatrix.hilbertMatrix(6), SymmetricMatrix.hilbertMatrix(6)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> s.get(0, 3)),
+                () -> assertThrows(InvalidMatrixDimensionException.class, () -> SymmetricMatrix.hilbertMatrix(0)),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> SymmetricMatrix.of(integers(3, 3, 1))),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> SymmetricMatrix.of(integers(2, 3, 1)))
+        );
+    }
+
+    @Test
+    void testProperties() {
+        var p = SymmetricMatrix.of(new DoubleArrayMatrix(new double[][]{{1, 2}, {2, 1}}));
+
+        assertAll(
+                () -> assertEquals(15, s.getTrace()),
+                () -> assertEquals(a.getDeterminant(), s.getDeterminant()),
+                () -> assertEquals(3, s.getRank()),
+                () -> assertEquals(a.inverse(), new DoubleArrayMatrix(s.inverse())),
+                () -> assertTrue(s.inverse() instanceof SymmetricMatrix),
+                () -> assertFalse(p.getCholeskyDecomposition().isPositiveDefinite()),
+                () -> assertEquals(-3, p.getDeterminant()),
+                () -> assertEquals(2, p.getRank()),
+                () -> assertEquals(1, SymmetricMatrix.of(DoubleArrayMatrix.oneMatrix(3, 3)).getRank())
+        );
+    }
+
+    @Test
+    void testAddSubtract() {
+        var b = SymmetricMatrix.gramMatrix(integers(4, 3, 2));
+        var db = new DoubleArrayMatrix(b);
+
+        assertAll(
+                () -> assertEquals(a.add(db), new DoubleArrayMatrix(s.add(b))),
+                () -> assertEquals(a.subtract(db), new DoubleArrayMatrix(s.subtract(b))),
+                () -> assertTrue(s.add(b) instanceof SymmetricMatrix),
+                () -> assertEquals(a.add(db), s.add(db)),
+                () -> assertEquals(a.add(2), new DoubleArrayMatrix(s.add(2))),
+                () -> assertEquals(a.multiply(3), new DoubleArrayMatrix(s.multiply(3))),
+                () -> assertTrue(s.multiply(3) instanceof SymmetricMatrix),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> s.add(integers(3, 2, 2)))
+        );
+    }
+
+    @Test
+    void testMultiply() {
+        var b = integers(3, 5, 3);
+        var x = new DoubleArrayVector(new double[]{1, -2, 3});
+
+        assertAll(
+                () -> assertEquals(a.multiply(b), s.multiply(b)),
+                () -> assertEquals(a.multiply(a), s.multiply(s)),
+                () -> assertEquals(b.transpose().multiply(a), b.transpose().multiply(s)),
+                () -> assertEquals(x.multiply(a), s.multiply(x)),
+                () -> assertEquals(x.multiply(a), x.multiply(s)),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> s.multiply(integers(2, 3, 3)))
+        );
+    }
+
+    @Test
+    void testRankUpdate() {
+        var b = integers(7, 4, 4);
+        var c = integers(3, 2, 5);
+
+        assertAll(
+                () -> assertEquals(b.transpose().multiply(b), new DoubleArrayMatrix(SymmetricMatrix.gramMatrix(b))),
+                () -> assertEquals(a.add(c.multiply(c.transpose()).multiply(2)),
+                        new DoubleArrayMatrix(s.rankUpdate(c, 2))),
+                () -> assertEquals(SymmetricMatrix.gramMatrix(c.transpose()), SymmetricMatrix.of(c.multiply(c.transpose()))),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> s.rankUpdate(b, 1))
+        );
+    }
+
+    @Test
+    void testSolve() {
+        var x = new DoubleArrayVector(new double[]{1, 2, 3});
+        var h = SymmetricMatrix.hilbertMatrix(4);
+        var b = integers(4, 2, 6);
+
+        assertAll(
+                () -> assertEquals(a.solve(x), s.solve(x)),
+                () -> assertEquals(a.solve(a), s.solve(a)),
+                () -> assertArrayEquals(DoubleArrayMatrix.elements(DoubleArrayMatrix.hilbertMatrix(4).solve(b)),
+                        DoubleArrayMatrix.elements(h.solve(b)), 1e-6),
+                () -> assertThrows(InvalidMatrixOperationException.class,
+                        () -> SymmetricMatrix.of(DoubleArrayMatrix.oneMatrix(3, 3)).solve(x))
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.katpara.mathematica.commons.Rounding;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * The random matrices and the assertions shared by the tests of the decompositions.
+ */
+final class TestMatrices {
+
+    private TestMatrices() {
+    }
+
+    /**
+     * The m x n matrix of the elements uniform in [-0.5, 0.5).
+     */
+    static DoubleArrayMatrix random(final int m, final int n, final long seed) {
+        var r = new Random(seed);
+        var e = new double[m * n];
+        for (var i = 0; i < e.length; i++)
+            e[i] = r.nextDouble() - 0.5;
+
+        return new DoubleArrayMatrix(e, m, n, Matrix.MatrixType.NOT_SPECIFIED);
+    }
+
+    /**
+     * The m x n matrix of the random integers in [-9, 9], so its products are exact.
+     */
+    static DoubleArrayMatrix integers(final int m, final int n, final long seed) {
+        var r = new Random(seed);
+        var e = new double[m][n];
+        for (var i = 0; i < m; i++)
+            for (var j = 0; j < n; j++)
+                e[i][j] = r.nextInt(19) - 9;
+
+        return new DoubleArrayMatrix(e);
+    }
+
+    /**
+     * The n x n symmetric matrix of the elements uniform in [-0.5, 0.5).
+     */
+    static DoubleArrayMatrix symmetric(final int n, final long seed) {
+        var r = new Random(seed);
+        var e = new double[n * n];
+        for (var i = 0; i < n; i++)
+            for (var j = 0; j <= i; j++)
+                e[i * n + j] = e[j * n + i] = r.nextDouble() - 0.5;
+
+        return new DoubleArrayMatrix(e, n, n, Matrix.MatrixType.NOT_SPECIFIED);
+    }
+
+    /**
+     * The matrix QDW^T of the given singular values, with random orthogonal Q and W.
+     */
+    static DoubleArrayMatrix spectrum(final int m, final int n, final double[] s, final long seed) {
+        var q = random(m, s.length, seed).getQRDecomposition().getQ();
+        var w = random(n, s.length, seed + 1).getQRDecomposition().getQ();
+        var d = new double[s.length * s.length];
+        for (var i = 0; i < s.length; i++)
+            d[i * s.length + i] = s[i];
+
+        var a = q.multiply(new DoubleArrayMatrix(d, s.length, s.length, Matrix.MatrixType.NOT_SPECIFIED),
+                Rounding.POINT.NONE).multiply(w.transpose(), Rounding.POINT.NONE);
+        return new DoubleArrayMatrix(DoubleArrayMatrix.elements(a), m, n, Matrix.MatrixType.NOT_SPECIFIED);
+    }
+
+    /**
+     * The assertion that the columns of q are orthonormal, i.e. Q^TQ = I.
+     */
+    static void assertOrthonormal(final Matrix q, final double delta) {
+        var k = q.getDimension()[1];
+        assertArrayEquals(DoubleArrayMatrix.elements(DoubleArrayMatrix.identityMatrix(k)),
+                DoubleArrayMatrix.elements(q.transpose().multiply(q, Rounding.POINT.NONE)), delta);
+    }
+}
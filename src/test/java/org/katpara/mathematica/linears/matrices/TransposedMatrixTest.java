@@ -0,0 +1,57 @@
+package org.katpara.mathematica.linears.matrices;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.linears.InvalidMatrixOperationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransposedMatrixTest {
+
+    private final DoubleArrayMatrix a = new DoubleArrayMatrix(new double[][]{
+            {1, 2, 3},
+            {4, 5, 6}
+    });
+
+    private final ArrayMatrix b = new ArrayMatrix(new Number[][]{
+            {2, 1},
+            {7, 3},
+            {5, 8}
+    });
+
+    @Test
+    void testView() {
+        var t = a.transpose();
+
+        assertAll(
+                () -> assertArrayEquals(new int[]{3, 2}, t.getDimension()),
+                () -> assertEquals(6, t.get(2, 1)),
+                () -> assertSame(a, t.transpose()),
+                () -> assertSame(((TransposedMatrix) t).materialise(), ((TransposedMatrix) a.transpose()).materialise()),
+                () -> assertEquals(new DoubleArrayMatrix(new double[][]{{1, 4}, {2, 5}, {3, 6}}), t),
+                () -> assertEquals(t, new DoubleArrayMatrix(new double[][]{{1, 4}, {2, 5}, {3, 6}})),
+                () -> assertEquals(t.hashCode(), new DoubleArrayMatrix(new double[][]{{1, 4}, {2, 5}, {3, 6}}).hashCode()),
+                () -> assertTrue(new DoubleArrayMatrix(new double[][]{{1}, {2}}).transpose().isRowVector()),
+                () -> assertEquals(b.getRank(), t.getRank()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> t.get(0, 2))
+        );
+    }
+
+    @Test
+    void testMultiply() {
+        var t = a.transpose();
+        var _t = ((TransposedMatrix) t).materialise();
+
+        assertAll(
+                () -> assertEquals(_t.multiply(a), t.multiply(a)),
+                () -> assertEquals(a.multiply(_t), a.multiply(t)),
+                () -> assertEquals(_t.multiply(b.transpose()), t.multiply(b.transpose())),
+                () -> assertEquals(new ArrayMatrix(b.transpose().toArray()).multiply(b, Rounding.POINT.TWO),
+                        b.transpose().multiply(b, Rounding.POINT.TWO)),
+                () -> assertTrue(b.transpose().multiply(b) instanceof ArrayMatrix),
+                () -> assertEquals(_t.multiply(SparseMatrix.of(a)), t.multiply(SparseMatrix.of(a))),
+                () -> assertEquals(_t.add(b), t.add(b)),
+                () -> assertThrows(InvalidMatrixOperationException.class, () -> t.multiply(b))
+        );
+    }
+}
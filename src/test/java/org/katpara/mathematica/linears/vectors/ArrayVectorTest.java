@@ -253,6 +253,17 @@ class ArrayVectorTest {
     void testCosines() {
         assertArrayEquals(new double[]{0.2672612419124244, 0.5345224838248488, 0.8017837257372732},
                 ArrayVector.of(1, 2, 3).getCosines(Vector.Angle.RADIAN));
+
+        // The rounding and the changes to the returned array leave the cached cosines as they were
+        var v = ArrayVector.of(1, 2, 3, 4);
+        var m = Math.sqrt(30);
+        var expected = new double[]{1 / m, 2 / m, 3 / m, 4 / m};
+        v.getCosines(Vector.Angle.RADIAN)[0] = 0;
+        assertAll(
+                () -> assertArrayEquals(new double[]{0.2, 0.4, 0.5, 0.7},
+                        v.getCosines(Vector.Angle.RADIAN, Rounding.POINT.ONE)),
+                () -> assertArrayEquals(expected, v.getCosines(Vector.Angle.RADIAN), 1e-15)
+        );
     }
 
     @Test
@@ -0,0 +1,150 @@
+package org.katpara.mathematica.linears.vectors;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.commons.Rounding;
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+import org.katpara.mathematica.exceptions.NullArgumentProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidVectorDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidVectorOperationException;
+import org.katpara.mathematica.linears.matrices.ArrayMatrix;
+import org.katpara.mathematica.linears.matrices.DoubleArrayMatrix;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleArrayVectorTest {
+
+    @Test
+    void testConstructors() {
+        assertAll(
+                () -> assertThrows(InvalidVectorDimensionException.class, () -> new DoubleArrayVector(new double[]{1})),
+                () -> assertThrows(InvalidVectorDimensionException.class, () -> new DoubleArrayVector(List.of(1))),
+                () -> assertThrows(NullArgumentProvidedException.class,
+                        () -> new DoubleArrayVector(Arrays.asList(1, null))),
+                () -> assertEquals(DoubleArrayVector.of(1, 2, 3), new DoubleArrayVector(List.of(1, 2, 3))),
+                () -> assertEquals(DoubleArrayVector.of(1, 2, 3), new DoubleArrayVector(ArrayVector.of(1, 2, 3))),
+                () -> assertEquals("<1.0, 2.0>", DoubleArrayVector.of(1, 2).toString())
+        );
+    }
+
+    @Test
+    void testElements() {
+        var v = DoubleArrayVector.of(3, 4);
+        assertAll(
+                () -> assertEquals(2, v.getDimension()),
+                () -> assertEquals(4, v.get(1)),
+                () -> assertArrayEquals(new Number[]{3D, 4D}, v.toArray()),
+                () -> assertArrayEquals(new double[]{3, 4}, v.toDoubleArray()),
+                () -> assertEquals(List.of(3D, 4D), v.toList())
+        );
+    }
+
+    @Test
+    void testMagnitude() {
+        assertAll(
+                () -> assertEquals(5, DoubleArrayVector.of(3, 4).getMagnitude()),
+                () -> assertEquals(0, DoubleArrayVector.of(0, 0).getMagnitude()),
+                () -> assertEquals(1.732, DoubleArrayVector.of(3).getMagnitude(Rounding.POINT.THREE))
+        );
+    }
+
+    @Test
+    void testDotProducts() {
+        assertAll(
+                () -> assertThrows(InvalidVectorOperationException.class,
+                        () -> DoubleArrayVector.of(1, 2).dot(DoubleArrayVector.of(1, 2, 3))),
+                () -> assertEquals(24, DoubleArrayVector.of(3, 4).dot(DoubleArrayVector.of(4, 3))),
+                () -> assertEquals(55, DoubleArrayVector.of(7, 1, 3).dot(ArrayVector.of(5, 5, 5))),
+                () -> assertEquals(55, ArrayVector.of(7, 1, 3).dot(DoubleArrayVector.of(5, 5, 5))),
+                () -> assertEquals(0.75, DoubleArrayVector.of(0.5, 0.25).dot(DoubleArrayVector.of(1, 1)))
+        );
+    }
+
+    @Test
+    void testAngle() {
+        assertAll(
+                () -> assertEquals(45.0, DoubleArrayVector.of(2, 2)
+                                                 .angle(DoubleArrayVector.of(0, 3), Vector.Angle.DEGREE, Rounding.POINT.TWO)),
+                () -> assertEquals(0.0, DoubleArrayVector.of(1, 2, 3).angle(DoubleArrayVector.of(2, 4, 6), Vector.Angle.RADIAN)),
+                () -> assertEquals(131.647015792716, DoubleArrayVector.of(3, -4, 5)
+                                                             .angle(ArrayVector.of(2, 7, -3), Vector.Angle.DEGREE), 1e-12)
+        );
+    }
+
+    @Test
+    void testAddSubtract() {
+        var v = DoubleArrayVector.of(1, 2, 3);
+        assertAll(
+                () -> assertThrows(InvalidVectorOperationException.class, () -> v.add(DoubleArrayVector.of(1, 2))),
+                () -> assertThrows(InvalidParameterProvidedException.class, () -> v.add(List.of(v))),
+                () -> assertEquals(DoubleArrayVector.of(2, 4, 6), v.add(v)),
+                () -> assertEquals(DoubleArrayVector.of(2, 4, 6), v.add(ArrayVector.of(1, 2, 3))),
+                () -> assertEquals(DoubleArrayVector.of(3, 6, 9), v.add(List.of(v, ArrayVector.of(1, 2, 3)))),
+                () -> assertEquals(DoubleArrayVector.of(0, 0, 0), v.subtract(v)),
+                () -> assertEquals(DoubleArrayVector.of(11, 12, 13), v.add(10)),
+                () -> assertEquals(DoubleArrayVector.of(1, 2, 3), v)
+        );
+    }
+
+    @Test
+    void testScaleAndInverse() {
+        assertAll(
+                () -> assertEquals(DoubleArrayVector.of(2, 4), DoubleArrayVector.of(1, 2).scale(2)),
+                () -> assertEquals(DoubleArrayVector.of(-3, -4), DoubleArrayVector.of(3, 4).inverse())
+        );
+    }
+
+    @Test
+    void testTransposeDimension() {
+        assertAll(
+                () -> assertThrows(InvalidVectorDimensionException.class, () -> DoubleArrayVector.of(2, 3).transpose(1)),
+                () -> assertEquals(DoubleArrayVector.of(1, 2), DoubleArrayVector.of(1, 2, 3).transpose(2)),
+                () -> assertEquals(new DoubleArrayVector(new double[]{1, 2, 3, 0, 0}),
+                        DoubleArrayVector.of(1, 2, 3).transpose(5))
+        );
+    }
+
+    @Test
+    void testCrossProduct() {
+        assertAll(
+                () -> assertThrows(InvalidVectorOperationException.class,
+                        () -> DoubleArrayVector.of(1, 2).cross(DoubleArrayVector.of(1, 2))),
+                () -> assertEquals(DoubleArrayVector.of(5, 1, 11),
+                        DoubleArrayVector.of(2, 1, -1).cross(ArrayVector.of(-3, 4, 1)))
+        );
+    }
+
+    @Test
+    void testOrthogonalAndParallel() {
+        assertAll(
+                () -> assertTrue(DoubleArrayVector.of(1, 0).isOrthogonal(DoubleArrayVector.of(0, 1))),
+                () -> assertFalse(DoubleArrayVector.of(1, 2, 3).isOrthogonal(DoubleArrayVector.of(1, 2, 3))),
+                () -> assertTrue(DoubleArrayVector.of(1, 0, 3).isParallel(DoubleArrayVector.of(3, 0, 9))),
+                () -> assertFalse(DoubleArrayVector.of(1, 0).isParallel(DoubleArrayVector.of(0, 1)))
+        );
+    }
+
+    @Test
+    void testProjection() {
+        assertAll(
+                () -> assertEquals(-33D / 13D, DoubleArrayVector.of(5, -12).scalarProjection(DoubleArrayVector.of(3, 4))),
+                () -> assertEquals(DoubleArrayVector.of(-0.9763313609467456, 2.3431952662721893),
+                        DoubleArrayVector.of(5, -12).vectorProjection(DoubleArrayVector.of(3, 4)))
+        );
+    }
+
+    @Test
+    void testMatrixMultiplication() {
+        var f = new DoubleArrayMatrix(new double[][]{{1, 2, 3}, {4, 5, 6}, {7, 8, 9}});
+        var g = new ArrayMatrix(new Number[][]{{1, 2, 3}, {4, 5, 6}});
+        var v = DoubleArrayVector.of(2, 1, 3);
+
+        assertAll(
+                () -> assertThrows(InvalidVectorOperationException.class, () -> DoubleArrayVector.of(1, 2).multiply(f)),
+                () -> assertEquals(DoubleArrayVector.of(13, 31, 49), v.multiply(f)),
+                () -> assertEquals(DoubleArrayVector.of(13, 31), v.multiply(g)),
+                () -> assertEquals(DoubleArrayVector.of(1, 2, 3), f.toArrayVectors().get(0))
+        );
+    }
+}
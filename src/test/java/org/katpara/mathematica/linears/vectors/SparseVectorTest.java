@@ -0,0 +1,97 @@
+package org.katpara.mathematica.linears.vectors;
+
+import org.junit.jupiter.api.Test;
+import org.katpara.mathematica.exceptions.InvalidParameterProvidedException;
+import org.katpara.mathematica.exceptions.linears.InvalidVectorDimensionException;
+import org.katpara.mathematica.exceptions.linears.InvalidVectorOperationException;
+import org.katpara.mathematica.linears.matrices.DoubleArrayMatrix;
+import org.katpara.mathematica.linears.matrices.SparseMatrix;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseVectorTest {
+
+    private final SparseVector a = SparseVector.of(6, new int[]{4, 1, 4, 0}, new double[]{2, -3, 1, 5});
+    private final SparseVector b = SparseVector.of(6, new int[]{1, 2, 5}, new double[]{2, 7, -1});
+    private final DoubleArrayVector da = new DoubleArrayVector(new double[]{5, -3, 0, 0, 3, 0});
+    private final DoubleArrayVector db = new DoubleArrayVector(new double[]{0, 2, 7, 0, 0, -1});
+
+    @Test
+    void testConstructors() {
+        assertAll(
+                () -> assertEquals(3, a.getNonZeros()),
+                () -> assertArrayEquals(new int[]{0, 1, 4}, a.getIndices()),
+                () -> assertArrayEquals(new double[]{5, -3, 3}, a.getValues()),
+                () -> assertEquals(a, SparseVector.of(da)),
+                () -> assertEquals(da, new DoubleArrayVector(a)),
+                () -> assertArrayEquals(da.toDoubleArray(), a.toDoubleArray()),
+                () -> assertEquals(0, SparseVector.of(4, new int[]{1, 1}, new double[]{2, -2}).getNonZeros()),
+                () -> assertEquals(3, a.get(4)),
+                () -> assertEquals(0, a.get(5)),
+                () -> assertEquals("6<0: 5.0, 1: -3.0, 4: 3.0>", a.toString()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> a.get(6)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> SparseVector.of(2, new int[]{2}, new double[]{1})),
+                () -> assertThrows(InvalidVectorDimensionException.class, () -> SparseVector.of(1, new int[0], new double[0])),
+                () -> assertThrows(InvalidParameterProvidedException.class,
+                        () -> SparseVector.of(4, new int[]{1}, new double[0]))
+        );
+    }
+
+    @Test
+    void testProducts() {
+        var big = SparseVector.of(1_000_000, new int[]{3, 999_999}, new double[]{2, 4});
+
+        assertAll(
+                () -> assertEquals(da.getMagnitude(), a.getMagnitude()),
+                () -> assertEquals(da.dot(db), a.dot(b)),
+                () -> assertEquals(da.dot(db), a.dot(db)),
+                () -> assertEquals(da.dot(db), da.dot(b)),
+                () -> assertEquals(da.dot(db), new ArrayVector(da.toArray()).dot(b)),
+                () -> assertEquals(20, big.dot(big)),
+                () -> assertEquals(da.angle(db, Vector.Angle.RADIAN), a.angle(b, Vector.Angle.RADIAN)),
+                () -> assertArrayEquals(da.getCosines(Vector.Angle.DEGREE), a.getCosines(Vector.Angle.DEGREE)),
+                () -> assertEquals(da.vectorProjection(db), new DoubleArrayVector(a.vectorProjection(b))),
+                () -> assertEquals(da.vectorRejection(db), new DoubleArrayVector(a.vectorRejection(b))),
+                () -> assertTrue(a.isParallel(a.scale(-2))),
+                () -> assertTrue(a.isParallel(da)),
+                () -> assertFalse(a.isParallel(b)),
+                () -> assertThrows(InvalidVectorOperationException.class, () -> a.dot(big))
+        );
+    }
+
+    @Test
+    void testAddSubtract() {
+        assertAll(
+                () -> assertEquals(da.add(db), new DoubleArrayVector(a.add(b))),
+                () -> assertEquals(da.subtract(db), new DoubleArrayVector(a.subtract(b))),
+                () -> assertTrue(a.add(b) instanceof SparseVector),
+                () -> assertEquals(0, ((SparseVector) a.subtract(a)).getNonZeros()),
+                () -> assertEquals(da.add(db), a.add(db)),
+                () -> assertEquals(da.add(db), da.add(b)),
+                () -> assertEquals(da.subtract(db), da.subtract(b)),
+                () -> assertEquals(da.add(List.of(db, db)), new DoubleArrayVector(a.add(List.of(b, b)))),
+                () -> assertEquals(da.add(1), a.add(1)),
+                () -> assertEquals(SparseVector.of(da.inverse()), a.inverse()),
+                () -> assertEquals(2, ((SparseVector) a.transpose(3)).getNonZeros()),
+                () -> assertThrows(InvalidVectorOperationException.class, () -> a.add(DoubleArrayVector.of(1, 2)))
+        );
+    }
+
+    @Test
+    void testMultiply() {
+        var m = new DoubleArrayMatrix(new double[][]{
+                {1, 2, 3, 4, 5, 6},
+                {0, 1, 0, 1, 0, 1},
+                {6, 5, 4, 3, 2, 1}
+        });
+
+        assertAll(
+                () -> assertEquals(da.multiply(m), a.multiply(m)),
+                () -> assertEquals(da.multiply(m), a.multiply(SparseMatrix.of(m))),
+                () -> assertEquals(da.multiply(m), SparseMatrix.of(m).multiply(a)),
+                () -> assertThrows(InvalidVectorOperationException.class, () -> a.multiply(m.transpose()))
+        );
+    }
+}
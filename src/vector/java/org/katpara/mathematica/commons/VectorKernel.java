@@ -0,0 +1,111 @@
+package org.katpara.mathematica.commons;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The class is the SIMD backend of the {@link Kernels}, built on the incubating
+ * Vector API. It must only be loaded when the module "jdk.incubator.vector" is in
+ * the boot layer, the {@link Kernels} loads it reflectively.
+ * <p>
+ * The element-wise methods multiply and add separately (no fused multiply-add), so they
+ * give exactly the same results as the {@link ScalarKernel}. Only the dot product sums
+ * in a different order, one partial sum per lane.
+ *
+ * @author Mehul Katpara
+ * @since 1.0.0
+ */
+final class VectorKernel extends ScalarKernel {
+
+    /**
+     * The widest species the hardware supports
+     */
+    private static final VectorSpecies<Double> S = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * The species of a row of the 4 x 4 block
+     */
+    private static final VectorSpecies<Double> S4 = DoubleVector.SPECIES_256;
+
+    /**
+     * If the hardware has 256-bit registers for the 4 x 4 block
+     */
+    private static final boolean WIDE = S.vectorBitSize() >= S4.vectorBitSize();
+
+    @Override
+    public double dot(final double[] x, final int xo, final double[] y, final int yo, final int n) {
+        var s = DoubleVector.zero(S);
+        int i = 0, u = S.loopBound(n);
+
+        for (; i < u; i += S.length())
+            s = DoubleVector.fromArray(S, x, xo + i).fma(DoubleVector.fromArray(S, y, yo + i), s);
+
+        var r = s.reduceLanes(VectorOperators.ADD);
+        for (; i < n; i++)
+            r += x[xo + i] * y[yo + i];
+
+        return r;
+    }
+
+    @Override
+    public void axpy(final double a, final double[] x, final int xo, final double[] y, final int yo, final int n) {
+        int i = 0, u = S.loopBound(n);
+
+        for (; i < u; i += S.length())
+            DoubleVector.fromArray(S, x, xo + i).mul(a)
+                        .add(DoubleVector.fromArray(S, y, yo + i))
+                        .intoArray(y, yo + i);
+
+        for (; i < n; i++)
+            y[yo + i] += a * x[xo + i];
+    }
+
+    @Override
+    public void add(final double[] x, final double[] y, final double[] r, final int n) {
+        int i = 0, u = S.loopBound(n);
+
+        for (; i < u; i += S.length())
+            DoubleVector.fromArray(S, x, i).add(DoubleVector.fromArray(S, y, i)).intoArray(r, i);
+
+        for (; i < n; i++)
+            r[i] = x[i] + y[i];
+    }
+
+    @Override
+    public void subtract(final double[] x, final double[] y, final double[] r, final int n) {
+        int i = 0, u = S.loopBound(n);
+
+        for (; i < u; i += S.length())
+            DoubleVector.fromArray(S, x, i).sub(DoubleVector.fromArray(S, y, i)).intoArray(r, i);
+
+        for (; i < n; i++)
+            r[i] = x[i] - y[i];
+    }
+
+    @Override
+    public void multiply4x4(final int kc, final double[] ap, int ai, final double[] bp, int bi,
+                            final double[] t) {
+        // Narrower hardware would emulate the 256-bit species, which is slower than the scalar code
+        if (!WIDE) {
+            super.multiply4x4(kc, ap, ai, bp, bi, t);
+            return;
+        }
+
+        DoubleVector c0 = DoubleVector.zero(S4), c1 = c0, c2 = c0, c3 = c0;
+
+        for (var k = 0; k < kc; k++, ai += 4, bi += 4) {
+            var b = DoubleVector.fromArray(S4, bp, bi);
+
+            c0 = c0.add(b.mul(ap[ai]));
+            c1 = c1.add(b.mul(ap[ai + 1]));
+            c2 = c2.add(b.mul(ap[ai + 2]));
+            c3 = c3.add(b.mul(ap[ai + 3]));
+        }
+
+        c0.intoArray(t, 0);
+        c1.intoArray(t, 4);
+        c2.intoArray(t, 8);
+        c3.intoArray(t, 12);
+    }
+}